@@ -0,0 +1,117 @@
+package com.medicheck.server.domain.hospital.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicheck.server.domain.hospital.client.dto.HiraApiResponse;
+import com.medicheck.server.domain.hospital.client.dto.HiraClinicTop5Item;
+import com.medicheck.server.domain.hospital.client.dto.HiraHospItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HIRA 응답 파싱: 이전 방식(JsonNode 트리 후 요소별 treeToValue, 태그마다 정규식 컴파일) vs 토큰 스트림 파싱.
+ * 1000건 목록 페이지와 Top5 XML 응답 기준이며, gc 프로파일러의 gc.alloc.rate.norm 이 op당 할당 바이트입니다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=HiraResponseParsing
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HiraResponseParsingBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final String[] TOP5_TAGS = {
+            "resultCode", "crtrYm", "ykiho",
+            "mfrnIntrsIlnsNm1", "mfrnIntrsIlnsCdNm1", "mfrnIntrsIlnsNm2", "mfrnIntrsIlnsCdNm2",
+            "mfrnIntrsIlnsNm3", "mfrnIntrsIlnsCdNm3", "mfrnIntrsIlnsNm4", "mfrnIntrsIlnsCdNm4",
+            "mfrnIntrsIlnsNm5", "mfrnIntrsIlnsCdNm5"
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String hospPage;
+    private String top5Xml;
+
+    @Setup
+    public void setUp() {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (i > 0) items.append(',');
+            items.append("{\"ykiho\":\"YKIHO").append(i).append("\",\"yadmNm\":\"벤치병원").append(i)
+                    .append("\",\"clCd\":\"31\",\"clCdNm\":\"의원\",\"sidoCd\":\"110000\",\"sidoCdNm\":\"서울\"")
+                    .append(",\"addr\":\"서울특별시 중구 세종대로 ").append(i).append("\",\"telno\":\"02-000-0000\"")
+                    .append(",\"XPos\":126.97").append(i).append(",\"YPos\":37.56").append(i)
+                    .append(",\"drTotCnt\":").append(i % 9).append(",\"estbDd\":\"20000101\"}");
+        }
+        hospPage = "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"totalCount\":" + PAGE_SIZE + ",\"pageNo\":1,\"numOfRows\":" + PAGE_SIZE
+                + ",\"items\":{\"item\":[" + items + "]}}}}";
+
+        StringBuilder xml = new StringBuilder("<response><header><resultCode>00</resultCode>"
+                + "<resultMsg>NORMAL SERVICE.</resultMsg></header><body><items>");
+        for (int i = 0; i < 10; i++) {
+            xml.append("<item><crtrYm>2016").append(10 + i % 3).append("</crtrYm>")
+                    .append("<mfrnIntrsIlnsNm1>감기</mfrnIntrsIlnsNm1><mfrnIntrsIlnsNm2>당뇨병</mfrnIntrsIlnsNm2>")
+                    .append("<mfrnIntrsIlnsNm3>불면증</mfrnIntrsIlnsNm3><mfrnIntrsIlnsNm4>비염</mfrnIntrsIlnsNm4>")
+                    .append("<mfrnIntrsIlnsNm5>장염</mfrnIntrsIlnsNm5><ykiho>YKIHO001</ykiho></item>");
+        }
+        top5Xml = xml.append("</items><numOfRows>10</numOfRows><pageNo>1</pageNo><totalCount>10</totalCount>")
+                .append("</body></response>").toString();
+    }
+
+    /** 현재: items 를 토큰 스트림에서 요소별로 바인딩 */
+    @Benchmark
+    public List<HiraHospItem> hospPageStreaming() throws Exception {
+        return objectMapper.readValue(hospPage, HiraApiResponse.class).getItemList();
+    }
+
+    /** 이전: items 를 JsonNode 트리로 만든 뒤 요소마다 treeToValue */
+    @Benchmark
+    public List<HiraHospItem> hospPageTree() throws Exception {
+        JsonNode itemNode = objectMapper.readTree(hospPage).path("response").path("body").path("items").path("item");
+        List<HiraHospItem> list = new ArrayList<>();
+        for (JsonNode elem : itemNode) {
+            list.add(objectMapper.treeToValue(elem, HiraHospItem.class));
+        }
+        return list;
+    }
+
+    /** 현재: 미리 컴파일한 패턴으로 한 번만 훑음 */
+    @Benchmark
+    public HiraClinicTop5Item top5XmlSinglePass() {
+        return HiraClinicTop5Item.fromXml(top5Xml);
+    }
+
+    /** 이전: 태그마다 Pattern 을 새로 컴파일해 본문을 다시 훑음 */
+    @Benchmark
+    public String[] top5XmlPerTagRegex() {
+        String[] values = new String[TOP5_TAGS.length];
+        for (int i = 0; i < TOP5_TAGS.length; i++) {
+            Pattern p = Pattern.compile(
+                    "<" + Pattern.quote(TOP5_TAGS[i]) + ">\\s*(.*?)\\s*</" + Pattern.quote(TOP5_TAGS[i]) + ">",
+                    Pattern.DOTALL);
+            Matcher m = p.matcher(top5Xml);
+            values[i] = m.find() ? m.group(1) : null;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,108 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import com.medicheck.server.domain.hospital.entity.Hospital;
+import com.medicheck.server.domain.hospital.entity.HospitalClinicTop5;
+import com.medicheck.server.domain.hospital.entity.HospitalEvaluation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 병원 응답 조립: 기본 응답 후 toBuilder() 로 리뷰·평가·Top5 를 차례로 덧붙이는 체인 vs 빌더 한 번에 모든 필드 설정,
+ * 그리고 평가 요약(등급 22개 → byte 코드) 조립. op당 할당 바이트는 gc 프로파일러의 gc.alloc.rate.norm 으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HospitalResponseBuildBenchmark {
+
+    private Hospital hospital;
+    private HospitalEvaluation evaluationRow;
+    private HospitalEvaluationSummary evaluation;
+    private HospitalTop5Summary top5;
+
+    @Setup
+    public void setUp() {
+        hospital = Hospital.builder()
+                .name("벤치병원")
+                .address("서울특별시 중구 세종대로 110")
+                .latitude(new BigDecimal("37.5665"))
+                .longitude(new BigDecimal("126.9780"))
+                .phone("02-000-0000")
+                .publicCode("BENCH-1")
+                .department("의원")
+                .doctorTotalCount(3)
+                .establishedDate(LocalDate.of(2000, 1, 1))
+                .build();
+        evaluationRow = HospitalEvaluation.builder()
+                .hospital(hospital)
+                .ykiho("BENCH-1")
+                .yadmNm("벤치병원")
+                .asmGrd01("1").asmGrd03("2").asmGrd04("1").asmGrd05("3").asmGrd06("2").asmGrd07("1")
+                .asmGrd08("4").asmGrd09("1").asmGrd10("2").asmGrd12("1").asmGrd13("5")
+                .build();
+        evaluation = HospitalEvaluationSummary.from(evaluationRow);
+        top5 = HospitalTop5Summary.from(HospitalClinicTop5.builder()
+                .hospital(hospital)
+                .crtrYm("202501")
+                .diseaseNm1("감기")
+                .diseaseNm2("비염")
+                .build());
+    }
+
+    /** 리뷰 → 평가 → Top5 순으로 toBuilder() 를 세 번 거치는 조립 */
+    @Benchmark
+    public HospitalResponse toBuilderChain() {
+        HospitalResponse base = HospitalResponse.from(hospital);
+        HospitalResponse withReviews = base.toBuilder().averageRating(4.5).reviewCount(12).build();
+        HospitalResponse withEvaluation = withReviews.toBuilder().evaluation(evaluation).build();
+        return withEvaluation.toBuilder().top5(top5).build();
+    }
+
+    /** 모든 값을 모은 뒤 빌더 한 번으로 조립 (HospitalResponse.from(HospitalReadRow) 방식) */
+    @Benchmark
+    public HospitalResponse singleBuilder() {
+        return HospitalResponse.builder()
+                .id(hospital.getId())
+                .name(hospital.getName())
+                .address(hospital.getAddress())
+                .latitude(hospital.getLatitude())
+                .longitude(hospital.getLongitude())
+                .phone(hospital.getPhone())
+                .publicCode(hospital.getPublicCode())
+                .department(hospital.getDepartment())
+                .doctorTotalCount(hospital.getDoctorTotalCount())
+                .establishedDate(hospital.getEstablishedDate())
+                .mdeptSpecialistCount(hospital.getMdeptSpecialistCount())
+                .mdeptGeneralCount(hospital.getMdeptGeneralCount())
+                .mdeptInternCount(hospital.getMdeptInternCount())
+                .mdeptResidentCount(hospital.getMdeptResidentCount())
+                .detySpecialistCount(hospital.getDetySpecialistCount())
+                .cmdcSpecialistCount(hospital.getCmdcSpecialistCount())
+                .averageRating(4.5)
+                .reviewCount(12)
+                .evaluation(evaluation)
+                .top5(top5)
+                .build();
+    }
+
+    /** 평가 요약 조립: 등급은 byte 코드 배열 하나에 담긴다 */
+    @Benchmark
+    public HospitalEvaluationSummary evaluationSummary() {
+        return HospitalEvaluationSummary.from(evaluationRow);
+    }
+}
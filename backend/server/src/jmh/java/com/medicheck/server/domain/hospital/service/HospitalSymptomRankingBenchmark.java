@@ -0,0 +1,156 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.repository.HospitalTop5DiseaseNames;
+import com.medicheck.server.domain.hospital.util.GeoDistance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 증상 검색 매칭·정렬 비용.
+ * <ul>
+ *   <li>indexMatch: 역색인({@link HospitalSymptomIndex#match})으로 매칭 + 최상위 슬롯</li>
+ *   <li>scanMatch: 같은 행을 contains 로 전부 훑기 ({@link HospitalSymptomIndex#matchRows}, 역색인 적재 전 경로)</li>
+ *   <li>sortAllThenPage: 매칭 전체에 거리 계산 후 전부 정렬하고 첫 페이지만 자르기 (이전 방식)</li>
+ *   <li>topKPage: 첫 페이지 크기의 힙으로 상위만 고르기 ({@link HospitalService#topRankedMatches})</li>
+ * </ul>
+ * 행 수는 @Param 으로 조정합니다(기본 10k).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HospitalSymptomRankingBenchmark {
+
+    private static final String[] DISEASES = {
+            "감기", "급성 기관지염", "고혈압", "당뇨병", "요통", "비염", "위염", "장염", "불면증", "피부염",
+            "관절염", "결막염", "편두통", "천식", "방광염"
+    };
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000"})
+    public int rows;
+
+    private List<HospitalTop5DiseaseNames> names;
+    private HospitalSymptomIndex symptomIndex;
+    private List<HospitalSymptomIndex.Match> matches;
+    private final List<String> tokens = List.of("감기", "기관지염");
+    private final BigDecimal userLat = new BigDecimal("37.5665");
+    private final BigDecimal userLng = new BigDecimal("126.9780");
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        names = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            names.add(new Names(
+                    (long) i + 1,
+                    "벤치병원" + i,
+                    BigDecimal.valueOf(37.4 + random.nextDouble() * 0.3),
+                    BigDecimal.valueOf(126.8 + random.nextDouble() * 0.4),
+                    DISEASES[random.nextInt(DISEASES.length)],
+                    DISEASES[random.nextInt(DISEASES.length)],
+                    DISEASES[random.nextInt(DISEASES.length)],
+                    DISEASES[random.nextInt(DISEASES.length)],
+                    DISEASES[random.nextInt(DISEASES.length)]));
+        }
+        symptomIndex = new HospitalSymptomIndex(null, new SimpleMeterRegistry());
+        symptomIndex.load(names);
+        matches = symptomIndex.match(tokens);
+    }
+
+    @Benchmark
+    public List<HospitalSymptomIndex.Match> indexMatch() {
+        return symptomIndex.match(tokens);
+    }
+
+    @Benchmark
+    public List<HospitalSymptomIndex.Match> scanMatch() {
+        return HospitalSymptomIndex.matchRows(names, tokens);
+    }
+
+    @Benchmark
+    public List<HospitalService.RankedMatch> sortAllThenPage() {
+        double lat = userLat.doubleValue();
+        double lng = userLng.doubleValue();
+        List<HospitalService.RankedMatch> all = new ArrayList<>(matches.size());
+        for (HospitalSymptomIndex.Match m : matches) {
+            all.add(new HospitalService.RankedMatch(m.bestRank(),
+                    GeoDistance.haversineMeters(lat, lng, m.latitude(), m.longitude()), m.hospitalName(), m.hospitalId()));
+        }
+        all.sort(HospitalService.SYMPTOM_RANK_ORDER);
+        return all.subList(0, Math.min(PAGE_SIZE, all.size()));
+    }
+
+    @Benchmark
+    public List<HospitalService.RankedMatch> topKPage() {
+        return HospitalService.topRankedMatches(matches, userLat, userLng, PAGE_SIZE);
+    }
+
+    private record Names(Long hospitalId, String hospitalName, BigDecimal latitude, BigDecimal longitude,
+                         String nm1, String nm2, String nm3, String nm4, String nm5)
+            implements HospitalTop5DiseaseNames {
+
+        @Override
+        public Long getHospitalId() {
+            return hospitalId;
+        }
+
+        @Override
+        public String getHospitalName() {
+            return hospitalName;
+        }
+
+        @Override
+        public BigDecimal getLatitude() {
+            return latitude;
+        }
+
+        @Override
+        public BigDecimal getLongitude() {
+            return longitude;
+        }
+
+        @Override
+        public String getDiseaseNm1() {
+            return nm1;
+        }
+
+        @Override
+        public String getDiseaseNm2() {
+            return nm2;
+        }
+
+        @Override
+        public String getDiseaseNm3() {
+            return nm3;
+        }
+
+        @Override
+        public String getDiseaseNm4() {
+            return nm4;
+        }
+
+        @Override
+        public String getDiseaseNm5() {
+            return nm5;
+        }
+    }
+}
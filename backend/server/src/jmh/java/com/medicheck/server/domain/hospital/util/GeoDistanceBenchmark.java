@@ -0,0 +1,50 @@
+package com.medicheck.server.domain.hospital.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GeoDistance#haversineMeters} 처리량. 근처 병원 조회가 후보마다 호출하는 경로라 1000점 묶음으로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoDistanceBenchmark {
+
+    private static final int POINTS = 1000;
+
+    private final double[] latitudes = new double[POINTS];
+    private final double[] longitudes = new double[POINTS];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < POINTS; i++) {
+            latitudes[i] = 33.0 + random.nextDouble() * 5.5;
+            longitudes[i] = 125.0 + random.nextDouble() * 5.0;
+        }
+    }
+
+    @Benchmark
+    public double haversine1000Points() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += GeoDistance.haversineMeters(37.5665, 126.9780, latitudes[i], longitudes[i]);
+        }
+        return sum;
+    }
+}
@@ -2,6 +2,8 @@ package com.medicheck.server.domain.hospital.client;
 
 import com.medicheck.server.domain.hospital.client.dto.HiraClinicTop5Item;
 import com.medicheck.server.global.config.HiraDiagApiProperties;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
@@ -16,23 +18,30 @@ import java.net.URI;
  * getClinicTop5List1 호출을 통해 요양기호(ykiho) 기반 진료량 상위 5 질병명을 조회한다.
  *
  * 응답은 문서 기준 XML이며, {@link HiraClinicTop5Item#fromXml(String)} 로 파싱한다.
+ * 모든 호출은 RateLimiter(hira-diag)를 거친다. 대기 시간을 넘기면 RequestNotPermitted 를 그대로 던져,
+ * 호출 측이 "응답 없음"(null)과 구분해 기존 Top5 를 지우지 않도록 한다.
  */
 @Component
 @Slf4j
 public class HiraClinicTop5Client {
 
     private static final String OPERATION = "getClinicTop5List1";
+    private static final String RATE_LIMITER_NAME = "hira-diag";
 
     private final HiraDiagApiProperties properties;
 
     private final RestTemplate restTemplate;
 
+    private final RateLimiter rateLimiter;
+
     public HiraClinicTop5Client(
             HiraDiagApiProperties properties,
-            @Qualifier("hiraRestTemplate") RestTemplate restTemplate
+            @Qualifier("hiraRestTemplate") RestTemplate restTemplate,
+            RateLimiterRegistry rateLimiterRegistry
     ) {
         this.properties = properties;
         this.restTemplate = restTemplate;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER_NAME);
     }
 
     public HiraClinicTop5Item getClinicTop5List1(String ykiho, int pageNo, int numOfRows) {
@@ -42,6 +51,7 @@ public class HiraClinicTop5Client {
         }
         if (ykiho == null || ykiho.isBlank()) return null;
 
+        RateLimiter.waitForPermission(rateLimiter);
         try {
             UriComponentsBuilder builder = UriComponentsBuilder
                     .fromUriString(properties.getBaseUrl() + "/" + OPERATION)
@@ -3,6 +3,8 @@ package com.medicheck.server.domain.hospital.client;
 import com.medicheck.server.domain.hospital.client.dto.HiraAsmApiResponse;
 import com.medicheck.server.domain.hospital.client.dto.HiraAsmItem;
 import com.medicheck.server.global.config.HiraEvalApiProperties;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +18,7 @@ import java.util.List;
 /**
  * 건강보험심사평가원 병원평가정보서비스 Open API 클라이언트.
  * getHospAsmInfo1(병원평가상세등급조회) 호출.
+ * 모든 호출은 RateLimiter(hira-eval)를 거치므로 지역 단위 병렬 동기화에서도 공공데이터포털 트래픽 한도를 넘지 않습니다.
  */
 @Component
 @Slf4j
@@ -23,14 +26,18 @@ public class HiraEvaluationClient {
 
     private static final String OPERATION = "getHospAsmInfo1";
     private static final String RESPONSE_TYPE_JSON = "json";
+    private static final String RATE_LIMITER_NAME = "hira-eval";
 
     private final HiraEvalApiProperties properties;
     private final RestTemplate restTemplate;
+    private final RateLimiter rateLimiter;
 
     public HiraEvaluationClient(HiraEvalApiProperties properties,
-                                @Qualifier("hiraRestTemplate") RestTemplate restTemplate) {
+                                @Qualifier("hiraRestTemplate") RestTemplate restTemplate,
+                                RateLimiterRegistry rateLimiterRegistry) {
         this.properties = properties;
         this.restTemplate = restTemplate;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER_NAME);
     }
 
     /**
@@ -60,6 +67,8 @@ public class HiraEvaluationClient {
         URI uri = builder.build().encode().toUri();
 
         try {
+            // 대기 시간 초과(RequestNotPermitted)도 아래 catch 에서 HiraApiException 으로 감쌉니다.
+            RateLimiter.waitForPermission(rateLimiter);
             ResponseEntity<HiraAsmApiResponse> response = restTemplate.getForEntity(uri, HiraAsmApiResponse.class);
             HiraAsmApiResponse body = response.getBody();
 
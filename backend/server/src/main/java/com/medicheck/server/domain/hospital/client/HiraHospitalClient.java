@@ -3,6 +3,9 @@ package com.medicheck.server.domain.hospital.client;
 import com.medicheck.server.domain.hospital.client.dto.HiraApiResponse;
 import com.medicheck.server.domain.hospital.client.dto.HiraHospItem;
 import com.medicheck.server.global.config.HiraApiProperties;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +20,7 @@ import java.util.List;
 /**
  * 건강보험심사평가원 병원정보 Open API 클라이언트.
  * getHospBasisList1(병원기본목록) 호출.
+ * 모든 목록 호출은 RateLimiter(hira-hosp-info)를 거치므로 병렬 동기화에서도 공공데이터포털 트래픽 한도를 넘지 않습니다.
  */
 @Component
 @Slf4j
@@ -25,14 +29,18 @@ public class HiraHospitalClient {
     /** 포털 상세기능: 병원기본목록 /getHospBasisList (v2는 1 접미사 없음) */
     private static final String OPERATION = "getHospBasisList";
     private static final String RESPONSE_TYPE_JSON = "json";
+    private static final String RATE_LIMITER_NAME = "hira-hosp-info";
 
     private final HiraApiProperties properties;
     private final RestTemplate restTemplate;
+    private final RateLimiter rateLimiter;
 
     public HiraHospitalClient(HiraApiProperties properties,
-                              @Qualifier("hiraRestTemplate") RestTemplate restTemplate) {
+                              @Qualifier("hiraRestTemplate") RestTemplate restTemplate,
+                              RateLimiterRegistry rateLimiterRegistry) {
         this.properties = properties;
         this.restTemplate = restTemplate;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER_NAME);
     }
 
     /**
@@ -62,13 +70,36 @@ public class HiraHospitalClient {
             String xPos,
             String yPos,
             Integer radius
+    ) {
+        return getHospBasisPage(pageNo, numOfRows, sidoCd, sgguCd, emdongNm, yadmNm, xPos, yPos, radius).items();
+    }
+
+    /**
+     * 병원기본목록 한 페이지와 전체 건수(totalCount)를 함께 조회합니다.
+     * 첫 페이지의 totalCount 로 전체 페이지 수를 미리 계산해 병렬로 나머지 페이지를 요청할 때 사용합니다.
+     *
+     * @return 페이지 결과 (인증키 미설정 시 {@link HospBasisPage#EMPTY},
+     *         호출 제한 대기 초과·HTTP/파싱 오류·resultCode 비정상 시 {@link HospBasisPage#FAILED})
+     */
+    @SuppressWarnings("java:S107")
+    public HospBasisPage getHospBasisPage(
+            int pageNo,
+            int numOfRows,
+            String sidoCd,
+            String sgguCd,
+            String emdongNm,
+            String yadmNm,
+            String xPos,
+            String yPos,
+            Integer radius
     ) {
         if (properties.getServiceKey() == null || properties.getServiceKey().isBlank()) {
             log.warn("HIRA API 인증키가 설정되지 않았습니다. 환경변수 HIRA_SERVICE_KEY 를 설정하세요.");
-            return Collections.emptyList();
+            return HospBasisPage.EMPTY;
         }
 
         try {
+            RateLimiter.waitForPermission(rateLimiter);
             UriComponentsBuilder builder = UriComponentsBuilder
                     .fromUriString(properties.getBaseUrl() + "/" + OPERATION)
                     // ServiceKey 는 원본 값을 넘기고, build().encode() 로 일괄 인코딩
@@ -91,14 +122,14 @@ public class HiraHospitalClient {
 
             if (body == null) {
                 log.warn("HIRA API 응답 body가 null입니다.");
-                return Collections.emptyList();
+                return HospBasisPage.FAILED;
             }
             if (body.getResponse() != null && body.getResponse().getHeader() != null) {
                 String code = body.getResponse().getHeader().getResultCode();
                 String msg = body.getResponse().getHeader().getResultMsg();
                 if (!"00".equals(code)) {
                     log.warn("HIRA API 오류: resultCode={}, resultMsg={}", code, msg);
-                    return Collections.emptyList();
+                    return HospBasisPage.FAILED;
                 }
                 // 정상이지만 조회 결과가 없을 수 있음 (totalCount 0 등)
                 if (body.getResponse().getBody() != null && body.getItemList().isEmpty()) {
@@ -108,10 +139,16 @@ public class HiraHospitalClient {
                 }
             }
 
-            return body.getItemList();
+            Integer totalCount = body.getResponse() != null && body.getResponse().getBody() != null
+                    ? body.getResponse().getBody().getTotalCount()
+                    : null;
+            return new HospBasisPage(body.getItemList(), totalCount);
+        } catch (RequestNotPermitted e) {
+            log.warn("HIRA API 호출 제한 대기 시간 초과: pageNo={}, sidoCd={}", pageNo, sidoCd);
+            return HospBasisPage.FAILED;
         } catch (Exception e) {
-            log.error("HIRA API 호출 실패", e);
-            return Collections.emptyList();
+            log.error("HIRA API 호출 실패: pageNo={}, sidoCd={}", pageNo, sidoCd, e);
+            return HospBasisPage.FAILED;
         }
     }
 
@@ -147,4 +184,22 @@ public class HiraHospitalClient {
     }
 
     public record RawResponseResult(boolean keyConfigured, String rawResponse, String error) {}
+
+    /**
+     * 병원기본목록 한 페이지 결과.
+     *
+     * @param totalCount 응답 body 의 전체 건수 (응답에 없거나 오류면 null)
+     * @param failed     조회 실패 여부. 정상 응답의 빈 페이지(마지막 페이지 뒤)와 구분해 호출 측이 재시도·집계합니다.
+     */
+    public record HospBasisPage(List<HiraHospItem> items, Integer totalCount, boolean failed) {
+
+        /** 인증키 미설정 등 조회하지 않은 경우 */
+        public static final HospBasisPage EMPTY = new HospBasisPage(Collections.emptyList(), null, false);
+        /** 호출 제한 대기 초과·HTTP 오류·resultCode 비정상 등 조회 실패 */
+        public static final HospBasisPage FAILED = new HospBasisPage(Collections.emptyList(), null, true);
+
+        public HospBasisPage(List<HiraHospItem> items, Integer totalCount) {
+            this(items, totalCount, false);
+        }
+    }
 }
@@ -1,14 +1,22 @@
 package com.medicheck.server.domain.hospital.client.dto;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * HIRA 병원진료정보조회서비스(getClinicTop5List1) 응답의 1개 item을 파싱한 결과.
  * XML/JSON 응답 모두를 허용하고, 진료량 상위 5위 질병명만 핵심으로 저장한다.
+ * 응답은 한 번만 훑는다(XML: 미리 컴파일한 leaf 태그 패턴, JSON: Jackson 토큰 스트림).
  */
 @Getter
 @Builder
@@ -23,50 +31,52 @@ public class HiraClinicTop5Item {
     private final String mfrnIntrsIlnsNm4;
     private final String mfrnIntrsIlnsNm5;
 
+    /** 응답 전체를 한 번만 훑으며 모으는 필드 (그 외 태그/키는 무시) */
+    private static final Set<String> FIELDS = Set.of(
+            "resultCode", "crtrYm", "ykiho",
+            "mfrnIntrsIlnsNm1", "mfrnIntrsIlnsNm2", "mfrnIntrsIlnsNm3", "mfrnIntrsIlnsNm4", "mfrnIntrsIlnsNm5",
+            "mfrnIntrsIlnsCdNm1", "mfrnIntrsIlnsCdNm2", "mfrnIntrsIlnsCdNm3", "mfrnIntrsIlnsCdNm4", "mfrnIntrsIlnsCdNm5"
+    );
+
+    /** 예: <mfrnIntrsIlnsNm1>감기</mfrnIntrsIlnsNm1> — 자식 태그가 없는 요소만 매칭 */
+    private static final Pattern LEAF_TAG = Pattern.compile("<([A-Za-z][A-Za-z0-9]*)>([^<]*)</\\1>");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     public static HiraClinicTop5Item fromXml(String xml) {
         if (xml == null || xml.isBlank()) return null;
         String trimmed = xml.trim();
         if (trimmed.startsWith("{")) {
             return fromJson(trimmed);
         }
-
-        String resultCode = extractTag(xml, "resultCode");
         // resultCode가 없으면 문서/인증 실패일 수 있으나, 우선 태그 파싱을 시도한다.
+        return fromFields(scanXml(xml));
+    }
+
+    private static HiraClinicTop5Item fromJson(String json) {
+        return fromFields(scanJson(json));
+    }
+
+    /** 같은 이름이 여러 번 나오면(여러 item) 첫 값을 쓴다. */
+    private static HiraClinicTop5Item fromFields(Map<String, String> fields) {
+        String resultCode = fields.get("resultCode");
         if (resultCode != null && !resultCode.trim().equals("00")) {
             return null;
         }
 
-        String crtrYm = extractTag(xml, "crtrYm");
-        String ykiho = extractTag(xml, "ykiho");
-
         // OpenAPI 응답 스펙이 Nm 계열/CodeName(CdNm) 계열로 달라질 수 있어 둘 다 허용.
-        String nm1 = firstNonBlank(
-                extractTag(xml, "mfrnIntrsIlnsNm1"),
-                extractTag(xml, "mfrnIntrsIlnsCdNm1")
-        );
-        String nm2 = firstNonBlank(
-                extractTag(xml, "mfrnIntrsIlnsNm2"),
-                extractTag(xml, "mfrnIntrsIlnsCdNm2")
-        );
-        String nm3 = firstNonBlank(
-                extractTag(xml, "mfrnIntrsIlnsNm3"),
-                extractTag(xml, "mfrnIntrsIlnsCdNm3")
-        );
-        String nm4 = firstNonBlank(
-                extractTag(xml, "mfrnIntrsIlnsNm4"),
-                extractTag(xml, "mfrnIntrsIlnsCdNm4")
-        );
-        String nm5 = firstNonBlank(
-                extractTag(xml, "mfrnIntrsIlnsNm5"),
-                extractTag(xml, "mfrnIntrsIlnsCdNm5")
-        );
+        String nm1 = firstNonBlank(fields.get("mfrnIntrsIlnsNm1"), fields.get("mfrnIntrsIlnsCdNm1"));
+        String nm2 = firstNonBlank(fields.get("mfrnIntrsIlnsNm2"), fields.get("mfrnIntrsIlnsCdNm2"));
+        String nm3 = firstNonBlank(fields.get("mfrnIntrsIlnsNm3"), fields.get("mfrnIntrsIlnsCdNm3"));
+        String nm4 = firstNonBlank(fields.get("mfrnIntrsIlnsNm4"), fields.get("mfrnIntrsIlnsCdNm4"));
+        String nm5 = firstNonBlank(fields.get("mfrnIntrsIlnsNm5"), fields.get("mfrnIntrsIlnsCdNm5"));
 
         // 문서상 5개가 항상 내려오지만, 안전하게 1개라도 있으면 생성한다.
         if (isAllBlank(nm1, nm2, nm3, nm4, nm5)) return null;
 
         return HiraClinicTop5Item.builder()
-                .crtrYm(trimToNull(crtrYm))
-                .ykiho(trimToNull(ykiho))
+                .crtrYm(trimToNull(fields.get("crtrYm")))
+                .ykiho(trimToNull(fields.get("ykiho")))
                 .mfrnIntrsIlnsNm1(trimToNull(nm1))
                 .mfrnIntrsIlnsNm2(trimToNull(nm2))
                 .mfrnIntrsIlnsNm3(trimToNull(nm3))
@@ -75,50 +85,34 @@ public class HiraClinicTop5Item {
                 .build();
     }
 
-    private static HiraClinicTop5Item fromJson(String json) {
-        String resultCode = extractJsonString(json, "resultCode");
-        if (resultCode != null && !resultCode.trim().equals("00")) {
-            return null;
+    private static Map<String, String> scanXml(String xml) {
+        Map<String, String> fields = new HashMap<>();
+        Matcher m = LEAF_TAG.matcher(xml);
+        while (m.find()) {
+            String tag = m.group(1);
+            if (FIELDS.contains(tag)) {
+                fields.putIfAbsent(tag, m.group(2));
+            }
         }
+        return fields;
+    }
 
-        String crtrYm = extractJsonString(json, "crtrYm");
-        if (crtrYm == null) {
-            crtrYm = extractJsonNumberAsString(json, "crtrYm");
+    private static Map<String, String> scanJson(String json) {
+        Map<String, String> fields = new HashMap<>();
+        try (JsonParser p = JSON_FACTORY.createParser(json)) {
+            for (JsonToken token = p.nextToken(); token != null; token = p.nextToken()) {
+                // crtrYm 이 숫자로 오는 경우도 문자열로 받는다.
+                if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+                    String name = p.currentName();
+                    if (name != null && FIELDS.contains(name)) {
+                        fields.putIfAbsent(name, p.getText());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // 잘리거나 깨진 응답: 그때까지 읽은 값으로 판단한다.
         }
-        String ykiho = extractJsonString(json, "ykiho");
-
-        String nm1 = firstNonBlank(
-                extractJsonString(json, "mfrnIntrsIlnsNm1"),
-                extractJsonString(json, "mfrnIntrsIlnsCdNm1")
-        );
-        String nm2 = firstNonBlank(
-                extractJsonString(json, "mfrnIntrsIlnsNm2"),
-                extractJsonString(json, "mfrnIntrsIlnsCdNm2")
-        );
-        String nm3 = firstNonBlank(
-                extractJsonString(json, "mfrnIntrsIlnsNm3"),
-                extractJsonString(json, "mfrnIntrsIlnsCdNm3")
-        );
-        String nm4 = firstNonBlank(
-                extractJsonString(json, "mfrnIntrsIlnsNm4"),
-                extractJsonString(json, "mfrnIntrsIlnsCdNm4")
-        );
-        String nm5 = firstNonBlank(
-                extractJsonString(json, "mfrnIntrsIlnsNm5"),
-                extractJsonString(json, "mfrnIntrsIlnsCdNm5")
-        );
-
-        if (isAllBlank(nm1, nm2, nm3, nm4, nm5)) return null;
-
-        return HiraClinicTop5Item.builder()
-                .crtrYm(trimToNull(crtrYm))
-                .ykiho(trimToNull(ykiho))
-                .mfrnIntrsIlnsNm1(trimToNull(nm1))
-                .mfrnIntrsIlnsNm2(trimToNull(nm2))
-                .mfrnIntrsIlnsNm3(trimToNull(nm3))
-                .mfrnIntrsIlnsNm4(trimToNull(nm4))
-                .mfrnIntrsIlnsNm5(trimToNull(nm5))
-                .build();
+        return fields;
     }
 
     private static boolean isAllBlank(String... values) {
@@ -142,30 +136,4 @@ public class HiraClinicTop5Item {
         }
         return null;
     }
-
-    private static String extractTag(String xml, String tagName) {
-        // 예: <mfrnIntrsIlnsNm1>감기</mfrnIntrsIlnsNm1>
-        Pattern p = Pattern.compile(
-                "<" + Pattern.quote(tagName) + ">\\s*(.*?)\\s*</" + Pattern.quote(tagName) + ">",
-                Pattern.DOTALL
-        );
-        Matcher m = p.matcher(xml);
-        if (!m.find()) return null;
-        return m.group(1);
-    }
-
-    private static String extractJsonString(String json, String key) {
-        Pattern p = Pattern.compile("\"" + Pattern.quote(key) + "\"\\s*:\\s*\"(.*?)\"", Pattern.DOTALL);
-        Matcher m = p.matcher(json);
-        if (!m.find()) return null;
-        return m.group(1);
-    }
-
-    private static String extractJsonNumberAsString(String json, String key) {
-        Pattern p = Pattern.compile("\"" + Pattern.quote(key) + "\"\\s*:\\s*([0-9]+)");
-        Matcher m = p.matcher(json);
-        if (!m.find()) return null;
-        return m.group(1);
-    }
 }
-
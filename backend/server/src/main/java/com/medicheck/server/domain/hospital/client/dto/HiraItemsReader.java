@@ -0,0 +1,72 @@
+package com.medicheck.server.domain.hospital.client.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공공데이터포털 items 값을 JsonNode 트리 없이 토큰 스트림에서 바로 읽는 공통 로직.
+ * 요소마다 {@link DeserializationContext#readValue} 로 바인딩하므로 전역 Jackson 설정(ObjectMapper)을 그대로 따릅니다.
+ * 지원 형태: 배열, 단일 객체, { item: 단일/배열 }. 결과가 없을 때 오는 "" 같은 스칼라·null 은 빈 목록입니다.
+ */
+final class HiraItemsReader {
+
+    private static final String ITEM_FIELD = "item";
+
+    private HiraItemsReader() {
+    }
+
+    /** items: 배열 또는 { item: 단일/배열 } */
+    static <T> List<T> readItems(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            return readArray(p, ctxt, type);
+        }
+        List<T> list = new ArrayList<>();
+        if (token != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return list;
+        }
+        for (token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            p.nextToken();
+            if (ITEM_FIELD.equals(field)) {
+                list.addAll(readSingleOrArray(p, ctxt, type));
+            } else {
+                p.skipChildren();
+            }
+        }
+        return list;
+    }
+
+    /** item: 단일 객체 또는 배열 */
+    static <T> List<T> readSingleOrArray(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            return readArray(p, ctxt, type);
+        }
+        List<T> list = new ArrayList<>(1);
+        if (token == JsonToken.START_OBJECT) {
+            list.add(ctxt.readValue(p, type));
+        } else {
+            p.skipChildren();
+        }
+        return list;
+    }
+
+    private static <T> List<T> readArray(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+        List<T> list = new ArrayList<>();
+        for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                list.add(ctxt.readValue(p, type));
+            } else {
+                p.skipChildren();
+            }
+        }
+        return list;
+    }
+}
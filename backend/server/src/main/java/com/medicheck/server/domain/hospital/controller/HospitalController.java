@@ -2,19 +2,38 @@ package com.medicheck.server.domain.hospital.controller;
 
 import lombok.extern.slf4j.Slf4j;
 import com.medicheck.server.domain.hospital.dto.HospitalResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalSearchResponse;
 import com.medicheck.server.domain.hospital.dto.NearbyHospitalResponse;
+import com.medicheck.server.domain.hospital.dto.SymptomKeywordResponse;
+import com.medicheck.server.domain.hospital.dto.SyncJobResponse;
 import com.medicheck.server.domain.hospital.dto.SyncResult;
+import com.medicheck.server.domain.hospital.entity.SyncJob;
 import com.medicheck.server.domain.hospital.service.HiraSyncService;
+import com.medicheck.server.domain.hospital.service.HospitalCountMode;
+import com.medicheck.server.domain.hospital.service.HospitalDistanceCursor;
 import com.medicheck.server.domain.hospital.service.HospitalEvaluationSyncService;
+import com.medicheck.server.domain.hospital.service.HospitalKeywordSearchMode;
+import com.medicheck.server.domain.hospital.service.HospitalListCursor;
+import com.medicheck.server.domain.hospital.service.HospitalListOrder;
+import com.medicheck.server.domain.hospital.service.HospitalReviewStatsReconciler;
+import com.medicheck.server.domain.hospital.service.HospitalSearchCriteria;
 import com.medicheck.server.domain.hospital.service.HospitalTop5SyncService;
 import com.medicheck.server.domain.hospital.service.HospitalService;
+import com.medicheck.server.domain.hospital.service.HospitalSymptomVocabulary;
+import com.medicheck.server.domain.hospital.service.HospitalTileService;
 import com.medicheck.server.domain.hospital.service.NearbyQueryContextHolder;
 import com.medicheck.server.domain.hospital.service.NearbyQueryMetadata;
+import com.medicheck.server.domain.hospital.service.SyncJobAlreadyRunningException;
+import com.medicheck.server.domain.hospital.service.SyncJobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,8 +47,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 /**
@@ -46,11 +67,26 @@ public class HospitalController {
     private static final Pattern SIDO_CD_PATTERN = Pattern.compile("^[0-9]{1," + SIDO_CD_MAX_LENGTH + "}$");
     /** HIRA 병원기본목록 API: 시군구 코드는 6자리 숫자 */
     private static final Pattern SGGU_CD_PATTERN = Pattern.compile("^[0-9]{6}$");
+    /** 지도 SDK(카카오·구글 등) 공통 최대 줌 레벨 */
+    private static final int MAX_MAP_ZOOM = 21;
+    /** 지도 타일 브라우저/CDN 캐시 시간. 만료 후에는 ETag 로 재검증(304)합니다. */
+    private static final Duration TILE_MAX_AGE = Duration.ofMinutes(5);
+    /** 통합 검색: 페이지 크기 상한, 깊은 페이지 상한(page+1)*size, 반경 상한(근처 병원 조회와 같음) */
+    private static final int SEARCH_MAX_PAGE_SIZE = 100;
+    private static final int SEARCH_MAX_RESULT_WINDOW = 10_000;
+    private static final double SEARCH_MAX_RADIUS_METERS = 50_000;
+    /** 증상 피커 어휘 한 번에 반환할 최대 건수 (이전 고정 상한과 같음) */
+    private static final int SYMPTOM_KEYWORDS_MAX_LIMIT = 400;
+    /** 증상 피커 어휘 캐시 시간. 어휘는 Top5 동기화 때만 바뀌며, 만료 후에는 ETag 로 재검증합니다. */
+    private static final Duration SYMPTOM_KEYWORDS_MAX_AGE = Duration.ofMinutes(10);
 
     private final HospitalService hospitalService;
+    private final HospitalTileService hospitalTileService;
     private final HiraSyncService hiraSyncService;
     private final HospitalEvaluationSyncService hospitalEvaluationSyncService;
     private final HospitalTop5SyncService hospitalTop5SyncService;
+    private final HospitalReviewStatsReconciler hospitalReviewStatsReconciler;
+    private final SyncJobService syncJobService;
 
     /**
      * 병원 상세 조회.
@@ -69,17 +105,127 @@ public class HospitalController {
      * 병원 목록 조회 (검색/필터/정렬/페이지네이션).
      * GET /api/hospitals?page=0&size=20&keyword=검색어&department=내과&sort=name,asc
      */
-    @Operation(summary = "병원 목록", description = "keyword(이름·주소·진료과), department 필터, 페이지네이션·정렬을 지원합니다.")
+    @Operation(
+            summary = "병원 목록",
+            description = "keyword(이름·주소·진료과), department 필터, 페이지네이션·정렬을 지원합니다. "
+                    + "keyword 는 기본적으로 부분 문자열(LIKE) 검색 후 sort 대로 정렬합니다. "
+                    + "searchMode=fulltext 면 FULLTEXT(ngram) 인덱스로 찾아 관련도 순으로 정렬하므로 sort 는 무시되고, "
+                    + "단어 단위 매칭이라 결과가 LIKE 와 다를 수 있습니다(2자 미만 토큰이 있으면 LIKE 로 대체). "
+                    + "countMode=estimated 는 필터가 없을 때 추정 건수, none 은 totalElements 없이 last 로 다음 페이지 여부만 줍니다. "
+                    + "after 를 주면(첫 페이지는 빈 값) page·전체 건수 없이 (sort 키, ID) 커서로 이어 받으며, "
+                    + "sort 는 name 또는 createdAt(asc|desc), keyword 는 LIKE 조건으로만 적용됩니다."
+    )
     @GetMapping
-    public ResponseEntity<Page<HospitalResponse>> getHospitals(
+    public ResponseEntity<?> getHospitals(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String department,
+            @Parameter(description = "키워드 검색 방식: like(기본, sort 적용) | fulltext(관련도 순, sort 무시)")
+            @RequestParam(defaultValue = "like") String searchMode,
+            @Parameter(description = "전체 건수 방식: exact(기본) | estimated | none(건수 없이 다음 페이지 여부만)")
+            @RequestParam(defaultValue = "exact") String countMode,
+            @Parameter(description = "keyset 페이지: 직전 응답의 nextCursor (첫 페이지는 빈 값)")
+            @RequestParam(required = false) String after,
             @PageableDefault(size = 20, sort = "name") Pageable pageable
     ) {
-        Page<HospitalResponse> page = hospitalService.findAll(keyword, department, pageable);
+        if (after != null) {
+            return getHospitalsAfter(keyword, department, after, pageable);
+        }
+        Optional<HospitalKeywordSearchMode> mode = HospitalKeywordSearchMode.from(searchMode);
+        if (mode.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_search_mode",
+                    "message", "searchMode는 like 또는 fulltext 여야 합니다."
+            ));
+        }
+        Optional<HospitalCountMode> count = HospitalCountMode.from(countMode);
+        if (count.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_count_mode",
+                    "message", "countMode는 exact, estimated, none 중 하나여야 합니다."
+            ));
+        }
+        Slice<HospitalResponse> page = hospitalService.findAll(keyword, department, mode.get(), count.get(), pageable);
         return ResponseEntity.ok(page);
     }
 
+    private ResponseEntity<?> getHospitalsAfter(String keyword, String department, String after, Pageable pageable) {
+        Optional<HospitalListOrder> order = HospitalListOrder.from(pageable.getSort());
+        if (order.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_sort",
+                    "message", "after 커서 페이지는 sort=name 또는 sort=createdAt (asc|desc) 만 지원합니다."
+            ));
+        }
+        HospitalListCursor cursor;
+        try {
+            cursor = HospitalListCursor.decode(after, order.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_cursor",
+                    "message", "after는 같은 sort 로 받은 직전 응답의 nextCursor 값이어야 합니다."
+            ));
+        }
+        return ResponseEntity.ok(
+                hospitalService.findAllAfter(keyword, department, order.get(), cursor, pageable.getPageSize()));
+    }
+
+    /**
+     * 병원 통합 검색 (내장 Lucene 인덱스, hospital.search.lucene.enabled=true 일 때만).
+     * 키워드(오타·접두어 허용)·증상·진료과·시도·평가 등급·반경 조건을 조합하고, 진료과·시도 패싯 건수를 함께 받습니다.
+     * GET /api/hospitals/search?keyword=연세내과&sido=서울특별시&lat=37.56&lng=126.97&radiusMeters=5000&page=0&size=20
+     */
+    @Operation(
+            summary = "병원 통합 검색",
+            description = "keyword 는 병원명·주소·진료과·질병명을 한국어 형태소 단위로 찾으며 오타(1글자)와 접두어를 허용합니다. "
+                    + "symptom 은 Top5 질병명, department·sido 는 패싯 값 정확 일치, grade 는 asmGrd01=1 형식(여러 개면 모두 만족)입니다. "
+                    + "lat·lng 를 주면 거리 정렬(키워드가 있으면 관련도 다음), radiusMeters 를 함께 주면 반경 필터입니다. "
+                    + "검색 인덱스가 꺼져 있거나 색인 중이면 503 입니다."
+    )
+    @GetMapping("/search")
+    public ResponseEntity<?> searchHospitals(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String sido,
+            @RequestParam(required = false) String symptom,
+            @Parameter(description = "평가 등급 필터 (예: asmGrd01=1)") @RequestParam(required = false) List<String> grade,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Double radiusMeters,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if ((lat == null) != (lng == null) || (lat != null && !HospitalService.isValidBounds(lat, lng, lat, lng))) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_location",
+                    "message", "lat·lng 는 함께 지정해야 하며 위도 -90~90, 경도 -180~180 범위여야 합니다."
+            ));
+        }
+        if (radiusMeters != null && (lat == null || radiusMeters <= 0 || radiusMeters > SEARCH_MAX_RADIUS_METERS)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_radius",
+                    "message", "radiusMeters 는 lat·lng 와 함께 0 초과 " + (int) SEARCH_MAX_RADIUS_METERS + " 이하여야 합니다."
+            ));
+        }
+        if (page < 0 || size < 1 || size > SEARCH_MAX_PAGE_SIZE || (long) (page + 1) * size > SEARCH_MAX_RESULT_WINDOW) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_page",
+                    "message", "size 는 1~" + SEARCH_MAX_PAGE_SIZE + ", (page+1)*size 는 " + SEARCH_MAX_RESULT_WINDOW
+                            + " 이하여야 합니다."
+            ));
+        }
+        Optional<HospitalSearchResponse> result = hospitalService.search(new HospitalSearchCriteria(
+                keyword, department, sido, symptom, grade, lat, lng, radiusMeters, page, size));
+        if (result.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(Map.of(
+                            "error", "search_index_unavailable",
+                            "message", "병원 검색 인덱스가 꺼져 있거나 색인 중입니다."
+                    ));
+        }
+        return ResponseEntity.ok(result.get());
+    }
+
     /**
      * 증상·질환 키워드로 병원 검색 (HIRA Top5 질병명 기준).
      * GET /api/hospitals/search/symptom?symptom=두통&lat=36.14&lng=128.41&page=0&size=20
@@ -103,17 +249,37 @@ public class HospitalController {
     }
 
     /**
-     * 증상별 병원찾기 UI용: 동기화된 Top5 질병명 중 실제 DB에 존재하는 고유 값 목록.
-     * GET /api/hospitals/search/symptom-keywords
+     * 증상별 병원찾기 UI용: 동기화된 Top5 질병명 어휘(가나다순). prefix 를 주면 그 접두어로 시작하는 질병명만(자동완성),
+     * withCounts=true 면 질병명별 병원 수를 함께 반환합니다.
+     * 어휘는 Top5 동기화 때만 바뀌므로 ETag(어휘 내용 해시)·Cache-Control 을 내려주고, 바뀌지 않았으면 304 입니다.
+     * GET /api/hospitals/search/symptom-keywords?prefix=기관&withCounts=true&limit=10
      */
     @Operation(
             summary = "증상 피커용 질병명 목록",
             description = "hospital_clinic_top5의 질병명 1~5열에서 중복을 제거한 문자열 목록입니다. "
+                    + "prefix 로 접두어 자동완성, withCounts=true 로 [{term, hospitalCount}] 형식을 받을 수 있습니다. "
                     + "Top5 데이터가 없으면 빈 배열입니다."
     )
     @GetMapping("/search/symptom-keywords")
-    public ResponseEntity<List<String>> listSymptomPickerKeywords() {
-        return ResponseEntity.ok(hospitalService.findDistinctTop5DiseaseNamesForPicker());
+    public ResponseEntity<?> listSymptomPickerKeywords(
+            @Parameter(description = "질병명 접두어 (대소문자 무시, 선택)") @RequestParam(required = false) String prefix,
+            @Parameter(description = "true 면 질병명별 병원 수 포함") @RequestParam(defaultValue = "false") boolean withCounts,
+            @Parameter(description = "최대 건수 (1~" + SYMPTOM_KEYWORDS_MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + SYMPTOM_KEYWORDS_MAX_LIMIT) int limit
+    ) {
+        if (limit < 1 || limit > SYMPTOM_KEYWORDS_MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_limit",
+                    "message", "limit은 1~" + SYMPTOM_KEYWORDS_MAX_LIMIT + " 범위여야 합니다."
+            ));
+        }
+        HospitalSymptomVocabulary vocabulary = hospitalService.getSymptomVocabulary();
+        List<SymptomKeywordResponse> terms = vocabulary.search(prefix, limit);
+        Object body = withCounts ? terms : terms.stream().map(SymptomKeywordResponse::term).toList();
+        return ResponseEntity.ok()
+                .eTag(vocabulary.version())
+                .cacheControl(CacheControl.maxAge(SYMPTOM_KEYWORDS_MAX_AGE).cachePublic())
+                .body(body);
     }
 
     /**
@@ -148,6 +314,125 @@ public class HospitalController {
         }
     }
 
+    /**
+     * 지도 화면(사각형) 안 병원 조회. 기준 좌표(lat/lng, 생략 시 화면 중심)에서 가까운 순으로 size 개씩,
+     * 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지를 이어 받습니다.
+     *
+     * 예: GET /api/hospitals/in-bounds?swLat=37.55&swLng=126.96&neLat=37.58&neLng=127.00&size=100
+     */
+    @Operation(
+            summary = "지도 화면 안 병원",
+            description = "남서(swLat, swLng)·북동(neLat, neLng) 모서리 사각형 안의 병원을 거리순으로 반환합니다. "
+                    + "hasNext 가 true 이면 nextCursor 를 cursor 로 넘겨 다음 페이지를 요청합니다."
+    )
+    @GetMapping("/in-bounds")
+    public ResponseEntity<?> getHospitalsInBounds(
+            @RequestParam("swLat") double swLat,
+            @RequestParam("swLng") double swLng,
+            @RequestParam("neLat") double neLat,
+            @RequestParam("neLng") double neLng,
+            @Parameter(description = "거리 기준 위도 (생략 시 화면 중심)") @RequestParam(required = false) BigDecimal lat,
+            @Parameter(description = "거리 기준 경도 (생략 시 화면 중심)") @RequestParam(required = false) BigDecimal lng,
+            @Parameter(description = "직전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        if (!HospitalService.isValidBounds(swLat, swLng, neLat, neLng)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_bounds",
+                    "message", "swLat<=neLat, swLng<=neLng 이고 위도 -90~90, 경도 -180~180 범위여야 합니다."
+            ));
+        }
+        HospitalDistanceCursor after;
+        try {
+            after = HospitalDistanceCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_cursor",
+                    "message", "cursor는 직전 응답의 nextCursor 값이어야 합니다."
+            ));
+        }
+        return ResponseEntity.ok(hospitalService.findInBounds(swLat, swLng, neLat, neLng, lat, lng, after, size));
+    }
+
+    /**
+     * 지도 화면 클러스터. 줌이 낮아 마커가 많을 때 병원 목록 대신 격자 셀별 건수·중심·진료과 건수만 받습니다.
+     * 셀에 병원이 1곳뿐이면 hospitalId 가 함께 내려가므로 그 셀은 바로 마커로 그릴 수 있습니다.
+     *
+     * 예: GET /api/hospitals/clusters?swLat=35.0&swLng=126.0&neLat=38.0&neLng=129.5&zoom=8
+     */
+    @Operation(
+            summary = "지도 화면 병원 클러스터",
+            description = "남서·북동 모서리 사각형 안의 병원을 줌 레벨에 맞춘 격자 셀로 묶어 셀별 병원 수, 좌표 중심, "
+                    + "진료과별 병원 수를 반환합니다."
+    )
+    @GetMapping("/clusters")
+    public ResponseEntity<?> getHospitalClusters(
+            @RequestParam("swLat") double swLat,
+            @RequestParam("swLng") double swLng,
+            @RequestParam("neLat") double neLat,
+            @RequestParam("neLng") double neLng,
+            @Parameter(description = "지도 줌 레벨 (0~21)") @RequestParam("zoom") int zoom
+    ) {
+        if (!HospitalService.isValidBounds(swLat, swLng, neLat, neLng)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_bounds",
+                    "message", "swLat<=neLat, swLng<=neLng 이고 위도 -90~90, 경도 -180~180 범위여야 합니다."
+            ));
+        }
+        if (zoom < 0 || zoom > MAX_MAP_ZOOM) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_zoom",
+                    "message", "zoom은 0~" + MAX_MAP_ZOOM + " 범위여야 합니다."
+            ));
+        }
+        if (HospitalService.estimatedClusterCells(swLat, swLng, neLat, neLng, zoom) > HospitalService.MAX_CLUSTER_CELLS) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "bounds_too_large",
+                    "message", "줌 레벨에 비해 화면 범위가 너무 넓습니다. 범위를 줄이거나 줌을 낮춰 주세요."
+            ));
+        }
+        return ResponseEntity.ok(hospitalService.findClusters(swLat, swLng, neLat, neLng, zoom));
+    }
+
+    /**
+     * 지도 타일(XYZ) 단위 병원 마커. 줌 14 미만은 격자 클러스터, 이상은 [id, 위도, 경도, 진료과] 배열 목록입니다.
+     * ETag·Cache-Control 을 내려주므로 브라우저/CDN 이 재사용하고, 바뀌지 않은 타일은 If-None-Match 로 304 를 받습니다.
+     *
+     * 예: GET /api/hospitals/tiles/14/13970/6344
+     */
+    @Operation(
+            summary = "지도 타일 병원 마커",
+            description = "Web Mercator XYZ 타일 안의 병원을 클러스터(줌 14 미만) 또는 마커 배열(줌 14 이상)로 반환합니다. "
+                    + "동기화로 병원 좌표가 바뀐 타일만 다시 만들어집니다."
+    )
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<?> getHospitalTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y
+    ) {
+        if (!HospitalTileService.isValidTile(z, x, y)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_tile",
+                    "message", "z는 0~" + HospitalTileService.MAX_TILE_ZOOM + ", x·y는 0~2^z-1 범위여야 합니다."
+            ));
+        }
+        Optional<HospitalTileService.HospitalTile> tile = hospitalTileService.getTile(z, x, y);
+        if (tile.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(Map.of(
+                            "error", "tiles_not_ready",
+                            "message", "병원 공간 인덱스를 적재 중입니다. 잠시 후 다시 시도해 주세요."
+                    ));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(tile.get().etag())
+                .cacheControl(CacheControl.maxAge(TILE_MAX_AGE).cachePublic())
+                .body(tile.get().body());
+    }
+
     /**
      * HIRA 병원정보 Open API에서 데이터를 가져와 DB에 동기화합니다.
      * local 프로필 사용 시 application-local.yaml 의 인증키가 적용됩니다.
@@ -250,7 +535,7 @@ public class HospitalController {
      * 페이지 수는 HIRA 응답이 끝날 때까지 자동으로 순회합니다.
      * POST /api/hospitals/sync/all?numOfRows=500
      */
-    @Operation(summary = "HIRA 전국 동기화", description = "관리자 키 필요. 시·도별로 순회하며 전국 병원 정보를 동기화합니다. 시간이 오래 걸릴 수 있습니다.")
+    @Operation(summary = "HIRA 전국 동기화", description = "관리자 키 필요. 시·도별로 순회하며 전국 병원 정보를 동기화합니다. 시간이 오래 걸릴 수 있어 POST /sync/jobs/hospitals-all 사용을 권장합니다.")
     @PostMapping("/sync/all")
     public ResponseEntity<?> syncAllFromHira(
             @RequestParam(defaultValue = "500") int numOfRows
@@ -303,7 +588,7 @@ public class HospitalController {
      * POST /api/hospitals/sync/evaluations/region?addressKeyword=구미
      * POST /api/hospitals/sync/evaluations/region?addressKeyword=구미&maxSynced=100
      */
-    @Operation(summary = "심평원 평가 지역 동기화", description = "관리자 키 필요. 주소에 addressKeyword(예: 구미)가 포함된 병원만 평가를 1건씩 동기화합니다.")
+    @Operation(summary = "심평원 평가 지역 동기화", description = "관리자 키 필요. 주소에 addressKeyword(예: 구미)가 포함된 병원만 평가를 병렬로 조회해 청크 단위로 저장합니다. 대상이 많으면 POST /sync/jobs/evaluations-region 사용을 권장합니다.")
     @PostMapping("/sync/evaluations/region")
     public ResponseEntity<?> syncEvaluationsByRegion(
             @RequestParam("addressKeyword") String addressKeyword,
@@ -365,38 +650,18 @@ public class HospitalController {
 
     /**
      * 주소에 특정 키워드가 포함된 병원만 Top5(진료량 상위 5 질병)를 동기화 (예: 구미 지역).
-     * X-Admin-Key 헤더 필요.
+     * 대상 병원 수만큼 HIRA 를 호출하므로 요청 스레드에서 돌리지 않고 TOP5_REGION 백그라운드 작업으로 시작합니다
+     * (POST /sync/jobs/top5-region 과 같음). X-Admin-Key 헤더 필요.
      * POST /api/hospitals/sync/top5/region?addressKeyword=구미
      * POST /api/hospitals/sync/top5/region?addressKeyword=구미&maxSynced=100
      */
-    @Operation(summary = "심평원 진료 Top5 지역 동기화", description = "관리자 키 필요. 주소에 addressKeyword(예: 구미)가 포함된 병원만 Top5(진료량 상위 5 질병) 1건씩 동기화합니다.")
+    @Operation(summary = "심평원 진료 Top5 지역 동기화", description = "관리자 키 필요. 주소에 addressKeyword(예: 구미)가 포함된 병원의 Top5(진료량 상위 5 질병)를 병렬로 조회해 배치 단위로 저장하는 백그라운드 작업을 시작하고 202와 작업 상태를 반환합니다. 이미 실행 중이면 409.")
     @PostMapping("/sync/top5/region")
     public ResponseEntity<?> syncTop5ByRegion(
             @RequestParam("addressKeyword") String addressKeyword,
             @RequestParam(required = false) Integer maxSynced
     ) {
-        if (addressKeyword == null || addressKeyword.isBlank()) {
-            return ResponseEntity.badRequest().body(Map.of(
-                    "error", "invalid_addressKeyword",
-                    "message", "addressKeyword는 필수입니다 (예: 구미)."
-            ));
-        }
-        try {
-            int count = hospitalTop5SyncService.syncByAddressKeyword(addressKeyword.trim(), maxSynced);
-            return ResponseEntity.ok(Map.of(
-                    "synced", count,
-                    "addressKeyword", addressKeyword.trim(),
-                    "message", "해당 지역 진료 Top5 동기화 완료"
-            ));
-        } catch (Exception e) {
-            String errorId = java.util.UUID.randomUUID().toString();
-            log.error("진료 Top5 지역 동기화 실패 errorId={}", errorId, e);
-            return ResponseEntity.status(500).body(Map.of(
-                    "error", "sync-top5-region failed",
-                    "message", "internal server error",
-                    "errorId", errorId
-            ));
-        }
+        return startSyncJob("top5-region", 500, maxSynced, addressKeyword);
     }
 
     /**
@@ -429,4 +694,98 @@ public class HospitalController {
             ));
         }
     }
+
+    /**
+     * 병원별 리뷰 집계(hospital_review_stats)를 hospital_reviews 실제 집계와 비교해 드리프트가 있으면 재집계합니다.
+     * X-Admin-Key 헤더 필요.
+     * POST /api/hospitals/sync/review-stats
+     * POST /api/hospitals/sync/review-stats?force=true  → 드리프트가 없어도 재집계
+     */
+    @Operation(summary = "리뷰 집계 재집계", description = "관리자 키 필요. 리뷰 집계 테이블의 드리프트를 확인하고, 있으면(또는 force=true) 처음부터 다시 채웁니다.")
+    @PostMapping("/sync/review-stats")
+    public ResponseEntity<?> reconcileReviewStats(
+            @RequestParam(defaultValue = "false") boolean force
+    ) {
+        try {
+            HospitalReviewStatsReconciler.ReconcileResult result = hospitalReviewStatsReconciler.reconcile(force);
+            return ResponseEntity.ok(Map.of(
+                    "driftedHospitals", result.driftedHospitals(),
+                    "rebuiltRows", result.rebuiltRows(),
+                    "message", "리뷰 집계 재집계 완료"
+            ));
+        } catch (Exception e) {
+            String errorId = java.util.UUID.randomUUID().toString();
+            log.error("리뷰 집계 재집계 실패 errorId={}", errorId, e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", "review-stats failed",
+                    "message", "internal server error",
+                    "errorId", errorId
+            ));
+        }
+    }
+
+    /**
+     * 대량 동기화를 백그라운드 작업으로 시작하고 작업 ID를 바로 반환합니다. X-Admin-Key 헤더 필요.
+     * POST /api/hospitals/sync/jobs/hospitals-all?numOfRows=500
+     * POST /api/hospitals/sync/jobs/evaluations-all?maxSynced=1000
+     * POST /api/hospitals/sync/jobs/evaluations-region?addressKeyword=구미
+     * POST /api/hospitals/sync/jobs/top5-region?addressKeyword=구미&maxSynced=100
+     * 같은 종류의 작업이 이미 실행 중이면 409.
+     */
+    @Operation(summary = "동기화 작업 시작", description = "관리자 키 필요. hospitals-all(전국 병원), evaluations-all(평가정보), evaluations-region(addressKeyword 지역 평가정보) 또는 top5-region(addressKeyword 지역 진료 Top5) 동기화를 백그라운드로 시작하고 202와 작업 상태를 반환합니다. 같은 종류가 실행 중이면 409.")
+    @PostMapping("/sync/jobs/{type}")
+    public ResponseEntity<?> startSyncJob(
+            @Parameter(description = "hospitals-all, evaluations-all, evaluations-region 또는 top5-region") @PathVariable String type,
+            @RequestParam(defaultValue = "500") int numOfRows,
+            @RequestParam(required = false) Integer maxSynced,
+            @RequestParam(required = false) String addressKeyword
+    ) {
+        SyncJob.Type jobType = SyncJob.Type.parse(type).orElse(null);
+        if (jobType == null) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid type",
+                    "message", "type 은 hospitals-all, evaluations-all, evaluations-region 또는 top5-region 이어야 합니다."
+            ));
+        }
+        boolean regional = jobType == SyncJob.Type.EVALUATIONS_REGION || jobType == SyncJob.Type.TOP5_REGION;
+        if (regional && (addressKeyword == null || addressKeyword.isBlank())) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "invalid_addressKeyword",
+                    "message", "evaluations-region·top5-region 은 addressKeyword가 필수입니다 (예: 구미)."
+            ));
+        }
+        try {
+            SyncJobResponse job = syncJobService.start(jobType, numOfRows, maxSynced,
+                    addressKeyword != null ? addressKeyword.trim() : null);
+            return ResponseEntity.accepted()
+                    .header(HttpHeaders.LOCATION, "/api/hospitals/sync/jobs/" + job.getId())
+                    .body(job);
+        } catch (SyncJobAlreadyRunningException e) {
+            return ResponseEntity.status(409).body(Map.of(
+                    "error", "sync-job already running",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            String errorId = java.util.UUID.randomUUID().toString();
+            log.error("동기화 작업 시작 실패 type={} errorId={}", jobType, errorId, e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", "sync-job start failed",
+                    "message", "internal server error",
+                    "errorId", errorId
+            ));
+        }
+    }
+
+    /**
+     * 동기화 작업 상태 조회 (처리 페이지 수, 저장/갱신 건수, 초당 페이지, 예상 남은 시간). X-Admin-Key 헤더 필요.
+     * GET /api/hospitals/sync/jobs/{id}
+     */
+    @Operation(summary = "동기화 작업 상태", description = "관리자 키 필요. 진행률(pagesDone/totalPages), 저장·갱신 건수, pagesPerSecond, etaSeconds 를 반환합니다.")
+    @GetMapping("/sync/jobs/{id}")
+    public ResponseEntity<SyncJobResponse> getSyncJob(
+            @Parameter(description = "작업 ID") @PathVariable Long id) {
+        return syncJobService.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 }
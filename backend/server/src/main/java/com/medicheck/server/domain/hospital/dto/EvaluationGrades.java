@@ -0,0 +1,41 @@
+package com.medicheck.server.domain.hospital.dto;
+
+/**
+ * 병원평가 등급 22개(asm_grd_01~24, 02·11 제외)를 byte 코드 배열 하나로 보관합니다.
+ * 한 자리 숫자 등급("1"~"5" 등)은 코드로 저장하고 꺼낼 때 상수 문자열을 돌려주므로 추가 할당이 없습니다.
+ * 그 밖의 값은 원문을 별도 배열에 그대로 둡니다(해당 값이 있을 때만 생성).
+ */
+final class EvaluationGrades {
+
+    static final int COUNT = 22;
+
+    private static final byte NONE = 0;
+    /** 숫자 한 자리가 아닌 값: raw 배열에 원문 보관 */
+    private static final byte RAW = -1;
+    private static final String[] DIGITS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
+
+    private final byte[] codes = new byte[COUNT];
+    private String[] raw;
+
+    EvaluationGrades set(int index, String value) {
+        if (value == null) {
+            codes[index] = NONE;
+        } else if (value.length() == 1 && value.charAt(0) >= '0' && value.charAt(0) <= '9') {
+            codes[index] = (byte) (value.charAt(0) - '0' + 1);
+        } else {
+            if (raw == null) {
+                raw = new String[COUNT];
+            }
+            raw[index] = value;
+            codes[index] = RAW;
+        }
+        return this;
+    }
+
+    String get(int index) {
+        byte code = codes[index];
+        if (code == NONE) return null;
+        if (code == RAW) return raw[index];
+        return DIGITS[code - 1];
+    }
+}
@@ -0,0 +1,26 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 지도 클러스터(격자 셀) 한 개. 셀 안 병원 수·좌표 중심·진료과별 건수만 담습니다.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HospitalClusterResponse {
+
+    /** 셀 안 병원 좌표의 평균 위도 */
+    private final double latitude;
+    /** 셀 안 병원 좌표의 평균 경도 */
+    private final double longitude;
+    private final int count;
+    /** 진료과 → 병원 수 (건수 내림차순, 진료과가 없는 병원은 "기타") */
+    private final Map<String, Integer> departments;
+    /** 셀에 병원이 1곳뿐이면 그 병원 ID (마커를 바로 그릴 수 있도록) */
+    private final Long hospitalId;
+}
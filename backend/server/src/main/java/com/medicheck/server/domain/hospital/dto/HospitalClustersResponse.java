@@ -0,0 +1,21 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지도 화면 클러스터 조회 응답. 줌 레벨에 맞춘 격자 셀 단위 집계입니다.
+ */
+@Getter
+@Builder
+public class HospitalClustersResponse {
+
+    private final int zoom;
+    /** 집계에 쓴 격자 셀 크기(도) */
+    private final double cellDegrees;
+    /** 화면 안 전체 병원 수 (클러스터 count 합) */
+    private final int totalCount;
+    private final List<HospitalClusterResponse> clusters;
+}
@@ -1,77 +1,181 @@
 package com.medicheck.server.domain.hospital.dto;
 
 import com.medicheck.server.domain.hospital.entity.HospitalEvaluation;
-import lombok.Builder;
+import com.medicheck.server.domain.hospital.repository.HospitalReadRow;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
  * 병원 상세에서 노출할 병원평가정보 요약 DTO.
  * (필요 시 프런트에서 중요 지표만 선택적으로 사용)
+ * 등급 22개는 문자열 필드 대신 {@link EvaluationGrades} 코드 배열로 보관하고, JSON 은 기존과 같이 asmGrdXX 키로 나갑니다.
  */
 @Getter
-@Builder
 public class HospitalEvaluationSummary {
 
-    private String ykiho;
-    private String yadmNm;
-    private String clCd;
-    private String clCdNm;
-    private String addr;
-
-    private String asmGrd01;
-    private String asmGrd03;
-    private String asmGrd04;
-    private String asmGrd05;
-    private String asmGrd06;
-    private String asmGrd07;
-    private String asmGrd08;
-    private String asmGrd09;
-    private String asmGrd10;
-    private String asmGrd12;
-    private String asmGrd13;
-    private String asmGrd14;
-    private String asmGrd15;
-    private String asmGrd16;
-    private String asmGrd17;
-    private String asmGrd18;
-    private String asmGrd19;
-    private String asmGrd20;
-    private String asmGrd21;
-    private String asmGrd22;
-    private String asmGrd23;
-    private String asmGrd24;
+    private final String ykiho;
+    private final String yadmNm;
+    private final String clCd;
+    private final String clCdNm;
+    private final String addr;
+
+    @Getter(AccessLevel.NONE)
+    private final EvaluationGrades grades;
+
+    private HospitalEvaluationSummary(String ykiho, String yadmNm, String clCd, String clCdNm, String addr,
+                                      EvaluationGrades grades) {
+        this.ykiho = ykiho;
+        this.yadmNm = yadmNm;
+        this.clCd = clCd;
+        this.clCdNm = clCdNm;
+        this.addr = addr;
+        this.grades = grades;
+    }
 
     public static HospitalEvaluationSummary from(HospitalEvaluation ev) {
         if (ev == null) return null;
-        return HospitalEvaluationSummary.builder()
-                .ykiho(ev.getYkiho())
-                .yadmNm(ev.getYadmNm())
-                .clCd(ev.getClCd())
-                .clCdNm(ev.getClCdNm())
-                .addr(ev.getAddr())
-                .asmGrd01(ev.getAsmGrd01())
-                .asmGrd03(ev.getAsmGrd03())
-                .asmGrd04(ev.getAsmGrd04())
-                .asmGrd05(ev.getAsmGrd05())
-                .asmGrd06(ev.getAsmGrd06())
-                .asmGrd07(ev.getAsmGrd07())
-                .asmGrd08(ev.getAsmGrd08())
-                .asmGrd09(ev.getAsmGrd09())
-                .asmGrd10(ev.getAsmGrd10())
-                .asmGrd12(ev.getAsmGrd12())
-                .asmGrd13(ev.getAsmGrd13())
-                .asmGrd14(ev.getAsmGrd14())
-                .asmGrd15(ev.getAsmGrd15())
-                .asmGrd16(ev.getAsmGrd16())
-                .asmGrd17(ev.getAsmGrd17())
-                .asmGrd18(ev.getAsmGrd18())
-                .asmGrd19(ev.getAsmGrd19())
-                .asmGrd20(ev.getAsmGrd20())
-                .asmGrd21(ev.getAsmGrd21())
-                .asmGrd22(ev.getAsmGrd22())
-                .asmGrd23(ev.getAsmGrd23())
-                .asmGrd24(ev.getAsmGrd24())
-                .build();
+        EvaluationGrades grades = new EvaluationGrades()
+                .set(0, ev.getAsmGrd01())
+                .set(1, ev.getAsmGrd03())
+                .set(2, ev.getAsmGrd04())
+                .set(3, ev.getAsmGrd05())
+                .set(4, ev.getAsmGrd06())
+                .set(5, ev.getAsmGrd07())
+                .set(6, ev.getAsmGrd08())
+                .set(7, ev.getAsmGrd09())
+                .set(8, ev.getAsmGrd10())
+                .set(9, ev.getAsmGrd12())
+                .set(10, ev.getAsmGrd13())
+                .set(11, ev.getAsmGrd14())
+                .set(12, ev.getAsmGrd15())
+                .set(13, ev.getAsmGrd16())
+                .set(14, ev.getAsmGrd17())
+                .set(15, ev.getAsmGrd18())
+                .set(16, ev.getAsmGrd19())
+                .set(17, ev.getAsmGrd20())
+                .set(18, ev.getAsmGrd21())
+                .set(19, ev.getAsmGrd22())
+                .set(20, ev.getAsmGrd23())
+                .set(21, ev.getAsmGrd24());
+        return new HospitalEvaluationSummary(ev.getYkiho(), ev.getYadmNm(), ev.getClCd(), ev.getClCdNm(), ev.getAddr(),
+                grades);
+    }
+
+    /** 읽기 모델 행에서 평가정보 부분만 꺼냅니다. 평가정보가 없는 병원이면 null. */
+    public static HospitalEvaluationSummary from(HospitalReadRow row) {
+        if (row == null || row.getEvaluationId() == null) return null;
+        EvaluationGrades grades = new EvaluationGrades()
+                .set(0, row.getAsmGrd01())
+                .set(1, row.getAsmGrd03())
+                .set(2, row.getAsmGrd04())
+                .set(3, row.getAsmGrd05())
+                .set(4, row.getAsmGrd06())
+                .set(5, row.getAsmGrd07())
+                .set(6, row.getAsmGrd08())
+                .set(7, row.getAsmGrd09())
+                .set(8, row.getAsmGrd10())
+                .set(9, row.getAsmGrd12())
+                .set(10, row.getAsmGrd13())
+                .set(11, row.getAsmGrd14())
+                .set(12, row.getAsmGrd15())
+                .set(13, row.getAsmGrd16())
+                .set(14, row.getAsmGrd17())
+                .set(15, row.getAsmGrd18())
+                .set(16, row.getAsmGrd19())
+                .set(17, row.getAsmGrd20())
+                .set(18, row.getAsmGrd21())
+                .set(19, row.getAsmGrd22())
+                .set(20, row.getAsmGrd23())
+                .set(21, row.getAsmGrd24());
+        return new HospitalEvaluationSummary(row.getEvYkiho(), row.getEvYadmNm(), row.getEvClCd(), row.getEvClCdNm(),
+                row.getEvAddr(), grades);
+    }
+
+    public String getAsmGrd01() {
+        return grades.get(0);
+    }
+
+    public String getAsmGrd03() {
+        return grades.get(1);
+    }
+
+    public String getAsmGrd04() {
+        return grades.get(2);
+    }
+
+    public String getAsmGrd05() {
+        return grades.get(3);
+    }
+
+    public String getAsmGrd06() {
+        return grades.get(4);
+    }
+
+    public String getAsmGrd07() {
+        return grades.get(5);
+    }
+
+    public String getAsmGrd08() {
+        return grades.get(6);
+    }
+
+    public String getAsmGrd09() {
+        return grades.get(7);
+    }
+
+    public String getAsmGrd10() {
+        return grades.get(8);
+    }
+
+    public String getAsmGrd12() {
+        return grades.get(9);
+    }
+
+    public String getAsmGrd13() {
+        return grades.get(10);
+    }
+
+    public String getAsmGrd14() {
+        return grades.get(11);
+    }
+
+    public String getAsmGrd15() {
+        return grades.get(12);
+    }
+
+    public String getAsmGrd16() {
+        return grades.get(13);
+    }
+
+    public String getAsmGrd17() {
+        return grades.get(14);
+    }
+
+    public String getAsmGrd18() {
+        return grades.get(15);
     }
-}
 
+    public String getAsmGrd19() {
+        return grades.get(16);
+    }
+
+    public String getAsmGrd20() {
+        return grades.get(17);
+    }
+
+    public String getAsmGrd21() {
+        return grades.get(18);
+    }
+
+    public String getAsmGrd22() {
+        return grades.get(19);
+    }
+
+    public String getAsmGrd23() {
+        return grades.get(20);
+    }
+
+    public String getAsmGrd24() {
+        return grades.get(21);
+    }
+}
@@ -0,0 +1,19 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 병원 목록 keyset 페이지 응답. 전체 건수는 세지 않으며, 다음 페이지는 nextCursor 를 after 로 넘겨 이어서 요청합니다.
+ */
+@Getter
+@Builder
+public class HospitalListSliceResponse {
+
+    private final List<HospitalResponse> hospitals;
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -1,6 +1,7 @@
 package com.medicheck.server.domain.hospital.dto;
 
 import com.medicheck.server.domain.hospital.entity.Hospital;
+import com.medicheck.server.domain.hospital.repository.HospitalReadRow;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -66,4 +67,34 @@ public class HospitalResponse {
                 .top5(null)
                 .build();
     }
+
+    /**
+     * 읽기 모델 한 행(병원 + 리뷰 집계 + 평가 + Top5)으로 응답을 한 번에 만듭니다.
+     * 리뷰가 없으면 averageRating/reviewCount 는 {@link #from(Hospital)} 과 같이 null 로 둡니다.
+     */
+    public static HospitalResponse from(HospitalReadRow row) {
+        boolean hasReviews = row.getReviewCount() != null && row.getReviewCount() > 0;
+        return HospitalResponse.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .address(row.getAddress())
+                .latitude(row.getLatitude())
+                .longitude(row.getLongitude())
+                .phone(row.getPhone())
+                .publicCode(row.getPublicCode())
+                .department(row.getDepartment())
+                .doctorTotalCount(row.getDoctorTotalCount())
+                .establishedDate(row.getEstablishedDate() != null ? row.getEstablishedDate().toLocalDate() : null)
+                .mdeptSpecialistCount(row.getMdeptSpecialistCount())
+                .mdeptGeneralCount(row.getMdeptGeneralCount())
+                .mdeptInternCount(row.getMdeptInternCount())
+                .mdeptResidentCount(row.getMdeptResidentCount())
+                .detySpecialistCount(row.getDetySpecialistCount())
+                .cmdcSpecialistCount(row.getCmdcSpecialistCount())
+                .averageRating(hasReviews ? row.getAverageRating() : null)
+                .reviewCount(hasReviews ? row.getReviewCount().intValue() : null)
+                .evaluation(HospitalEvaluationSummary.from(row))
+                .top5(HospitalTop5Summary.from(row))
+                .build();
+    }
 }
@@ -0,0 +1,22 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병원 통합 검색 응답. 병원(+ 좌표 조건이 있으면 거리), 전체 건수, 진료과·시도 패싯 건수.
+ */
+@Getter
+@Builder
+public class HospitalSearchResponse {
+
+    private final List<NearbyHospitalResponse> hospitals;
+    private final long totalCount;
+    private final int page;
+    private final int size;
+    /** 패싯 차원(department, sido) → 값 → 병원 수 (건수 내림차순) */
+    private final Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,12 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * 지도 타일 마커 한 개. 타일 응답 크기를 줄이기 위해 JSON 배열 [id, latitude, longitude, department] 로 직렬화합니다.
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"id", "latitude", "longitude", "department"})
+public record HospitalTileMarker(long id, double latitude, double longitude, String department) {
+}
@@ -0,0 +1,28 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지도 타일(z/x/y) 응답. 줌이 낮으면 격자 클러스터, 높으면 병원 마커 목록 중 하나만 채웁니다.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HospitalTileResponse {
+
+    public static final String TYPE_CLUSTERS = "clusters";
+    public static final String TYPE_MARKERS = "markers";
+
+    private final int z;
+    private final int x;
+    private final int y;
+    /** {@link #TYPE_CLUSTERS} 또는 {@link #TYPE_MARKERS} */
+    private final String type;
+    private final List<HospitalClusterResponse> clusters;
+    /** [id, latitude, longitude, department] 배열 목록 (ID 오름차순) */
+    private final List<HospitalTileMarker> markers;
+}
@@ -1,6 +1,7 @@
 package com.medicheck.server.domain.hospital.dto;
 
 import com.medicheck.server.domain.hospital.entity.HospitalClinicTop5;
+import com.medicheck.server.domain.hospital.repository.HospitalReadRow;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -30,5 +31,17 @@ public class HospitalTop5Summary {
                 .diseaseNm5(top5.getDiseaseNm5())
                 .build();
     }
-}
 
+    /** 읽기 모델 행에서 Top5 부분만 꺼냅니다. Top5 정보가 없는 병원이면 null. */
+    public static HospitalTop5Summary from(HospitalReadRow row) {
+        if (row == null || row.getTop5Id() == null) return null;
+        return HospitalTop5Summary.builder()
+                .crtrYm(row.getCrtrYm())
+                .diseaseNm1(row.getDiseaseNm1())
+                .diseaseNm2(row.getDiseaseNm2())
+                .diseaseNm3(row.getDiseaseNm3())
+                .diseaseNm4(row.getDiseaseNm4())
+                .diseaseNm5(row.getDiseaseNm5())
+                .build();
+    }
+}
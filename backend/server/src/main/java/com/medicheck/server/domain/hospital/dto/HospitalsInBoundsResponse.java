@@ -0,0 +1,20 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지도 화면(사각형) 병원 조회 응답. 기준 좌표에서 가까운 순이며, 다음 페이지는 nextCursor 로 이어서 요청합니다.
+ */
+@Getter
+@Builder
+public class HospitalsInBoundsResponse {
+
+    /** 병원 + 기준 좌표(지정하지 않으면 화면 중심)에서의 거리 */
+    private final List<NearbyHospitalResponse> hospitals;
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -0,0 +1,7 @@
+package com.medicheck.server.domain.hospital.dto;
+
+/**
+ * 증상 피커 어휘 한 건: Top5 질병명과 그 질병명이 Top5 에 있는 병원 수(인기도 표시용).
+ */
+public record SymptomKeywordResponse(String term, int hospitalCount) {
+}
@@ -0,0 +1,83 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import com.medicheck.server.domain.hospital.entity.SyncJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 작업 상태 응답 (진행률·처리 속도·예상 남은 시간 포함).
+ */
+@Getter
+@Builder
+public class SyncJobResponse {
+
+    private Long id;
+
+    private SyncJob.Type type;
+
+    private SyncJob.Status status;
+
+    private String params;
+
+    /** 예상 전체 페이지 수 (알 수 없으면 null) */
+    private Integer totalPages;
+
+    private int pagesDone;
+
+    /** 재시도 후에도 조회하지 못해 건너뛴 페이지 수 */
+    private int failedPages;
+
+    private int fetchedCount;
+
+    private int saved;
+
+    private int updated;
+
+    /** 시작부터 마지막 진행 갱신(또는 종료)까지 초당 처리 페이지 수 */
+    private double pagesPerSecond;
+
+    /** 남은 페이지 / pagesPerSecond. 실행 중이고 전체 페이지 수를 알 때만 값이 있음 */
+    private Long etaSeconds;
+
+    private String errorMessage;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private LocalDateTime updatedAt;
+
+    public static SyncJobResponse from(SyncJob job) {
+        LocalDateTime measuredAt = job.getFinishedAt() != null ? job.getFinishedAt() : job.getUpdatedAt();
+        long elapsedMillis = Math.max(0, Duration.between(job.getStartedAt(), measuredAt).toMillis());
+        double pagesPerSecond = elapsedMillis > 0 ? job.getPagesDone() * 1000.0 / elapsedMillis : 0;
+
+        Long etaSeconds = null;
+        if (job.getStatus() == SyncJob.Status.RUNNING && job.getTotalPages() != null && pagesPerSecond > 0) {
+            int remaining = Math.max(0, job.getTotalPages() - job.getPagesDone() - job.getFailedPages());
+            etaSeconds = (long) Math.ceil(remaining / pagesPerSecond);
+        }
+
+        return SyncJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .params(job.getParams())
+                .totalPages(job.getTotalPages())
+                .pagesDone(job.getPagesDone())
+                .failedPages(job.getFailedPages())
+                .fetchedCount(job.getFetchedCount())
+                .saved(job.getSavedCount())
+                .updated(job.getUpdatedCount())
+                .pagesPerSecond(pagesPerSecond)
+                .etaSeconds(etaSeconds)
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
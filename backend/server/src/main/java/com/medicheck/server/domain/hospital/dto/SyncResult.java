@@ -21,4 +21,19 @@ public class SyncResult {
 
     /** 기존 행 HIRA 데이터로 갱신된 건수 */
     private int updated;
+
+    /** 이미 DB에 있고 직전 동기화와 내용(해시)이 같아 쓰기를 건너뛴 건수 */
+    private int unchanged;
+
+    /** item 이 있어 저장까지 처리한 페이지 수 */
+    private int pagesFetched;
+
+    /** 재시도 후에도 조회하지 못해 건너뛴 페이지 수 (0보다 크면 일부 병원이 갱신되지 않았을 수 있음) */
+    private int failedPages;
+
+    /** 동기화 전체 소요 시간(wall-clock, ms) */
+    private long elapsedMillis;
+
+    /** 초당 처리 페이지 수 (pagesFetched / 경과 시간) */
+    private double pagesPerSecond;
 }
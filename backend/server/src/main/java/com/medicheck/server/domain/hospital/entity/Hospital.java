@@ -47,8 +47,12 @@ public class Hospital {
     @Column(length = 500)
     private String address;
 
-    /** DB GEOMETRY 컬럼 — 위·경도로 POINT 저장 */
-    @Column(name = "location", columnDefinition = "GEOMETRY")
+    /**
+     * DB GEOMETRY 컬럼 — 위·경도로 POINT 저장.
+     * SPATIAL INDEX(idx_hospitals_location) 때문에 NOT NULL SRID 4326 이며, 좌표가 없으면 (0, 0) 센티널을 둡니다.
+     * 좌표 유무는 latitude/longitude 로 판단합니다.
+     */
+    @Column(name = "location", nullable = false, columnDefinition = "GEOMETRY")
     private Point location;
 
     /** 위도 */
@@ -107,6 +111,10 @@ public class Hospital {
     @Column(name = "cmdc_specialist_count")
     private Integer cmdcSpecialistCount;
 
+    /** 마지막으로 반영한 HIRA 정규화 값의 SHA-256 (HiraHospitalRow#contentHash). 같으면 재동기화 시 쓰기를 건너뜁니다. */
+    @Column(name = "hira_content_hash", length = 64)
+    private String hiraContentHash;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -129,7 +137,8 @@ public class Hospital {
             Integer mdeptInternCount,
             Integer mdeptResidentCount,
             Integer detySpecialistCount,
-            Integer cmdcSpecialistCount
+            Integer cmdcSpecialistCount,
+            String hiraContentHash
     ) {
         this.name = name;
         this.hospName = name;
@@ -149,6 +158,7 @@ public class Hospital {
         this.mdeptResidentCount = mdeptResidentCount;
         this.detySpecialistCount = detySpecialistCount;
         this.cmdcSpecialistCount = cmdcSpecialistCount;
+        this.hiraContentHash = hiraContentHash;
     }
 
     @PrePersist
@@ -205,10 +215,20 @@ public class Hospital {
         if (cmdcSpecialistCount != null) this.cmdcSpecialistCount = cmdcSpecialistCount;
     }
 
+    /** HIRA 값을 반영한 뒤 그 내용 해시를 기록합니다. */
+    public void markHiraContentHash(String hiraContentHash) {
+        this.hiraContentHash = hiraContentHash;
+    }
+
     private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
 
+    /** 좌표 누락 시 location 에 넣는 센티널 (V2 마이그레이션의 백필 값과 동일) */
+    private static Point noLocation() {
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(0, 0));
+    }
+
     private static Point toPoint(BigDecimal longitude, BigDecimal latitude) {
-        if (longitude == null || latitude == null) return null;
+        if (longitude == null || latitude == null) return noLocation();
         return GEOMETRY_FACTORY.createPoint(new Coordinate(
                 longitude.doubleValue(),
                 latitude.doubleValue()
@@ -0,0 +1,47 @@
+package com.medicheck.server.domain.hospital.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 병원별 리뷰 집계 (비정규화).
+ * 리뷰 작성/수정/삭제 시 같은 트랜잭션에서 원자적 증감 쿼리로만 갱신하므로 엔티티는 조회 전용입니다.
+ *
+ * @see com.medicheck.server.domain.hospital.repository.HospitalReviewStatsRepository#applyDelta
+ */
+@Entity
+@Table(name = "hospital_review_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HospitalReviewStats {
+
+    @Id
+    @Column(name = "hospital_id")
+    private Long hospitalId;
+
+    /** 별점 합계 */
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+
+    /** 리뷰 개수 */
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /** 평균 별점. 리뷰가 없으면 null */
+    public Double getAverageRating() {
+        if (reviewCount == null || reviewCount <= 0 || ratingSum == null) {
+            return null;
+        }
+        return ratingSum.doubleValue() / reviewCount;
+    }
+}
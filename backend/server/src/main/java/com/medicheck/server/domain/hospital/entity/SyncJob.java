@@ -0,0 +1,123 @@
+package com.medicheck.server.domain.hospital.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 백그라운드 동기화 작업 한 건의 상태와 진행률.
+ * 진행률·종료 상태는 작업 스레드가 SyncJobRepository 의 갱신 쿼리로만 바꾸므로 엔티티는 생성·조회용입니다.
+ * 같은 종류의 RUNNING 작업은 DB 유니크 키(running_type)로 하나만 허용됩니다.
+ */
+@Entity
+@Table(name = "sync_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncJob {
+
+    /** 동기화 종류 */
+    public enum Type {
+        /** HIRA 병원기본목록 전국 동기화 (HiraSyncService#syncAllRegions) */
+        HOSPITALS_ALL,
+        /** HIRA 병원평가정보 전체 동기화 (HospitalEvaluationSyncService#syncAll) */
+        EVALUATIONS_ALL,
+        /** 주소 키워드 지역의 병원평가정보 동기화 (HospitalEvaluationSyncService#syncByAddressKeyword) */
+        EVALUATIONS_REGION,
+        /** 주소 키워드 지역의 진료 Top5 동기화 (HospitalTop5SyncService#syncByAddressKeyword) */
+        TOP5_REGION;
+
+        /** 경로 변수용: hospitals-all, HOSPITALS_ALL 등 대소문자·하이픈 표기를 모두 허용 */
+        public static Optional<Type> parse(String value) {
+            if (value == null || value.isBlank()) {
+                return Optional.empty();
+            }
+            String normalized = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+            for (Type type : values()) {
+                if (type.name().equals(normalized)) {
+                    return Optional.of(type);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    public enum Status {
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        /** 실행 중 서버가 재시작되어 끝을 알 수 없는 작업 */
+        INTERRUPTED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", length = 30, nullable = false)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    /** 요청 파라미터 요약 (예: numOfRows=500) */
+    @Column(name = "params", length = 200)
+    private String params;
+
+    /** 예상 전체 페이지 수. 첫 페이지 응답 전이거나 알 수 없으면 null */
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    @Column(name = "pages_done", nullable = false)
+    private int pagesDone;
+
+    /** 재시도 후에도 조회하지 못해 건너뛴 페이지 수 */
+    @Column(name = "failed_pages", nullable = false)
+    private int failedPages;
+
+    @Column(name = "fetched_count", nullable = false)
+    private int fetchedCount;
+
+    @Column(name = "saved_count", nullable = false)
+    private int savedCount;
+
+    @Column(name = "updated_count", nullable = false)
+    private int updatedCount;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /** RUNNING 상태의 새 작업 */
+    public static SyncJob start(Type type, String params) {
+        SyncJob job = new SyncJob();
+        LocalDateTime now = LocalDateTime.now();
+        job.type = type;
+        job.status = Status.RUNNING;
+        job.params = params;
+        job.startedAt = now;
+        job.updatedAt = now;
+        return job;
+    }
+}
@@ -0,0 +1,136 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.domain.hospital.client.dto.HiraHospItem;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+
+/**
+ * HIRA 병원기본목록 item 을 저장용으로 정규화한 한 행 (길이 제한 trim, 숫자·날짜 파싱 완료).
+ * JPA 저장 경로(Hospital 빌더/updateFromHira)와 JDBC 일괄 upsert({@link HospitalBulkWriter})가 같은 값을 쓰도록 공유합니다.
+ * 파싱할 수 없거나 응답에 없는 필드는 null 입니다.
+ */
+public record HiraHospitalRow(
+        String publicCode,
+        String name,
+        String address,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        String phone,
+        String department,
+        Integer doctorTotalCount,
+        LocalDate establishedDate,
+        Integer mdeptSpecialistCount,
+        Integer mdeptGeneralCount,
+        Integer mdeptInternCount,
+        Integer mdeptResidentCount,
+        Integer detySpecialistCount,
+        Integer cmdcSpecialistCount
+) {
+
+    private static final DateTimeFormatter ESTB_DD = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    public static HiraHospitalRow from(HiraHospItem item) {
+        return new HiraHospitalRow(
+                trim(item.getYkiho(), 500),
+                trim(item.getYadmNm(), 200),
+                trim(item.getAddr(), 500),
+                parseBigDecimal(toPosString(item.getYPos())),
+                parseBigDecimal(toPosString(item.getXPos())),
+                trim(item.getTelno(), 20),
+                trim(item.getClCdNm(), 100),
+                parseInteger(item.getDrTotCnt()),
+                parseEstbDd(item.getEstbDd()),
+                parseInteger(item.getMdeptSdrCnt()),
+                parseInteger(item.getMdeptGdrCnt()),
+                parseInteger(item.getMdeptIntnCnt()),
+                parseInteger(item.getMdeptResdntCnt()),
+                parseInteger(item.getDetySdrCnt()),
+                parseInteger(item.getCmdcSdrCnt())
+        );
+    }
+
+    /** 저장 키(ykiho)가 있는지 */
+    public boolean hasPublicCode() {
+        return publicCode != null && !publicCode.isBlank();
+    }
+
+    /**
+     * 정규화된 필드 전체의 SHA-256(hex 64자). publicCode 는 키이므로 제외합니다.
+     * 직전 동기화에서 기록한 값과 같으면 이 행을 다시 반영해도 바뀌는 것이 없으므로 쓰기를 건너뜁니다.
+     */
+    public String contentHash() {
+        StringBuilder sb = new StringBuilder(256);
+        for (Object value : new Object[]{
+                name, address, latitude, longitude, phone, department, doctorTotalCount, establishedDate,
+                mdeptSpecialistCount, mdeptGeneralCount, mdeptInternCount, mdeptResidentCount,
+                detySpecialistCount, cmdcSpecialistCount}) {
+            // null 과 빈 문자열을 구분하고, 필드 경계를 값에 나오지 않는 제어문자로 구분
+            if (value == null) {
+                sb.append('\u0000');
+            } else {
+                sb.append(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+            }
+            sb.append('\u001F');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /** 신규 저장 가능 여부 (name 은 NOT NULL) */
+    public boolean hasName() {
+        return name != null && !name.isBlank();
+    }
+
+    private static Integer parseInteger(Object value) {
+        if (value == null) return null;
+        if (value instanceof Number n) return n.intValue();
+        String s = value.toString().trim();
+        if (s.isBlank()) return null;
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate parseEstbDd(String estbDd) {
+        if (estbDd == null || estbDd.length() != 8) return null;
+        try {
+            return LocalDate.parse(estbDd.trim(), ESTB_DD);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /** API가 XPos/YPos를 숫자 또는 문자열로 줄 수 있어 안전하게 문자열로 변환 */
+    private static String toPosString(Object value) {
+        if (value == null) return null;
+        return value.toString().trim();
+    }
+
+    private static String trim(String value, int maxLen) {
+        if (value == null) return null;
+        String s = value.trim();
+        return s.length() > maxLen ? s.substring(0, maxLen) : s;
+    }
+
+    private static BigDecimal parseBigDecimal(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
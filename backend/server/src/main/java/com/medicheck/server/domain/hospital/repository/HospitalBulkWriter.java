@@ -0,0 +1,171 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HIRA 페이지를 hospitals 에 JDBC 배치 한 번으로 upsert 합니다.
+ * Hospital 은 IDENTITY 전략이라 JPA saveAll 은 행마다 INSERT 왕복이 생기고, 갱신도 엔티티를 모두 읽어 dirty check 해야 합니다.
+ * 여기서는 public_code 유니크 키에 INSERT ... ON DUPLICATE KEY UPDATE 를 걸고,
+ * 드라이버의 rewriteBatchedStatements(spring.datasource.hikari.data-source-properties)로 다중 VALUES 문 하나로 보냅니다.
+ *
+ * <p>갱신 규칙은 {@code Hospital#updateFromHira} 와 같습니다: incoming 값이 null 인 컬럼은 기존 값을 유지하고,
+ * location 은 병합된 위·경도로 다시 계산합니다(둘 중 하나만 있으면 (0, 0) 센티널, 둘 다 없으면 기존 값 유지).
+ * 배치 결과의 영향 행 수는 rewrite 시 알 수 없으므로(SUCCESS_NO_INFO) 신규/갱신 구분은 호출 측이 사전 조회로 합니다.
+ * 사전 조회는 hira_content_hash 도 함께 돌려주어, 직전 동기화와 내용이 같은 행은 호출 측이 아예 보내지 않도록 합니다.
+ */
+@Repository
+public class HospitalBulkWriter {
+
+    /** 드라이버가 max_allowed_packet 에 맞춰 다시 쪼개므로 넉넉하게 둡니다. */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * name 은 NOT NULL 이라 VALUES 에는 null 대신 '' 를 넣고, 갱신 시 NULLIF 로 다시 "값 없음"으로 취급합니다.
+     * (신규 행은 호출 측에서 name 이 있는 것만 넘깁니다.)
+     */
+    public static final String UPSERT_SQL = """
+            INSERT INTO hospitals (name, hosp_name, address, location, latitude, longitude, phone, public_code, ykiho,
+                                   department, doctor_total_count, established_date,
+                                   mdept_specialist_count, mdept_general_count, mdept_intern_count, mdept_resident_count,
+                                   dety_specialist_count, cmdc_specialist_count, created_at, updated_at, hira_content_hash)
+            VALUES (?, ?, ?, ST_SRID(POINT(?, ?), 4326), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS incoming
+            ON DUPLICATE KEY UPDATE
+                location = CASE
+                    WHEN COALESCE(incoming.longitude, hospitals.longitude) IS NULL
+                     AND COALESCE(incoming.latitude, hospitals.latitude) IS NULL
+                        THEN hospitals.location
+                    WHEN COALESCE(incoming.longitude, hospitals.longitude) IS NULL
+                      OR COALESCE(incoming.latitude, hospitals.latitude) IS NULL
+                        THEN ST_SRID(POINT(0, 0), 4326)
+                    ELSE ST_SRID(POINT(COALESCE(incoming.longitude, hospitals.longitude),
+                                       COALESCE(incoming.latitude, hospitals.latitude)), 4326)
+                END,
+                name = COALESCE(NULLIF(incoming.name, ''), hospitals.name),
+                hosp_name = COALESCE(NULLIF(incoming.name, ''), hospitals.hosp_name),
+                address = COALESCE(incoming.address, hospitals.address),
+                latitude = COALESCE(incoming.latitude, hospitals.latitude),
+                longitude = COALESCE(incoming.longitude, hospitals.longitude),
+                phone = COALESCE(incoming.phone, hospitals.phone),
+                department = COALESCE(incoming.department, hospitals.department),
+                doctor_total_count = COALESCE(incoming.doctor_total_count, hospitals.doctor_total_count),
+                established_date = COALESCE(incoming.established_date, hospitals.established_date),
+                mdept_specialist_count = COALESCE(incoming.mdept_specialist_count, hospitals.mdept_specialist_count),
+                mdept_general_count = COALESCE(incoming.mdept_general_count, hospitals.mdept_general_count),
+                mdept_intern_count = COALESCE(incoming.mdept_intern_count, hospitals.mdept_intern_count),
+                mdept_resident_count = COALESCE(incoming.mdept_resident_count, hospitals.mdept_resident_count),
+                dety_specialist_count = COALESCE(incoming.dety_specialist_count, hospitals.dety_specialist_count),
+                cmdc_specialist_count = COALESCE(incoming.cmdc_specialist_count, hospitals.cmdc_specialist_count),
+                updated_at = incoming.updated_at,
+                hira_content_hash = incoming.hira_content_hash
+            """;
+
+    private static final String FIND_EXISTING_SQL =
+            "SELECT id, public_code, hira_content_hash FROM hospitals WHERE public_code IN (:codes)";
+
+    /** IN 목록이 너무 길어지지 않도록 나눠 조회 */
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public HospitalBulkWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * public_code → id. 없는 코드는 결과에 없습니다.
+     */
+    public Map<String, Long> findIdsByPublicCodes(Collection<String> publicCodes) {
+        Map<String, Long> ids = new HashMap<>();
+        findExistingByPublicCodes(publicCodes).forEach((code, existing) -> ids.put(code, existing.id()));
+        return ids;
+    }
+
+    /**
+     * public_code → (id, 마지막으로 반영한 HIRA 내용 해시). 없는 코드는 결과에 없습니다.
+     */
+    public Map<String, ExistingRow> findExistingByPublicCodes(Collection<String> publicCodes) {
+        Map<String, ExistingRow> existing = new HashMap<>();
+        if (publicCodes == null || publicCodes.isEmpty()) {
+            return existing;
+        }
+        List<String> codes = List.copyOf(publicCodes);
+        for (int from = 0; from < codes.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = codes.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, codes.size()));
+            namedJdbcTemplate.query(FIND_EXISTING_SQL, new MapSqlParameterSource("codes", chunk),
+                    rs -> {
+                        existing.put(rs.getString("public_code"),
+                                new ExistingRow(rs.getLong("id"), rs.getString("hira_content_hash")));
+                    });
+        }
+        return existing;
+    }
+
+    /** 기존 행의 id 와 hira_content_hash (아직 해시가 없으면 null) */
+    public record ExistingRow(long id, String contentHash) {}
+
+    /**
+     * 행들을 public_code 기준으로 upsert 합니다. 호출 측 트랜잭션에 참여합니다.
+     * 각 행은 publicCode 가 있어야 하며, DB에 없는 행은 name 도 있어야 합니다.
+     */
+    public void upsert(List<HiraHospitalRow> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> bind(ps, row, now));
+    }
+
+    /** {@link #UPSERT_SQL} 파라미터 바인딩 (벤치마크에서도 재사용) */
+    public static void bind(PreparedStatement ps, HiraHospitalRow row, LocalDateTime now) throws SQLException {
+        boolean hasPoint = row.latitude() != null && row.longitude() != null;
+        String name = row.name() != null ? row.name() : "";
+        int i = 1;
+        ps.setString(i++, name);
+        ps.setString(i++, name);
+        setNullable(ps, i++, row.address(), Types.VARCHAR);
+        ps.setDouble(i++, hasPoint ? row.longitude().doubleValue() : 0);
+        ps.setDouble(i++, hasPoint ? row.latitude().doubleValue() : 0);
+        setNullable(ps, i++, row.latitude(), Types.DECIMAL);
+        setNullable(ps, i++, row.longitude(), Types.DECIMAL);
+        setNullable(ps, i++, row.phone(), Types.VARCHAR);
+        ps.setString(i++, row.publicCode());
+        ps.setString(i++, row.publicCode());
+        setNullable(ps, i++, row.department(), Types.VARCHAR);
+        setNullable(ps, i++, row.doctorTotalCount(), Types.INTEGER);
+        setNullable(ps, i++, row.establishedDate(), Types.DATE);
+        setNullable(ps, i++, row.mdeptSpecialistCount(), Types.INTEGER);
+        setNullable(ps, i++, row.mdeptGeneralCount(), Types.INTEGER);
+        setNullable(ps, i++, row.mdeptInternCount(), Types.INTEGER);
+        setNullable(ps, i++, row.mdeptResidentCount(), Types.INTEGER);
+        setNullable(ps, i++, row.detySpecialistCount(), Types.INTEGER);
+        setNullable(ps, i++, row.cmdcSpecialistCount(), Types.INTEGER);
+        ps.setObject(i++, now);
+        ps.setObject(i++, now);
+        ps.setString(i, row.contentHash());
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else if (value instanceof BigDecimal decimal) {
+            ps.setBigDecimal(index, decimal);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+}
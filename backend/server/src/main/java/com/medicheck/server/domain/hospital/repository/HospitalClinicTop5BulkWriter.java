@@ -0,0 +1,119 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.domain.hospital.client.dto.HiraClinicTop5Item;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * HIRA 진료 Top5 를 hospital_clinic_top5 에 JDBC 배치로 upsert·삭제합니다.
+ * hospital_id 유니크 키에 INSERT ... ON DUPLICATE KEY UPDATE 를 걸며, 갱신 규칙은 {@code HospitalClinicTop5#updateFromApi} 와 같습니다
+ * (incoming 값이 null 인 컬럼은 기존 값 유지).
+ */
+@Repository
+public class HospitalClinicTop5BulkWriter {
+
+    private static final int BATCH_SIZE = 1000;
+
+    public static final String UPSERT_SQL = """
+            INSERT INTO hospital_clinic_top5 (hospital_id, ykiho, crtr_ym,
+                                              disease_nm_1, disease_nm_2, disease_nm_3, disease_nm_4, disease_nm_5,
+                                              created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS incoming
+            ON DUPLICATE KEY UPDATE
+                ykiho = COALESCE(incoming.ykiho, hospital_clinic_top5.ykiho),
+                crtr_ym = COALESCE(incoming.crtr_ym, hospital_clinic_top5.crtr_ym),
+                disease_nm_1 = COALESCE(incoming.disease_nm_1, hospital_clinic_top5.disease_nm_1),
+                disease_nm_2 = COALESCE(incoming.disease_nm_2, hospital_clinic_top5.disease_nm_2),
+                disease_nm_3 = COALESCE(incoming.disease_nm_3, hospital_clinic_top5.disease_nm_3),
+                disease_nm_4 = COALESCE(incoming.disease_nm_4, hospital_clinic_top5.disease_nm_4),
+                disease_nm_5 = COALESCE(incoming.disease_nm_5, hospital_clinic_top5.disease_nm_5),
+                updated_at = incoming.updated_at
+            """;
+
+    private static final String FIND_EXISTING_SQL =
+            "SELECT hospital_id FROM hospital_clinic_top5 WHERE hospital_id IN (:ids)";
+
+    private static final String DELETE_SQL = "DELETE FROM hospital_clinic_top5 WHERE hospital_id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public HospitalClinicTop5BulkWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /** 이미 Top5 행이 있는 병원 ID. 호출 측이 배치 크기(수백 건)로 나눠 부릅니다. */
+    public Set<Long> findExistingHospitalIds(Collection<Long> hospitalIds) {
+        Set<Long> existing = new HashSet<>();
+        if (hospitalIds == null || hospitalIds.isEmpty()) {
+            return existing;
+        }
+        namedJdbcTemplate.query(FIND_EXISTING_SQL, new MapSqlParameterSource("ids", hospitalIds),
+                rs -> {
+                    existing.add(rs.getLong("hospital_id"));
+                });
+        return existing;
+    }
+
+    /** 병원별 Top5 1건씩 upsert 합니다. 호출 측 트랜잭션에 참여합니다. */
+    public void upsert(List<Top5Row> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> bind(ps, row, now));
+    }
+
+    /** 공공데이터 응답이 없어진 병원의 Top5 를 한 번에 지우고 삭제 건수를 반환합니다. */
+    public int deleteByHospitalIds(Collection<Long> hospitalIds) {
+        if (hospitalIds == null || hospitalIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", hospitalIds));
+    }
+
+    private static void bind(PreparedStatement ps, Top5Row row, LocalDateTime now) throws SQLException {
+        HiraClinicTop5Item item = row.item();
+        int i = 1;
+        ps.setLong(i++, row.hospitalId());
+        setNullable(ps, i++, trim(item.getYkiho(), 500));
+        setNullable(ps, i++, trim(item.getCrtrYm(), 10));
+        setNullable(ps, i++, trim(item.getMfrnIntrsIlnsNm1(), 100));
+        setNullable(ps, i++, trim(item.getMfrnIntrsIlnsNm2(), 100));
+        setNullable(ps, i++, trim(item.getMfrnIntrsIlnsNm3(), 100));
+        setNullable(ps, i++, trim(item.getMfrnIntrsIlnsNm4(), 100));
+        setNullable(ps, i++, trim(item.getMfrnIntrsIlnsNm5(), 100));
+        ps.setObject(i++, now);
+        ps.setObject(i, now);
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    /** hospital_clinic_top5 컬럼 길이에 맞춘 trim */
+    private static String trim(String value, int maxLen) {
+        if (value == null) return null;
+        String s = value.trim();
+        return s.length() > maxLen ? s.substring(0, maxLen) : s;
+    }
+
+    /** upsert 할 Top5 1건: 병원 ID + API 응답 */
+    public record Top5Row(long hospitalId, HiraClinicTop5Item item) {}
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,41 +22,55 @@ public interface HospitalClinicTop5Repository extends JpaRepository<HospitalClin
     /** 근처 병원 목록용: 여러 병원 ID에 대한 Top5를 한 번에 조회 */
     List<HospitalClinicTop5> findByHospital_IdIn(List<Long> hospitalIds);
 
-    /** 증상 검색 정렬용: 병원 엔티티를 한 번에 로드 (N+1 방지) */
+    /** 전체 Top5 질병명 + 병원 이름·좌표 (증상 검색 역색인 적재용) */
     @Query("""
-            SELECT DISTINCT t FROM HospitalClinicTop5 t JOIN FETCH t.hospital h
+            SELECT h.id AS hospitalId, h.name AS hospitalName, h.latitude AS latitude, h.longitude AS longitude,
+                   t.diseaseNm1 AS diseaseNm1, t.diseaseNm2 AS diseaseNm2, t.diseaseNm3 AS diseaseNm3,
+                   t.diseaseNm4 AS diseaseNm4, t.diseaseNm5 AS diseaseNm5
+            FROM HospitalClinicTop5 t JOIN t.hospital h
+            """)
+    List<HospitalTop5DiseaseNames> findAllDiseaseNames();
+
+    /**
+     * 주어진 병원들의 Top5 질병명 + 병원 이름·좌표 (역색인 증분 갱신, 역색인 적재 전 증상 검색 정렬용).
+     * Top5 가 없는 병원은 결과에 없습니다.
+     */
+    @Query("""
+            SELECT h.id AS hospitalId, h.name AS hospitalName, h.latitude AS latitude, h.longitude AS longitude,
+                   t.diseaseNm1 AS diseaseNm1, t.diseaseNm2 AS diseaseNm2, t.diseaseNm3 AS diseaseNm3,
+                   t.diseaseNm4 AS diseaseNm4, t.diseaseNm5 AS diseaseNm5
+            FROM HospitalClinicTop5 t JOIN t.hospital h
             WHERE h.id IN :ids
             """)
-    List<HospitalClinicTop5> findAllByHospitalIdInWithHospitalFetch(@Param("ids") List<Long> ids);
+    List<HospitalTop5DiseaseNames> findDiseaseNamesByHospitalIdIn(@Param("ids") Collection<Long> ids);
 
     /**
-     * 증상별 병원찾기 피커용: Top5 질병명 1~5열에서 실제로 등장한 값만 모아 중복 제거(2자 이상, 최대 400건).
+     * 증상별 병원찾기 피커 어휘: Top5 질병명 1~5열에 등장한 질병명(공백 제거, 2자 이상)별 병원 수.
+     * 평소에는 증상 역색인이 만든 어휘를 쓰고, 역색인 적재 전에만 호출됩니다.
      */
     @Query(
             value = """
-                    SELECT DISTINCT TRIM(v) AS disease_name
+                    SELECT v AS term, COUNT(DISTINCT hospital_id) AS hospitalCount
                     FROM (
-                        SELECT disease_nm_1 AS v FROM hospital_clinic_top5
-                            WHERE disease_nm_1 IS NOT NULL AND TRIM(disease_nm_1) <> ''
+                        SELECT hospital_id, TRIM(disease_nm_1) AS v FROM hospital_clinic_top5
+                            WHERE disease_nm_1 IS NOT NULL
                         UNION ALL
-                        SELECT disease_nm_2 FROM hospital_clinic_top5
-                            WHERE disease_nm_2 IS NOT NULL AND TRIM(disease_nm_2) <> ''
+                        SELECT hospital_id, TRIM(disease_nm_2) FROM hospital_clinic_top5
+                            WHERE disease_nm_2 IS NOT NULL
                         UNION ALL
-                        SELECT disease_nm_3 FROM hospital_clinic_top5
-                            WHERE disease_nm_3 IS NOT NULL AND TRIM(disease_nm_3) <> ''
+                        SELECT hospital_id, TRIM(disease_nm_3) FROM hospital_clinic_top5
+                            WHERE disease_nm_3 IS NOT NULL
                         UNION ALL
-                        SELECT disease_nm_4 FROM hospital_clinic_top5
-                            WHERE disease_nm_4 IS NOT NULL AND TRIM(disease_nm_4) <> ''
+                        SELECT hospital_id, TRIM(disease_nm_4) FROM hospital_clinic_top5
+                            WHERE disease_nm_4 IS NOT NULL
                         UNION ALL
-                        SELECT disease_nm_5 FROM hospital_clinic_top5
-                            WHERE disease_nm_5 IS NOT NULL AND TRIM(disease_nm_5) <> ''
+                        SELECT hospital_id, TRIM(disease_nm_5) FROM hospital_clinic_top5
+                            WHERE disease_nm_5 IS NOT NULL
                     ) AS combined
-                    WHERE CHAR_LENGTH(TRIM(v)) >= 2
-                    ORDER BY disease_name
-                    LIMIT 400
+                    WHERE CHAR_LENGTH(v) >= 2
+                    GROUP BY v
                     """,
             nativeQuery = true
     )
-    List<String> findDistinctDiseaseNamesForPicker();
+    List<HospitalTop5TermCount> countHospitalsByDiseaseName();
 }
-
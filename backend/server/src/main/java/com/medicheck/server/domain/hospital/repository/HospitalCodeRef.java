@@ -0,0 +1,11 @@
+package com.medicheck.server.domain.hospital.repository;
+
+/**
+ * 동기화 대상 목록용 프로젝션 (병원 ID + 요양기호만).
+ */
+public interface HospitalCodeRef {
+
+    Long getId();
+
+    String getPublicCode();
+}
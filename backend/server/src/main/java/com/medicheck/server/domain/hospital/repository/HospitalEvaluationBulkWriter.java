@@ -0,0 +1,152 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.domain.hospital.client.dto.HiraAsmItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * HIRA 평가정보를 hospital_evaluations 에 JDBC 배치 한 번으로 upsert 합니다.
+ * hospital_id 유니크 키에 INSERT ... ON DUPLICATE KEY UPDATE 를 걸며, 갱신 규칙은 {@code HospitalEvaluation#updateFromApi} 와 같습니다
+ * (incoming 값이 null 인 컬럼은 기존 값 유지, ykiho 는 최초 저장 값 유지).
+ * 신규/갱신 구분은 영향 행 수로 알 수 없으므로 호출 측이 {@link #findExistingHospitalIds} 로 미리 조회합니다.
+ */
+@Repository
+public class HospitalEvaluationBulkWriter {
+
+    private static final int BATCH_SIZE = 1000;
+
+    /** 평가 항목 컬럼과 HiraAsmItem getter (asm_grd_02, 11 은 API에 없음) */
+    private static final List<GradeColumn> GRADE_COLUMNS = List.of(
+            new GradeColumn("asm_grd_01", HiraAsmItem::getAsmGrd01),
+            new GradeColumn("asm_grd_03", HiraAsmItem::getAsmGrd03),
+            new GradeColumn("asm_grd_04", HiraAsmItem::getAsmGrd04),
+            new GradeColumn("asm_grd_05", HiraAsmItem::getAsmGrd05),
+            new GradeColumn("asm_grd_06", HiraAsmItem::getAsmGrd06),
+            new GradeColumn("asm_grd_07", HiraAsmItem::getAsmGrd07),
+            new GradeColumn("asm_grd_08", HiraAsmItem::getAsmGrd08),
+            new GradeColumn("asm_grd_09", HiraAsmItem::getAsmGrd09),
+            new GradeColumn("asm_grd_10", HiraAsmItem::getAsmGrd10),
+            new GradeColumn("asm_grd_12", HiraAsmItem::getAsmGrd12),
+            new GradeColumn("asm_grd_13", HiraAsmItem::getAsmGrd13),
+            new GradeColumn("asm_grd_14", HiraAsmItem::getAsmGrd14),
+            new GradeColumn("asm_grd_15", HiraAsmItem::getAsmGrd15),
+            new GradeColumn("asm_grd_16", HiraAsmItem::getAsmGrd16),
+            new GradeColumn("asm_grd_17", HiraAsmItem::getAsmGrd17),
+            new GradeColumn("asm_grd_18", HiraAsmItem::getAsmGrd18),
+            new GradeColumn("asm_grd_19", HiraAsmItem::getAsmGrd19),
+            new GradeColumn("asm_grd_20", HiraAsmItem::getAsmGrd20),
+            new GradeColumn("asm_grd_21", HiraAsmItem::getAsmGrd21),
+            new GradeColumn("asm_grd_22", HiraAsmItem::getAsmGrd22),
+            new GradeColumn("asm_grd_23", HiraAsmItem::getAsmGrd23),
+            new GradeColumn("asm_grd_24", HiraAsmItem::getAsmGrd24)
+    );
+
+    private static final List<String> UPDATABLE_COLUMNS = List.of("yadm_nm", "cl_cd", "cl_cd_nm", "addr");
+
+    public static final String UPSERT_SQL = buildUpsertSql();
+
+    private static final String FIND_EXISTING_SQL =
+            "SELECT hospital_id FROM hospital_evaluations WHERE hospital_id IN (:ids)";
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public HospitalEvaluationBulkWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /** 이미 평가 행이 있는 병원 ID */
+    public Set<Long> findExistingHospitalIds(Collection<Long> hospitalIds) {
+        Set<Long> existing = new HashSet<>();
+        if (hospitalIds == null || hospitalIds.isEmpty()) {
+            return existing;
+        }
+        List<Long> ids = List.copyOf(hospitalIds);
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size()));
+            namedJdbcTemplate.query(FIND_EXISTING_SQL, new MapSqlParameterSource("ids", chunk),
+                    rs -> {
+                        existing.add(rs.getLong("hospital_id"));
+                    });
+        }
+        return existing;
+    }
+
+    /** 병원별 평가 1건씩 upsert 합니다. 호출 측 트랜잭션에 참여합니다. */
+    public void upsert(List<EvaluationRow> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> bind(ps, row, now));
+    }
+
+    private static void bind(PreparedStatement ps, EvaluationRow row, LocalDateTime now) throws SQLException {
+        HiraAsmItem item = row.item();
+        int i = 1;
+        ps.setLong(i++, row.hospitalId());
+        setNullable(ps, i++, trim(item.getYkiho(), 500));
+        setNullable(ps, i++, trim(item.getYadmNm(), 200));
+        setNullable(ps, i++, trim(item.getClCd(), 10));
+        setNullable(ps, i++, trim(item.getClCdNm(), 50));
+        setNullable(ps, i++, trim(item.getAddr(), 500));
+        for (GradeColumn grade : GRADE_COLUMNS) {
+            setNullable(ps, i++, grade.getter().apply(item));
+        }
+        ps.setObject(i++, now);
+        ps.setObject(i, now);
+    }
+
+    private static String buildUpsertSql() {
+        String gradeNames = GRADE_COLUMNS.stream().map(GradeColumn::name).collect(Collectors.joining(", "));
+        int paramCount = 6 + GRADE_COLUMNS.size() + 2;
+        String placeholders = String.join(", ", Collections.nCopies(paramCount, "?"));
+        String updates = Stream.concat(
+                        UPDATABLE_COLUMNS.stream(), GRADE_COLUMNS.stream().map(GradeColumn::name))
+                .map(c -> c + " = COALESCE(incoming." + c + ", hospital_evaluations." + c + ")")
+                .collect(Collectors.joining(",\n    "));
+        return "INSERT INTO hospital_evaluations (hospital_id, ykiho, yadm_nm, cl_cd, cl_cd_nm, addr, "
+                + gradeNames + ", created_at, updated_at)\n"
+                + "VALUES (" + placeholders + ") AS incoming\n"
+                + "ON DUPLICATE KEY UPDATE\n    "
+                + updates + ",\n    updated_at = incoming.updated_at";
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    /** hospital_evaluations 컬럼 길이에 맞춘 trim */
+    private static String trim(String value, int maxLen) {
+        if (value == null) return null;
+        String s = value.trim();
+        return s.length() > maxLen ? s.substring(0, maxLen) : s;
+    }
+
+    /** upsert 할 평가 1건: 매칭된 병원 ID + API 응답 */
+    public record EvaluationRow(long hospitalId, HiraAsmItem item) {}
+
+    private record GradeColumn(String name, Function<HiraAsmItem, String> getter) {}
+}
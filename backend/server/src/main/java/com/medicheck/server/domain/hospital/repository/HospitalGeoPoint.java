@@ -0,0 +1,17 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 인메모리 공간 인덱스 적재용 프로젝션 (병원 ID + 좌표 + 클러스터 집계용 진료과).
+ */
+public interface HospitalGeoPoint {
+
+    Long getId();
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+
+    String getDepartment();
+}
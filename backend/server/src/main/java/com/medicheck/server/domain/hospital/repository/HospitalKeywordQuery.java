@@ -0,0 +1,46 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 병원 키워드 검색어를 FULLTEXT(ngram) BOOLEAN MODE 검색식으로 바꿉니다.
+ * 공백으로 나눈 토큰마다 {@code +"토큰"} (필수 구문)으로 묶어, 모든 토큰이 이름·주소·진료과 중 어딘가에 연속으로 등장해야 합니다.
+ */
+public final class HospitalKeywordQuery {
+
+    /** MySQL ngram_token_size 기본값. 이보다 짧은 토큰은 FULLTEXT 로 찾을 수 없습니다. */
+    static final int NGRAM_TOKEN_SIZE = 2;
+
+    /** BOOLEAN MODE 연산자로 해석되는 문자 (사용자 입력에서는 구분자로 취급) */
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
+    private HospitalKeywordQuery() {
+    }
+
+    /**
+     * BOOLEAN MODE 검색식. 검색어가 비었거나 {@link #NGRAM_TOKEN_SIZE} 자보다 짧은 토큰이 있으면 비어 있으며,
+     * 이때 호출 측은 LIKE 검색({@link HospitalSpecification#hasKeyword})으로 대체합니다.
+     */
+    public static Optional<String> toBooleanQuery(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return Optional.empty();
+        }
+        StringBuilder query = new StringBuilder();
+        for (String token : BOOLEAN_OPERATORS.matcher(keyword).replaceAll(" ").trim().split("\\s+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (token.length() < NGRAM_TOKEN_SIZE) {
+                return Optional.empty();
+            }
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append("+\"").append(token).append('"');
+        }
+        return query.isEmpty() ? Optional.empty() : Optional.of(query.toString());
+    }
+}
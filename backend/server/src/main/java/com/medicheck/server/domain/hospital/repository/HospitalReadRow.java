@@ -0,0 +1,127 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+/**
+ * 병원 응답 조립용 읽기 모델 프로젝션 ({@link HospitalRepository#READ_ROWS_SQL} 한 행).
+ * 병원 컬럼 + 리뷰 집계 + 병원평가정보 + Top5 를 평평한(flat) 한 행으로 받습니다.
+ * 평가/Top5/리뷰가 없는 병원은 해당 컬럼이 모두 null 입니다(LEFT JOIN).
+ */
+public interface HospitalReadRow {
+
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+
+    String getPhone();
+
+    String getPublicCode();
+
+    String getDepartment();
+
+    Integer getDoctorTotalCount();
+
+    /** 네이티브 쿼리는 DATE 를 java.sql.Date 로 돌려주므로 그대로 받고 매핑 시 LocalDate 로 변환 */
+    Date getEstablishedDate();
+
+    Integer getMdeptSpecialistCount();
+
+    Integer getMdeptGeneralCount();
+
+    Integer getMdeptInternCount();
+
+    Integer getMdeptResidentCount();
+
+    Integer getDetySpecialistCount();
+
+    Integer getCmdcSpecialistCount();
+
+    // --- hospital_reviews 집계 ---
+
+    Double getAverageRating();
+
+    Long getReviewCount();
+
+    // --- hospital_evaluations ---
+
+    /** 평가정보 행이 있으면 not null */
+    Long getEvaluationId();
+
+    String getEvYkiho();
+
+    String getEvYadmNm();
+
+    String getEvClCd();
+
+    String getEvClCdNm();
+
+    String getEvAddr();
+
+    String getAsmGrd01();
+
+    String getAsmGrd03();
+
+    String getAsmGrd04();
+
+    String getAsmGrd05();
+
+    String getAsmGrd06();
+
+    String getAsmGrd07();
+
+    String getAsmGrd08();
+
+    String getAsmGrd09();
+
+    String getAsmGrd10();
+
+    String getAsmGrd12();
+
+    String getAsmGrd13();
+
+    String getAsmGrd14();
+
+    String getAsmGrd15();
+
+    String getAsmGrd16();
+
+    String getAsmGrd17();
+
+    String getAsmGrd18();
+
+    String getAsmGrd19();
+
+    String getAsmGrd20();
+
+    String getAsmGrd21();
+
+    String getAsmGrd22();
+
+    String getAsmGrd23();
+
+    String getAsmGrd24();
+
+    // --- hospital_clinic_top5 ---
+
+    /** Top5 행이 있으면 not null */
+    Long getTop5Id();
+
+    String getCrtrYm();
+
+    String getDiseaseNm1();
+
+    String getDiseaseNm2();
+
+    String getDiseaseNm3();
+
+    String getDiseaseNm4();
+
+    String getDiseaseNm5();
+}
@@ -1,6 +1,7 @@
 package com.medicheck.server.domain.hospital.repository;
 
 import com.medicheck.server.domain.hospital.entity.Hospital;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -14,12 +15,218 @@ import java.util.Optional;
  * 안심 병원 JPA 리포지토리.
  * 검색/필터는 Specification으로 동적 쿼리.
  */
-public interface HospitalRepository extends JpaRepository<Hospital, Long>, JpaSpecificationExecutor<Hospital> {
+public interface HospitalRepository
+        extends JpaRepository<Hospital, Long>, JpaSpecificationExecutor<Hospital>, HospitalRepositoryCustom {
+
+    /**
+     * {@link #findNearbyIdAndDistanceInBoundingBox} 의 SQL.
+     * 벤치마크/EXPLAIN 검증에서 같은 쿼리를 쓰기 위해 상수로 둡니다.
+     */
+    String NEARBY_IN_BOUNDING_BOX_SQL = """
+            SELECT  h.id,
+                    ST_Distance_Sphere(
+                        h.location,
+                        ST_SRID(POINT(:longitude, :latitude), 4326)
+                    ) AS distance
+            FROM hospitals h
+            WHERE MBRContains(
+                      ST_SRID(
+                          ST_MakeEnvelope(
+                              POINT(:minLongitude, :minLatitude),
+                              POINT(:maxLongitude, :maxLatitude)
+                          ),
+                          4326
+                      ),
+                      h.location
+                  )
+              AND h.latitude IS NOT NULL
+              AND h.longitude IS NOT NULL
+            HAVING distance <= :radiusMeters
+            ORDER BY distance ASC
+            LIMIT :maxResults
+            """;
+
+    /**
+     * {@link #findIdAndDistanceInBoundsAfter} 의 SQL.
+     * 지도 화면 사각형 안의 병원을 기준 좌표에서의 (거리, ID) 순으로, 커서 (afterDistance, afterId) 다음부터 가져옵니다.
+     */
+    String IN_BOUNDS_AFTER_SQL = """
+            SELECT  h.id,
+                    ST_Distance_Sphere(
+                        h.location,
+                        ST_SRID(POINT(:longitude, :latitude), 4326)
+                    ) AS distance
+            FROM hospitals h
+            WHERE MBRContains(
+                      ST_SRID(
+                          ST_MakeEnvelope(
+                              POINT(:minLongitude, :minLatitude),
+                              POINT(:maxLongitude, :maxLatitude)
+                          ),
+                          4326
+                      ),
+                      h.location
+                  )
+              AND h.latitude IS NOT NULL
+              AND h.longitude IS NOT NULL
+            HAVING distance > :afterDistance OR (distance = :afterDistance AND h.id > :afterId)
+            ORDER BY distance ASC, h.id ASC
+            LIMIT :maxResults
+            """;
+
+    /**
+     * {@link #findClusterCellsInBounds} 의 SQL.
+     * 사각형 안 병원을 cellDegrees 격자 셀 × 진료과로 묶어 건수·좌표 합을 구합니다 (클러스터 중심 = 좌표 합 / 건수).
+     */
+    String CLUSTER_CELLS_SQL = """
+            SELECT  FLOOR(h.latitude / :cellDegrees)  AS cell_y,
+                    FLOOR(h.longitude / :cellDegrees) AS cell_x,
+                    h.department                      AS department,
+                    COUNT(*)                          AS cnt,
+                    SUM(h.latitude)                   AS sum_latitude,
+                    SUM(h.longitude)                  AS sum_longitude,
+                    MIN(h.id)                         AS min_id
+            FROM hospitals h
+            WHERE MBRContains(
+                      ST_SRID(
+                          ST_MakeEnvelope(
+                              POINT(:minLongitude, :minLatitude),
+                              POINT(:maxLongitude, :maxLatitude)
+                          ),
+                          4326
+                      ),
+                      h.location
+                  )
+              AND h.latitude IS NOT NULL
+              AND h.longitude IS NOT NULL
+            GROUP BY cell_y, cell_x, h.department
+            """;
+
+    /**
+     * {@link #findReadRowsByIdIn} 의 SQL.
+     * 병원 + 병원평가정보 + Top5 + 리뷰 집계(hospital_review_stats)를 LEFT JOIN 한 번으로 가져옵니다 (벤치마크에서도 같은 쿼리 사용).
+     */
+    String READ_ROWS_SQL = """
+            SELECT  h.id AS id,
+                    h.name AS name,
+                    h.address AS address,
+                    h.latitude AS latitude,
+                    h.longitude AS longitude,
+                    h.phone AS phone,
+                    h.public_code AS publicCode,
+                    h.department AS department,
+                    h.doctor_total_count AS doctorTotalCount,
+                    h.established_date AS establishedDate,
+                    h.mdept_specialist_count AS mdeptSpecialistCount,
+                    h.mdept_general_count AS mdeptGeneralCount,
+                    h.mdept_intern_count AS mdeptInternCount,
+                    h.mdept_resident_count AS mdeptResidentCount,
+                    h.dety_specialist_count AS detySpecialistCount,
+                    h.cmdc_specialist_count AS cmdcSpecialistCount,
+                    rs.rating_sum / NULLIF(rs.review_count, 0) AS averageRating,
+                    rs.review_count AS reviewCount,
+                    e.id AS evaluationId,
+                    e.ykiho AS evYkiho,
+                    e.yadm_nm AS evYadmNm,
+                    e.cl_cd AS evClCd,
+                    e.cl_cd_nm AS evClCdNm,
+                    e.addr AS evAddr,
+                    e.asm_grd_01 AS asmGrd01,
+                    e.asm_grd_03 AS asmGrd03,
+                    e.asm_grd_04 AS asmGrd04,
+                    e.asm_grd_05 AS asmGrd05,
+                    e.asm_grd_06 AS asmGrd06,
+                    e.asm_grd_07 AS asmGrd07,
+                    e.asm_grd_08 AS asmGrd08,
+                    e.asm_grd_09 AS asmGrd09,
+                    e.asm_grd_10 AS asmGrd10,
+                    e.asm_grd_12 AS asmGrd12,
+                    e.asm_grd_13 AS asmGrd13,
+                    e.asm_grd_14 AS asmGrd14,
+                    e.asm_grd_15 AS asmGrd15,
+                    e.asm_grd_16 AS asmGrd16,
+                    e.asm_grd_17 AS asmGrd17,
+                    e.asm_grd_18 AS asmGrd18,
+                    e.asm_grd_19 AS asmGrd19,
+                    e.asm_grd_20 AS asmGrd20,
+                    e.asm_grd_21 AS asmGrd21,
+                    e.asm_grd_22 AS asmGrd22,
+                    e.asm_grd_23 AS asmGrd23,
+                    e.asm_grd_24 AS asmGrd24,
+                    t.id AS top5Id,
+                    t.crtr_ym AS crtrYm,
+                    t.disease_nm_1 AS diseaseNm1,
+                    t.disease_nm_2 AS diseaseNm2,
+                    t.disease_nm_3 AS diseaseNm3,
+                    t.disease_nm_4 AS diseaseNm4,
+                    t.disease_nm_5 AS diseaseNm5
+            FROM hospitals h
+            LEFT JOIN hospital_evaluations e ON e.hospital_id = h.id
+            LEFT JOIN hospital_clinic_top5 t ON t.hospital_id = h.id
+            LEFT JOIN hospital_review_stats rs ON rs.hospital_id = h.id
+            WHERE h.id IN (:ids)
+            """;
+
+    /**
+     * 키워드 검색 FULLTEXT(ngram) 조건 (V6 ft_hospitals_keyword).
+     * :query 는 {@link HospitalKeywordQuery#toBooleanQuery} 결과, :departmentPattern 은
+     * {@link HospitalSpecification#containsPattern} 결과이며 진료과 필터가 없으면 빈 문자열입니다.
+     */
+    String KEYWORD_FULLTEXT_WHERE = """
+            WHERE MATCH(h.name, h.address, h.department) AGAINST (:query IN BOOLEAN MODE)
+              AND (:departmentPattern = '' OR LOWER(h.department) LIKE :departmentPattern)
+            """;
+
+    /** {@link #findIdsByKeywordFulltext} 의 SQL: 관련도 내림차순 → 이름 → ID */
+    String KEYWORD_FULLTEXT_SQL = "SELECT h.id FROM hospitals h\n" + KEYWORD_FULLTEXT_WHERE + """
+            ORDER BY MATCH(h.name, h.address, h.department) AGAINST (:query IN BOOLEAN MODE) DESC, h.name, h.id
+            LIMIT :limit OFFSET :offset
+            """;
+
+    /** {@link #countByKeywordFulltext} 의 SQL */
+    String KEYWORD_FULLTEXT_COUNT_SQL = "SELECT COUNT(*) FROM hospitals h\n" + KEYWORD_FULLTEXT_WHERE;
 
     Optional<Hospital> findByPublicCode(String publicCode);
 
     List<Hospital> findAllByPublicCodeIn(Collection<String> publicCodes);
 
+    /**
+     * 주소가 LIKE 패턴(소문자, {@link HospitalSpecification#containsPattern} 으로 생성)에 맞고 요양기호가 있는 병원의 ID·요양기호.
+     * 지역 단위 평가정보 동기화 대상 목록용이며 엔티티를 적재하지 않습니다.
+     */
+    @Query("SELECT h.id AS id, h.publicCode AS publicCode FROM Hospital h "
+            + "WHERE LOWER(h.address) LIKE :pattern ESCAPE '\\' AND h.publicCode IS NOT NULL ORDER BY h.id")
+    List<HospitalCodeRef> findCodeRefsByAddressLike(@Param("pattern") String pattern);
+
+    /**
+     * {@link #findCodeRefsByAddressLike} 의 keyset 페이지 버전: id 가 afterId 보다 큰 병원을 id 순으로 pageable 크기만큼.
+     * 대상이 많은 지역 동기화에서 목록 전체를 한 번에 적재하지 않도록 생산자가 페이지 단위로 읽습니다.
+     */
+    @Query("SELECT h.id AS id, h.publicCode AS publicCode FROM Hospital h "
+            + "WHERE h.id > :afterId AND LOWER(h.address) LIKE :pattern ESCAPE '\\' AND h.publicCode IS NOT NULL "
+            + "ORDER BY h.id")
+    List<HospitalCodeRef> findCodeRefsByAddressLikeAfter(
+            @Param("pattern") String pattern, @Param("afterId") long afterId, Pageable pageable);
+
+    /** id 가 afterId 보다 큰 병원 ID를 id 순으로 pageable 크기만큼 (검색 인덱스 전체 재색인용 keyset 페이지) */
+    @Query("SELECT h.id FROM Hospital h WHERE h.id > :afterId ORDER BY h.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 좌표가 있는 모든 병원의 ID·위도·경도·진료과만 조회합니다 (인메모리 공간 인덱스 적재용).
+     */
+    @Query("SELECT h.id AS id, h.latitude AS latitude, h.longitude AS longitude, h.department AS department "
+            + "FROM Hospital h "
+            + "WHERE h.latitude IS NOT NULL AND h.longitude IS NOT NULL")
+    List<HospitalGeoPoint> findAllGeoPoints();
+
+    /**
+     * 주어진 병원들의 ID·위도·경도·진료과 조회 (공간 인덱스 증분 갱신용). 좌표가 없는 병원도 포함됩니다.
+     */
+    @Query("SELECT h.id AS id, h.latitude AS latitude, h.longitude AS longitude, h.department AS department "
+            + "FROM Hospital h WHERE h.id IN :ids")
+    List<HospitalGeoPoint> findGeoPointsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 사용자의 위도/경도에서 주어진 반경(m) 안에 있는 병원을 거리 오름차순으로 조회합니다.
      * MySQL 8+의 ST_Distance_Sphere, POINT, ST_SRID 를 사용합니다.
@@ -51,27 +258,87 @@ public interface HospitalRepository extends JpaRepository<Hospital, Long>, JpaSp
     );
 
     /**
-     * 근처 병원 ID와 거리만 조회 (거리순). 응답 DTO에 distance를 넣기 위해 사용.
+     * 근처 병원 ID와 거리 (거리순) — SPATIAL INDEX 경로.
+     * 반경을 감싸는 사각형(MBRContains)으로 idx_hospitals_location 범위 검색을 해 후보를 먼저 줄이고,
+     * 후보에 대해서만 ST_Distance_Sphere 로 정확한 거리를 계산합니다.
      * 반환: 각 행 [id(Long), distance(Double)]
+     *
+     * @see com.medicheck.server.domain.hospital.util.GeoBoundingBox#around(double, double, double)
      */
-    @Query(value = """
-            SELECT  h.id,
-                    ST_Distance_Sphere(
-                        h.location,
-                        ST_SRID(POINT(:longitude, :latitude), 4326)
-                    ) AS distance
-            FROM hospitals h
-            WHERE h.location IS NOT NULL
-            HAVING distance <= :radiusMeters
-            ORDER BY distance ASC
-            LIMIT :maxResults
-            """,
-            nativeQuery = true)
-    List<Object[]> findNearbyIdAndDistance(
+    @Query(value = NEARBY_IN_BOUNDING_BOX_SQL, nativeQuery = true)
+    List<Object[]> findNearbyIdAndDistanceInBoundingBox(
             @Param("latitude") double latitude,
             @Param("longitude") double longitude,
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
             @Param("radiusMeters") double radiusMeters,
             @Param("maxResults") int maxResults
     );
-}
 
+    /**
+     * 지도 화면 사각형 안 병원 ID와 거리 — keyset 페이지 (공간 인덱스 적재 전 대체 경로).
+     * 첫 페이지는 afterDistance = -1, afterId = 0 으로 호출합니다.
+     * 반환: 각 행 [id(Long), distance(Double)]
+     */
+    @Query(value = IN_BOUNDS_AFTER_SQL, nativeQuery = true)
+    List<Object[]> findIdAndDistanceInBoundsAfter(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("afterDistance") double afterDistance,
+            @Param("afterId") long afterId,
+            @Param("maxResults") int maxResults
+    );
+
+    /**
+     * 지도 클러스터 집계 — 셀 × 진료과 그룹 (공간 인덱스 적재 전 대체 경로).
+     * 반환: 각 행 [cell_y, cell_x, department(String), cnt, sum_latitude, sum_longitude, min_id]
+     */
+    @Query(value = CLUSTER_CELLS_SQL, nativeQuery = true)
+    List<Object[]> findClusterCellsInBounds(
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("cellDegrees") double cellDegrees
+    );
+
+    /**
+     * 키워드 FULLTEXT 검색 한 페이지의 병원 ID (관련도 순). 엔티티는 호출 측에서 ID로 조회합니다.
+     */
+    @Query(value = KEYWORD_FULLTEXT_SQL, nativeQuery = true)
+    List<Long> findIdsByKeywordFulltext(
+            @Param("query") String query,
+            @Param("departmentPattern") String departmentPattern,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
+
+    /** 키워드 FULLTEXT 검색 전체 건수 */
+    @Query(value = KEYWORD_FULLTEXT_COUNT_SQL, nativeQuery = true)
+    long countByKeywordFulltext(
+            @Param("query") String query,
+            @Param("departmentPattern") String departmentPattern
+    );
+
+    /**
+     * hospitals 행 수 추정치 (InnoDB 테이블 통계, 스캔 없음). 통계가 없으면 null.
+     * 필터 없는 목록의 countMode=estimated 용입니다.
+     */
+    @Query(value = "SELECT TABLE_ROWS FROM information_schema.TABLES "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'hospitals'",
+            nativeQuery = true)
+    Long estimateRowCount();
+
+    /**
+     * 응답 조립에 필요한 병원·평가·Top5·리뷰 요약을 한 번의 라운드트립으로 조회합니다.
+     * 결과 순서는 보장하지 않으므로 호출 측에서 ID 순서대로 다시 정렬합니다.
+     */
+    @Query(value = READ_ROWS_SQL, nativeQuery = true)
+    List<HospitalReadRow> findReadRowsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,18 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.domain.hospital.entity.Hospital;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * {@link HospitalRepository} 커스텀 쿼리.
+ */
+public interface HospitalRepositoryCustom {
+
+    /**
+     * Specification 조건의 한 페이지를 COUNT 쿼리 없이 조회합니다.
+     * pageable 크기보다 한 건 더 읽어 다음 페이지 존재 여부만 판단합니다.
+     */
+    Slice<Hospital> findSlice(Specification<Hospital> spec, Pageable pageable);
+}
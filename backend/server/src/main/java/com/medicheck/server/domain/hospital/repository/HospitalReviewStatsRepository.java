@@ -0,0 +1,76 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.domain.hospital.entity.HospitalReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 병원별 리뷰 집계(hospital_review_stats) 리포지토리.
+ * 조회는 PK(hospital_id) 조회, 갱신은 행 잠금 한 번으로 끝나는 INSERT ... ON DUPLICATE KEY UPDATE 증감입니다.
+ */
+public interface HospitalReviewStatsRepository extends JpaRepository<HospitalReviewStats, Long> {
+
+    /**
+     * 병원 한 곳의 별점 합/리뷰 수를 증감합니다. 행이 없으면 delta 값으로 새로 만듭니다.
+     * 호출 측 트랜잭션(리뷰 저장/삭제)에 참여하므로 리뷰 변경과 함께 커밋·롤백됩니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO hospital_review_stats (hospital_id, rating_sum, review_count, updated_at)
+            VALUES (:hospitalId, :ratingDelta, :countDelta, NOW(6)) AS d
+            ON DUPLICATE KEY UPDATE
+                rating_sum = hospital_review_stats.rating_sum + d.rating_sum,
+                review_count = hospital_review_stats.review_count + d.review_count,
+                updated_at = d.updated_at
+            """,
+            nativeQuery = true)
+    int applyDelta(
+            @Param("hospitalId") long hospitalId,
+            @Param("ratingDelta") long ratingDelta,
+            @Param("countDelta") long countDelta
+    );
+
+    /**
+     * hospital_reviews 실제 집계와 다른 병원 ID (집계 행 누락, 값 불일치, 리뷰가 없는데 남은 집계).
+     */
+    @Query(value = """
+            SELECT drift.hospital_id FROM (
+                SELECT a.hospital_id
+                FROM (
+                    SELECT r.hospital_id, SUM(r.rating) AS rating_sum, COUNT(*) AS review_count
+                    FROM hospital_reviews r
+                    GROUP BY r.hospital_id
+                ) a
+                LEFT JOIN hospital_review_stats s ON s.hospital_id = a.hospital_id
+                WHERE s.hospital_id IS NULL
+                   OR s.rating_sum <> a.rating_sum
+                   OR s.review_count <> a.review_count
+                UNION ALL
+                SELECT s.hospital_id
+                FROM hospital_review_stats s
+                WHERE s.review_count <> 0
+                  AND NOT EXISTS (SELECT 1 FROM hospital_reviews r WHERE r.hospital_id = s.hospital_id)
+            ) drift
+            """,
+            nativeQuery = true)
+    List<Long> findDriftedHospitalIds();
+
+    @Modifying
+    @Query(value = "DELETE FROM hospital_review_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    /** hospital_reviews 로부터 집계를 처음부터 다시 채웁니다 ({@link #deleteAllStats()} 이후 호출). */
+    @Modifying
+    @Query(value = """
+            INSERT INTO hospital_review_stats (hospital_id, rating_sum, review_count, updated_at)
+            SELECT r.hospital_id, SUM(r.rating), COUNT(*), NOW(6)
+            FROM hospital_reviews r
+            GROUP BY r.hospital_id
+            """,
+            nativeQuery = true)
+    int insertFromReviews();
+}
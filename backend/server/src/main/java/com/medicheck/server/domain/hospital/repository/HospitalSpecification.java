@@ -4,6 +4,7 @@ import com.medicheck.server.domain.hospital.entity.Hospital;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
 /**
@@ -27,6 +28,13 @@ public final class HospitalSpecification {
                 .replace("_", "\\_");
     }
 
+    /**
+     * JPQL 에서 {@code LOWER(col) LIKE :pattern ESCAPE '\'} 로 쓸 %keyword% 패턴(소문자, 와일드카드 이스케이프).
+     */
+    public static String containsPattern(String keyword) {
+        return ("%" + escapeForLike(keyword.trim()) + "%").toLowerCase();
+    }
+
     /**
      * 키워드 검색: 병원명, 주소, 진료과에 LIKE %keyword% 적용.
      * 사용자 입력의 '%', '_'는 리터럴로 취급됩니다.
@@ -76,4 +84,22 @@ public final class HospitalSpecification {
     public static Specification<Hospital> withFilters(String keyword, String department) {
         return hasKeyword(keyword).and(hasDepartment(department));
     }
+
+    /**
+     * keyset 페이지: (attribute, id) 정렬에서 (value, id) 다음 행만.
+     * attribute 는 NOT NULL 컬럼이어야 하며, (attribute, id) 복합 인덱스 범위 검색으로 읽힙니다.
+     */
+    public static <T extends Comparable<? super T>> Specification<Hospital> after(
+            String attribute, T value, long id, boolean descending) {
+        return (root, query, cb) -> {
+            Path<T> key = root.get(attribute);
+            Path<Long> hospitalId = root.get("id");
+            if (descending) {
+                return cb.or(cb.lessThan(key, value),
+                        cb.and(cb.equal(key, value), cb.lessThan(hospitalId, id)));
+            }
+            return cb.or(cb.greaterThan(key, value),
+                    cb.and(cb.equal(key, value), cb.greaterThan(hospitalId, id)));
+        };
+    }
 }
@@ -0,0 +1,28 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 증상 검색 인메모리 역색인 적재용 프로젝션 (병원 ID·이름·좌표 + Top5 질병명 1~5).
+ * 이름·좌표는 정렬 키(거리 → 이름)를 엔티티 없이 계산하는 데 씁니다.
+ */
+public interface HospitalTop5DiseaseNames {
+
+    Long getHospitalId();
+
+    String getHospitalName();
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+
+    String getDiseaseNm1();
+
+    String getDiseaseNm2();
+
+    String getDiseaseNm3();
+
+    String getDiseaseNm4();
+
+    String getDiseaseNm5();
+}
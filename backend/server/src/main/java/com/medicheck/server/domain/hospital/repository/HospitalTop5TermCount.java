@@ -0,0 +1,11 @@
+package com.medicheck.server.domain.hospital.repository;
+
+/**
+ * Top5 질병명 한 개와 그 질병명을 가진 병원 수 (증상 피커 어휘 DB 대체 경로용 프로젝션).
+ */
+public interface HospitalTop5TermCount {
+
+    String getTerm();
+
+    Long getHospitalCount();
+}
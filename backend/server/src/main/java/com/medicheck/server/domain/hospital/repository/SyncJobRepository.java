@@ -0,0 +1,77 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.domain.hospital.entity.SyncJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 작업(sync_jobs) 리포지토리.
+ * 진행률·종료 갱신은 동기화 자체의 트랜잭션과 무관하게 바로 보이도록 별도 트랜잭션(REQUIRES_NEW)으로 커밋합니다.
+ */
+public interface SyncJobRepository extends JpaRepository<SyncJob, Long> {
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("""
+            UPDATE SyncJob j
+               SET j.totalPages = :totalPages,
+                   j.pagesDone = :pagesDone,
+                   j.failedPages = :failedPages,
+                   j.fetchedCount = :fetchedCount,
+                   j.savedCount = :savedCount,
+                   j.updatedCount = :updatedCount,
+                   j.updatedAt = :now
+             WHERE j.id = :id
+            """)
+    int updateProgress(
+            @Param("id") long id,
+            @Param("totalPages") Integer totalPages,
+            @Param("pagesDone") int pagesDone,
+            @Param("failedPages") int failedPages,
+            @Param("fetchedCount") int fetchedCount,
+            @Param("savedCount") int savedCount,
+            @Param("updatedCount") int updatedCount,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("""
+            UPDATE SyncJob j
+               SET j.status = :status,
+                   j.errorMessage = :errorMessage,
+                   j.finishedAt = :now,
+                   j.updatedAt = :now
+             WHERE j.id = :id
+            """)
+    int finish(
+            @Param("id") long id,
+            @Param("status") SyncJob.Status status,
+            @Param("errorMessage") String errorMessage,
+            @Param("now") LocalDateTime now
+    );
+
+    /** 서버 기동 시: 이전 프로세스에서 fromStatus(RUNNING)로 남은 작업을 toStatus(INTERRUPTED)로 정리 */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE SyncJob j
+               SET j.status = :toStatus,
+                   j.errorMessage = :errorMessage,
+                   j.finishedAt = :now,
+                   j.updatedAt = :now
+             WHERE j.status = :fromStatus
+            """)
+    int updateAllStatus(
+            @Param("fromStatus") SyncJob.Status fromStatus,
+            @Param("toStatus") SyncJob.Status toStatus,
+            @Param("errorMessage") String errorMessage,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -3,12 +3,22 @@ package com.medicheck.server.domain.hospital.service;
 import com.medicheck.server.domain.hospital.client.HiraHospitalClient;
 import com.medicheck.server.domain.hospital.client.dto.HiraHospItem;
 import com.medicheck.server.global.config.HiraApiProperties;
+import com.medicheck.server.global.config.HiraSyncProperties;
 import com.medicheck.server.domain.hospital.dto.SyncResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * HIRA 병원정보 Open API 데이터를 DB에 동기화하는 서비스.
@@ -21,10 +31,38 @@ public class HiraSyncService {
     private final HiraHospitalClient hiraHospitalClient;
     private final HospitalPersistenceService hospitalPersistenceService;
     private final HiraApiProperties hiraApiProperties;
+    private final HiraSyncProperties hiraSyncProperties;
 
     /** HIRA 페이징에 대한 안전장치: 시·도별 최대 페이지 수 상한 */
     private static final int MAX_PAGE = 500;
 
+    /** 첫 페이지에 totalCount 가 없어 마지막 페이지를 알 수 없는 경우 */
+    private static final int UNKNOWN_LAST_PAGE = -1;
+
+    // HIRA 시·도 코드 목록 (행정구역 코드 기준)
+    private static final List<String> SIDO_CODES = List.of(
+            "110000", // 서울특별시
+            "260000", // 부산광역시
+            "270000", // 대구광역시
+            "280000", // 인천광역시
+            "290000", // 광주광역시
+            "300000", // 대전광역시
+            "310000", // 울산광역시
+            "360000", // 세종특별자치시
+            "410000", // 경기도
+            "420000", // 강원도
+            "430000", // 충청북도
+            "440000", // 충청남도
+            "450000", // 전라북도
+            "460000", // 전라남도
+            "470000", // 경상북도
+            "480000", // 경상남도
+            "490000"  // 제주특별자치도
+    );
+
+    /** 병렬 전국 동기화에서 페이지 저장을 직렬화 (가상 스레드 pinning 을 피하려고 synchronized 대신 사용) */
+    private final ReentrantLock persistLock = new ReentrantLock();
+
     /**
      * HIRA API에서 병원기본목록을 조회해 DB에 저장합니다.
      * 동일 publicCode(ykiho)가 있으면 건너뜁니다.
@@ -42,23 +80,35 @@ public class HiraSyncService {
         int updated = counts.updated();
         int saved = counts.saved();
 
-        log.info("HIRA 동기화(서울 기본): pageNo={}, numOfRows={}, 조회={}, 신규저장={}, 기존갱신={}",
-                pageNo, numOfRows, items.size(), saved, updated);
+        log.info("HIRA 동기화(서울 기본): pageNo={}, numOfRows={}, 조회={}, 신규저장={}, 기존갱신={}, 변경없음={}",
+                pageNo, numOfRows, items.size(), saved, updated, counts.unchanged());
         return SyncResult.builder()
                 .keyConfigured(keyConfigured)
                 .fetchedCount(items.size())
                 .saved(saved)
                 .updated(updated)
+                .unchanged(counts.unchanged())
                 .build();
     }
 
     /**
-     * 전국 시·도 코드를 순회하며 HIRA 병원정보를 모두 동기화합니다.
-     * 이미 존재하는 publicCode(ykiho)는 건너뜁니다.
+     * 전국 시·도 코드를 병렬로 순회하며 HIRA 병원정보를 모두 동기화합니다.
+     * 1단계에서 시·도별 첫 페이지를 받아 totalCount 로 페이지 수를 계산하고,
+     * 2단계에서 나머지 페이지를 가상 스레드로 동시에 요청합니다(동시 호출 수는 hira.sync.concurrency,
+     * 초당 호출 수는 HiraHospitalClient 의 RateLimiter 로 제한).
+     * 저장은 기존과 같이 페이지 단위로 HospitalPersistenceService 를 거치며, 한 번에 한 페이지씩 수행합니다.
+     * 조회 실패 페이지는 hira.sync.page-retries 만큼 다시 요청하고, 그래도 실패하면 건너뛰고 failedPages 로 집계합니다.
      *
      * @param numOfRows 페이지당 조회 건수 (API 허용 범위 내에서 충분히 큰 값 권장)
      */
     public SyncResult syncAllRegions(int numOfRows) {
+        return syncAllRegions(numOfRows, SyncProgressListener.NONE);
+    }
+
+    /**
+     * {@link #syncAllRegions(int)} 와 같고, 페이지 계획·저장 진행 상황을 listener 로 알립니다(동기화 작업 진행률용).
+     */
+    public SyncResult syncAllRegions(int numOfRows, SyncProgressListener listener) {
         boolean keyConfigured = hiraApiProperties.getServiceKey() != null
                 && !hiraApiProperties.getServiceKey().isBlank();
         if (!keyConfigured) {
@@ -70,41 +120,120 @@ public class HiraSyncService {
                     .build();
         }
 
-        // HIRA 시·도 코드 목록 (행정구역 코드 기준)
-        List<String> sidoCodes = List.of(
-                "110000", // 서울특별시
-                "260000", // 부산광역시
-                "270000", // 대구광역시
-                "280000", // 인천광역시
-                "290000", // 광주광역시
-                "300000", // 대전광역시
-                "310000", // 울산광역시
-                "360000", // 세종특별자치시
-                "410000", // 경기도
-                "420000", // 강원도
-                "430000", // 충청북도
-                "440000", // 충청남도
-                "450000", // 전라북도
-                "460000", // 전라남도
-                "470000", // 경상북도
-                "480000", // 경상남도
-                "490000"  // 제주특별자치도
-        );
+        SyncTally tally = new SyncTally(listener);
+        Semaphore permits = new Semaphore(Math.max(1, hiraSyncProperties.getConcurrency()));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 1단계: 시·도별 첫 페이지 → 전체 페이지 수 계산
+            List<Callable<RegionPlan>> firstPages = SIDO_CODES.stream()
+                    .<Callable<RegionPlan>>map(sidoCd -> () -> fetchFirstPage(sidoCd, numOfRows, permits, tally))
+                    .toList();
+            listener.onPagesPlanned(SIDO_CODES.size());
+            List<RegionPlan> plans = awaitAll(executor, firstPages);
+            // totalCount 를 모르는 시·도의 남은 페이지는 계획에 넣지 못하므로 ETA 가 그만큼 낙관적일 수 있음
+            listener.onPagesPlanned(plans.stream()
+                    .filter(plan -> plan.lastPage() != UNKNOWN_LAST_PAGE)
+                    .mapToInt(plan -> plan.lastPage() - 1)
+                    .sum());
+
+            // 2단계: 나머지 페이지를 한꺼번에 fan-out
+            List<Callable<Void>> remaining = new ArrayList<>();
+            for (RegionPlan plan : plans) {
+                if (plan.lastPage() == UNKNOWN_LAST_PAGE) {
+                    // totalCount 가 없는 응답: 이 시·도만 기존처럼 빈 페이지가 나올 때까지 순차 조회
+                    remaining.add(() -> {
+                        walkRemainingPages(plan.sidoCd(), numOfRows, permits, tally);
+                        return null;
+                    });
+                    continue;
+                }
+                for (int pageNo = 2; pageNo <= plan.lastPage(); pageNo++) {
+                    int page = pageNo;
+                    remaining.add(() -> {
+                        fetchAndPersist(plan.sidoCd(), page, numOfRows, permits, tally);
+                        return null;
+                    });
+                }
+            }
+            awaitAll(executor, remaining);
+        }
 
-        int totalFetched = 0;
-        int totalSaved = 0;
-        int totalUpdated = 0;
+        SyncResult result = tally.toResult();
+        log.info("HIRA 전국 동기화 완료: 조회={}, 신규저장={}, 기존갱신={}, 변경없음={}, 페이지={}, 실패페이지={}, 소요={}ms, pages/sec={}",
+                result.getFetchedCount(), result.getSaved(), result.getUpdated(), result.getUnchanged(),
+                result.getPagesFetched(), result.getFailedPages(), result.getElapsedMillis(),
+                String.format("%.2f", result.getPagesPerSecond()));
+        return result;
+    }
 
-        for (String sidoCd : sidoCodes) {
-            int pageNo = 1;
-            while (true) {
-                if (pageNo > MAX_PAGE) {
-                    log.warn("HIRA 동기화 중단: sidoCd={} pageNo={} 가 MAX_PAGE={} 를 초과했습니다. 무한 루프 방지.",
-                            sidoCd, pageNo, MAX_PAGE);
-                    break;
-                }
+    private RegionPlan fetchFirstPage(String sidoCd, int numOfRows, Semaphore permits, SyncTally tally)
+            throws InterruptedException {
+        HiraHospitalClient.HospBasisPage page = fetchPage(sidoCd, 1, numOfRows, permits, tally);
+        if (page.failed()) {
+            // 전체 페이지 수를 알 수 없으므로 이 시·도는 이번 동기화에서 건너뛴다
+            log.warn("HIRA 동기화: sidoCd={} 첫 페이지 조회 실패로 이 시·도를 건너뜁니다.", sidoCd);
+            return new RegionPlan(sidoCd, 1);
+        }
+        if (page.items().isEmpty()) {
+            log.info("HIRA 동기화 종료: sidoCd={}, pageNo=1 (item 없음)", sidoCd);
+            return new RegionPlan(sidoCd, 1);
+        }
+        persistPage(sidoCd, 1, numOfRows, page.items(), tally);
+
+        int lastPage;
+        if (page.totalCount() != null) {
+            long pagesNeeded = ((long) page.totalCount() + numOfRows - 1) / Math.max(1, numOfRows);
+            if (pagesNeeded > MAX_PAGE) {
+                log.warn("HIRA 동기화: sidoCd={} totalCount={} 가 MAX_PAGE={} 페이지를 넘어 일부만 조회합니다.",
+                        sidoCd, page.totalCount(), MAX_PAGE);
+            }
+            lastPage = (int) Math.min(MAX_PAGE, pagesNeeded);
+        } else {
+            lastPage = page.items().size() < numOfRows ? 1 : UNKNOWN_LAST_PAGE;
+        }
+        return new RegionPlan(sidoCd, lastPage);
+    }
+
+    private void walkRemainingPages(String sidoCd, int numOfRows, Semaphore permits, SyncTally tally)
+            throws InterruptedException {
+        int pageNo = 2;
+        while (true) {
+            if (pageNo > MAX_PAGE) {
+                log.warn("HIRA 동기화 중단: sidoCd={} pageNo={} 가 MAX_PAGE={} 를 초과했습니다. 무한 루프 방지.",
+                        sidoCd, pageNo, MAX_PAGE);
+                break;
+            }
+            if (!fetchAndPersist(sidoCd, pageNo, numOfRows, permits, tally)) {
+                log.info("HIRA 동기화 종료: sidoCd={}, pageNo={} (더 이상 item 없음 또는 조회 실패)", sidoCd, pageNo);
+                break;
+            }
+            pageNo++;
+        }
+    }
+
+    /** @return item 이 한 건이라도 있었는지 (조회 실패면 false, 실패 집계는 fetchPage 에서) */
+    private boolean fetchAndPersist(String sidoCd, int pageNo, int numOfRows, Semaphore permits, SyncTally tally)
+            throws InterruptedException {
+        List<HiraHospItem> items = fetchPage(sidoCd, pageNo, numOfRows, permits, tally).items();
+        if (items.isEmpty()) {
+            return false;
+        }
+        persistPage(sidoCd, pageNo, numOfRows, items, tally);
+        return true;
+    }
 
-                List<HiraHospItem> items = hiraHospitalClient.getHospBasisList(
+    /**
+     * 세마포어로 동시 API 호출 수를 제한합니다. 저장은 permit 을 놓은 뒤 수행해 느린 DB가 API 호출을 막지 않도록 합니다.
+     * 조회 실패는 hira.sync.page-retries 만큼 다시 요청하고, 끝내 실패하면 실패 페이지로 집계합니다.
+     */
+    private HiraHospitalClient.HospBasisPage fetchPage(String sidoCd, int pageNo, int numOfRows, Semaphore permits,
+                                                       SyncTally tally) throws InterruptedException {
+        int attempts = 1 + Math.max(0, hiraSyncProperties.getPageRetries());
+        HiraHospitalClient.HospBasisPage page = HiraHospitalClient.HospBasisPage.FAILED;
+        for (int attempt = 1; attempt <= attempts && page.failed(); attempt++) {
+            permits.acquire();
+            try {
+                page = hiraHospitalClient.getHospBasisPage(
                         pageNo,
                         numOfRows,
                         sidoCd,
@@ -115,32 +244,49 @@ public class HiraSyncService {
                         null,
                         null
                 );
+            } finally {
+                permits.release();
+            }
+        }
+        if (page.failed()) {
+            log.warn("HIRA 동기화: sidoCd={}, pageNo={} 조회 실패 ({}회 시도) — 이 페이지를 건너뜁니다.",
+                    sidoCd, pageNo, attempts);
+            tally.failed();
+        }
+        return page;
+    }
 
-                if (items.isEmpty()) {
-                    log.info("HIRA 동기화 종료: sidoCd={}, pageNo={} (더 이상 item 없음)", sidoCd, pageNo);
-                    break;
-                }
-
-                var counts = hospitalPersistenceService.persistHospitals(items);
-                int updated = counts.updated();
-                int saved = counts.saved();
-                totalFetched += items.size();
-                totalSaved += saved;
-                totalUpdated += updated;
+    /**
+     * 페이지 저장은 한 번에 하나씩 수행합니다.
+     * HIRA 정렬이 호출 사이에 바뀌어 같은 ykiho 가 두 페이지에 섞여 와도 신규 INSERT 가 서로 경합하지 않습니다.
+     */
+    private void persistPage(String sidoCd, int pageNo, int numOfRows, List<HiraHospItem> items, SyncTally tally) {
+        HospitalPersistenceService.PersistCounts counts;
+        persistLock.lock();
+        try {
+            counts = hospitalPersistenceService.persistHospitals(items);
+        } finally {
+            persistLock.unlock();
+        }
+        tally.add(items.size(), counts);
 
-                log.info("HIRA 동기화: sidoCd={}, pageNo={}, numOfRows={}, 조회={}, 신규저장={}, 기존갱신={}",
-                        sidoCd, pageNo, numOfRows, items.size(), saved, updated);
+        log.info("HIRA 동기화: sidoCd={}, pageNo={}, numOfRows={}, 조회={}, 신규저장={}, 기존갱신={}, 변경없음={}",
+                sidoCd, pageNo, numOfRows, items.size(), counts.saved(), counts.updated(), counts.unchanged());
+    }
 
-                pageNo++;
+    private static <T> List<T> awaitAll(ExecutorService executor, List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("HIRA 전국 동기화가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("HIRA 전국 동기화 중 페이지 처리에 실패했습니다.", e.getCause());
         }
-
-        return SyncResult.builder()
-                .keyConfigured(true)
-                .fetchedCount(totalFetched)
-                .saved(totalSaved)
-                .updated(totalUpdated)
-                .build();
+        return results;
     }
 
     /**
@@ -162,6 +308,7 @@ public class HiraSyncService {
         int totalFetched = 0;
         int totalSaved = 0;
         int totalUpdated = 0;
+        int totalUnchanged = 0;
         int pageNo = 1;
 
         while (pageNo <= MAX_PAGE) {
@@ -185,7 +332,10 @@ public class HiraSyncService {
             totalSaved += saved;
             totalUpdated += updated;
 
-            log.info("HIRA 위치 동기화: pageNo={}, 조회={}, 신규={}, 갱신={}", pageNo, items.size(), saved, updated);
+            totalUnchanged += counts.unchanged();
+
+            log.info("HIRA 위치 동기화: pageNo={}, 조회={}, 신규={}, 갱신={}, 변경없음={}",
+                    pageNo, items.size(), saved, updated, counts.unchanged());
             pageNo++;
         }
 
@@ -194,6 +344,7 @@ public class HiraSyncService {
                 .fetchedCount(totalFetched)
                 .saved(totalSaved)
                 .updated(totalUpdated)
+                .unchanged(totalUnchanged)
                 .build();
     }
 
@@ -219,6 +370,7 @@ public class HiraSyncService {
         int totalFetched = 0;
         int totalSaved = 0;
         int totalUpdated = 0;
+        int totalUnchanged = 0;
         int pageNo = 1;
 
         while (pageNo <= MAX_PAGE) {
@@ -239,8 +391,10 @@ public class HiraSyncService {
             totalSaved += saved;
             totalUpdated += updated;
 
-            log.info("HIRA 지역 동기화: sidoCd={}, sgguCd={}, pageNo={}, 조회={}, 신규={}, 갱신={}",
-                    sidoCd, sgguCd, pageNo, items.size(), saved, updated);
+            totalUnchanged += counts.unchanged();
+
+            log.info("HIRA 지역 동기화: sidoCd={}, sgguCd={}, pageNo={}, 조회={}, 신규={}, 갱신={}, 변경없음={}",
+                    sidoCd, sgguCd, pageNo, items.size(), saved, updated, counts.unchanged());
             pageNo++;
         }
 
@@ -249,7 +403,57 @@ public class HiraSyncService {
                 .fetchedCount(totalFetched)
                 .saved(totalSaved)
                 .updated(totalUpdated)
+                .unchanged(totalUnchanged)
                 .build();
     }
 
+    /** 1단계 결과: 시·도별로 요청할 마지막 페이지 번호 */
+    private record RegionPlan(String sidoCd, int lastPage) {}
+
+    /** 여러 가상 스레드에서 동시에 누적하는 동기화 집계와 경과 시간 */
+    private static final class SyncTally {
+
+        private final SyncProgressListener listener;
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger fetched = new AtomicInteger();
+        private final AtomicInteger saved = new AtomicInteger();
+        private final AtomicInteger updated = new AtomicInteger();
+        private final AtomicInteger unchanged = new AtomicInteger();
+        private final AtomicInteger pages = new AtomicInteger();
+        private final AtomicInteger failedPages = new AtomicInteger();
+
+        SyncTally(SyncProgressListener listener) {
+            this.listener = listener;
+        }
+
+        void add(int fetchedCount, HospitalPersistenceService.PersistCounts counts) {
+            fetched.addAndGet(fetchedCount);
+            saved.addAndGet(counts.saved());
+            updated.addAndGet(counts.updated());
+            unchanged.addAndGet(counts.unchanged());
+            pages.incrementAndGet();
+            listener.onPage(fetchedCount, counts.saved(), counts.updated());
+        }
+
+        void failed() {
+            failedPages.incrementAndGet();
+            listener.onPageFailed();
+        }
+
+        SyncResult toResult() {
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            int pageCount = pages.get();
+            return SyncResult.builder()
+                    .keyConfigured(true)
+                    .fetchedCount(fetched.get())
+                    .saved(saved.get())
+                    .updated(updated.get())
+                    .unchanged(unchanged.get())
+                    .pagesFetched(pageCount)
+                    .failedPages(failedPages.get())
+                    .elapsedMillis(elapsedMillis)
+                    .pagesPerSecond(elapsedMillis > 0 ? pageCount * 1000.0 / elapsedMillis : 0)
+                    .build();
+        }
+    }
 }
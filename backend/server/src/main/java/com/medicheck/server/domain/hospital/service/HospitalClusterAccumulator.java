@@ -0,0 +1,106 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.HospitalClusterResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병원 좌표를 cellDegrees 격자 셀로 묶어 셀별 건수·좌표 합·진료과 건수를 모읍니다.
+ * 인메모리 공간 인덱스(병원 1건씩)와 DB 집계(셀 × 진료과 그룹)가 같은 규칙으로 클러스터를 만들도록 공유합니다.
+ */
+final class HospitalClusterAccumulator {
+
+    /** 진료과가 비어 있는 병원을 묶는 키 */
+    static final String UNKNOWN_DEPARTMENT = "기타";
+
+    private final double cellDegrees;
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /** 셀을 호출 측이 정해 {@link #addToCell} 로만 넣는 경우 (지도 타일의 Web Mercator 하위 타일 등) */
+    HospitalClusterAccumulator() {
+        this.cellDegrees = Double.NaN;
+    }
+
+    HospitalClusterAccumulator(double cellDegrees) {
+        if (!(cellDegrees > 0)) {
+            throw new IllegalArgumentException("cellDegrees must be positive: " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    /** 병원 1건 */
+    void add(long hospitalId, double latitude, double longitude, String department) {
+        if (Double.isNaN(cellDegrees)) {
+            throw new IllegalStateException("cellDegrees is not set; use addToCell");
+        }
+        long cellY = (long) Math.floor(latitude / cellDegrees);
+        long cellX = (long) Math.floor(longitude / cellDegrees);
+        addGroup(cellY, cellX, department, 1, latitude, longitude, hospitalId);
+    }
+
+    /** 병원 1건을 호출 측이 정한 셀에 */
+    void addToCell(long cellY, long cellX, long hospitalId, double latitude, double longitude, String department) {
+        addGroup(cellY, cellX, department, 1, latitude, longitude, hospitalId);
+    }
+
+    /** 같은 셀·진료과로 이미 묶인 count 건 (DB GROUP BY 결과) */
+    void addGroup(long cellY, long cellX, String department, int count,
+                  double sumLatitude, double sumLongitude, long anyHospitalId) {
+        if (count <= 0) {
+            return;
+        }
+        Cell cell = cells.computeIfAbsent(cellKey(cellY, cellX), k -> new Cell());
+        cell.count += count;
+        cell.sumLatitude += sumLatitude;
+        cell.sumLongitude += sumLongitude;
+        cell.anyHospitalId = anyHospitalId;
+        String key = department == null || department.isBlank() ? UNKNOWN_DEPARTMENT : department.trim();
+        cell.departments.merge(key, count, Integer::sum);
+    }
+
+    /** 병원 수 내림차순(같으면 중심 위도·경도 순)으로 정렬한 클러스터 목록 */
+    List<HospitalClusterResponse> toResponses() {
+        List<HospitalClusterResponse> result = new ArrayList<>(cells.size());
+        for (Cell cell : cells.values()) {
+            result.add(HospitalClusterResponse.builder()
+                    .latitude(cell.sumLatitude / cell.count)
+                    .longitude(cell.sumLongitude / cell.count)
+                    .count(cell.count)
+                    .departments(sortedByCount(cell.departments))
+                    .hospitalId(cell.count == 1 ? cell.anyHospitalId : null)
+                    .build());
+        }
+        result.sort((a, b) -> {
+            int c = Integer.compare(b.getCount(), a.getCount());
+            if (c != 0) return c;
+            c = Double.compare(a.getLatitude(), b.getLatitude());
+            return c != 0 ? c : Double.compare(a.getLongitude(), b.getLongitude());
+        });
+        return result;
+    }
+
+    private static Map<String, Integer> sortedByCount(Map<String, Integer> departments) {
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        departments.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    private static long cellKey(long cellY, long cellX) {
+        return (cellY << 32) ^ (cellX & 0xFFFF_FFFFL);
+    }
+
+    private static final class Cell {
+        private int count;
+        private double sumLatitude;
+        private double sumLongitude;
+        private long anyHospitalId;
+        private final Map<String, Integer> departments = new HashMap<>(4);
+    }
+}
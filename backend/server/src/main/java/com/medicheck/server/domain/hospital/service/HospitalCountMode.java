@@ -0,0 +1,31 @@
+package com.medicheck.server.domain.hospital.service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 병원 목록 전체 건수(totalElements) 계산 방식.
+ */
+public enum HospitalCountMode {
+
+    /** 정확한 건수. 같은 (키워드, 진료과) 건수는 {@link HospitalListCountCache} 에서 재사용합니다. */
+    EXACT,
+
+    /** 필터가 없으면 테이블 통계(information_schema.TABLES.TABLE_ROWS) 추정치, 있으면 EXACT 와 같습니다. */
+    ESTIMATED,
+
+    /** 건수를 세지 않고 다음 페이지 존재 여부(Slice)만 반환합니다. */
+    NONE;
+
+    /** 요청 파라미터 값(대소문자 무시)을 건수 방식으로 바꿉니다. 알 수 없는 값이면 비어 있습니다. */
+    public static Optional<HospitalCountMode> from(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
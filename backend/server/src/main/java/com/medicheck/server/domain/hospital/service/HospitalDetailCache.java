@@ -0,0 +1,94 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.medicheck.server.domain.hospital.dto.HospitalResponse;
+import com.medicheck.server.global.config.ReadReplicaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 병원 상세(GET /api/hospitals/{id}) 응답 캐시.
+ * 병원·평가·Top5 는 관리자 동기화 때만 바뀌므로, 리뷰 요약까지 채운 {@link HospitalResponse} 를 통째로 캐시하고
+ * 쓰기가 커밋되면 해당 병원 ID만 골라 무효화합니다.
+ *
+ * <ul>
+ *   <li>무효화: {@link HospitalsPersistedEvent}(병원 동기화), {@link HospitalEnrichmentChangedEvent}(평가/Top5/리뷰)</li>
+ *   <li>크기 상한: hospital.detail-cache.maximum-size, 안전망 TTL: hospital.detail-cache.ttl</li>
+ *   <li>메트릭: cache.gets/puts/evictions{cache=hospital.detail} (Actuator /metrics)</li>
+ *   <li>읽기 복제본 사용 시(app.datasource.read-replica.enabled): 무효화 직후 조회가 지연된 복제본에서 옛 값을 다시 캐시할 수 있으므로,
+ *       max-lag + check-interval 뒤에 같은 ID를 한 번 더 무효화합니다.</li>
+ * </ul>
+ */
+@Component
+public class HospitalDetailCache {
+
+    static final String CACHE_NAME = "hospital.detail";
+
+    private final Cache<Long, HospitalResponse> cache;
+    /** 복제본 지연 구간 뒤 재무효화 실행기 (복제본을 쓰지 않으면 null) */
+    private final Executor reinvalidateExecutor;
+
+    public HospitalDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${hospital.detail-cache.maximum-size:10000}") long maximumSize,
+            @Value("${hospital.detail-cache.ttl:6h}") Duration ttl,
+            ReadReplicaProperties readReplicaProperties
+    ) {
+        this.reinvalidateExecutor = readReplicaProperties.isEnabled()
+                ? CompletableFuture.delayedExecutor(
+                        readReplicaProperties.getMaxLag().plus(readReplicaProperties.getCheckInterval()).toMillis(),
+                        TimeUnit.MILLISECONDS)
+                : null;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader 로 만들어 저장합니다.
+     * loader 가 null 을 반환하면(병원 없음) 저장하지 않습니다.
+     */
+    public HospitalResponse get(Long hospitalId, Function<Long, HospitalResponse> loader) {
+        return cache.get(hospitalId, loader);
+    }
+
+    public void invalidate(Collection<Long> hospitalIds) {
+        if (hospitalIds == null || hospitalIds.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(hospitalIds);
+        if (reinvalidateExecutor != null) {
+            List<Long> ids = List.copyOf(hospitalIds);
+            reinvalidateExecutor.execute(() -> cache.invalidateAll(ids));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalsPersisted(HospitalsPersistedEvent event) {
+        invalidate(event.hospitalIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrichmentChanged(HospitalEnrichmentChangedEvent event) {
+        invalidate(event.hospitalIds());
+    }
+
+    long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,38 @@
+package com.medicheck.server.domain.hospital.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 거리순 keyset 페이지 커서: 직전 페이지 마지막 병원의 (거리 m, ID).
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출합니다.
+ */
+public record HospitalDistanceCursor(double distanceMeters, long hospitalId) {
+
+    public String encode() {
+        String raw = distanceMeters + ":" + hospitalId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor {@link #encode()} 결과. 비어 있으면 null(첫 페이지).
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static HospitalDistanceCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            double distance = Double.parseDouble(raw.substring(0, sep));
+            long id = Long.parseLong(raw.substring(sep + 1));
+            if (!Double.isFinite(distance) || distance < 0 || id <= 0) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+            return new HospitalDistanceCursor(distance, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.medicheck.server.domain.hospital.service;
+
+import java.util.Collection;
+
+/**
+ * 병원 응답에 붙는 부가 정보(평가정보, Top5, 리뷰)가 바뀌었음을 알리는 이벤트.
+ * 쓰기 트랜잭션 안에서 발행하며, 캐시 등 리스너는 커밋 이후(AFTER_COMMIT)에 처리합니다.
+ *
+ * @param type        바뀐 부가 정보 종류
+ * @param hospitalIds 영향을 받은 병원 ID
+ */
+public record HospitalEnrichmentChangedEvent(Type type, Collection<Long> hospitalIds) {
+
+    public enum Type {
+        EVALUATION,
+        TOP5,
+        REVIEW
+    }
+}
@@ -2,24 +2,35 @@ package com.medicheck.server.domain.hospital.service;
 
 import com.medicheck.server.domain.hospital.client.HiraEvaluationClient;
 import com.medicheck.server.domain.hospital.client.dto.HiraAsmItem;
-import com.medicheck.server.domain.hospital.entity.Hospital;
-import com.medicheck.server.domain.hospital.entity.HospitalEvaluation;
-import com.medicheck.server.domain.hospital.repository.HospitalEvaluationRepository;
+import com.medicheck.server.domain.hospital.repository.HospitalBulkWriter;
+import com.medicheck.server.domain.hospital.repository.HospitalCodeRef;
+import com.medicheck.server.domain.hospital.repository.HospitalEvaluationBulkWriter;
 import com.medicheck.server.domain.hospital.repository.HospitalRepository;
 import com.medicheck.server.domain.hospital.repository.HospitalSpecification;
+import com.medicheck.server.global.config.HiraSyncProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * HIRA 병원평가정보(getHospAsmInfo1) API 결과를 DB에 동기화합니다.
- * ykiho(요양기호)로 Hospital과 매칭하여, 등록된 병원에 대해서만 HospitalEvaluation을 저장/갱신합니다.
+ * ykiho(요양기호)로 Hospital과 매칭하여, 등록된 병원에 대해서만 평가정보를 저장/갱신합니다.
+ * 저장은 {@link HospitalEvaluationBulkWriter} 의 JDBC 배치 upsert 로 하며, HTTP 호출 동안 DB 트랜잭션을 열어 두지 않도록
+ * 페이지(또는 지역 동기화의 청크) 단위로 짧은 트랜잭션을 엽니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,10 +39,16 @@ public class HospitalEvaluationSyncService {
 
     private static final int DEFAULT_PAGE_SIZE = 100;
     private static final int MAX_PAGE = 10_000;
+    /** 지역 동기화에서 한 트랜잭션으로 저장하는 병원 수 (진행률도 이 단위로 보고) */
+    static final int REGION_CHUNK_SIZE = 100;
 
     private final HiraEvaluationClient evaluationClient;
     private final HospitalRepository hospitalRepository;
-    private final HospitalEvaluationRepository evaluationRepository;
+    private final HospitalBulkWriter hospitalBulkWriter;
+    private final HospitalEvaluationBulkWriter evaluationBulkWriter;
+    private final HiraSyncProperties hiraSyncProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 전체 평가 데이터를 페이지 단위로 조회해, 우리 DB에 있는 병원(ykiho 매칭)만 저장/갱신합니다.
@@ -39,8 +56,15 @@ public class HospitalEvaluationSyncService {
      * @param maxSynced 최대 동기화 건수 (null 또는 0 이하면 제한 없음)
      * @return 저장 또는 갱신된 평가 건수
      */
-    @Transactional
     public int syncAll(Integer maxSynced) {
+        return syncAll(maxSynced, SyncProgressListener.NONE);
+    }
+
+    /**
+     * {@link #syncAll(Integer)} 와 같고, 페이지마다 진행 상황을 listener 로 알립니다(동기화 작업 진행률용).
+     * 평가정보 API는 전체 페이지 수를 미리 알 수 없어 onPagesPlanned 는 호출하지 않습니다.
+     */
+    public int syncAll(Integer maxSynced, SyncProgressListener listener) {
         int totalSaved = 0;
         int pageNo = 1;
         boolean hasLimit = maxSynced != null && maxSynced > 0;
@@ -53,8 +77,9 @@ public class HospitalEvaluationSyncService {
             if (items == null || items.isEmpty()) {
                 break;
             }
-            int saved = saveOrUpdateEvaluations(items, hasLimit ? maxSynced - totalSaved : null);
-            totalSaved += saved;
+            WriteCounts counts = writeInTransaction(items, hasLimit ? maxSynced - totalSaved : null);
+            totalSaved += counts.total();
+            listener.onPage(items.size(), counts.saved(), counts.updated());
             if (items.size() < DEFAULT_PAGE_SIZE || (hasLimit && totalSaved >= maxSynced)) {
                 break;
             }
@@ -71,7 +96,6 @@ public class HospitalEvaluationSyncService {
      * @param ykiho 암호화된 요양기호 (publicCode와 동일)
      * @return 저장/갱신 시 true, 해당 병원이 없거나 API 결과 없으면 false
      */
-    @Transactional
     public boolean syncOne(String ykiho) {
         String normalized = trim(ykiho, 500);
         if (normalized == null || normalized.isBlank()) {
@@ -81,145 +105,187 @@ public class HospitalEvaluationSyncService {
         if (items == null || items.isEmpty()) {
             return false;
         }
-        return saveOrUpdateEvaluations(items, null) > 0;
+        return writeInTransaction(items, null).total() > 0;
     }
 
     /**
-     * 주소에 특정 키워드(예: "구미")가 포함된 병원만 골라 평가정보를 1건씩 동기화합니다.
+     * 주소에 특정 키워드(예: "구미")가 포함된 병원만 골라 평가정보를 동기화합니다.
      *
      * @param addressKeyword 주소 포함 문자열 (예: "구미")
      * @param maxSynced      최대 동기화 건수 (null 이하면 제한 없음)
      * @return 저장/갱신된 평가 건수
      */
-    @Transactional
     public int syncByAddressKeyword(String addressKeyword, Integer maxSynced) {
+        return syncByAddressKeyword(addressKeyword, maxSynced, SyncProgressListener.NONE);
+    }
+
+    /**
+     * {@link #syncByAddressKeyword(String, Integer)} 와 같고, 청크마다 진행 상황을 listener 로 알립니다.
+     * 병원별 API 호출(ykiho 1건 조회)은 가상 스레드로 동시에 보내되 동시 호출 수는 hira.sync.concurrency,
+     * 초당 호출 수는 HiraEvaluationClient 의 RateLimiter 로 제한합니다.
+     * 대상 병원을 {@value #REGION_CHUNK_SIZE}곳씩 나눠 청크마다 짧은 트랜잭션으로 일괄 저장하며,
+     * 앞 청크를 저장하는 동안 다음 청크 요청이 이미 진행됩니다.
+     * maxSynced 에 도달하면 남은 요청은 취소합니다(이미 받은 응답은 저장 건수 한도까지만 반영).
+     */
+    public int syncByAddressKeyword(String addressKeyword, Integer maxSynced, SyncProgressListener listener) {
         if (addressKeyword == null || addressKeyword.isBlank()) {
             return 0;
         }
-        Specification<Hospital> spec = HospitalSpecification.addressContains(addressKeyword);
-        List<Hospital> hospitals = hospitalRepository.findAll(spec);
+        List<String> ykihoList = hospitalRepository
+                .findCodeRefsByAddressLike(HospitalSpecification.containsPattern(addressKeyword)).stream()
+                .map(HospitalCodeRef::getPublicCode)
+                .map(code -> trim(code, 500))
+                .filter(code -> code != null && !code.isBlank())
+                .distinct()
+                .toList();
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < ykihoList.size(); from += REGION_CHUNK_SIZE) {
+            chunks.add(ykihoList.subList(from, Math.min(from + REGION_CHUNK_SIZE, ykihoList.size())));
+        }
+        listener.onPagesPlanned(chunks.size());
+
+        boolean hasLimit = maxSynced != null && maxSynced > 0;
+        Semaphore permits = new Semaphore(Math.max(1, hiraSyncProperties.getConcurrency()));
+        List<List<Future<HiraAsmItem>>> submitted = new ArrayList<>(chunks.size());
         int count = 0;
-        for (Hospital h : hospitals) {
-            if (maxSynced != null && maxSynced > 0 && count >= maxSynced) {
-                break;
-            }
-            String ykiho = trim(h.getPublicCode(), 500);
-            if (ykiho == null || ykiho.isBlank()) continue;
-            if (syncOne(ykiho)) {
-                count++;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                if (!chunks.isEmpty()) {
+                    submitted.add(submitChunk(executor, chunks.get(0), permits));
+                }
+                for (int c = 0; c < chunks.size(); c++) {
+                    if (hasLimit && count >= maxSynced) {
+                        break;
+                    }
+                    // 한 청크 앞서 요청을 보내 두어 저장하는 동안에도 API 호출이 이어지게 함
+                    if (c + 1 < chunks.size()) {
+                        submitted.add(submitChunk(executor, chunks.get(c + 1), permits));
+                    }
+                    List<HiraAsmItem> items = awaitChunk(submitted.get(c));
+                    WriteCounts counts = writeInTransaction(items, hasLimit ? maxSynced - count : null);
+                    count += counts.total();
+                    listener.onPage(items.size(), counts.saved(), counts.updated());
+                }
+            } finally {
+                // 한도 도달·실패 시 남은 요청을 끊어 executor 종료가 밀리지 않게 함
+                submitted.forEach(futures -> futures.forEach(f -> f.cancel(true)));
             }
         }
-        log.info("병원평가정보 지역 동기화 완료: addressKeyword={}, {} 건 저장/갱신", addressKeyword, count);
+
+        log.info("병원평가정보 지역 동기화 완료: addressKeyword={}, 대상={}, {} 건 저장/갱신",
+                addressKeyword, ykihoList.size(), count);
         return count;
     }
 
+    private List<Future<HiraAsmItem>> submitChunk(ExecutorService executor, List<String> ykihoChunk, Semaphore permits) {
+        List<Future<HiraAsmItem>> futures = new ArrayList<>(ykihoChunk.size());
+        for (String ykiho : ykihoChunk) {
+            futures.add(executor.submit(() -> fetchOne(ykiho, permits)));
+        }
+        return futures;
+    }
+
+    private HiraAsmItem fetchOne(String ykiho, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        try {
+            List<HiraAsmItem> items = evaluationClient.getHospAsmInfo(1, 1, ykiho);
+            return items == null || items.isEmpty() ? null : items.get(0);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** 청크의 응답을 요청 순서대로 모읍니다. 평가정보가 없는 병원(null)은 제외합니다. */
+    private static List<HiraAsmItem> awaitChunk(List<Future<HiraAsmItem>> futures) {
+        List<HiraAsmItem> items = new ArrayList<>(futures.size());
+        try {
+            for (Future<HiraAsmItem> future : futures) {
+                HiraAsmItem item = future.get();
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("병원평가정보 지역 동기화가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            // 기존 직렬 처리와 같이 API 오류(HiraApiException 등)는 그대로 전파
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("병원평가정보 조회에 실패했습니다.", e.getCause());
+        }
+        return items;
+    }
+
+    private WriteCounts writeInTransaction(List<HiraAsmItem> items, Integer maxCount) {
+        return new TransactionTemplate(transactionManager).execute(status -> saveOrUpdateEvaluations(items, maxCount));
+    }
+
     /**
-     * API 응답 item 목록에 대해 Hospital(ykiho=publicCode)이 있는 것만 저장 또는 갱신.
+     * API 응답 item 목록에 대해 Hospital(ykiho=publicCode)이 있는 것만 일괄 upsert 합니다. 호출 측 트랜잭션 안에서 실행됩니다.
      * @param maxCount 최대 처리 건수 (null 이면 전부)
      */
-    private int saveOrUpdateEvaluations(List<HiraAsmItem> items, Integer maxCount) {
-        int count = 0;
+    private WriteCounts saveOrUpdateEvaluations(List<HiraAsmItem> items, Integer maxCount) {
         if (items == null || items.isEmpty()) {
-            return 0;
+            return WriteCounts.NONE;
         }
 
-        // 1) 이번 페이지의 ykiho(요양기호)들을 한 번에 수집
-        List<String> ykihoList = items.stream()
-                .map(i -> trim(i.getYkiho(), 500))
-                .filter(y -> y != null && !y.isBlank())
-                .distinct()
-                .toList();
-        if (ykihoList.isEmpty()) {
-            return 0;
+        // 1) 이번 묶음의 ykiho(요양기호)별 첫 item 만 사용
+        Map<String, HiraAsmItem> itemsByYkiho = new LinkedHashMap<>();
+        for (HiraAsmItem item : items) {
+            String ykiho = trim(item.getYkiho(), 500);
+            if (ykiho != null && !ykiho.isBlank()) {
+                itemsByYkiho.putIfAbsent(ykiho, item);
+            }
         }
-
-        // 2) ykiho(publicCode) 목록으로 병원들을 한 번에 조회
-        List<Hospital> hospitals = hospitalRepository.findAllByPublicCodeIn(ykihoList);
-        Map<String, Hospital> ykihoToHospital = hospitals.stream()
-                .filter(h -> h.getPublicCode() != null && !h.getPublicCode().isBlank())
-                .collect(Collectors.toMap(Hospital::getPublicCode, h -> h));
-
-        if (ykihoToHospital.isEmpty()) {
-            return 0;
+        if (itemsByYkiho.isEmpty()) {
+            return WriteCounts.NONE;
         }
 
-        // 3) 해당 병원들의 평가를 한 번에 조회
-        List<Long> hospitalIds = hospitals.stream()
-                .map(Hospital::getId)
-                .toList();
-        List<HospitalEvaluation> existingEvaluations = evaluationRepository.findByHospital_IdIn(hospitalIds);
-        Map<Long, HospitalEvaluation> idToEvaluation = existingEvaluations.stream()
-                .collect(Collectors.toMap(ev -> ev.getHospital().getId(), ev -> ev));
+        // 2) ykiho(publicCode) → 병원 ID, 이미 평가가 있는 병원 ID 를 각각 한 번에 조회
+        Map<String, Long> hospitalIds = hospitalBulkWriter.findIdsByPublicCodes(List.copyOf(itemsByYkiho.keySet()));
+        if (hospitalIds.isEmpty()) {
+            return WriteCounts.NONE;
+        }
+        Set<Long> withEvaluation = evaluationBulkWriter.findExistingHospitalIds(hospitalIds.values());
 
-        // 4) 각 item 에 대해 맵 조회로 저장/갱신 처리
-        for (HiraAsmItem item : items) {
-            if (maxCount != null && count >= maxCount) {
+        // 3) 매칭된 것만 한도까지 모아 한 번에 upsert
+        List<HospitalEvaluationBulkWriter.EvaluationRow> rows = new ArrayList<>();
+        List<Long> changedHospitalIds = new ArrayList<>();
+        int updated = 0;
+        for (Map.Entry<String, HiraAsmItem> entry : itemsByYkiho.entrySet()) {
+            if (maxCount != null && rows.size() >= maxCount) {
                 break;
             }
-            String ykiho = trim(item.getYkiho(), 500);
-            if (ykiho == null || ykiho.isBlank()) {
+            Long hospitalId = hospitalIds.get(entry.getKey());
+            if (hospitalId == null) {
                 continue;
             }
-            Hospital hospital = ykihoToHospital.get(ykiho);
-            if (hospital == null) {
-                continue;
+            rows.add(new HospitalEvaluationBulkWriter.EvaluationRow(hospitalId, entry.getValue()));
+            changedHospitalIds.add(hospitalId);
+            if (withEvaluation.contains(hospitalId)) {
+                updated++;
             }
-            HospitalEvaluation existing = idToEvaluation.get(hospital.getId());
-            if (existing != null) {
-                // 신규 생성(toEvaluation)과 동일하게 길이 제한을 맞추기 위해 trim 적용
-                existing.updateFromApi(
-                        trim(item.getYadmNm(), 200),
-                        trim(item.getClCd(), 10),
-                        trim(item.getClCdNm(), 50),
-                        trim(item.getAddr(), 500),
-                        item.getAsmGrd01(), item.getAsmGrd03(), item.getAsmGrd04(), item.getAsmGrd05(), item.getAsmGrd06(),
-                        item.getAsmGrd07(), item.getAsmGrd08(), item.getAsmGrd09(), item.getAsmGrd10(), item.getAsmGrd12(),
-                        item.getAsmGrd13(), item.getAsmGrd14(), item.getAsmGrd15(), item.getAsmGrd16(), item.getAsmGrd17(),
-                        item.getAsmGrd18(), item.getAsmGrd19(), item.getAsmGrd20(), item.getAsmGrd21(), item.getAsmGrd22(),
-                        item.getAsmGrd23(), item.getAsmGrd24()
-                );
-                evaluationRepository.save(existing);
-            } else {
-                HospitalEvaluation ev = toEvaluation(hospital, item);
-                evaluationRepository.save(ev);
-                idToEvaluation.put(hospital.getId(), ev);
-            }
-            count++;
         }
-        return count;
+        if (rows.isEmpty()) {
+            return WriteCounts.NONE;
+        }
+        evaluationBulkWriter.upsert(rows);
+        eventPublisher.publishEvent(new HospitalEnrichmentChangedEvent(
+                HospitalEnrichmentChangedEvent.Type.EVALUATION, changedHospitalIds));
+        return new WriteCounts(rows.size() - updated, updated);
     }
 
-    private static HospitalEvaluation toEvaluation(Hospital hospital, HiraAsmItem item) {
-        return HospitalEvaluation.builder()
-                .hospital(hospital)
-                .ykiho(trim(item.getYkiho(), 500))
-                .yadmNm(trim(item.getYadmNm(), 200))
-                .clCd(trim(item.getClCd(), 10))
-                .clCdNm(trim(item.getClCdNm(), 50))
-                .addr(trim(item.getAddr(), 500))
-                .asmGrd01(item.getAsmGrd01())
-                .asmGrd03(item.getAsmGrd03())
-                .asmGrd04(item.getAsmGrd04())
-                .asmGrd05(item.getAsmGrd05())
-                .asmGrd06(item.getAsmGrd06())
-                .asmGrd07(item.getAsmGrd07())
-                .asmGrd08(item.getAsmGrd08())
-                .asmGrd09(item.getAsmGrd09())
-                .asmGrd10(item.getAsmGrd10())
-                .asmGrd12(item.getAsmGrd12())
-                .asmGrd13(item.getAsmGrd13())
-                .asmGrd14(item.getAsmGrd14())
-                .asmGrd15(item.getAsmGrd15())
-                .asmGrd16(item.getAsmGrd16())
-                .asmGrd17(item.getAsmGrd17())
-                .asmGrd18(item.getAsmGrd18())
-                .asmGrd19(item.getAsmGrd19())
-                .asmGrd20(item.getAsmGrd20())
-                .asmGrd21(item.getAsmGrd21())
-                .asmGrd22(item.getAsmGrd22())
-                .asmGrd23(item.getAsmGrd23())
-                .asmGrd24(item.getAsmGrd24())
-                .build();
+    /** 한 번의 저장에서 신규/갱신된 평가 건수 */
+    private record WriteCounts(int saved, int updated) {
+
+        static final WriteCounts NONE = new WriteCounts(0, 0);
+
+        int total() {
+            return saved + updated;
+        }
     }
 
     private static String trim(String value, int maxLen) {
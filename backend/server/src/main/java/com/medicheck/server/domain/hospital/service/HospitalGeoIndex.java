@@ -0,0 +1,558 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.HospitalClusterResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalTileMarker;
+import com.medicheck.server.domain.hospital.repository.HospitalGeoPoint;
+import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import com.medicheck.server.domain.hospital.util.GeoBoundingBox;
+import com.medicheck.server.domain.hospital.util.GeoDistance;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 병원 좌표 인메모리 공간 인덱스 (근처 병원 조회용).
+ * 위·경도 0.01도 격자 셀 키로 정렬한 원시 배열(packed arrays)을 두고, 반경을 감싸는 사각형의
+ * 셀 행(row)마다 이진 탐색으로 후보 구간만 훑어 거리 계산 → 반경/최근접 k개를 MySQL 없이 구합니다.
+ * 같은 방식으로 화면 사각형을 훑어 줌 레벨별 격자 클러스터({@link #clusters})도 만듭니다.
+ *
+ * <ul>
+ *   <li>기동 완료 시 전체 적재, {@link HospitalsPersistedEvent} 커밋 후 변경된 병원만 증분 반영</li>
+ *   <li>증분 반영은 대기 ID 집합에 모아 한 스레드가 묶어서 처리 (동기화 페이지가 몰려도 재구축은 그보다 적게),
+ *       바뀐 좌표만 셀 키로 정렬해 기존 배열과 선형 병합하고 전체 재정렬은 하지 않음</li>
+ *   <li>DB 조회는 락 밖에서 하고, 스냅샷 교체만 {@link ReentrantLock} 으로 보호 (가상 스레드 고정 없음)</li>
+ *   <li>스냅샷은 불변이며 volatile 참조 교체로 갱신하므로 조회는 락 없이 동작</li>
+ *   <li>스냅샷 교체 후 {@link HospitalGeoIndexChangedEvent} 발행 (지도 타일 캐시 무효화)</li>
+ *   <li>메트릭: hospital.geo.index.size, hospital.geo.index.rebuild(type=full|incremental)</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class HospitalGeoIndex {
+
+    /** 격자 셀 크기(도). 위도 방향 약 1.1km */
+    private static final double CELL_DEGREES = 0.01;
+    private static final int CELLS_Y = (int) Math.ceil(180.0 / CELL_DEGREES) + 1;
+    private static final int CELLS_X = (int) Math.ceil(360.0 / CELL_DEGREES) + 1;
+    /** 정렬 시 셀 키 하위에 원래 인덱스를 붙이기 위한 비트 수 (최대 약 3,300만 건) */
+    private static final int INDEX_BITS = 25;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    /** 결과 순서: 거리 오름차순, 같은 거리면 ID 오름차순 (keyset 페이지 기준) */
+    private static final Comparator<Neighbor> NEIGHBOR_ORDER =
+            Comparator.comparingDouble(Neighbor::distanceMeters).thenComparingLong(Neighbor::hospitalId);
+
+    private final HospitalRepository hospitalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer fullRebuildTimer;
+    private final Timer incrementalRebuildTimer;
+    /** 스냅샷 교체 보호 (DB 조회는 이 락 밖에서) */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /** 아직 반영하지 않은 변경 병원 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    /** 대기 ID 를 처리 중인 스레드가 있는지 (한 번에 한 스레드만 DB 를 읽고 병합) */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+    /** 전체 재구축이 DB 를 읽는 동안 증분 반영된 ID (재구축 결과에 다시 반영). 재구축 중이 아니면 null, writeLock 으로 보호 */
+    private Set<Long> appliedDuringRebuild;
+
+    public HospitalGeoIndex(HospitalRepository hospitalRepository, MeterRegistry meterRegistry,
+                            ApplicationEventPublisher eventPublisher) {
+        this.hospitalRepository = hospitalRepository;
+        this.eventPublisher = eventPublisher;
+        this.fullRebuildTimer = Timer.builder("hospital.geo.index.rebuild")
+                .description("병원 공간 인덱스 재구축 시간")
+                .tag("type", "full")
+                .register(meterRegistry);
+        this.incrementalRebuildTimer = Timer.builder("hospital.geo.index.rebuild")
+                .description("병원 공간 인덱스 재구축 시간")
+                .tag("type", "incremental")
+                .register(meterRegistry);
+        Gauge.builder("hospital.geo.index.size", this, HospitalGeoIndex::size)
+                .description("공간 인덱스에 적재된 병원 수")
+                .register(meterRegistry);
+    }
+
+    /** 근처 병원 조회 결과 한 건 (병원 ID, 거리 m). */
+    public record Neighbor(long hospitalId, double distanceMeters) {
+    }
+
+    /** 사각형 안 병원 1건을 받는 콜백 ({@link #forEachIn}) */
+    @FunctionalInterface
+    public interface PointVisitor {
+        void visit(long hospitalId, double latitude, double longitude, String department);
+    }
+
+    /** 인덱스가 적재되어 조회에 사용할 수 있는지 여부. false면 호출 측에서 DB 쿼리로 대체합니다. */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public int size() {
+        Snapshot s = snapshot;
+        return s == null ? 0 : s.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 적재 실패 시에도 기동은 계속하고, 근처 조회는 DB 경로로 동작한다.
+            log.warn("병원 공간 인덱스 초기 적재 실패 — DB 쿼리로 대체합니다.", e);
+        }
+    }
+
+    /** DB의 전체 병원 좌표로 인덱스를 다시 만듭니다. */
+    public void rebuild() {
+        long start = System.nanoTime();
+        writeLock.lock();
+        try {
+            appliedDuringRebuild = new HashSet<>();
+        } finally {
+            writeLock.unlock();
+        }
+        Snapshot built = null;
+        try {
+            List<HospitalGeoPoint> points = hospitalRepository.findAllGeoPoints();
+            Builder builder = new Builder(points.size());
+            for (HospitalGeoPoint p : points) {
+                builder.add(p);
+            }
+            built = builder.build();
+        } finally {
+            // 교체와 재반영 대상 수집을 한 번에 해야 그 사이 이전 스냅샷에 병합된 변경을 잃지 않는다
+            writeLock.lock();
+            try {
+                if (built != null) {
+                    snapshot = built;
+                }
+                // 읽는 동안 이전 스냅샷에 반영된 변경은 새 스냅샷에 없을 수 있으므로 다시 읽게 한다
+                pending.addAll(appliedDuringRebuild);
+                appliedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        fullRebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("병원 공간 인덱스 적재 완료: size={}, elapsedMs={}", built.size(), elapsed / 1_000_000);
+        eventPublisher.publishEvent(new HospitalGeoIndexChangedEvent(true, List.of()));
+        drainPending();
+    }
+
+    /**
+     * 동기화 커밋 이후 변경된 병원만 다시 읽어 반영합니다.
+     * 인덱스가 아직 적재되지 않았다면 무시합니다(기동 시 전체 적재에서 포함됨).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalsPersisted(HospitalsPersistedEvent event) {
+        if (event.hospitalIds() == null || event.hospitalIds().isEmpty() || snapshot == null) {
+            return;
+        }
+        try {
+            apply(event.hospitalIds());
+        } catch (RuntimeException e) {
+            log.warn("병원 공간 인덱스 증분 반영 실패: changed={}", event.hospitalIds().size(), e);
+        }
+    }
+
+    /**
+     * 주어진 병원들의 좌표를 DB에서 다시 읽어 기존 스냅샷에 병합합니다 (좌표가 없어졌으면 제거).
+     * 다른 스레드가 이미 반영 중이면 대기 집합에 넣고 바로 반환하며, 그 스레드가 이어서 함께 반영합니다.
+     */
+    public void apply(Collection<Long> hospitalIds) {
+        pending.addAll(hospitalIds);
+        drainPending();
+    }
+
+    /** 대기 ID 가 없어질 때까지 묶음 단위로 반영합니다. 처리 중인 스레드가 있으면 맡기고 반환합니다. */
+    private void drainPending() {
+        while (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+            try {
+                while (!pending.isEmpty() && snapshot != null) {
+                    Set<Long> batch = new HashSet<>(pending);
+                    pending.removeAll(batch);
+                    applyBatch(batch);
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 플래그를 내리기 직전에 들어온 ID 는 여기서 다시 확인해 처리한다
+            if (snapshot == null) {
+                return;
+            }
+        }
+    }
+
+    private void applyBatch(Set<Long> changed) {
+        long start = System.nanoTime();
+        List<HospitalGeoPoint> reloaded;
+        try {
+            reloaded = hospitalRepository.findGeoPointsByIdIn(changed);
+        } catch (RuntimeException e) {
+            pending.addAll(changed);
+            throw e;
+        }
+        Builder builder = new Builder(reloaded.size());
+        for (HospitalGeoPoint p : reloaded) {
+            builder.add(p);
+        }
+        Snapshot added = builder.build();
+
+        List<HospitalGeoIndexChangedEvent.Location> touched = new ArrayList<>();
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            snapshot = current.merge(changed, added, touched);
+            if (appliedDuringRebuild != null) {
+                appliedDuringRebuild.addAll(changed);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        incrementalRebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        for (int i = 0; i < added.size(); i++) {
+            touched.add(new HospitalGeoIndexChangedEvent.Location(added.latitudes[i], added.longitudes[i]));
+        }
+        if (!touched.isEmpty()) {
+            eventPublisher.publishEvent(new HospitalGeoIndexChangedEvent(false, touched));
+        }
+    }
+
+    /**
+     * 중심 좌표에서 반경(m) 안의 병원을 거리 오름차순으로 최대 limit 개 반환합니다.
+     *
+     * @throws IllegalStateException 인덱스가 아직 적재되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public List<Neighbor> nearest(double latitude, double longitude, double radiusMeters, int limit) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            throw new IllegalStateException("hospital geo index is not loaded");
+        }
+        if (limit <= 0) {
+            return List.of();
+        }
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusMeters);
+        int cyMin = cellY(box.minLatitude());
+        int cyMax = cellY(box.maxLatitude());
+        int cxMin = cellX(box.minLongitude());
+        int cxMax = cellX(box.maxLongitude());
+
+        // 거리 내림차순 힙: 가장 먼 후보를 바로 버릴 수 있도록 상위 limit 개만 유지
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(
+                Math.min(limit, 1024),
+                Comparator.comparingDouble(Neighbor::distanceMeters).reversed()
+        );
+        for (int cy = cyMin; cy <= cyMax; cy++) {
+            long to = cellKey(cy, cxMax);
+            for (int i = s.lowerBound(cellKey(cy, cxMin)); i < s.size() && s.cellKeys[i] <= to; i++) {
+                double lat = s.latitudes[i];
+                double lng = s.longitudes[i];
+                if (!box.contains(lat, lng)) {
+                    continue;
+                }
+                double d = GeoDistance.haversineMeters(latitude, longitude, lat, lng);
+                if (d > radiusMeters) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.add(new Neighbor(s.ids[i], d));
+                } else if (d < heap.peek().distanceMeters()) {
+                    heap.poll();
+                    heap.add(new Neighbor(s.ids[i], d));
+                }
+            }
+        }
+        List<Neighbor> result = new ArrayList<>(heap);
+        result.sort(NEIGHBOR_ORDER);
+        return result;
+    }
+
+    /**
+     * 사각형(지도 화면) 안의 병원을 기준 좌표에서의 (거리, ID) 오름차순으로 최대 limit 개 반환합니다.
+     * after 가 주어지면 그보다 뒤(더 멀거나, 같은 거리에서 ID가 큰) 병원만 반환하는 keyset 페이지입니다.
+     *
+     * @throws IllegalStateException 인덱스가 아직 적재되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public List<Neighbor> withinBounds(GeoBoundingBox box, double refLatitude, double refLongitude,
+                                       Neighbor after, int limit) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            throw new IllegalStateException("hospital geo index is not loaded");
+        }
+        if (limit <= 0) {
+            return List.of();
+        }
+        int cyMin = cellY(box.minLatitude());
+        int cyMax = cellY(box.maxLatitude());
+        int cxMin = cellX(box.minLongitude());
+        int cxMax = cellX(box.maxLongitude());
+
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(Math.min(limit, 1024), NEIGHBOR_ORDER.reversed());
+        for (int cy = cyMin; cy <= cyMax; cy++) {
+            long to = cellKey(cy, cxMax);
+            for (int i = s.lowerBound(cellKey(cy, cxMin)); i < s.size() && s.cellKeys[i] <= to; i++) {
+                double lat = s.latitudes[i];
+                double lng = s.longitudes[i];
+                if (!box.contains(lat, lng)) {
+                    continue;
+                }
+                Neighbor candidate = new Neighbor(s.ids[i],
+                        GeoDistance.haversineMeters(refLatitude, refLongitude, lat, lng));
+                if (after != null && NEIGHBOR_ORDER.compare(candidate, after) <= 0) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.add(candidate);
+                } else if (NEIGHBOR_ORDER.compare(candidate, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(candidate);
+                }
+            }
+        }
+        List<Neighbor> result = new ArrayList<>(heap);
+        result.sort(NEIGHBOR_ORDER);
+        return result;
+    }
+
+    /**
+     * 사각형(지도 화면) 안의 병원을 cellDegrees 격자 셀로 묶어 셀별 건수·중심·진료과 건수를 반환합니다.
+     *
+     * @throws IllegalStateException 인덱스가 아직 적재되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public List<HospitalClusterResponse> clusters(GeoBoundingBox box, double cellDegrees) {
+        HospitalClusterAccumulator accumulator = new HospitalClusterAccumulator(cellDegrees);
+        forEachIn(box, accumulator::add);
+        return accumulator.toResponses();
+    }
+
+    /**
+     * 사각형 안의 병원 좌표·진료과를 ID 오름차순으로 반환합니다 (지도 타일 마커용).
+     *
+     * @throws IllegalStateException 인덱스가 아직 적재되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public List<HospitalTileMarker> markers(GeoBoundingBox box) {
+        List<HospitalTileMarker> result = new ArrayList<>();
+        forEachIn(box, (id, lat, lng, department) -> result.add(new HospitalTileMarker(id, lat, lng, department)));
+        result.sort(Comparator.comparingLong(HospitalTileMarker::id));
+        return result;
+    }
+
+    /**
+     * 사각형(경계 포함) 안의 병원마다 visitor 를 호출합니다. 순서는 정해져 있지 않습니다.
+     *
+     * @throws IllegalStateException 인덱스가 아직 적재되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public void forEachIn(GeoBoundingBox box, PointVisitor visitor) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            throw new IllegalStateException("hospital geo index is not loaded");
+        }
+        int cyMin = cellY(box.minLatitude());
+        int cyMax = cellY(box.maxLatitude());
+        int cxMin = cellX(box.minLongitude());
+        int cxMax = cellX(box.maxLongitude());
+
+        for (int cy = cyMin; cy <= cyMax; cy++) {
+            long to = cellKey(cy, cxMax);
+            for (int i = s.lowerBound(cellKey(cy, cxMin)); i < s.size() && s.cellKeys[i] <= to; i++) {
+                double lat = s.latitudes[i];
+                double lng = s.longitudes[i];
+                if (box.contains(lat, lng)) {
+                    visitor.visit(s.ids[i], lat, lng, s.departments[i]);
+                }
+            }
+        }
+    }
+
+    private static int cellY(double latitude) {
+        int cy = (int) Math.floor((latitude + 90.0) / CELL_DEGREES);
+        return Math.min(Math.max(cy, 0), CELLS_Y - 1);
+    }
+
+    private static int cellX(double longitude) {
+        int cx = (int) Math.floor((longitude + 180.0) / CELL_DEGREES);
+        return Math.min(Math.max(cx, 0), CELLS_X - 1);
+    }
+
+    private static long cellKey(int cy, int cx) {
+        return (long) cy * CELLS_X + cx;
+    }
+
+    /** 셀 키 오름차순으로 정렬된 불변 스냅샷. */
+    private static final class Snapshot {
+        private final long[] cellKeys;
+        private final long[] ids;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        /** 진료과 (같은 문자열은 한 인스턴스를 공유) */
+        private final String[] departments;
+
+        private Snapshot(long[] cellKeys, long[] ids, double[] latitudes, double[] longitudes, String[] departments) {
+            this.cellKeys = cellKeys;
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.departments = departments;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * removed 에 속한 항목을 빼고 added(셀 키 정렬됨)를 끼워 넣은 새 스냅샷. 두 배열이 이미 정렬되어 있으므로 선형 병합합니다.
+         * 빠진 항목의 이전 좌표는 touched 에 담습니다.
+         */
+        Snapshot merge(Set<Long> removed, Snapshot added, List<HospitalGeoIndexChangedEvent.Location> touched) {
+            int capacity = added.size();
+            for (long id : ids) {
+                if (!removed.contains(id)) {
+                    capacity++;
+                }
+            }
+            long[] mergedKeys = new long[capacity];
+            long[] mergedIds = new long[capacity];
+            double[] mergedLats = new double[capacity];
+            double[] mergedLngs = new double[capacity];
+            String[] mergedDepartments = new String[capacity];
+            int n = 0;
+            int j = 0;
+            for (int i = 0; i < size(); i++) {
+                if (removed.contains(ids[i])) {
+                    touched.add(new HospitalGeoIndexChangedEvent.Location(latitudes[i], longitudes[i]));
+                    continue;
+                }
+                for (; j < added.size() && added.cellKeys[j] < cellKeys[i]; j++, n++) {
+                    copy(added, j, mergedKeys, mergedIds, mergedLats, mergedLngs, mergedDepartments, n);
+                }
+                copy(this, i, mergedKeys, mergedIds, mergedLats, mergedLngs, mergedDepartments, n++);
+            }
+            for (; j < added.size(); j++, n++) {
+                copy(added, j, mergedKeys, mergedIds, mergedLats, mergedLngs, mergedDepartments, n);
+            }
+            return new Snapshot(mergedKeys, mergedIds, mergedLats, mergedLngs, mergedDepartments);
+        }
+
+        private static void copy(Snapshot from, int i, long[] keys, long[] ids, double[] lats, double[] lngs,
+                                 String[] departments, int to) {
+            keys[to] = from.cellKeys[i];
+            ids[to] = from.ids[i];
+            lats[to] = from.latitudes[i];
+            lngs[to] = from.longitudes[i];
+            departments[to] = from.departments[i];
+        }
+
+        /** key 이상인 첫 위치 */
+        int lowerBound(long key) {
+            int lo = 0;
+            int hi = cellKeys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cellKeys[mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    /** 좌표를 모은 뒤 셀 키 기준으로 한 번에 정렬해 스냅샷을 만듭니다. 같은 ID는 마지막 값이 남습니다. */
+    private static final class Builder {
+        private final Map<Long, Integer> positionById;
+        private long[] ids;
+        private double[] latitudes;
+        private double[] longitudes;
+        private String[] departments;
+        private int size;
+
+        Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            this.positionById = new HashMap<>(capacity * 4 / 3 + 1);
+            this.ids = new long[capacity];
+            this.latitudes = new double[capacity];
+            this.longitudes = new double[capacity];
+            this.departments = new String[capacity];
+        }
+
+        void add(HospitalGeoPoint p) {
+            if (p.getId() == null || p.getLatitude() == null || p.getLongitude() == null) {
+                return;
+            }
+            add(p.getId(), p.getLatitude().doubleValue(), p.getLongitude().doubleValue(), p.getDepartment());
+        }
+
+        void add(long id, double latitude, double longitude, String department) {
+            Integer existing = positionById.get(id);
+            int pos = existing != null ? existing : size++;
+            if (pos >= ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                departments = Arrays.copyOf(departments, capacity);
+            }
+            ids[pos] = id;
+            latitudes[pos] = latitude;
+            longitudes[pos] = longitude;
+            departments[pos] = department;
+            positionById.put(id, pos);
+        }
+
+        Snapshot build() {
+            if (size > INDEX_MASK) {
+                throw new IllegalStateException("too many hospitals for geo index: " + size);
+            }
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                long key = cellKey(cellY(latitudes[i]), cellX(longitudes[i]));
+                order[i] = (key << INDEX_BITS) | i;
+            }
+            Arrays.sort(order);
+
+            long[] sortedKeys = new long[size];
+            long[] sortedIds = new long[size];
+            double[] sortedLats = new double[size];
+            double[] sortedLngs = new double[size];
+            String[] sortedDepartments = new String[size];
+            Map<String, String> canonical = new HashMap<>();
+            for (int j = 0; j < size; j++) {
+                int i = (int) (order[j] & INDEX_MASK);
+                sortedKeys[j] = order[j] >>> INDEX_BITS;
+                sortedIds[j] = ids[i];
+                sortedLats[j] = latitudes[i];
+                sortedLngs[j] = longitudes[i];
+                String department = departments[i];
+                sortedDepartments[j] = department == null ? null : canonical.computeIfAbsent(department, d -> d);
+            }
+            return new Snapshot(sortedKeys, sortedIds, sortedLats, sortedLngs, sortedDepartments);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.medicheck.server.domain.hospital.service;
+
+import java.util.List;
+
+/**
+ * {@link HospitalGeoIndex} 스냅샷이 바뀌었음을 알리는 이벤트. 지도 타일 캐시가 영향받은 타일만 무효화하는 데 씁니다.
+ *
+ * @param fullRebuild true 면 전체 재적재 (touched 는 비어 있고, 모든 타일이 무효)
+ * @param touched     증분 반영에서 바뀐 병원의 이전·새 좌표
+ */
+public record HospitalGeoIndexChangedEvent(boolean fullRebuild, List<Location> touched) {
+
+    public record Location(double latitude, double longitude) {
+    }
+}
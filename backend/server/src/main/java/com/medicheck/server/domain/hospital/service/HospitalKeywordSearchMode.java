@@ -0,0 +1,28 @@
+package com.medicheck.server.domain.hospital.service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 병원 목록 키워드 검색 방식. 기본은 LIKE 이며 FULLTEXT 는 요청할 때만 사용합니다.
+ */
+public enum HospitalKeywordSearchMode {
+
+    /** FULLTEXT(ngram) 인덱스 검색, 관련도 순 정렬(요청한 sort 무시). 2자 미만 토큰이 있으면 LIKE 로 대체합니다. */
+    FULLTEXT,
+
+    /** 이름·주소·진료과 LIKE '%keyword%' (기본, 요청한 sort 로 정렬) */
+    LIKE;
+
+    /** 요청 파라미터 값(대소문자 무시)을 검색 방식으로 바꿉니다. 알 수 없는 값이면 비어 있습니다. */
+    public static Optional<HospitalKeywordSearchMode> from(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * 병원 목록(GET /api/hospitals) 전체 건수 캐시.
+ * 페이지를 넘길 때마다 같은 LIKE/FULLTEXT 조건으로 COUNT 를 다시 하지 않도록 정규화한 (검색 방식, 키워드, 진료과)별 건수를 짧게 보관합니다.
+ *
+ * <ul>
+ *   <li>무효화: {@link HospitalsPersistedEvent}(병원 동기화 커밋) 시 전체. 건수는 hospitals 행에만 의존합니다.</li>
+ *   <li>크기 상한: hospital.count-cache.maximum-size, TTL: hospital.count-cache.ttl</li>
+ *   <li>메트릭: cache.gets/puts/evictions{cache=hospital.list-count}</li>
+ * </ul>
+ */
+@Component
+public class HospitalListCountCache {
+
+    static final String CACHE_NAME = "hospital.list-count";
+
+    private final Cache<Key, Long> cache;
+
+    public HospitalListCountCache(
+            MeterRegistry meterRegistry,
+            @Value("${hospital.count-cache.maximum-size:5000}") long maximumSize,
+            @Value("${hospital.count-cache.ttl:1m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /** 캐시에 있으면 반환하고, 없으면 counter 로 세어 저장합니다. */
+    public long get(Key key, LongSupplier counter) {
+        return cache.get(key, k -> counter.getAsLong());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalsPersisted(HospitalsPersistedEvent event) {
+        invalidateAll();
+    }
+
+    long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 건수 캐시 키. 키워드는 앞뒤 공백 제거·연속 공백 하나로·소문자, 진료과는 앞뒤 공백 제거·소문자로 정규화하며 없으면 빈 문자열입니다.
+     * 검색 방식은 실제로 센 경로(FULLTEXT 또는 LIKE)이며, 두 경로의 건수는 다를 수 있습니다.
+     */
+    public record Key(HospitalKeywordSearchMode searchMode, String keyword, String department) {
+
+        public static Key of(HospitalKeywordSearchMode searchMode, String keyword, String department) {
+            return new Key(searchMode,
+                    keyword == null ? "" : keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT),
+                    department == null ? "" : department.trim().toLowerCase(Locale.ROOT));
+        }
+
+        public boolean hasFilters() {
+            return !keyword.isEmpty() || !department.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.medicheck.server.domain.hospital.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 병원 목록 keyset 페이지 커서: 정렬 + 직전 페이지 마지막 병원의 (정렬 키 값, ID).
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출합니다.
+ */
+public record HospitalListCursor(HospitalListOrder order, String key, long hospitalId) {
+
+    public String encode() {
+        String raw = order.name() + ":" + hospitalId + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor {@link #encode()} 결과. 비어 있으면 null(첫 페이지).
+     * @param order  현재 요청의 정렬. 커서를 만든 정렬과 다르면 잘못된 커서입니다.
+     * @throws IllegalArgumentException 형식이 맞지 않거나 정렬이 다른 경우
+     */
+    public static HospitalListCursor decode(String cursor, HospitalListOrder order) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int first = raw.indexOf(':');
+            int second = raw.indexOf(':', first + 1);
+            HospitalListOrder encoded = HospitalListOrder.valueOf(raw.substring(0, first));
+            long id = Long.parseLong(raw.substring(first + 1, second));
+            String key = raw.substring(second + 1);
+            if (encoded != order || id <= 0) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+            order.validateKey(key);
+            return new HospitalListCursor(order, key, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+    }
+}
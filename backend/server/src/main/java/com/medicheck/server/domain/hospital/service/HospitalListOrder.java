@@ -0,0 +1,73 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.entity.Hospital;
+import com.medicheck.server.domain.hospital.repository.HospitalSpecification;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 병원 목록 keyset(after 커서) 페이지가 지원하는 정렬. 같은 값이면 ID 가 같은 방향으로 타이브레이크합니다.
+ * 각 정렬은 V7 복합 인덱스 (name, id) / (created_at, id) 를 따라 읽습니다.
+ */
+public enum HospitalListOrder {
+    NAME_ASC("name", Sort.Direction.ASC),
+    NAME_DESC("name", Sort.Direction.DESC),
+    CREATED_AT_ASC("createdAt", Sort.Direction.ASC),
+    CREATED_AT_DESC("createdAt", Sort.Direction.DESC);
+
+    private final String property;
+    private final Sort.Direction direction;
+
+    HospitalListOrder(String property, Sort.Direction direction) {
+        this.property = property;
+        this.direction = direction;
+    }
+
+    /** Pageable 의 첫 정렬 조건(sort=name,asc 등)에 맞는 값. name·createdAt 이 아니면 비어 있음 */
+    public static Optional<HospitalListOrder> from(Sort sort) {
+        Sort.Order first = sort.stream().findFirst().orElse(null);
+        if (first == null) {
+            return Optional.empty();
+        }
+        for (HospitalListOrder order : values()) {
+            if (order.property.equals(first.getProperty()) && order.direction == first.getDirection()) {
+                return Optional.of(order);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** (정렬 키, ID) 정렬 */
+    public Sort sort() {
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+
+    /** 커서에 담을 정렬 키 값 */
+    String keyOf(Hospital hospital) {
+        return this == NAME_ASC || this == NAME_DESC
+                ? hospital.getName()
+                : hospital.getCreatedAt().toString();
+    }
+
+    /**
+     * 커서의 키 값을 정렬 속성 타입으로 바꿔 검증합니다.
+     *
+     * @throws RuntimeException 형식이 맞지 않는 경우 (createdAt 이 ISO 날짜시간이 아님)
+     */
+    void validateKey(String key) {
+        if (this == CREATED_AT_ASC || this == CREATED_AT_DESC) {
+            LocalDateTime.parse(key);
+        }
+    }
+
+    /** 커서 (key, id) 다음 행만 남기는 조건 */
+    Specification<Hospital> after(HospitalListCursor cursor) {
+        boolean descending = direction == Sort.Direction.DESC;
+        return this == NAME_ASC || this == NAME_DESC
+                ? HospitalSpecification.after(property, cursor.key(), cursor.hospitalId(), descending)
+                : HospitalSpecification.after(property, LocalDateTime.parse(cursor.key()), cursor.hospitalId(), descending);
+    }
+}
@@ -0,0 +1,623 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.repository.HospitalReadRow;
+import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import com.medicheck.server.domain.hospital.util.GeoDistance;
+import com.medicheck.server.domain.hospital.util.SymptomKeywordTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.LatLonPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 병원 통합 검색용 내장 Lucene 인덱스 (hospital.search.lucene.enabled=true 일 때만 생성).
+ * 병원 이름·주소·진료과, Top5 질병명을 Nori(한국어 형태소) 분석으로 색인하고, 평가 등급·시도·좌표를 필터/정렬/패싯용으로 둡니다.
+ * 키워드는 형태소 일치 + 오타 허용(편집 거리 1) + 마지막 토큰 접두어로 찾고, 좌표가 있으면 반경 필터·거리 정렬을 합니다.
+ *
+ * <ul>
+ *   <li>저장 위치: hospital.search.lucene.path (비우면 메모리, 지정하면 해당 디렉터리를 mmap)</li>
+ *   <li>기동 완료 시 전체 재색인, {@link HospitalsPersistedEvent}·평가/Top5 {@link HospitalEnrichmentChangedEvent} 커밋 후
+ *       해당 병원 문서만 교체·삭제</li>
+ *   <li>증분 반영은 커밋(fsync) 없이 NRT 리더만 다시 열어 보이게 합니다. 디스크 커밋은 전체 재색인 끝과 종료 시에만 하며,
+ *       기동 시 전체 재색인하므로 커밋되지 않은 증분이 비정상 종료로 사라져도 다시 채워집니다.</li>
+ *   <li>메트릭: hospital.search.index.size, hospital.search.index.rebuild(type=full|incremental)</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(prefix = "hospital.search.lucene", name = "enabled", havingValue = "true")
+@Slf4j
+public class HospitalLuceneIndex {
+
+    static final String F_ID = "id";
+    /** 문서 교체·삭제용 ID 키 (정확 일치) */
+    static final String F_ID_KEY = "id_key";
+    static final String F_NAME = "name";
+    static final String F_ADDRESS = "address";
+    static final String F_DEPARTMENT = "department";
+    static final String F_DISEASE = "disease";
+    static final String F_LOCATION = "location";
+    static final String F_LATITUDE = "latitude";
+    static final String F_LONGITUDE = "longitude";
+    /** 진료과 원문 (필터용 정확 일치) */
+    static final String F_DEPARTMENT_EXACT = "department_exact";
+    /** 주소 첫 어절 (예: 서울특별시) */
+    static final String F_SIDO = "sido";
+    /** 평가 등급 "asmGrd01=1" 형식 (필터용) */
+    static final String F_GRADE = "grade";
+
+    /** 패싯 차원 */
+    public static final String FACET_DEPARTMENT = "department";
+    public static final String FACET_SIDO = "sido";
+    /** 패싯 차원별 반환할 최대 값 수 */
+    private static final int FACET_TOP_N = 30;
+    /** 전체 재색인 시 한 번에 읽는 병원 수 */
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    /** 오타 허용 검색을 적용할 최소 토큰 길이 (짧은 토큰은 편집 거리 1이면 다른 단어가 되기 쉬움) */
+    private static final int FUZZY_MIN_LENGTH = 3;
+
+    /** 평가 등급 필드 (HospitalEvaluationSummary 와 같은 순서: asm_grd_01~24, 02·11 제외) */
+    private static final List<Map.Entry<String, Function<HospitalReadRow, String>>> GRADES = List.of(
+            Map.entry("asmGrd01", HospitalReadRow::getAsmGrd01),
+            Map.entry("asmGrd03", HospitalReadRow::getAsmGrd03),
+            Map.entry("asmGrd04", HospitalReadRow::getAsmGrd04),
+            Map.entry("asmGrd05", HospitalReadRow::getAsmGrd05),
+            Map.entry("asmGrd06", HospitalReadRow::getAsmGrd06),
+            Map.entry("asmGrd07", HospitalReadRow::getAsmGrd07),
+            Map.entry("asmGrd08", HospitalReadRow::getAsmGrd08),
+            Map.entry("asmGrd09", HospitalReadRow::getAsmGrd09),
+            Map.entry("asmGrd10", HospitalReadRow::getAsmGrd10),
+            Map.entry("asmGrd12", HospitalReadRow::getAsmGrd12),
+            Map.entry("asmGrd13", HospitalReadRow::getAsmGrd13),
+            Map.entry("asmGrd14", HospitalReadRow::getAsmGrd14),
+            Map.entry("asmGrd15", HospitalReadRow::getAsmGrd15),
+            Map.entry("asmGrd16", HospitalReadRow::getAsmGrd16),
+            Map.entry("asmGrd17", HospitalReadRow::getAsmGrd17),
+            Map.entry("asmGrd18", HospitalReadRow::getAsmGrd18),
+            Map.entry("asmGrd19", HospitalReadRow::getAsmGrd19),
+            Map.entry("asmGrd20", HospitalReadRow::getAsmGrd20),
+            Map.entry("asmGrd21", HospitalReadRow::getAsmGrd21),
+            Map.entry("asmGrd22", HospitalReadRow::getAsmGrd22),
+            Map.entry("asmGrd23", HospitalReadRow::getAsmGrd23),
+            Map.entry("asmGrd24", HospitalReadRow::getAsmGrd24)
+    );
+
+    private final HospitalRepository hospitalRepository;
+    private final Analyzer analyzer;
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Timer fullRebuildTimer;
+    private final Timer incrementalRebuildTimer;
+    /** writer 변경과 재색인 상태 전환을 직렬화 (DB 조회는 잠금 밖에서) */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /** 반영 대기 중인 병원 ID (여러 이벤트를 한 번에 모아 반영) */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    /** 대기 ID 를 반영 중인 스레드가 있는지 */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /** 전체 재색인이 DB 를 읽는 동안 증분 반영된 ID (재색인 뒤 다시 반영). 재색인 중이 아니면 null, writeLock 으로 보호 */
+    private Set<Long> appliedDuringRebuild;
+    private volatile boolean ready;
+    /** 패싯 집계용 상태 (리더가 바뀔 때만 다시 만듦) */
+    private SortedSetDocValuesReaderState facetState;
+
+    public HospitalLuceneIndex(
+            HospitalRepository hospitalRepository,
+            MeterRegistry meterRegistry,
+            @Value("${hospital.search.lucene.path:}") String path
+    ) {
+        this.hospitalRepository = hospitalRepository;
+        Analyzer korean = new KoreanAnalyzer();
+        this.analyzer = new PerFieldAnalyzerWrapper(new KeywordAnalyzer(), Map.of(
+                F_NAME, korean,
+                F_ADDRESS, korean,
+                F_DEPARTMENT, korean,
+                F_DISEASE, korean));
+        try {
+            this.directory = StringUtils.hasText(path) ? FSDirectory.open(Path.of(path)) : new ByteBuffersDirectory();
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open hospital search index: " + path, e);
+        }
+        this.fullRebuildTimer = Timer.builder("hospital.search.index.rebuild")
+                .description("병원 검색 인덱스 재색인 시간")
+                .tag("type", "full")
+                .register(meterRegistry);
+        this.incrementalRebuildTimer = Timer.builder("hospital.search.index.rebuild")
+                .description("병원 검색 인덱스 재색인 시간")
+                .tag("type", "incremental")
+                .register(meterRegistry);
+        Gauge.builder("hospital.search.index.size", this, HospitalLuceneIndex::size)
+                .description("검색 인덱스에 색인된 병원 수")
+                .register(meterRegistry);
+    }
+
+    /** 검색 결과 한 건: 병원 ID와 기준 좌표에서의 거리(좌표 조건이 없거나 병원 좌표가 없으면 null). */
+    public record Hit(long hospitalId, Double distanceMeters) {
+    }
+
+    /**
+     * 검색 결과: 요청 페이지의 병원, 전체 건수, 패싯(차원 → 값 → 건수, 건수 내림차순).
+     */
+    public record Hits(List<Hit> hits, long totalCount, Map<String, Map<String, Long>> facets) {
+    }
+
+    /** 전체 색인이 끝나 조회에 사용할 수 있는지 여부 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("병원 검색 인덱스 초기 색인 실패 — /api/hospitals/search 는 503을 반환합니다.", e);
+        }
+    }
+
+    /**
+     * DB의 전체 병원을 읽기 모델 쿼리로 묶음 단위로 읽어 인덱스를 다시 만듭니다.
+     * 묶음마다 잠금을 잡고 쓰므로 그 사이 증분 반영이 끼어들 수 있어, 중복 문서가 생기지 않게 ID 로 교체합니다.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        writeLock.lock();
+        try {
+            appliedDuringRebuild = new HashSet<>();
+            writer.deleteAll();
+        } catch (IOException e) {
+            appliedDuringRebuild = null;
+            throw new UncheckedIOException("failed to rebuild hospital search index", e);
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            long afterId = 0;
+            while (true) {
+                List<Long> ids = hospitalRepository.findIdsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                List<HospitalReadRow> rows = hospitalRepository.findReadRowsByIdIn(ids);
+                writeLock.lock();
+                try {
+                    for (HospitalReadRow row : rows) {
+                        writer.updateDocument(idTerm(row.getId()), toDocument(row));
+                    }
+                } finally {
+                    writeLock.unlock();
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to rebuild hospital search index", e);
+        } finally {
+            writeLock.lock();
+            try {
+                // 재색인이 읽은 행보다 먼저 읽힌 증분이 뒤에 쓰였을 수 있으므로 다시 읽게 한다
+                pending.addAll(appliedDuringRebuild);
+                appliedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        ready = true;
+        long elapsed = System.nanoTime() - start;
+        fullRebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("병원 검색 인덱스 색인 완료: size={}, elapsedMs={}", size(), elapsed / 1_000_000);
+        drainPending();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalsPersisted(HospitalsPersistedEvent event) {
+        applySafely(event.hospitalIds());
+    }
+
+    /** 리뷰는 색인하지 않으므로 평가정보·Top5 변경만 반영합니다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrichmentChanged(HospitalEnrichmentChangedEvent event) {
+        if (event.type() == HospitalEnrichmentChangedEvent.Type.REVIEW) {
+            return;
+        }
+        applySafely(event.hospitalIds());
+    }
+
+    private void applySafely(Collection<Long> hospitalIds) {
+        if (hospitalIds == null || hospitalIds.isEmpty()) {
+            return;
+        }
+        try {
+            apply(hospitalIds);
+        } catch (RuntimeException e) {
+            log.warn("병원 검색 인덱스 증분 반영 실패: changed={}", hospitalIds.size(), e);
+        }
+    }
+
+    /**
+     * 주어진 병원 문서를 DB에서 다시 읽어 교체하고, 없어진 병원은 삭제합니다.
+     * 다른 스레드가 이미 반영 중이면 대기 집합에 넣고 바로 반환하며, 그 스레드가 이어서 함께 반영합니다.
+     * 기동 시 전체 색인이 끝나기 전에는 대기 집합에만 넣고, 색인이 끝나면 이어서 반영합니다.
+     */
+    public void apply(Collection<Long> hospitalIds) {
+        pending.addAll(hospitalIds);
+        drainPending();
+    }
+
+    /** 대기 ID 가 없어질 때까지 묶음 단위로 반영한 뒤 검색 리더를 한 번 다시 엽니다. */
+    private void drainPending() {
+        while (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+            try {
+                boolean changed = false;
+                while (!pending.isEmpty() && ready) {
+                    Set<Long> batch = new HashSet<>(pending);
+                    pending.removeAll(batch);
+                    changed |= applyBatch(batch);
+                }
+                if (changed) {
+                    // 커밋 없이 writer 의 변경을 보는 NRT 리더로 교체 (fsync 없음)
+                    searcherManager.maybeRefreshBlocking();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to refresh hospital search index", e);
+            } finally {
+                draining.set(false);
+            }
+            // 플래그를 내리기 직전에 들어온 ID 는 여기서 다시 확인해 처리한다
+            if (!ready) {
+                return;
+            }
+        }
+    }
+
+    /** @return 검색 리더를 다시 열어야 하면 true (전체 재색인 중이면 재색인이 끝날 때 함께 열림) */
+    private boolean applyBatch(Set<Long> changed) {
+        long start = System.nanoTime();
+        List<HospitalReadRow> rows;
+        try {
+            rows = hospitalRepository.findReadRowsByIdIn(changed);
+        } catch (RuntimeException e) {
+            pending.addAll(changed);
+            throw e;
+        }
+        Set<Long> missing = new HashSet<>(changed);
+        boolean rebuilding;
+        writeLock.lock();
+        try {
+            for (HospitalReadRow row : rows) {
+                writer.updateDocument(idTerm(row.getId()), toDocument(row));
+                missing.remove(row.getId());
+            }
+            for (Long id : missing) {
+                writer.deleteDocuments(idTerm(id));
+            }
+            rebuilding = appliedDuringRebuild != null;
+            if (rebuilding) {
+                appliedDuringRebuild.addAll(changed);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to update hospital search index", e);
+        } finally {
+            writeLock.unlock();
+        }
+        incrementalRebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return !rebuilding;
+    }
+
+    /**
+     * 조건에 맞는 병원을 페이지 단위로 찾습니다.
+     * 정렬: 키워드·증상이 있으면 관련도 → (좌표가 있으면) 거리 → ID, 없으면 (좌표가 있으면) 거리 → ID.
+     *
+     * @throws IllegalStateException 인덱스가 아직 준비되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public Hits search(HospitalSearchCriteria criteria) {
+        if (!ready) {
+            throw new IllegalStateException("hospital search index is not loaded");
+        }
+        Query query = toQuery(criteria);
+        Sort sort = toSort(criteria);
+        int window = (criteria.page() + 1) * criteria.size();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopFieldDocs top = searcher.search(query, window, sort, false);
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>(criteria.size());
+                for (int i = criteria.page() * criteria.size(); i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    Document doc = storedFields.document(scoreDoc.doc);
+                    hits.add(new Hit(doc.getField(F_ID).numericValue().longValue(), distance(criteria, doc)));
+                }
+                return new Hits(hits, searcher.count(query), facets(searcher, query));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("hospital search failed", e);
+        }
+    }
+
+    /** 커밋되지 않은 증분은 writer 를 닫을 때 커밋됩니다. */
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    Query toQuery(HospitalSearchCriteria criteria) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean scored = false;
+
+        if (StringUtils.hasText(criteria.keyword())) {
+            List<String> keywordTokens = analyze(F_NAME, criteria.keyword());
+            for (int i = 0; i < keywordTokens.size(); i++) {
+                builder.add(keywordTokenQuery(keywordTokens.get(i), i == keywordTokens.size() - 1),
+                        BooleanClause.Occur.MUST);
+            }
+            if (keywordTokens.isEmpty()) {
+                // 조사 등 형태소 분석에서 모두 걸러진 입력은 이름 접두어로만 찾음
+                builder.add(new PrefixQuery(new Term(F_NAME, criteria.keyword().trim().toLowerCase(Locale.ROOT))),
+                        BooleanClause.Occur.MUST);
+            }
+            scored = true;
+        }
+        if (StringUtils.hasText(criteria.symptom())) {
+            // 증상 토큰은 하나라도 맞으면 포함(OR) — /search/symptom 과 같은 규칙
+            BooleanQuery.Builder symptom = new BooleanQuery.Builder();
+            for (String token : SymptomKeywordTokenizer.tokenize(criteria.symptom())) {
+                for (String term : analyze(F_DISEASE, token)) {
+                    symptom.add(new TermQuery(new Term(F_DISEASE, term)), BooleanClause.Occur.SHOULD);
+                }
+            }
+            builder.add(symptom.build(), BooleanClause.Occur.MUST);
+            scored = true;
+        }
+        if (StringUtils.hasText(criteria.department())) {
+            builder.add(new TermQuery(new Term(F_DEPARTMENT_EXACT, criteria.department().trim())), BooleanClause.Occur.FILTER);
+        }
+        if (StringUtils.hasText(criteria.sido())) {
+            builder.add(new TermQuery(new Term(F_SIDO, criteria.sido().trim())), BooleanClause.Occur.FILTER);
+        }
+        for (String grade : criteria.grades()) {
+            builder.add(new TermQuery(new Term(F_GRADE, grade.trim())), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.hasLocation() && criteria.radiusMeters() != null) {
+            builder.add(LatLonPoint.newDistanceQuery(F_LOCATION, criteria.latitude(), criteria.longitude(),
+                    criteria.radiusMeters()), BooleanClause.Occur.FILTER);
+        }
+        if (!scored) {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    /** 토큰 하나: 이름·진료과·주소·질병명 형태소 일치, 이름 오타 허용, 마지막 토큰이면 이름·주소 접두어 */
+    private static Query keywordTokenQuery(String token, boolean last) {
+        BooleanQuery.Builder any = new BooleanQuery.Builder();
+        any.add(new BoostQuery(new TermQuery(new Term(F_NAME, token)), 3f), BooleanClause.Occur.SHOULD);
+        any.add(new BoostQuery(new TermQuery(new Term(F_DEPARTMENT, token)), 2f), BooleanClause.Occur.SHOULD);
+        any.add(new TermQuery(new Term(F_ADDRESS, token)), BooleanClause.Occur.SHOULD);
+        any.add(new TermQuery(new Term(F_DISEASE, token)), BooleanClause.Occur.SHOULD);
+        if (token.codePointCount(0, token.length()) >= FUZZY_MIN_LENGTH) {
+            any.add(new BoostQuery(new FuzzyQuery(new Term(F_NAME, token), 1), 1.5f), BooleanClause.Occur.SHOULD);
+        }
+        if (last) {
+            any.add(new BoostQuery(new PrefixQuery(new Term(F_NAME, token)), 1.5f), BooleanClause.Occur.SHOULD);
+            any.add(new PrefixQuery(new Term(F_ADDRESS, token)), BooleanClause.Occur.SHOULD);
+        }
+        return any.build();
+    }
+
+    private static Sort toSort(HospitalSearchCriteria criteria) {
+        List<SortField> fields = new ArrayList<>(3);
+        if (StringUtils.hasText(criteria.keyword()) || StringUtils.hasText(criteria.symptom())) {
+            fields.add(SortField.FIELD_SCORE);
+        }
+        if (criteria.hasLocation()) {
+            fields.add(LatLonDocValuesField.newDistanceSort(F_LOCATION, criteria.latitude(), criteria.longitude()));
+        }
+        fields.add(new SortField(F_ID, SortField.Type.LONG));
+        return new Sort(fields.toArray(SortField[]::new));
+    }
+
+    private static Double distance(HospitalSearchCriteria criteria, Document doc) {
+        if (!criteria.hasLocation() || doc.getField(F_LATITUDE) == null) {
+            return null;
+        }
+        return GeoDistance.haversineMeters(criteria.latitude(), criteria.longitude(),
+                doc.getField(F_LATITUDE).numericValue().doubleValue(),
+                doc.getField(F_LONGITUDE).numericValue().doubleValue());
+    }
+
+    private Map<String, Map<String, Long>> facets(IndexSearcher searcher, Query query) throws IOException {
+        SortedSetDocValuesReaderState state = facetState(searcher.getIndexReader());
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        if (state == null) {
+            return result;
+        }
+        FacetsCollector collector = searcher.search(query, new FacetsCollectorManager());
+        SortedSetDocValuesFacetCounts counts = new SortedSetDocValuesFacetCounts(state, collector);
+        for (String dim : List.of(FACET_DEPARTMENT, FACET_SIDO)) {
+            Map<String, Long> values = new LinkedHashMap<>();
+            FacetResult facet = counts.getTopChildren(FACET_TOP_N, dim);
+            if (facet != null) {
+                for (LabelAndValue labelAndValue : facet.labelValues) {
+                    values.put(labelAndValue.label, labelAndValue.value.longValue());
+                }
+            }
+            result.put(dim, values);
+        }
+        return result;
+    }
+
+    /** 리더(색인 시점)별 패싯 상태. 색인된 패싯 값이 하나도 없으면 null */
+    private synchronized SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+        if (facetState == null || facetState.getReader() != reader) {
+            try {
+                facetState = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+            } catch (IllegalArgumentException e) {
+                // 빈 인덱스: 패싯 필드 자체가 없음
+                return null;
+            }
+        }
+        return facetState;
+    }
+
+    private List<String> analyze(String field, String text) {
+        List<String> terms = new ArrayList<>();
+        if (!StringUtils.hasText(text)) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Term idTerm(long hospitalId) {
+        return new Term(F_ID_KEY, Long.toString(hospitalId));
+    }
+
+    private Document toDocument(HospitalReadRow row) throws IOException {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID_KEY, Long.toString(row.getId()), Field.Store.NO));
+        doc.add(new StoredField(F_ID, row.getId()));
+        doc.add(new NumericDocValuesField(F_ID, row.getId()));
+        addText(doc, F_NAME, row.getName());
+        addText(doc, F_ADDRESS, row.getAddress());
+        addText(doc, F_DEPARTMENT, row.getDepartment());
+        for (String disease : new String[]{row.getDiseaseNm1(), row.getDiseaseNm2(), row.getDiseaseNm3(),
+                row.getDiseaseNm4(), row.getDiseaseNm5()}) {
+            addText(doc, F_DISEASE, disease);
+        }
+        if (StringUtils.hasText(row.getDepartment())) {
+            String department = row.getDepartment().trim();
+            doc.add(new StringField(F_DEPARTMENT_EXACT, department, Field.Store.NO));
+            doc.add(new SortedSetDocValuesFacetField(FACET_DEPARTMENT, department));
+        }
+        String sido = sido(row.getAddress());
+        if (sido != null) {
+            doc.add(new StringField(F_SIDO, sido, Field.Store.NO));
+            doc.add(new SortedSetDocValuesFacetField(FACET_SIDO, sido));
+        }
+        for (Map.Entry<String, Function<HospitalReadRow, String>> grade : GRADES) {
+            String value = grade.getValue().apply(row);
+            if (StringUtils.hasText(value)) {
+                doc.add(new StringField(F_GRADE, grade.getKey() + "=" + value.trim(), Field.Store.NO));
+            }
+        }
+        if (row.getLatitude() != null && row.getLongitude() != null) {
+            double lat = row.getLatitude().doubleValue();
+            double lng = row.getLongitude().doubleValue();
+            doc.add(new LatLonPoint(F_LOCATION, lat, lng));
+            doc.add(new LatLonDocValuesField(F_LOCATION, lat, lng));
+            doc.add(new StoredField(F_LATITUDE, lat));
+            doc.add(new StoredField(F_LONGITUDE, lng));
+        }
+        return facetsConfig.build(doc);
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (StringUtils.hasText(value)) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    /** 주소 첫 어절(시·도). 주소가 없으면 null */
+    static String sido(String address) {
+        if (!StringUtils.hasText(address)) {
+            return null;
+        }
+        String trimmed = address.trim();
+        int space = trimmed.indexOf(' ');
+        return space < 0 ? trimmed : trimmed.substring(0, space);
+    }
+}
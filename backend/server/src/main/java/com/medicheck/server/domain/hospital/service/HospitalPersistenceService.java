@@ -1,21 +1,17 @@
 package com.medicheck.server.domain.hospital.service;
 
 import com.medicheck.server.domain.hospital.client.dto.HiraHospItem;
-import com.medicheck.server.domain.hospital.entity.Hospital;
-import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import com.medicheck.server.domain.hospital.repository.HiraHospitalRow;
+import com.medicheck.server.domain.hospital.repository.HospitalBulkWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * HIRA 응답을 Hospital 엔티티로 저장하는 영속성 전담 서비스.
@@ -25,182 +21,73 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class HospitalPersistenceService {
 
-    private final HospitalRepository hospitalRepository;
+    private final HospitalBulkWriter hospitalBulkWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * HIRA 응답 item 리스트 중 아직 DB에 없는 병원만 골라 저장하고, 저장된 건수를 반환합니다.
-     * 한 번 호출이 하나의 트랜잭션으로 처리됩니다.
-     */
-    @Transactional
-    public int saveNewHospitals(List<HiraHospItem> items) {
-        if (items == null || items.isEmpty()) {
-            return 0;
-        }
-
-        // ykiho(요양기호)는 저장 시 trim(…, 500)을 적용하므로, 조회·중복 체크에도 동일한 정규화를 사용
-        List<String> ykihoList = items.stream()
-                .map(HiraHospItem::getYkiho)
-                .map(y -> trim(y, 500))
-                .filter(y -> y != null && !y.isBlank())
-                .distinct()
-                .toList();
-
-        Set<String> existingCodes = ykihoList.isEmpty()
-                ? Set.of()
-                : hospitalRepository.findAllByPublicCodeIn(ykihoList).stream()
-                        .map(Hospital::getPublicCode)
-                        .collect(Collectors.toSet());
-
-        // 동일 배치 내 중복 ykiho 저장 방지를 위한 로컬 Set
-        Set<String> seenCodes = new java.util.HashSet<>();
-
-        List<Hospital> toSave = items.stream()
-                .filter(item -> {
-                    String rawYkiho = item.getYkiho();
-                    String ykiho = trim(rawYkiho, 500);
-                    if (ykiho == null || ykiho.isBlank()) return false;
-                    if (existingCodes.contains(ykiho)) return false;
-                    if (!seenCodes.add(ykiho)) return false; // 배치 내 중복 제거
-                    String name = trim(item.getYadmNm(), 200);
-                    return name != null && !name.isBlank();
-                })
-                .map(this::toHospital)
-                .toList();
-
-        hospitalRepository.saveAll(toSave);
-        return toSave.size();
-    }
-
-    /**
-     * HIRA 응답 item 리스트 중 이미 DB에 있는 병원(ykiho 기준)을 HIRA 데이터로 갱신합니다.
-     * 한 번 호출이 하나의 트랜잭션으로 처리됩니다.
-     * N+1 방지를 위해 findAllByPublicCodeIn으로 일괄 조회 후 Map으로 매칭, 마지막에 saveAll로 일괄 저장합니다.
+     * 기존 병원 갱신 + 신규 병원 저장을 하나의 트랜잭션에서 원자적으로 수행합니다.
+     * HIRA 동기화 시 부분 커밋을 방지합니다.
+     * 저장은 {@link HospitalBulkWriter} 의 JDBC 배치 upsert 한 번으로 처리하며(갱신 규칙은 updateFromHira 와 동일),
+     * 신규/갱신 구분과 ID 는 upsert 전후 public_code 조회로 얻습니다.
+     * 사전 조회한 hira_content_hash 가 이번 행의 {@link HiraHospitalRow#contentHash()} 와 같으면 쓰지 않고 unchanged 로 셉니다.
+     * 변경된 병원 ID는 {@link HospitalsPersistedEvent} 로 발행되어 커밋 이후 공간 인덱스 등에 반영됩니다.
      */
     @Transactional
-    public int updateExistingHospitals(List<HiraHospItem> items) {
+    public PersistCounts persistHospitals(List<HiraHospItem> items) {
         if (items == null || items.isEmpty()) {
-            return 0;
+            return new PersistCounts(0, 0, 0);
         }
-        List<String> ykihoList = items.stream()
-                .map(HiraHospItem::getYkiho)
-                .map(y -> trim(y, 500))
-                .filter(y -> y != null && !y.isBlank())
-                .distinct()
-                .toList();
-        if (ykihoList.isEmpty()) return 0;
 
-        Map<String, Hospital> ykihoToHospital = hospitalRepository.findAllByPublicCodeIn(ykihoList).stream()
-                .collect(Collectors.toMap(Hospital::getPublicCode, h -> h, (a, b) -> a));
-
-        Map<Long, Hospital> updatedById = new HashMap<>();
+        // 같은 페이지 안의 중복 ykiho 는 첫 item 만 사용
+        Map<String, HiraHospitalRow> rowsByCode = new LinkedHashMap<>();
         for (HiraHospItem item : items) {
-            String ykiho = trim(item.getYkiho(), 500);
-            if (ykiho == null || ykiho.isBlank()) continue;
-            Hospital h = ykihoToHospital.get(ykiho);
-            if (h == null) continue;
-            applyHiraToHospital(item, h);
-            updatedById.put(h.getId(), h);
+            HiraHospitalRow row = HiraHospitalRow.from(item);
+            if (row.hasPublicCode()) {
+                rowsByCode.putIfAbsent(row.publicCode(), row);
+            }
         }
-        if (!updatedById.isEmpty()) {
-            hospitalRepository.saveAll(updatedById.values());
+        if (rowsByCode.isEmpty()) {
+            return new PersistCounts(0, 0, 0);
         }
-        return updatedById.size();
-    }
 
-    /**
-     * 기존 병원 갱신 + 신규 병원 저장을 하나의 트랜잭션에서 원자적으로 수행합니다.
-     * HIRA 동기화 시 부분 커밋을 방지합니다.
-     */
-    @Transactional
-    public PersistCounts persistHospitals(List<HiraHospItem> items) {
-        int updated = updateExistingHospitals(items);
-        int saved = saveNewHospitals(items);
-        return new PersistCounts(updated, saved);
-    }
-
-    public record PersistCounts(int updated, int saved) {}
-
-    private void applyHiraToHospital(HiraHospItem item, Hospital h) {
-        h.updateFromHira(
-                trim(item.getYadmNm(), 200),
-                trim(item.getAddr(), 500),
-                parseBigDecimal(toPosString(item.getYPos())),
-                parseBigDecimal(toPosString(item.getXPos())),
-                trim(item.getTelno(), 20),
-                trim(item.getClCdNm(), 100),
-                parseInteger(item.getDrTotCnt()),
-                parseEstbDd(item.getEstbDd()),
-                parseInteger(item.getMdeptSdrCnt()),
-                parseInteger(item.getMdeptGdrCnt()),
-                parseInteger(item.getMdeptIntnCnt()),
-                parseInteger(item.getMdeptResdntCnt()),
-                parseInteger(item.getDetySdrCnt()),
-                parseInteger(item.getCmdcSdrCnt())
-        );
-    }
-
-    private Hospital toHospital(HiraHospItem item) {
-        return Hospital.builder()
-                .name(trim(item.getYadmNm(), 200))
-                .address(trim(item.getAddr(), 500))
-                .latitude(parseBigDecimal(toPosString(item.getYPos())))
-                .longitude(parseBigDecimal(toPosString(item.getXPos())))
-                .phone(trim(item.getTelno(), 20))
-                .publicCode(trim(item.getYkiho(), 500))
-                .department(trim(item.getClCdNm(), 100))
-                .doctorTotalCount(parseInteger(item.getDrTotCnt()))
-                .establishedDate(parseEstbDd(item.getEstbDd()))
-                .mdeptSpecialistCount(parseInteger(item.getMdeptSdrCnt()))
-                .mdeptGeneralCount(parseInteger(item.getMdeptGdrCnt()))
-                .mdeptInternCount(parseInteger(item.getMdeptIntnCnt()))
-                .mdeptResidentCount(parseInteger(item.getMdeptResdntCnt()))
-                .detySpecialistCount(parseInteger(item.getDetySdrCnt()))
-                .cmdcSpecialistCount(parseInteger(item.getCmdcSdrCnt()))
-                .build();
-    }
-
-    private static Integer parseInteger(Object value) {
-        if (value == null) return null;
-        if (value instanceof Number n) return n.intValue();
-        String s = value.toString().trim();
-        if (s.isBlank()) return null;
-        try {
-            return Integer.parseInt(s);
-        } catch (NumberFormatException e) {
-            return null;
+        Map<String, HospitalBulkWriter.ExistingRow> existingRows =
+                hospitalBulkWriter.findExistingByPublicCodes(List.copyOf(rowsByCode.keySet()));
+        List<HiraHospitalRow> toWrite = new ArrayList<>(rowsByCode.size());
+        List<Long> changedIds = new ArrayList<>(rowsByCode.size());
+        List<String> newCodes = new ArrayList<>();
+        int unchanged = 0;
+        for (HiraHospitalRow row : rowsByCode.values()) {
+            HospitalBulkWriter.ExistingRow existing = existingRows.get(row.publicCode());
+            if (existing != null) {
+                if (row.contentHash().equals(existing.contentHash())) {
+                    unchanged++;
+                    continue;
+                }
+                toWrite.add(row);
+                changedIds.add(existing.id());
+            } else if (row.hasName()) {
+                toWrite.add(row);
+                newCodes.add(row.publicCode());
+            }
         }
-    }
-
-    private static final DateTimeFormatter ESTB_DD = DateTimeFormatter.ofPattern("yyyyMMdd");
-
-    private static LocalDate parseEstbDd(String estbDd) {
-        if (estbDd == null || estbDd.length() != 8) return null;
-        try {
-            return LocalDate.parse(estbDd.trim(), ESTB_DD);
-        } catch (DateTimeParseException e) {
-            return null;
+        if (toWrite.isEmpty()) {
+            return new PersistCounts(0, 0, unchanged);
         }
-    }
 
-    /** API가 XPos/YPos를 숫자 또는 문자열로 줄 수 있어 안전하게 문자열로 변환 */
-    private static String toPosString(Object value) {
-        if (value == null) return null;
-        return value.toString().trim();
-    }
+        hospitalBulkWriter.upsert(toWrite);
 
-    private static String trim(String value, int maxLen) {
-        if (value == null) return null;
-        String s = value.trim();
-        return s.length() > maxLen ? s.substring(0, maxLen) : s;
-    }
+        int updated = changedIds.size();
+        if (!newCodes.isEmpty()) {
+            changedIds.addAll(hospitalBulkWriter.findIdsByPublicCodes(newCodes).values());
+        }
+        int saved = changedIds.size() - updated;
 
-    private static BigDecimal parseBigDecimal(String value) {
-        if (value == null || value.isBlank()) return null;
-        try {
-            return new BigDecimal(value.trim());
-        } catch (NumberFormatException e) {
-            return null;
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(new HospitalsPersistedEvent(changedIds));
         }
+        return new PersistCounts(updated, saved, unchanged);
     }
-}
 
+    /** unchanged: 이미 DB에 있고 내용 해시가 같아 쓰기를 건너뛴 건수 */
+    public record PersistCounts(int updated, int saved, int unchanged) {}
+}
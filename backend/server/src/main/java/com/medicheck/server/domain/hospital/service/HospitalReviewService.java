@@ -2,14 +2,17 @@ package com.medicheck.server.domain.hospital.service;
 
 import com.medicheck.server.domain.hospital.entity.Hospital;
 import com.medicheck.server.domain.hospital.entity.HospitalReview;
+import com.medicheck.server.domain.hospital.entity.HospitalReviewStats;
 import com.medicheck.server.domain.user.entity.User;
 import com.medicheck.server.domain.hospital.repository.HospitalRepository;
 import com.medicheck.server.domain.hospital.repository.HospitalReviewRepository;
+import com.medicheck.server.domain.hospital.repository.HospitalReviewStatsRepository;
 import com.medicheck.server.domain.user.repository.UserRepository;
 import com.medicheck.server.domain.hospital.dto.HospitalReviewResponse;
 import com.medicheck.server.domain.hospital.dto.MyHospitalReviewItemResponse;
 import com.medicheck.server.domain.hospital.dto.ReviewSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,19 +28,25 @@ import java.util.stream.Collectors;
 public class HospitalReviewService {
 
     private final HospitalReviewRepository reviewRepository;
+    private final HospitalReviewStatsRepository reviewStatsRepository;
     private final HospitalRepository hospitalRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 병원별 리뷰 요약. hospital_review_stats 를 PK로 조회하며, 리뷰가 없는 병원은 결과에 없습니다.
+     */
     @Transactional(readOnly = true)
     public Map<Long, ReviewSummary> getReviewSummaryByHospitalIds(List<Long> hospitalIds) {
         if (hospitalIds == null || hospitalIds.isEmpty()) {
             return Map.of();
         }
-        List<Object[]> rows = reviewRepository.findAverageRatingAndCountByHospitalIds(hospitalIds);
-        return rows.stream().collect(Collectors.toMap(
-                row -> ((Number) row[0]).longValue(),
-                row -> new ReviewSummary(((Number) row[1]).doubleValue(), ((Number) row[2]).longValue())
-        ));
+        return reviewStatsRepository.findAllById(hospitalIds).stream()
+                .filter(stats -> stats.getReviewCount() > 0)
+                .collect(Collectors.toMap(
+                        HospitalReviewStats::getHospitalId,
+                        stats -> new ReviewSummary(stats.getAverageRating(), stats.getReviewCount())
+                ));
     }
 
     @Transactional(readOnly = true)
@@ -69,18 +78,33 @@ public class HospitalReviewService {
         }
         return reviewRepository.findByUserIdAndHospitalId(userId, hospitalId)
                 .map(existing -> {
+                    int previousRating = existing.getRating();
                     existing.update(rating, comment);
+                    reviewStatsRepository.applyDelta(hospitalId, existing.getRating() - previousRating, 0);
+                    publishReviewChanged(hospitalId);
                     return HospitalReviewResponse.from(existing);
                 })
                 .orElseGet(() -> {
                     HospitalReview review = new HospitalReview(user, hospital, rating, comment);
-                    return HospitalReviewResponse.from(reviewRepository.save(review));
+                    HospitalReview saved = reviewRepository.save(review);
+                    reviewStatsRepository.applyDelta(hospitalId, saved.getRating(), 1);
+                    publishReviewChanged(hospitalId);
+                    return HospitalReviewResponse.from(saved);
                 });
     }
 
     @Transactional
     public void deleteMyReview(Long userId, Long hospitalId) {
         reviewRepository.findByUserIdAndHospitalId(userId, hospitalId)
-                .ifPresent(reviewRepository::delete);
+                .ifPresent(review -> {
+                    reviewRepository.delete(review);
+                    reviewStatsRepository.applyDelta(hospitalId, -review.getRating(), -1);
+                    publishReviewChanged(hospitalId);
+                });
+    }
+
+    private void publishReviewChanged(Long hospitalId) {
+        eventPublisher.publishEvent(new HospitalEnrichmentChangedEvent(
+                HospitalEnrichmentChangedEvent.Type.REVIEW, List.of(hospitalId)));
     }
 }
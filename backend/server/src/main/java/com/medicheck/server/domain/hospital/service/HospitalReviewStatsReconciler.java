@@ -0,0 +1,69 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.repository.HospitalReviewStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * hospital_review_stats 재집계 작업.
+ * 증감 갱신 경로 밖에서 리뷰가 바뀐 경우(수동 SQL, 회원 탈퇴 CASCADE 등) 생기는 드리프트를
+ * hospital_reviews 실제 집계와 비교해 감지하고, 있으면 테이블을 처음부터 다시 채웁니다.
+ * 재집계 후에는 값이 달랐던 병원에 대해 리뷰 변경 이벤트를 발행해 상세 캐시 등이 옛 리뷰 요약을 내려주지 않게 합니다.
+ * 매일 새벽(review.stats.reconcile-cron) 실행되며, 관리자 API로 즉시 실행할 수도 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HospitalReviewStatsReconciler {
+
+    private final HospitalReviewStatsRepository reviewStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param driftedHospitals 재집계 전 실제 집계와 달랐던 병원 수
+     * @param rebuiltRows      재집계로 다시 채운 행 수 (드리프트가 없어 건너뛰었으면 0)
+     */
+    public record ReconcileResult(long driftedHospitals, int rebuiltRows) {
+    }
+
+    @Scheduled(cron = "${review.stats.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledReconcile() {
+        try {
+            reconcile(false);
+        } catch (Exception e) {
+            log.error("리뷰 집계 재집계 실패", e);
+        }
+    }
+
+    /**
+     * 드리프트를 확인하고, 있거나 force 이면 재집계합니다.
+     * 삭제와 재삽입을 한 트랜잭션으로 묶어 조회 측에서 빈 집계가 보이지 않게 합니다.
+     */
+    @Transactional
+    public ReconcileResult reconcile(boolean force) {
+        List<Long> driftedIds = reviewStatsRepository.findDriftedHospitalIds();
+        long drifted = driftedIds.size();
+        if (drifted == 0 && !force) {
+            log.info("리뷰 집계 드리프트 없음");
+            return new ReconcileResult(0, 0);
+        }
+        if (drifted > 0) {
+            log.warn("리뷰 집계 드리프트 감지: hospitals={}", drifted);
+        }
+        reviewStatsRepository.deleteAllStats();
+        int rebuilt = reviewStatsRepository.insertFromReviews();
+        if (!driftedIds.isEmpty()) {
+            // 트랜잭션 안에서 발행하므로 캐시 무효화 등은 커밋 이후에 실행된다 (값이 그대로인 병원은 무효화할 필요 없음)
+            eventPublisher.publishEvent(new HospitalEnrichmentChangedEvent(
+                    HospitalEnrichmentChangedEvent.Type.REVIEW, driftedIds));
+        }
+        log.info("리뷰 집계 재집계 완료: drifted={}, rebuiltRows={}", drifted, rebuilt);
+        return new ReconcileResult(drifted, rebuilt);
+    }
+}
@@ -0,0 +1,39 @@
+package com.medicheck.server.domain.hospital.service;
+
+import java.util.List;
+
+/**
+ * 통합 검색({@link HospitalLuceneIndex}) 조건. 비어 있는 조건은 무시합니다.
+ *
+ * @param keyword      병원명·주소·진료과·질병명 검색어 (오타·접두어 허용)
+ * @param department   진료과 정확 일치 필터 (패싯 값)
+ * @param sido         시·도 필터 (주소 첫 어절, 패싯 값)
+ * @param symptom      Top5 질병명 검색어 (토큰 OR)
+ * @param grades       평가 등급 필터 "asmGrd01=1" 형식, 모두 만족해야 함
+ * @param latitude     거리 정렬·반경 기준 위도
+ * @param longitude    거리 정렬·반경 기준 경도
+ * @param radiusMeters 반경 필터 (미터, 좌표가 있을 때만)
+ * @param page         0부터 시작하는 페이지
+ * @param size         페이지 크기
+ */
+public record HospitalSearchCriteria(
+        String keyword,
+        String department,
+        String sido,
+        String symptom,
+        List<String> grades,
+        Double latitude,
+        Double longitude,
+        Double radiusMeters,
+        int page,
+        int size
+) {
+
+    public HospitalSearchCriteria {
+        grades = grades == null ? List.of() : List.copyOf(grades);
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
@@ -1,23 +1,30 @@
 package com.medicheck.server.domain.hospital.service;
 
 import com.medicheck.server.domain.hospital.entity.Hospital;
-import com.medicheck.server.domain.hospital.entity.HospitalEvaluation;
-import com.medicheck.server.domain.hospital.entity.HospitalClinicTop5;
-import com.medicheck.server.domain.hospital.repository.HospitalEvaluationRepository;
 import com.medicheck.server.domain.hospital.repository.HospitalClinicTop5Repository;
+import com.medicheck.server.domain.hospital.repository.HospitalKeywordQuery;
+import com.medicheck.server.domain.hospital.repository.HospitalReadRow;
 import com.medicheck.server.domain.hospital.repository.HospitalRepository;
 import com.medicheck.server.domain.hospital.repository.HospitalSpecification;
-import com.medicheck.server.domain.hospital.dto.HospitalEvaluationSummary;
-import com.medicheck.server.domain.hospital.dto.HospitalTop5Summary;
+import com.medicheck.server.domain.hospital.repository.HospitalTop5TermCount;
+import com.medicheck.server.domain.hospital.dto.HospitalClusterResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalClustersResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalListSliceResponse;
 import com.medicheck.server.domain.hospital.dto.HospitalResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalSearchResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalsInBoundsResponse;
 import com.medicheck.server.domain.hospital.dto.NearbyHospitalResponse;
-import com.medicheck.server.domain.hospital.dto.ReviewSummary;
+import com.medicheck.server.domain.hospital.util.GeoBoundingBox;
+import com.medicheck.server.domain.hospital.util.GeoDistance;
 import com.medicheck.server.domain.hospital.util.SymptomKeywordTokenizer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,12 +32,15 @@ import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -42,34 +52,193 @@ import java.util.stream.Collectors;
 public class HospitalService {
 
     private final HospitalRepository hospitalRepository;
-    private final HospitalReviewService reviewService;
-    private final HospitalEvaluationRepository hospitalEvaluationRepository;
     private final HospitalClinicTop5Repository hospitalClinicTop5Repository;
+    private final HospitalGeoIndex hospitalGeoIndex;
+    private final HospitalSymptomIndex hospitalSymptomIndex;
+    private final HospitalDetailCache hospitalDetailCache;
+    private final HospitalListCountCache hospitalListCountCache;
+    /** hospital.search.lucene.enabled=true 일 때만 빈이 있음 */
+    private final ObjectProvider<HospitalLuceneIndex> hospitalLuceneIndex;
     /** 근처 병원 조회 시 한 번에 반환할 최대 개수 (일단 500개로 상한 설정). */
     private static final int NEARBY_MAX_RESULTS = 500;
     /** 근처 병원 조회에서 허용할 최대 반경 (미터) — 예: 50km */
     private static final double MAX_RADIUS_METERS = 50_000;
-    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+    /** 클러스터 격자: 256px 지도 타일 한 장을 4×4 셀(셀당 약 64px)로 나눔 */
+    private static final int CLUSTER_CELLS_PER_TILE = 4;
+    /** 한 번에 집계할 수 있는 최대 격자 셀 수 (줌에 비해 화면이 지나치게 넓은 요청 차단) */
+    public static final long MAX_CLUSTER_CELLS = 40_000;
 
     /**
      * 등록된 병원 목록을 페이지 단위로 조회합니다.
      * 검색(keyword), 필터(department), 정렬(sort)을 지원합니다.
+     * 키워드는 LIKE %keyword% 로 찾아 sort 대로 정렬합니다. searchMode 가 FULLTEXT 면(요청 시에만)
+     * FULLTEXT(ngram) 인덱스로 찾아 관련도 순으로 반환하며 sort 는 무시하고, 2자 미만 토큰이 있으면 LIKE 로 대체합니다.
+     * 페이지는 한 건 더 읽어 다음 페이지 여부를 판단하고, 전체 건수는 countMode 에 따라 따로 구합니다.
      *
-     * @param keyword   병원명/주소/진료과 통합 검색 (없으면 무시)
+     * @param keyword    병원명/주소/진료과 통합 검색 (없으면 무시)
      * @param department 진료과 필터 (없으면 무시)
-     * @param pageable  page, size, sort (예: sort=name,asc / sort=createdAt,desc)
+     * @param searchMode 키워드 검색 방식
+     * @param countMode  전체 건수 방식. NONE 이면 Page 가 아닌 Slice 를 반환합니다.
+     * @param pageable   page, size, sort (예: sort=name,asc / sort=createdAt,desc)
      */
-    public Page<HospitalResponse> findAll(String keyword, String department, Pageable pageable) {
+    public Slice<HospitalResponse> findAll(
+            String keyword,
+            String department,
+            HospitalKeywordSearchMode searchMode,
+            HospitalCountMode countMode,
+            Pageable pageable
+    ) {
+        if (searchMode == HospitalKeywordSearchMode.FULLTEXT) {
+            Optional<String> query = HospitalKeywordQuery.toBooleanQuery(keyword);
+            if (query.isPresent()) {
+                return findAllByFulltext(query.get(), keyword, department, countMode, pageable);
+            }
+        }
         Specification<Hospital> spec =
                 HospitalSpecification.withFilters(keyword, department);
-        return hospitalRepository.findAll(spec, pageable).map(HospitalResponse::from);
+        Slice<HospitalResponse> slice = hospitalRepository.findSlice(spec, pageable).map(HospitalResponse::from);
+        return withCount(slice, countMode,
+                HospitalListCountCache.Key.of(HospitalKeywordSearchMode.LIKE, keyword, department),
+                () -> hospitalRepository.count(spec));
+    }
+
+    /** FULLTEXT 로 페이지 ID만 관련도 순으로 받고, 그 병원만 조회합니다. */
+    private Slice<HospitalResponse> findAllByFulltext(
+            String query, String keyword, String department, HospitalCountMode countMode, Pageable pageable) {
+        String departmentPattern = StringUtils.hasText(department)
+                ? HospitalSpecification.containsPattern(department)
+                : "";
+        int pageSize = pageable.getPageSize();
+        List<Long> ids = hospitalRepository.findIdsByKeywordFulltext(
+                query, departmentPattern, pageSize + 1, pageable.getOffset());
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        Map<Long, Hospital> byId = hospitalRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Hospital::getId, h -> h));
+        List<HospitalResponse> content = pageIds.stream()
+                .map(byId::get)
+                .filter(h -> h != null)
+                .map(HospitalResponse::from)
+                .toList();
+        return withCount(new SliceImpl<>(content, pageable, hasNext), countMode,
+                HospitalListCountCache.Key.of(HospitalKeywordSearchMode.FULLTEXT, keyword, department),
+                () -> hospitalRepository.countByKeywordFulltext(query, departmentPattern));
+    }
+
+    /**
+     * 페이지에 전체 건수를 붙입니다. 다음 페이지가 없으면 건수는 이미 정해지므로 세지 않습니다.
+     * EXACT 는 건수 캐시를 거치고, ESTIMATED 는 필터가 없을 때만 테이블 통계 추정치를 씁니다.
+     */
+    private Slice<HospitalResponse> withCount(
+            Slice<HospitalResponse> slice,
+            HospitalCountMode countMode,
+            HospitalListCountCache.Key key,
+            LongSupplier counter
+    ) {
+        if (countMode == HospitalCountMode.NONE) {
+            return slice;
+        }
+        Pageable pageable = slice.getPageable();
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(slice.getContent(), pageable, seen);
+        }
+        if (countMode == HospitalCountMode.ESTIMATED && !key.hasFilters()) {
+            Long estimate = hospitalRepository.estimateRowCount();
+            if (estimate != null) {
+                // 추정치가 이미 본 행보다 작으면 다음 페이지가 없는 것처럼 보이므로 하한을 둡니다
+                long lowerBound = seen + (slice.hasNext() ? 1 : 0);
+                return new PageImpl<>(slice.getContent(), pageable, Math.max(estimate, lowerBound));
+            }
+        }
+        return new PageImpl<>(slice.getContent(), pageable, hospitalListCountCache.get(key, counter));
+    }
+
+    /**
+     * 병원 목록을 (정렬 키, ID) keyset 커서로 한 페이지 조회합니다.
+     * OFFSET 없이 커서 다음 행부터 인덱스를 따라 읽으므로 깊은 페이지도 첫 페이지와 비용이 같고, 전체 건수는 세지 않습니다.
+     * 키워드는 정렬 키 순서를 지켜야 하므로 관련도 정렬 없이 LIKE 조건으로만 거릅니다.
+     *
+     * @param order  정렬 (name·createdAt, asc|desc)
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기
+     */
+    public HospitalListSliceResponse findAllAfter(
+            String keyword,
+            String department,
+            HospitalListOrder order,
+            HospitalListCursor cursor,
+            int size
+    ) {
+        int pageSize = Math.max(size, 1);
+        Specification<Hospital> spec = HospitalSpecification.withFilters(keyword, department);
+        if (cursor != null) {
+            spec = spec.and(order.after(cursor));
+        }
+        // 하나 더 가져와서 다음 페이지 존재 여부를 판단
+        List<Hospital> rows = hospitalRepository.findBy(spec, q -> q.sortBy(order.sort()).limit(pageSize + 1).all());
+        boolean hasNext = rows.size() > pageSize;
+        List<Hospital> kept = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Hospital last = kept.get(kept.size() - 1);
+            nextCursor = new HospitalListCursor(order, order.keyOf(last), last.getId()).encode();
+        }
+        return HospitalListSliceResponse.builder()
+                .hospitals(kept.stream().map(HospitalResponse::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 내장 Lucene 인덱스로 키워드(오타·접두어 허용)·증상·진료과·시도·평가 등급·반경 조건을 한 번에 검색하고,
+     * 요청 페이지 병원만 읽기 모델로 조회해 거리·패싯과 함께 반환합니다.
+     * 인덱스가 꺼져 있거나(hospital.search.lucene.enabled) 아직 색인 중이면 비어 있습니다.
+     */
+    public Optional<HospitalSearchResponse> search(HospitalSearchCriteria criteria) {
+        HospitalLuceneIndex index = hospitalLuceneIndex.getIfAvailable();
+        if (index == null || !index.isReady()) {
+            return Optional.empty();
+        }
+        HospitalLuceneIndex.Hits hits = index.search(criteria);
+        Map<Long, HospitalResponse> responses = loadResponses(
+                hits.hits().stream().map(HospitalLuceneIndex.Hit::hospitalId).toList());
+        List<NearbyHospitalResponse> hospitals = new ArrayList<>(hits.hits().size());
+        for (HospitalLuceneIndex.Hit hit : hits.hits()) {
+            HospitalResponse response = responses.get(hit.hospitalId());
+            if (response != null) {
+                hospitals.add(NearbyHospitalResponse.builder()
+                        .hospital(response)
+                        .distanceMeters(hit.distanceMeters())
+                        .build());
+            }
+        }
+        return Optional.of(HospitalSearchResponse.builder()
+                .hospitals(hospitals)
+                .totalCount(hits.totalCount())
+                .page(criteria.page())
+                .size(criteria.size())
+                .facets(hits.facets())
+                .build());
     }
 
     /**
-     * DB에 동기화된 HIRA Top5 질병명 중, 증상 검색에 쓸 수 있는 고유 문자열 목록(가나다순, 상한 있음).
+     * 증상 피커용 Top5 질병명 어휘(가나다순, 질병명별 병원 수).
+     * 증상 역색인이 동기화 때마다 함께 만들어 둔 어휘를 그대로 쓰고, 역색인 적재 전에만 DB에서 집계합니다.
      */
-    public List<String> findDistinctTop5DiseaseNamesForPicker() {
-        return hospitalClinicTop5Repository.findDistinctDiseaseNamesForPicker();
+    public HospitalSymptomVocabulary getSymptomVocabulary() {
+        if (hospitalSymptomIndex.isReady()) {
+            return hospitalSymptomIndex.vocabulary();
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        for (HospitalTop5TermCount row : hospitalClinicTop5Repository.countHospitalsByDiseaseName()) {
+            if (row.getTerm() != null && row.getHospitalCount() != null) {
+                counts.merge(row.getTerm(), row.getHospitalCount().intValue(), Integer::sum);
+            }
+        }
+        return HospitalSymptomVocabulary.of(counts);
     }
 
     /**
@@ -77,6 +246,9 @@ public class HospitalService {
      * 토큰은 공백·쉼표로 나누며, 토큰 하나라도 질병명에 매칭되면 포함(OR)합니다.
      * 정렬: 매칭된 질병명 슬롯이 더 상위(1위→5위)인 병원이 먼저 오고, 동일 슬롯이면 사용자 좌표(lat/lng) 기준 거리 오름차순입니다.
      * lat/lng가 없으면 거리는 무한대로 두어 이름 순으로만 타이브레이크합니다.
+     * 매칭은 인메모리 역색인({@link HospitalSymptomIndex})으로 하고, 아직 적재 전이면 LIKE 쿼리로 대체합니다.
+     * 정렬은 요청 페이지까지의 상위 (page+1)*size 개만 힙으로 고르고, 응답은 그 페이지 병원만 조회해 만듭니다.
+     * 전체 건수는 매칭된 병원 수입니다.
      */
     public Page<HospitalResponse> findAllBySymptom(
             String symptom,
@@ -103,102 +275,83 @@ public class HospitalService {
             return Page.empty(pageable);
         }
         List<String> safeTokens = new ArrayList<>(uniqueSafeTokens);
-        List<Long> unionIds =
-                hospitalClinicTop5Repository.findHospitalIdsWithDiseaseNameContainingAny(safeTokens);
-        if (unionIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        List<Long> idList = new ArrayList<>(unionIds);
-        List<HospitalClinicTop5> top5Rows =
-                hospitalClinicTop5Repository.findAllByHospitalIdInWithHospitalFetch(idList);
-
-        List<RankedHospital> ranked = new ArrayList<>();
-        for (HospitalClinicTop5 t : top5Rows) {
-            Hospital h = t.getHospital();
-            int rank = bestTop5MatchRank(t, safeTokens);
-            if (rank > 5) {
-                continue;
+        List<HospitalSymptomIndex.Match> matches;
+        if (hospitalSymptomIndex.isReady()) {
+            matches = hospitalSymptomIndex.match(safeTokens);
+        } else {
+            List<Long> unionIds =
+                    hospitalClinicTop5Repository.findHospitalIdsWithDiseaseNameContainingAny(safeTokens);
+            if (unionIds.isEmpty()) {
+                return Page.empty(pageable);
             }
-            double distM = haversineMeters(userLat, userLng, h.getLatitude(), h.getLongitude());
-            ranked.add(new RankedHospital(rank, distM, h));
+            matches = HospitalSymptomIndex.matchRows(
+                    hospitalClinicTop5Repository.findDiseaseNamesByHospitalIdIn(unionIds), safeTokens);
+        }
+        if (matches.isEmpty()) {
+            return Page.empty(pageable);
         }
 
-        ranked.sort(Comparator
-                .comparingInt(RankedHospital::matchRank)
-                .thenComparingDouble(RankedHospital::distanceMeters)
-                .thenComparing(r -> r.hospital().getName(), Comparator.nullsLast(String::compareTo)));
-
-        long total = ranked.size();
         int pageNumber = pageable.getPageNumber();
         int pageSize = pageable.getPageSize();
-        int from = Math.min(pageNumber * pageSize, ranked.size());
-        int to = Math.min(from + pageSize, ranked.size());
-        List<Hospital> slice = ranked.subList(from, to).stream()
-                .map(RankedHospital::hospital)
-                .toList();
-
-        List<HospitalResponse> content = enrichHospitalResponses(slice);
-        Pageable pageMeta = PageRequest.of(pageNumber, pageSize);
-        return new PageImpl<>(content, pageMeta, total);
-    }
-
-    private record RankedHospital(int matchRank, double distanceMeters, Hospital hospital) {
+        // 큰 page 에서 int 곱이 넘치지 않도록 long 오프셋으로 계산하고 후보 수로 자른다
+        long offset = pageable.getOffset();
+        long needed = offset + pageSize;
+        List<RankedMatch> top = topRankedMatches(matches, userLat, userLng, (int) Math.min(needed, matches.size()));
+        int from = (int) Math.min(offset, top.size());
+        List<Long> pageIds = top.subList(from, top.size()).stream().map(RankedMatch::hospitalId).toList();
+
+        // 마지막 페이지 병원만 읽기 모델로 조회
+        Map<Long, HospitalResponse> responses = loadResponses(pageIds);
+        List<HospitalResponse> content = pageIds.stream().map(responses::get).filter(r -> r != null).toList();
+        return new PageImpl<>(content, PageRequest.of(pageNumber, pageSize), matches.size());
     }
 
     /**
-     * 토큰별로 질병명 1~5 슬롯 중 가장 앞(가장 상위)에 매칭되는 순번을 구하고, 토큰 간 최솟값을 반환합니다.
-     * JPQL LIKE 부분 일치와 동일하게 {@code contains}로 비교합니다.
+     * 매칭 결과 중 (매칭 슬롯, 거리, 병원명, ID) 순 상위 k 개만 크기 k 의 힙으로 골라 정렬해 반환합니다.
+     * 전체를 정렬하지 않으므로 흔한 증상(후보 수천 건)도 O(n log k) 입니다.
+     * (JMH 벤치마크에서 직접 호출하도록 package-private)
      */
-    private static int bestTop5MatchRank(HospitalClinicTop5 t, List<String> safeTokens) {
-        int best = Integer.MAX_VALUE;
-        String[] fields = {
-                t.getDiseaseNm1(), t.getDiseaseNm2(), t.getDiseaseNm3(), t.getDiseaseNm4(), t.getDiseaseNm5()
-        };
-        for (String token : safeTokens) {
-            if (token.length() < 2) {
-                continue;
-            }
-            String tl = token.toLowerCase(Locale.ROOT);
-            int tokenBest = Integer.MAX_VALUE;
-            for (int i = 0; i < 5; i++) {
-                String d = fields[i];
-                if (d == null || d.isBlank()) {
-                    continue;
-                }
-                if (d.toLowerCase(Locale.ROOT).contains(tl)) {
-                    tokenBest = Math.min(tokenBest, i + 1);
-                }
-            }
-            if (tokenBest != Integer.MAX_VALUE) {
-                best = Math.min(best, tokenBest);
+    static List<RankedMatch> topRankedMatches(
+            List<HospitalSymptomIndex.Match> matches,
+            BigDecimal userLat,
+            BigDecimal userLng,
+            int k
+    ) {
+        if (k <= 0) {
+            return List.of();
+        }
+        boolean hasUser = userLat != null && userLng != null;
+        double lat = hasUser ? userLat.doubleValue() : 0;
+        double lng = hasUser ? userLng.doubleValue() : 0;
+        // 가장 나쁜 후보가 머리에 오도록 역순 힙
+        PriorityQueue<RankedMatch> heap = new PriorityQueue<>(Math.min(k, 1024), SYMPTOM_RANK_ORDER.reversed());
+        for (HospitalSymptomIndex.Match m : matches) {
+            double distM = hasUser && !Double.isNaN(m.latitude()) && !Double.isNaN(m.longitude())
+                    ? GeoDistance.haversineMeters(lat, lng, m.latitude(), m.longitude())
+                    : Double.POSITIVE_INFINITY;
+            RankedMatch candidate = new RankedMatch(m.bestRank(), distM, m.hospitalName(), m.hospitalId());
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (SYMPTOM_RANK_ORDER.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
             }
         }
-        return best == Integer.MAX_VALUE ? 6 : best;
+        List<RankedMatch> result = new ArrayList<>(heap);
+        result.sort(SYMPTOM_RANK_ORDER);
+        return result;
     }
 
-    private static double haversineMeters(
-            BigDecimal userLat,
-            BigDecimal userLng,
-            BigDecimal hospLat,
-            BigDecimal hospLng
-    ) {
-        if (userLat == null || userLng == null || hospLat == null || hospLng == null) {
-            return Double.POSITIVE_INFINITY;
-        }
-        double lat1 = userLat.doubleValue();
-        double lon1 = userLng.doubleValue();
-        double lat2 = hospLat.doubleValue();
-        double lon2 = hospLng.doubleValue();
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return EARTH_RADIUS_METERS * c;
+    record RankedMatch(int matchRank, double distanceMeters, String hospitalName, long hospitalId) {
     }
 
+    /** 증상 검색 결과 순서: 매칭 슬롯 → 거리 → 병원명 → ID (페이지 간 순서가 흔들리지 않도록 ID로 마무리) */
+    static final Comparator<RankedMatch> SYMPTOM_RANK_ORDER = Comparator
+            .comparingInt(RankedMatch::matchRank)
+            .thenComparingDouble(RankedMatch::distanceMeters)
+            .thenComparing(RankedMatch::hospitalName, Comparator.nullsLast(String::compareTo))
+            .thenComparingLong(RankedMatch::hospitalId);
+
     /** LIKE 패턴에 넣기 전에 %, _, \\ 문자를 제거해 의도치 않은 와일드카드·이스케이프를 막습니다. */
     private static String sanitizeLikeSubstring(String raw) {
         if (raw == null) {
@@ -207,94 +360,41 @@ public class HospitalService {
         return raw.trim().replace("%", "").replace("_", "").replace("\\", "");
     }
 
-    private List<HospitalResponse> enrichHospitalResponses(List<Hospital> hospitals) {
-        if (hospitals.isEmpty()) {
-            return List.of();
+    /**
+     * 병원·리뷰 요약·평가정보·Top5 를 읽기 모델 쿼리 한 번으로 조회해 ID별 응답으로 만듭니다.
+     * (이전에는 findAllById + 리뷰 집계 + 평가 + Top5 로 네 번 왕복)
+     */
+    private Map<Long, HospitalResponse> loadResponses(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
         }
-        List<Long> ids = hospitals.stream().map(Hospital::getId).toList();
-        Map<Long, ReviewSummary> reviewSummaryMap = reviewService.getReviewSummaryByHospitalIds(ids);
-        List<HospitalEvaluation> evaluations = hospitalEvaluationRepository.findByHospital_IdIn(ids);
-        Map<Long, HospitalEvaluationSummary> evaluationMap = evaluations.stream()
-                .collect(Collectors.toMap(ev -> ev.getHospital().getId(), HospitalEvaluationSummary::from));
-        List<HospitalClinicTop5> top5s = hospitalClinicTop5Repository.findByHospital_IdIn(ids);
-        Map<Long, HospitalTop5Summary> top5Map = top5s.stream()
-                .collect(Collectors.toMap(t -> t.getHospital().getId(), HospitalTop5Summary::from));
-
-        return hospitals.stream().map(h -> {
-            Long id = h.getId();
-            HospitalResponse hr = HospitalResponse.from(h);
-            ReviewSummary rs = reviewSummaryMap.get(id);
-            if (rs != null) {
-                hr = hr.toBuilder()
-                        .averageRating(rs.getAverageRating())
-                        .reviewCount(rs.getReviewCount().intValue())
-                        .build();
-            }
-            HospitalEvaluationSummary es = evaluationMap.get(id);
-            if (es != null) {
-                hr = hr.toBuilder().evaluation(es).build();
-            }
-            HospitalTop5Summary top5 = top5Map.get(id);
-            if (top5 != null) {
-                hr = hr.toBuilder().top5(top5).build();
-            }
-            return hr;
-        }).toList();
+        return hospitalRepository.findReadRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(HospitalReadRow::getId, HospitalResponse::from, (a, b) -> a));
     }
 
     /**
      * ID로 병원 한 건 조회합니다.
+     * 리뷰 요약·평가·Top5 까지 채운 응답을 {@link HospitalDetailCache} 에 두고, 관련 쓰기가 커밋되면 무효화됩니다.
      *
      * @param id 병원 ID
      * @return 병원이 있으면 HospitalResponse, 없으면 empty
      */
     public Optional<HospitalResponse> findById(Long id) {
-        return hospitalRepository.findById(id).map(h -> {
-            HospitalResponse hr = HospitalResponse.from(h);
-
-            // 리뷰 요약
-            Map<Long, ReviewSummary> map = reviewService.getReviewSummaryByHospitalIds(List.of(id));
-            ReviewSummary summary = map.get(id);
-            if (summary != null) {
-                hr = hr.toBuilder()
-                        .averageRating(summary.getAverageRating())
-                        .reviewCount(summary.getReviewCount().intValue())
-                        .build();
-            }
-
-            // 병원평가정보 요약
-            Optional<HospitalEvaluation> evOpt = hospitalEvaluationRepository.findByHospital_Id(id);
-            if (evOpt.isPresent()) {
-                HospitalEvaluationSummary evalDto = HospitalEvaluationSummary.from(evOpt.get());
-                hr = hr.toBuilder()
-                        .evaluation(evalDto)
-                        .build();
-            }
-
-            // 병원진료정보(Top5) 요약
-            Optional<HospitalClinicTop5> top5Opt = hospitalClinicTop5Repository.findByHospital_Id(id);
-            if (top5Opt.isPresent()) {
-                HospitalTop5Summary top5Dto = HospitalTop5Summary.from(top5Opt.get());
-                hr = hr.toBuilder()
-                        .top5(top5Dto)
-                        .build();
-            }
-            return hr;
-        });
+        return Optional.ofNullable(hospitalDetailCache.get(id, key -> loadResponses(List.of(key)).get(key)));
     }
 
     /**
      * 사용자의 위치 기준 반경(radiusMeters m) 내 병원을 거리순으로 조회합니다.
      * 각 항목에 사용자 위치에서의 거리(distanceMeters)가 포함됩니다.
+     * 인메모리 공간 인덱스({@link HospitalGeoIndex})가 적재되어 있으면 DB 없이 후보를 구하고,
+     * 아직 적재 전이면 SPATIAL INDEX 쿼리로 대체합니다.
+     * 최대 500개까지만 한 번에 반환하며, 그 이상은 잘린다는 정보를 별도 헤더로 노출합니다.
+     * 지도 화면 단위로 끝까지 넘겨 봐야 하면 커서 페이지를 지원하는 {@link #findInBounds} 를 사용합니다.
      *
      * @param latitude     사용자 위도 (WGS84)
      * @param longitude    사용자 경도 (WGS84)
      * @param radiusMeters 반경 (미터)
      */
-    /**
-     * TODO: 반경이 매우 큰(예: 50km) 요청에 대해서는 서버 페이징이나 프론트 단 마커 클러스터링 도입을 검토.
-     * 현재는 최대 500개까지만 한 번에 반환하며, 그 이상은 잘린다는 정보를 별도 헤더로 노출합니다.
-     */
     public List<NearbyHospitalResponse> findNearby(BigDecimal latitude, BigDecimal longitude, double radiusMeters) {
         if (latitude == null || longitude == null) {
             throw new IllegalArgumentException("latitude and longitude must not be null");
@@ -305,29 +405,24 @@ public class HospitalService {
 
         double effectiveRadius = Math.min(radiusMeters, MAX_RADIUS_METERS);
 
+        double lat = latitude.doubleValue();
+        double lng = longitude.doubleValue();
+
         // 하나 더 가져와서(NEARBY_MAX_RESULTS + 1) 잘림 여부를 감지한다.
-        List<Object[]> idAndDistance = hospitalRepository.findNearbyIdAndDistance(
-                latitude.doubleValue(),
-                longitude.doubleValue(),
-                effectiveRadius,
-                NEARBY_MAX_RESULTS + 1
-        );
-
-        if (idAndDistance.isEmpty()) {
+        List<HospitalGeoIndex.Neighbor> neighbors = findNearbyNeighbors(lat, lng, effectiveRadius, NEARBY_MAX_RESULTS + 1);
+
+        if (neighbors.isEmpty()) {
             NearbyQueryContextHolder.clear();
             return List.of();
         }
 
-        boolean truncated = idAndDistance.size() > NEARBY_MAX_RESULTS;
-        List<Long> orderedIds = idAndDistance.stream()
-                .limit(NEARBY_MAX_RESULTS)
-                .map(row -> ((Number) row[0]).longValue())
+        boolean truncated = neighbors.size() > NEARBY_MAX_RESULTS;
+        List<HospitalGeoIndex.Neighbor> kept = truncated ? neighbors.subList(0, NEARBY_MAX_RESULTS) : neighbors;
+        List<Long> orderedIds = kept.stream()
+                .map(HospitalGeoIndex.Neighbor::hospitalId)
                 .toList();
-        Map<Long, Double> idToDistance = idAndDistance.stream()
-                .collect(Collectors.toMap(row -> ((Number) row[0]).longValue(), row -> ((Number) row[1]).doubleValue()));
 
-        List<Hospital> hospitals = hospitalRepository.findAllById(orderedIds);
-        Map<Long, Hospital> idToHospital = hospitals.stream().collect(Collectors.toMap(Hospital::getId, h -> h));
+        Map<Long, HospitalResponse> responses = loadResponses(orderedIds);
 
         // 응답 헤더에서 사용할 수 있도록 쓰레드 로컬에 메타데이터 보관
         NearbyQueryContextHolder.setMetadata(new NearbyQueryMetadata(
@@ -335,43 +430,194 @@ public class HospitalService {
                 truncated
         ));
 
-        Map<Long, ReviewSummary> reviewSummaryMap = reviewService.getReviewSummaryByHospitalIds(orderedIds);
-
-        List<HospitalEvaluation> evaluations = hospitalEvaluationRepository.findByHospital_IdIn(orderedIds);
-        Map<Long, HospitalEvaluationSummary> evaluationMap = evaluations.stream()
-                .collect(Collectors.toMap(ev -> ev.getHospital().getId(), HospitalEvaluationSummary::from));
-
-        List<HospitalClinicTop5> top5s = hospitalClinicTop5Repository.findByHospital_IdIn(orderedIds);
-        Map<Long, HospitalTop5Summary> top5Map = top5s.stream()
-                .collect(Collectors.toMap(t -> t.getHospital().getId(), HospitalTop5Summary::from));
-
-        return orderedIds.stream()
-                .map(id -> {
-                    Hospital h = idToHospital.get(id);
-                    Double dist = idToDistance.get(id);
-                    if (h == null || dist == null) return null;
-                    HospitalResponse hr = HospitalResponse.from(h);
-                    ReviewSummary summary = reviewSummaryMap.get(id);
-                    if (summary != null) {
-                        hr = hr.toBuilder()
-                                .averageRating(summary.getAverageRating())
-                                .reviewCount(summary.getReviewCount().intValue())
-                                .build();
-                    }
-                    HospitalEvaluationSummary evalSummary = evaluationMap.get(id);
-                    if (evalSummary != null) {
-                        hr = hr.toBuilder().evaluation(evalSummary).build();
-                    }
-                    HospitalTop5Summary top5Summary = top5Map.get(id);
-                    if (top5Summary != null) {
-                        hr = hr.toBuilder().top5(top5Summary).build();
-                    }
-                    return NearbyHospitalResponse.builder()
-                            .hospital(hr)
-                            .distanceMeters(dist)
-                            .build();
-                })
-                .filter(r -> r != null)
+        // 후보 순서(거리순) 그대로 병원당 응답 1개씩 조립
+        List<NearbyHospitalResponse> result = new ArrayList<>(kept.size());
+        for (HospitalGeoIndex.Neighbor neighbor : kept) {
+            HospitalResponse hr = responses.get(neighbor.hospitalId());
+            if (hr == null) continue;
+            result.add(NearbyHospitalResponse.builder()
+                    .hospital(hr)
+                    .distanceMeters(neighbor.distanceMeters())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 지도 화면 사각형(남서·북동 모서리) 안의 병원을 기준 좌표에서 가까운 순으로 한 페이지 반환합니다.
+     * 페이지는 (거리, ID) keyset 커서로 이어지므로, 같은 화면을 넘겨 보는 동안 중복·누락이 없습니다.
+     * 날짜변경선을 넘는 사각형(swLng > neLng)은 지원하지 않습니다.
+     *
+     * @param refLatitude  거리 기준 위도 (null 이면 화면 중심)
+     * @param refLongitude 거리 기준 경도 (null 이면 화면 중심)
+     * @param cursor       직전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size         페이지 크기 (1~500)
+     */
+    public HospitalsInBoundsResponse findInBounds(
+            double swLatitude,
+            double swLongitude,
+            double neLatitude,
+            double neLongitude,
+            BigDecimal refLatitude,
+            BigDecimal refLongitude,
+            HospitalDistanceCursor cursor,
+            int size
+    ) {
+        if (!isValidBounds(swLatitude, swLongitude, neLatitude, neLongitude)) {
+            throw new IllegalArgumentException("invalid bounds");
+        }
+        int pageSize = Math.min(Math.max(size, 1), NEARBY_MAX_RESULTS);
+        GeoBoundingBox box = new GeoBoundingBox(swLatitude, neLatitude, swLongitude, neLongitude);
+        double refLat = refLatitude != null ? refLatitude.doubleValue() : (swLatitude + neLatitude) / 2;
+        double refLng = refLongitude != null ? refLongitude.doubleValue() : (swLongitude + neLongitude) / 2;
+
+        // 하나 더 가져와서 다음 페이지 존재 여부를 판단
+        List<HospitalGeoIndex.Neighbor> neighbors = findNeighborsInBounds(box, refLat, refLng, cursor, pageSize + 1);
+        boolean hasNext = neighbors.size() > pageSize;
+        List<HospitalGeoIndex.Neighbor> kept = hasNext ? neighbors.subList(0, pageSize) : neighbors;
+
+        Map<Long, HospitalResponse> responses = loadResponses(
+                kept.stream().map(HospitalGeoIndex.Neighbor::hospitalId).toList());
+        List<NearbyHospitalResponse> hospitals = new ArrayList<>(kept.size());
+        for (HospitalGeoIndex.Neighbor neighbor : kept) {
+            HospitalResponse hr = responses.get(neighbor.hospitalId());
+            if (hr == null) continue;
+            hospitals.add(NearbyHospitalResponse.builder()
+                    .hospital(hr)
+                    .distanceMeters(neighbor.distanceMeters())
+                    .build());
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            HospitalGeoIndex.Neighbor last = kept.get(kept.size() - 1);
+            nextCursor = new HospitalDistanceCursor(last.distanceMeters(), last.hospitalId()).encode();
+        }
+        return HospitalsInBoundsResponse.builder()
+                .hospitals(hospitals)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 지도 화면 사각형 안의 병원을 줌 레벨에 맞춘 격자 셀로 묶어 셀별 건수·중심·진료과 건수를 반환합니다.
+     * 병원 상세를 싣지 않으므로 넓은 화면에서도 응답이 셀 수에 비례해 작습니다.
+     * 공간 인덱스가 적재되어 있으면 메모리에서, 아니면 DB GROUP BY 로 집계합니다.
+     *
+     * @throws IllegalArgumentException 사각형이 잘못되었거나 셀 수가 {@link #MAX_CLUSTER_CELLS} 를 넘는 경우
+     */
+    public HospitalClustersResponse findClusters(
+            double swLatitude,
+            double swLongitude,
+            double neLatitude,
+            double neLongitude,
+            int zoom
+    ) {
+        if (!isValidBounds(swLatitude, swLongitude, neLatitude, neLongitude)) {
+            throw new IllegalArgumentException("invalid bounds");
+        }
+        double cellDegrees = clusterCellDegrees(zoom);
+        if (estimatedClusterCells(swLatitude, swLongitude, neLatitude, neLongitude, cellDegrees) > MAX_CLUSTER_CELLS) {
+            throw new IllegalArgumentException("too many cluster cells");
+        }
+        GeoBoundingBox box = new GeoBoundingBox(swLatitude, neLatitude, swLongitude, neLongitude);
+        List<HospitalClusterResponse> clusters;
+        if (hospitalGeoIndex.isReady()) {
+            clusters = hospitalGeoIndex.clusters(box, cellDegrees);
+        } else {
+            HospitalClusterAccumulator accumulator = new HospitalClusterAccumulator(cellDegrees);
+            for (Object[] row : hospitalRepository.findClusterCellsInBounds(
+                    box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(), cellDegrees)) {
+                accumulator.addGroup(
+                        ((Number) row[0]).longValue(),
+                        ((Number) row[1]).longValue(),
+                        (String) row[2],
+                        ((Number) row[3]).intValue(),
+                        ((Number) row[4]).doubleValue(),
+                        ((Number) row[5]).doubleValue(),
+                        ((Number) row[6]).longValue());
+            }
+            clusters = accumulator.toResponses();
+        }
+        int total = 0;
+        for (HospitalClusterResponse cluster : clusters) {
+            total += cluster.getCount();
+        }
+        return HospitalClustersResponse.builder()
+                .zoom(zoom)
+                .cellDegrees(cellDegrees)
+                .totalCount(total)
+                .clusters(clusters)
+                .build();
+    }
+
+    /** 줌 레벨의 클러스터 격자 셀 크기(도): 경도 360도를 2^zoom 타일로 나눈 뒤 타일당 4칸 */
+    static double clusterCellDegrees(int zoom) {
+        if (zoom < 0 || zoom > 30) {
+            throw new IllegalArgumentException("invalid zoom: " + zoom);
+        }
+        return 360.0 / (1L << zoom) / CLUSTER_CELLS_PER_TILE;
+    }
+
+    /** 사각형을 덮는 격자 셀 수 (상한 검사용) */
+    public static long estimatedClusterCells(
+            double swLatitude, double swLongitude, double neLatitude, double neLongitude, int zoom) {
+        return estimatedClusterCells(swLatitude, swLongitude, neLatitude, neLongitude, clusterCellDegrees(zoom));
+    }
+
+    private static long estimatedClusterCells(
+            double swLatitude, double swLongitude, double neLatitude, double neLongitude, double cellDegrees) {
+        long rows = (long) Math.floor(neLatitude / cellDegrees) - (long) Math.floor(swLatitude / cellDegrees) + 1;
+        long cols = (long) Math.floor(neLongitude / cellDegrees) - (long) Math.floor(swLongitude / cellDegrees) + 1;
+        return rows > MAX_CLUSTER_CELLS || cols > MAX_CLUSTER_CELLS ? Long.MAX_VALUE : rows * cols;
+    }
+
+    /** 위·경도 범위 안이고 남서 모서리가 북동 모서리보다 작거나 같은지 */
+    public static boolean isValidBounds(double swLatitude, double swLongitude, double neLatitude, double neLongitude) {
+        return swLatitude >= -90 && neLatitude <= 90 && swLongitude >= -180 && neLongitude <= 180
+                && swLatitude <= neLatitude && swLongitude <= neLongitude;
+    }
+
+    private List<HospitalGeoIndex.Neighbor> findNeighborsInBounds(
+            GeoBoundingBox box, double refLat, double refLng, HospitalDistanceCursor cursor, int limit) {
+        if (hospitalGeoIndex.isReady()) {
+            HospitalGeoIndex.Neighbor after = cursor != null
+                    ? new HospitalGeoIndex.Neighbor(cursor.hospitalId(), cursor.distanceMeters())
+                    : null;
+            return hospitalGeoIndex.withinBounds(box, refLat, refLng, after, limit);
+        }
+        return hospitalRepository.findIdAndDistanceInBoundsAfter(
+                        refLat,
+                        refLng,
+                        box.minLatitude(),
+                        box.maxLatitude(),
+                        box.minLongitude(),
+                        box.maxLongitude(),
+                        cursor != null ? cursor.distanceMeters() : -1,
+                        cursor != null ? cursor.hospitalId() : 0,
+                        limit
+                ).stream()
+                .map(row -> new HospitalGeoIndex.Neighbor(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    private List<HospitalGeoIndex.Neighbor> findNearbyNeighbors(double lat, double lng, double radiusMeters, int limit) {
+        if (hospitalGeoIndex.isReady()) {
+            return hospitalGeoIndex.nearest(lat, lng, radiusMeters, limit);
+        }
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lng, radiusMeters);
+        return hospitalRepository.findNearbyIdAndDistanceInBoundingBox(
+                        lat,
+                        lng,
+                        box.minLatitude(),
+                        box.maxLatitude(),
+                        box.minLongitude(),
+                        box.maxLongitude(),
+                        radiusMeters,
+                        limit
+                ).stream()
+                .map(row -> new HospitalGeoIndex.Neighbor(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
                 .toList();
     }
 }
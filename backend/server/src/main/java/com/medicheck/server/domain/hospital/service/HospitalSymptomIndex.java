@@ -0,0 +1,632 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.repository.HospitalClinicTop5Repository;
+import com.medicheck.server.domain.hospital.repository.HospitalTop5DiseaseNames;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 증상 검색용 Top5 질병명 인메모리 역색인.
+ * 질병명을 소문자로 바꿔 글자 2-gram(한글은 음절 단위)마다 (병원, 슬롯 1~5) 목록을 두고,
+ * 토큰의 2-gram 목록을 교집합한 뒤 부분 문자열 포함을 확인해 {@code LIKE '%token%'} 과 같은 결과를 SQL 없이 구합니다.
+ * 병원 이름·좌표도 함께 두어 호출 측이 엔티티 없이 (매칭 슬롯, 거리, 이름) 순위를 매길 수 있습니다.
+ * 스냅샷마다 증상 피커용 질병명 어휘({@link HospitalSymptomVocabulary}, 질병명별 병원 수)도 함께 만듭니다.
+ *
+ * <ul>
+ *   <li>기동 완료 시 전체 적재, Top5 변경 이벤트({@link HospitalEnrichmentChangedEvent.Type#TOP5})·병원 동기화 이벤트
+ *       ({@link HospitalsPersistedEvent}) 커밋 후 해당 병원만 다시 읽어 재색인</li>
+ *   <li>증분 반영은 바뀐 병원의 질병명이 가진 2-gram 목록만 고쳐 쓰고(문서는 뒤에 덧붙이고 이전 자리는 비워 둠),
+ *       비운 자리가 많아지면 DB 조회 없이 한 번 압축</li>
+ *   <li>이벤트는 대기 ID 집합에 모아 한 스레드가 묶어서 처리하고, DB 조회는 락 밖에서, 스냅샷 교체만
+ *       {@link ReentrantLock} 으로 보호 (가상 스레드 고정 없음)</li>
+ *   <li>스냅샷은 조회 측에서 불변이며 volatile 참조 교체로 갱신하므로 조회는 락 없이 동작</li>
+ *   <li>메트릭: hospital.symptom.index.size, hospital.symptom.index.rebuild(type=full|incremental)</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class HospitalSymptomIndex {
+
+    /** 병원당 질병명 슬롯 수 (Top5) */
+    static final int SLOTS = 5;
+    /** 비운 문서 자리가 살아 있는 문서 수보다 이만큼 더 많아지면 압축 */
+    private static final int COMPACT_SLACK = 1024;
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final HospitalClinicTop5Repository top5Repository;
+    private final Timer fullRebuildTimer;
+    private final Timer incrementalRebuildTimer;
+    /** 스냅샷 교체와 아래 쓰기 측 상태 보호 (DB 조회는 이 락 밖에서) */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /** 병원 ID → 현재 스냅샷의 문서 위치 (쓰기 측 전용) */
+    private final Map<Long, Integer> positionById = new HashMap<>();
+    /** 질병명(원문) → 병원 수 (쓰기 측 전용, 어휘를 다시 만들 때 사용) */
+    private final Map<String, Integer> termCounts = new HashMap<>();
+    /** 아직 반영하지 않은 변경 병원 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    /** 대기 ID 를 처리 중인 스레드가 있는지 (한 번에 한 스레드만 DB 를 읽고 반영) */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+    /** 전체 재구축이 DB 를 읽는 동안 증분 반영된 ID (재구축 결과에 다시 반영). 재구축 중이 아니면 null, writeLock 으로 보호 */
+    private Set<Long> appliedDuringRebuild;
+
+    public HospitalSymptomIndex(HospitalClinicTop5Repository top5Repository, MeterRegistry meterRegistry) {
+        this.top5Repository = top5Repository;
+        this.fullRebuildTimer = Timer.builder("hospital.symptom.index.rebuild")
+                .description("증상 검색 역색인 재구축 시간")
+                .tag("type", "full")
+                .register(meterRegistry);
+        this.incrementalRebuildTimer = Timer.builder("hospital.symptom.index.rebuild")
+                .description("증상 검색 역색인 재구축 시간")
+                .tag("type", "incremental")
+                .register(meterRegistry);
+        Gauge.builder("hospital.symptom.index.size", this, HospitalSymptomIndex::size)
+                .description("역색인에 적재된 Top5 병원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 증상 검색 매칭 결과 한 건: 병원 ID, 토큰이 등장한 가장 상위 슬롯(1~5), 정렬용 병원 이름·좌표(없으면 NaN).
+     */
+    public record Match(long hospitalId, int bestRank, String hospitalName, double latitude, double longitude) {
+    }
+
+    /** 역색인이 적재되어 조회에 사용할 수 있는지 여부. false면 호출 측에서 DB 쿼리로 대체합니다. */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 현재 스냅샷의 증상 피커 어휘.
+     *
+     * @throws IllegalStateException 역색인이 아직 적재되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public HospitalSymptomVocabulary vocabulary() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            throw new IllegalStateException("hospital symptom index is not loaded");
+        }
+        return s.vocabulary;
+    }
+
+    public int size() {
+        Snapshot s = snapshot;
+        return s == null ? 0 : s.live;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 적재 실패 시에도 기동은 계속하고, 증상 검색은 DB 경로로 동작한다.
+            log.warn("증상 검색 역색인 초기 적재 실패 — DB 쿼리로 대체합니다.", e);
+        }
+    }
+
+    /** DB의 전체 Top5 질병명으로 역색인을 다시 만듭니다. */
+    public void rebuild() {
+        long start = System.nanoTime();
+        writeLock.lock();
+        try {
+            appliedDuringRebuild = new HashSet<>();
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            load(top5Repository.findAllDiseaseNames());
+        } finally {
+            writeLock.lock();
+            try {
+                // 읽는 동안 이전 스냅샷에 반영된 변경은 새 스냅샷에 없을 수 있으므로 다시 읽게 한다
+                pending.addAll(appliedDuringRebuild);
+                appliedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        fullRebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("증상 검색 역색인 적재 완료: size={}, elapsedMs={}", size(), elapsed / 1_000_000);
+        drainPending();
+    }
+
+    /** 주어진 행만으로 스냅샷을 만듭니다 (전체 적재, 벤치마크). */
+    void load(List<HospitalTop5DiseaseNames> rows) {
+        Map<Long, Doc> docs = new HashMap<>(rows.size() * 4 / 3 + 1);
+        for (HospitalTop5DiseaseNames row : rows) {
+            putDoc(docs, row);
+        }
+        Snapshot built = Snapshot.build(docs.values());
+        writeLock.lock();
+        try {
+            install(built);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 새로 만든 스냅샷으로 교체하고 쓰기 측 상태를 맞춥니다. writeLock 을 잡고 호출합니다. */
+    private void install(Snapshot built) {
+        positionById.clear();
+        termCounts.clear();
+        for (int d = 0; d < built.used; d++) {
+            positionById.put(built.docs[d].hospitalId(), d);
+            countTerms(termCounts, built.docs[d], 1);
+        }
+        snapshot = built;
+    }
+
+    /**
+     * Top5 동기화 커밋 이후 바뀐 병원만 다시 읽어 반영합니다.
+     * 역색인이 아직 적재되지 않았다면 무시합니다(기동 시 전체 적재에서 포함됨).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrichmentChanged(HospitalEnrichmentChangedEvent event) {
+        if (event.type() != HospitalEnrichmentChangedEvent.Type.TOP5
+                || event.hospitalIds() == null || event.hospitalIds().isEmpty() || snapshot == null) {
+            return;
+        }
+        try {
+            apply(event.hospitalIds());
+        } catch (RuntimeException e) {
+            log.warn("증상 검색 역색인 증분 반영 실패: changed={}", event.hospitalIds().size(), e);
+        }
+    }
+
+    /** 병원 이름·좌표가 바뀌었을 수 있으므로 동기화된 병원도 다시 읽습니다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalsPersisted(HospitalsPersistedEvent event) {
+        if (event.hospitalIds() == null || event.hospitalIds().isEmpty() || snapshot == null) {
+            return;
+        }
+        try {
+            apply(event.hospitalIds());
+        } catch (RuntimeException e) {
+            log.warn("증상 검색 역색인 증분 반영 실패: changed={}", event.hospitalIds().size(), e);
+        }
+    }
+
+    /**
+     * 주어진 병원들의 Top5 를 DB에서 다시 읽어 기존 스냅샷에 병합합니다 (Top5 가 없어졌으면 제거).
+     * 다른 스레드가 이미 반영 중이면 대기 집합에 넣고 바로 반환하며, 그 스레드가 이어서 함께 반영합니다.
+     */
+    public void apply(Collection<Long> hospitalIds) {
+        pending.addAll(hospitalIds);
+        drainPending();
+    }
+
+    /** 대기 ID 가 없어질 때까지 묶음 단위로 반영합니다. 처리 중인 스레드가 있으면 맡기고 반환합니다. */
+    private void drainPending() {
+        while (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+            try {
+                while (!pending.isEmpty() && snapshot != null) {
+                    Set<Long> batch = new HashSet<>(pending);
+                    pending.removeAll(batch);
+                    applyBatch(batch);
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 플래그를 내리기 직전에 들어온 ID 는 여기서 다시 확인해 처리한다
+            if (snapshot == null) {
+                return;
+            }
+        }
+    }
+
+    private void applyBatch(Set<Long> changed) {
+        long start = System.nanoTime();
+        List<HospitalTop5DiseaseNames> rows;
+        try {
+            rows = top5Repository.findDiseaseNamesByHospitalIdIn(changed);
+        } catch (RuntimeException e) {
+            pending.addAll(changed);
+            throw e;
+        }
+        Map<Long, Doc> reloaded = new HashMap<>(rows.size() * 4 / 3 + 1);
+        for (HospitalTop5DiseaseNames row : rows) {
+            putDoc(reloaded, row);
+        }
+
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            Snapshot patched = current.patch(changed, reloaded.values(), positionById, termCounts);
+            if (patched.used - patched.live > patched.live + COMPACT_SLACK) {
+                List<Doc> live = new ArrayList<>(positionById.size());
+                for (int d : positionById.values()) {
+                    live.add(patched.docs[d]);
+                }
+                install(Snapshot.build(live));
+            } else {
+                snapshot = patched;
+            }
+            if (appliedDuringRebuild != null) {
+                appliedDuringRebuild.addAll(changed);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        incrementalRebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 토큰 중 하나라도 질병명 1~5 에 부분 일치하는 병원과, 토큰 간 가장 상위 매칭 슬롯을 병원 ID 순으로 반환합니다.
+     * 대소문자는 구분하지 않으며 2자 미만 토큰은 무시합니다.
+     *
+     * @throws IllegalStateException 역색인이 아직 적재되지 않은 경우 ({@link #isReady()} 확인)
+     */
+    public List<Match> match(List<String> tokens) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            throw new IllegalStateException("hospital symptom index is not loaded");
+        }
+        Map<Integer, Integer> bestRankByDoc = new HashMap<>();
+        for (String token : tokens) {
+            String t = normalize(token);
+            if (t == null || t.length() < 2) {
+                continue;
+            }
+            for (int nameIndex : s.candidates(t)) {
+                // 2-gram 이 모두 있어도 이어져 있지 않을 수 있으므로 3자 이상은 실제 포함 여부를 확인
+                if (t.length() > 2 && !s.names[nameIndex].contains(t)) {
+                    continue;
+                }
+                bestRankByDoc.merge(nameIndex / SLOTS, nameIndex % SLOTS + 1, Math::min);
+            }
+        }
+        List<Match> result = new ArrayList<>(bestRankByDoc.size());
+        bestRankByDoc.forEach((d, rank) -> result.add(s.docs[d].toMatch(rank)));
+        result.sort(Comparator.comparingLong(Match::hospitalId));
+        return result;
+    }
+
+    /**
+     * 역색인 없이 주어진 행을 하나씩 훑어 {@link #match} 와 같은 결과를 만듭니다 (역색인 적재 전 대체 경로).
+     */
+    public static List<Match> matchRows(List<HospitalTop5DiseaseNames> rows, List<String> tokens) {
+        List<String> normalizedTokens = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            String t = normalize(token);
+            if (t != null && t.length() >= 2) {
+                normalizedTokens.add(t);
+            }
+        }
+        List<Match> result = new ArrayList<>();
+        for (HospitalTop5DiseaseNames row : rows) {
+            Doc doc = toDoc(row);
+            if (doc == null) {
+                continue;
+            }
+            int best = Integer.MAX_VALUE;
+            for (int k = 0; k < SLOTS && best > k + 1; k++) {
+                String name = doc.names()[k];
+                if (name == null) {
+                    continue;
+                }
+                for (String t : normalizedTokens) {
+                    if (name.contains(t)) {
+                        best = k + 1;
+                        break;
+                    }
+                }
+            }
+            if (best != Integer.MAX_VALUE) {
+                result.add(doc.toMatch(best));
+            }
+        }
+        result.sort(Comparator.comparingLong(Match::hospitalId));
+        return result;
+    }
+
+    private static void putDoc(Map<Long, Doc> docs, HospitalTop5DiseaseNames row) {
+        Doc doc = toDoc(row);
+        if (doc != null) {
+            docs.put(doc.hospitalId(), doc);
+        }
+    }
+
+    private static Doc toDoc(HospitalTop5DiseaseNames row) {
+        if (row.getHospitalId() == null) {
+            return null;
+        }
+        String[] terms = {
+                trimToNull(row.getDiseaseNm1()),
+                trimToNull(row.getDiseaseNm2()),
+                trimToNull(row.getDiseaseNm3()),
+                trimToNull(row.getDiseaseNm4()),
+                trimToNull(row.getDiseaseNm5())
+        };
+        String[] names = new String[SLOTS];
+        for (int k = 0; k < SLOTS; k++) {
+            names[k] = terms[k] == null ? null : terms[k].toLowerCase(Locale.ROOT);
+        }
+        return new Doc(
+                row.getHospitalId(),
+                row.getHospitalName(),
+                row.getLatitude() != null ? row.getLatitude().doubleValue() : Double.NaN,
+                row.getLongitude() != null ? row.getLongitude().doubleValue() : Double.NaN,
+                terms,
+                names);
+    }
+
+    private static String trimToNull(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String s = raw.trim();
+        return s.isEmpty() ? null : s;
+    }
+
+    /** 검색 비교용: 앞뒤 공백 제거 + 소문자, 비어 있으면 null */
+    private static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String s = raw.trim();
+        return s.isEmpty() ? null : s.toLowerCase(Locale.ROOT);
+    }
+
+    private static int bigram(String s, int i) {
+        return (s.charAt(i) << 16) | s.charAt(i + 1);
+    }
+
+    /** 문서의 서로 다른 질병명(원문)마다 병원 수를 delta 만큼 더합니다 (0 이 되면 제거). */
+    private static void countTerms(Map<String, Integer> counts, Doc doc, int delta) {
+        Set<String> seen = new HashSet<>(SLOTS * 2);
+        for (String term : doc.terms()) {
+            if (term != null && seen.add(term)) {
+                counts.merge(term, delta, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+    }
+
+    /** 병원 1곳: 정렬용 이름·좌표 + 질병명 1~5 원문(공백 제거)과 정규화(소문자)본 (없으면 null) */
+    private record Doc(long hospitalId, String hospitalName, double latitude, double longitude,
+                       String[] terms, String[] names) {
+
+        Match toMatch(int bestRank) {
+            return new Match(hospitalId, bestRank, hospitalName, latitude, longitude);
+        }
+    }
+
+    /**
+     * 문서 배열 + 2-gram → 질병명 위치(문서 × 5 + 슬롯) 정렬 목록.
+     * 증분 반영은 문서를 used 뒤에 덧붙이고 교체·삭제된 문서는 postings 에서만 빼므로, 배열의 used 이후 칸은
+     * 다음 스냅샷이 이어 쓸 수 있습니다 (이 스냅샷의 조회는 used 미만만 봄).
+     */
+    private static final class Snapshot {
+        private final Doc[] docs;
+        /** 문서 d 의 슬롯 k 질병명 = names[d * SLOTS + k] */
+        private final String[] names;
+        /** 사용한 문서 자리 수 (비운 자리 포함) */
+        private final int used;
+        /** postings 에서 참조하는 살아 있는 문서 수 */
+        private final int live;
+        private final Map<Integer, int[]> postings;
+        private final HospitalSymptomVocabulary vocabulary;
+
+        private Snapshot(Doc[] docs, String[] names, int used, int live, Map<Integer, int[]> postings,
+                         HospitalSymptomVocabulary vocabulary) {
+            this.docs = docs;
+            this.names = names;
+            this.used = used;
+            this.live = live;
+            this.postings = postings;
+            this.vocabulary = vocabulary;
+        }
+
+        static Snapshot build(Collection<Doc> source) {
+            Doc[] docs = source.stream()
+                    .sorted(Comparator.comparingLong(Doc::hospitalId))
+                    .toArray(Doc[]::new);
+            String[] names = new String[docs.length * SLOTS];
+            int entries = 0;
+            for (int d = 0; d < docs.length; d++) {
+                for (int k = 0; k < SLOTS; k++) {
+                    String name = docs[d].names()[k];
+                    names[d * SLOTS + k] = name;
+                    if (name != null && name.length() >= 2) {
+                        entries += name.length() - 1;
+                    }
+                }
+            }
+
+            // 상위 32비트 2-gram, 하위 32비트 질병명 위치로 묶어 한 번에 정렬
+            long[] pairs = new long[entries];
+            int n = 0;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name == null) {
+                    continue;
+                }
+                for (int j = 0; j + 1 < name.length(); j++) {
+                    pairs[n++] = ((long) bigram(name, j) << 32) | i;
+                }
+            }
+            Arrays.sort(pairs);
+
+            Map<Integer, int[]> postings = new HashMap<>();
+            int from = 0;
+            while (from < n) {
+                int gram = (int) (pairs[from] >>> 32);
+                int to = from;
+                while (to < n && (int) (pairs[to] >>> 32) == gram) {
+                    to++;
+                }
+                int[] list = new int[to - from];
+                int size = 0;
+                for (int p = from; p < to; p++) {
+                    int nameIndex = (int) pairs[p];
+                    if (size == 0 || list[size - 1] != nameIndex) {
+                        list[size++] = nameIndex;
+                    }
+                }
+                postings.put(gram, size == list.length ? list : Arrays.copyOf(list, size));
+                from = to;
+            }
+            return new Snapshot(docs, names, docs.length, docs.length, postings, buildVocabulary(docs));
+        }
+
+        /** 질병명(원문)별로 그 질병명을 Top5 에 가진 병원 수 (한 병원에 같은 이름이 두 슬롯이면 1곳) */
+        private static HospitalSymptomVocabulary buildVocabulary(Doc[] docs) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (Doc doc : docs) {
+                countTerms(counts, doc, 1);
+            }
+            return HospitalSymptomVocabulary.of(counts);
+        }
+
+        /**
+         * changed 병원의 기존 문서를 빼고 reloaded 문서를 덧붙인 스냅샷. 바뀐 질병명이 가진 2-gram 목록만 새로 만들고
+         * 나머지 목록 배열은 그대로 공유합니다. 쓰기 측 상태(positionById, termCounts)도 함께 고칩니다.
+         */
+        Snapshot patch(Set<Long> changed, Collection<Doc> reloaded,
+                       Map<Long, Integer> positionById, Map<String, Integer> termCounts) {
+            Set<Integer> touchedGrams = new HashSet<>();
+            Set<Integer> removedNames = new HashSet<>();
+            int removedDocs = 0;
+            for (Long id : changed) {
+                Integer d = positionById.remove(id);
+                if (d == null) {
+                    continue;
+                }
+                removedDocs++;
+                countTerms(termCounts, docs[d], -1);
+                for (int k = 0; k < SLOTS; k++) {
+                    String name = names[d * SLOTS + k];
+                    if (name != null) {
+                        removedNames.add(d * SLOTS + k);
+                        for (int j = 0; j + 1 < name.length(); j++) {
+                            touchedGrams.add(bigram(name, j));
+                        }
+                    }
+                }
+            }
+
+            Doc[] nextDocs = docs;
+            String[] nextNames = names;
+            int nextUsed = used + reloaded.size();
+            if (nextUsed > docs.length) {
+                int capacity = Math.max(nextUsed, docs.length + docs.length / 2);
+                nextDocs = Arrays.copyOf(docs, capacity);
+                nextNames = Arrays.copyOf(names, capacity * SLOTS);
+            }
+            // 새 위치는 기존 위치보다 모두 크므로 목록 끝에 붙여도 정렬이 유지된다
+            Map<Integer, List<Integer>> added = new HashMap<>();
+            int d = used;
+            for (Doc doc : reloaded) {
+                nextDocs[d] = doc;
+                positionById.put(doc.hospitalId(), d);
+                countTerms(termCounts, doc, 1);
+                for (int k = 0; k < SLOTS; k++) {
+                    String name = doc.names()[k];
+                    int nameIndex = d * SLOTS + k;
+                    nextNames[nameIndex] = name;
+                    if (name == null) {
+                        continue;
+                    }
+                    for (int j = 0; j + 1 < name.length(); j++) {
+                        List<Integer> list = added.computeIfAbsent(bigram(name, j), g -> new ArrayList<>());
+                        if (list.isEmpty() || list.get(list.size() - 1) != nameIndex) {
+                            list.add(nameIndex);
+                        }
+                    }
+                }
+                d++;
+            }
+
+            Map<Integer, int[]> nextPostings = new HashMap<>(postings);
+            touchedGrams.addAll(added.keySet());
+            for (int gram : touchedGrams) {
+                int[] previous = postings.getOrDefault(gram, NO_POSTINGS);
+                List<Integer> appended = added.getOrDefault(gram, List.of());
+                int[] list = new int[previous.length + appended.size()];
+                int size = 0;
+                for (int nameIndex : previous) {
+                    if (!removedNames.contains(nameIndex)) {
+                        list[size++] = nameIndex;
+                    }
+                }
+                for (int nameIndex : appended) {
+                    list[size++] = nameIndex;
+                }
+                if (size == 0) {
+                    nextPostings.remove(gram);
+                } else {
+                    nextPostings.put(gram, size == list.length ? list : Arrays.copyOf(list, size));
+                }
+            }
+            return new Snapshot(nextDocs, nextNames, nextUsed, live - removedDocs + reloaded.size(), nextPostings,
+                    HospitalSymptomVocabulary.of(termCounts));
+        }
+
+        /** 토큰의 모든 2-gram 을 가진 질병명 위치 (짧은 목록부터 교집합) */
+        int[] candidates(String token) {
+            Set<Integer> grams = new LinkedHashSet<>();
+            for (int j = 0; j + 1 < token.length(); j++) {
+                grams.add(bigram(token, j));
+            }
+            List<int[]> lists = new ArrayList<>(grams.size());
+            for (int gram : grams) {
+                int[] list = postings.get(gram);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.length));
+            int[] result = lists.get(0);
+            for (int l = 1; l < lists.size() && result.length > 0; l++) {
+                result = intersect(result, lists.get(l));
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return n == out.length ? out : Arrays.copyOf(out, n);
+        }
+    }
+}
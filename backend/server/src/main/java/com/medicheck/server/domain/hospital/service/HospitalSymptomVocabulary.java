@@ -0,0 +1,97 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.SymptomKeywordResponse;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 증상 피커용 Top5 질병명 어휘(불변). 질병명을 소문자 키 → 원문 순으로 정렬한 배열과 병원 수를 두고,
+ * 접두어 검색은 정렬 배열의 이진 탐색으로 처리합니다.
+ * {@link #version()} 은 어휘 내용(질병명·병원 수)의 해시로, 응답 ETag 로 씁니다.
+ */
+public final class HospitalSymptomVocabulary {
+
+    /** 피커에 노출하는 최소 질병명 길이 (공백 제거 후) */
+    static final int MIN_TERM_LENGTH = 2;
+
+    private static final HospitalSymptomVocabulary EMPTY = of(Map.of());
+
+    private final String[] terms;
+    /** terms[i] 의 검색 키(소문자) */
+    private final String[] keys;
+    private final int[] hospitalCounts;
+    private final String version;
+
+    private HospitalSymptomVocabulary(String[] terms, String[] keys, int[] hospitalCounts, String version) {
+        this.terms = terms;
+        this.keys = keys;
+        this.hospitalCounts = hospitalCounts;
+        this.version = version;
+    }
+
+    public static HospitalSymptomVocabulary empty() {
+        return EMPTY;
+    }
+
+    /** 질병명(앞뒤 공백 제거된 원문) → 병원 수 로 어휘를 만듭니다. {@link #MIN_TERM_LENGTH} 자 미만은 제외합니다. */
+    public static HospitalSymptomVocabulary of(Map<String, Integer> hospitalCountByTerm) {
+        String[] terms = hospitalCountByTerm.keySet().stream()
+                .filter(term -> term != null && term.length() >= MIN_TERM_LENGTH)
+                .sorted(Comparator.comparing((String term) -> term.toLowerCase(Locale.ROOT))
+                        .thenComparing(Comparator.naturalOrder()))
+                .toArray(String[]::new);
+        String[] keys = new String[terms.length];
+        int[] counts = new int[terms.length];
+        StringBuilder digest = new StringBuilder();
+        for (int i = 0; i < terms.length; i++) {
+            keys[i] = terms[i].toLowerCase(Locale.ROOT);
+            counts[i] = hospitalCountByTerm.get(terms[i]);
+            digest.append(terms[i]).append('\t').append(counts[i]).append('\n');
+        }
+        String version = DigestUtils.md5DigestAsHex(digest.toString().getBytes(StandardCharsets.UTF_8));
+        return new HospitalSymptomVocabulary(terms, keys, counts, version);
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    /** 어휘 내용 해시 (내용이 같으면 재적재 후에도 같음) */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * 접두어(대소문자 무시, 앞뒤 공백 제거)로 시작하는 질병명을 가나다순으로 최대 limit 개 반환합니다.
+     * 접두어가 비어 있으면 처음부터 반환합니다.
+     */
+    public List<SymptomKeywordResponse> search(String prefix, int limit) {
+        String p = prefix == null ? "" : prefix.trim().toLowerCase(Locale.ROOT);
+        int from = p.isEmpty() ? 0 : lowerBound(p);
+        List<SymptomKeywordResponse> result = new ArrayList<>(Math.min(limit, terms.length - from));
+        for (int i = from; i < terms.length && result.size() < limit && keys[i].startsWith(p); i++) {
+            result.add(new SymptomKeywordResponse(terms[i], hospitalCounts[i]));
+        }
+        return result;
+    }
+
+    /** keys 에서 p 이상인 첫 위치 */
+    private int lowerBound(String p) {
+        int index = Arrays.binarySearch(keys, p);
+        if (index >= 0) {
+            // 같은 키(대소문자만 다른 원문)가 여럿이면 그중 첫 번째
+            while (index > 0 && keys[index - 1].equals(p)) {
+                index--;
+            }
+            return index;
+        }
+        return -index - 1;
+    }
+}
@@ -0,0 +1,178 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.medicheck.server.domain.hospital.dto.HospitalClusterResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalTileResponse;
+import com.medicheck.server.domain.hospital.util.GeoBoundingBox;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 지도 타일(XYZ, Web Mercator) 단위 병원 마커 응답을 만들어 직렬화된 바이트 + ETag 로 캐시합니다.
+ * 줌 {@value #MARKER_MIN_ZOOM} 미만은 격자 클러스터, 이상은 병원 마커 배열을 담으며, 모두 {@link HospitalGeoIndex} 에서 만듭니다.
+ * 클러스터 셀은 타일을 4×4 로 나눈 Web Mercator 하위 타일이라 타일 경계를 넘지 않고,
+ * 병원은 {@link #tileX}/{@link #tileY} 로 정한 타일 하나에만 셉니다(이웃 타일 경계에서 같은 클러스터가 두 번 나오지 않음).
+ *
+ * <ul>
+ *   <li>무효화: {@link HospitalGeoIndexChangedEvent} — 증분 반영이면 바뀐 병원의 이전·새 좌표가 속한 타일만(줌별로),
+ *       전체 재적재면 전부</li>
+ *   <li>크기 상한: hospital.tile-cache.maximum-size, 안전망 TTL: hospital.tile-cache.ttl</li>
+ *   <li>메트릭: cache.gets/puts/evictions{cache=hospital.tile}</li>
+ * </ul>
+ */
+@Component
+public class HospitalTileService {
+
+    static final String CACHE_NAME = "hospital.tile";
+    /** 타일 좌표로 받는 최대 줌 (지도 SDK 공통 최대 줌과 같음) */
+    public static final int MAX_TILE_ZOOM = 21;
+    /** 이 줌부터 클러스터 대신 병원 마커를 내려줍니다 (타일 한 변 약 2.4km) */
+    static final int MARKER_MIN_ZOOM = 14;
+    /** 클러스터 셀 = 줌 z + 2 하위 타일 (타일당 4×4, /clusters 의 타일당 4칸 격자와 같은 크기) */
+    static final int CLUSTER_SUB_ZOOM = 2;
+    /** 타일 사각형과 tileX/tileY 의 부동소수점 차이로 경계 위 병원을 놓치지 않게 후보 사각형을 넓히는 양(도) */
+    private static final double TILE_EDGE_MARGIN_DEGREES = 1e-9;
+    /** Web Mercator 가 표현하는 최대 위도 */
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    private final HospitalGeoIndex hospitalGeoIndex;
+    private final ObjectMapper objectMapper;
+    private final Cache<TileKey, HospitalTile> cache;
+
+    public HospitalTileService(
+            HospitalGeoIndex hospitalGeoIndex,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${hospital.tile-cache.maximum-size:20000}") long maximumSize,
+            @Value("${hospital.tile-cache.ttl:6h}") Duration ttl
+    ) {
+        this.hospitalGeoIndex = hospitalGeoIndex;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /** 직렬화된 타일 JSON 과 그 ETag (본문 MD5). */
+    public record HospitalTile(byte[] body, String etag) {
+    }
+
+    private record TileKey(int z, int x, int y) {
+    }
+
+    /** z 가 0~{@value #MAX_TILE_ZOOM} 이고 x, y 가 0 ~ 2^z-1 인지 */
+    public static boolean isValidTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_TILE_ZOOM) {
+            return false;
+        }
+        int n = 1 << z;
+        return x >= 0 && x < n && y >= 0 && y < n;
+    }
+
+    /**
+     * 타일을 캐시에서 꺼내거나 만들어 반환합니다. 공간 인덱스가 아직 적재되지 않았으면 비어 있습니다.
+     *
+     * @throws IllegalArgumentException 타일 좌표가 잘못된 경우 ({@link #isValidTile} 확인)
+     */
+    public Optional<HospitalTile> getTile(int z, int x, int y) {
+        if (!isValidTile(z, x, y)) {
+            throw new IllegalArgumentException("invalid tile: " + z + "/" + x + "/" + y);
+        }
+        if (!hospitalGeoIndex.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(cache.get(new TileKey(z, x, y), this::render));
+    }
+
+    @EventListener
+    public void onGeoIndexChanged(HospitalGeoIndexChangedEvent event) {
+        if (event.fullRebuild()) {
+            cache.invalidateAll();
+            return;
+        }
+        Set<TileKey> stale = new HashSet<>();
+        for (HospitalGeoIndexChangedEvent.Location location : event.touched()) {
+            for (int z = 0; z <= MAX_TILE_ZOOM; z++) {
+                stale.add(new TileKey(z, tileX(location.longitude(), z), tileY(location.latitude(), z)));
+            }
+        }
+        cache.invalidateAll(stale);
+    }
+
+    private HospitalTile render(TileKey key) {
+        GeoBoundingBox box = tileBounds(key.z(), key.x(), key.y());
+        HospitalTileResponse.HospitalTileResponseBuilder tile = HospitalTileResponse.builder()
+                .z(key.z())
+                .x(key.x())
+                .y(key.y());
+        if (key.z() < MARKER_MIN_ZOOM) {
+            tile.type(HospitalTileResponse.TYPE_CLUSTERS)
+                    .clusters(clusters(key, box));
+        } else {
+            tile.type(HospitalTileResponse.TYPE_MARKERS)
+                    .markers(hospitalGeoIndex.markers(box));
+        }
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(tile.build());
+            return new HospitalTile(body, DigestUtils.md5DigestAsHex(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize hospital tile " + key, e);
+        }
+    }
+
+    /** 타일 안 병원을 하위 타일(z + {@value #CLUSTER_SUB_ZOOM}) 셀로 묶습니다. 하위 타일이 이 타일에 속하는 병원만 셉니다. */
+    private List<HospitalClusterResponse> clusters(TileKey key, GeoBoundingBox box) {
+        int subZoom = key.z() + CLUSTER_SUB_ZOOM;
+        GeoBoundingBox candidates = new GeoBoundingBox(
+                box.minLatitude() - TILE_EDGE_MARGIN_DEGREES, box.maxLatitude() + TILE_EDGE_MARGIN_DEGREES,
+                box.minLongitude() - TILE_EDGE_MARGIN_DEGREES, box.maxLongitude() + TILE_EDGE_MARGIN_DEGREES);
+        HospitalClusterAccumulator accumulator = new HospitalClusterAccumulator();
+        hospitalGeoIndex.forEachIn(candidates, (id, lat, lng, department) -> {
+            int cellX = tileX(lng, subZoom);
+            int cellY = tileY(lat, subZoom);
+            if (cellX >> CLUSTER_SUB_ZOOM == key.x() && cellY >> CLUSTER_SUB_ZOOM == key.y()) {
+                accumulator.addToCell(cellY, cellX, id, lat, lng, department);
+            }
+        });
+        return accumulator.toResponses();
+    }
+
+    /** 타일이 덮는 위·경도 사각형 */
+    static GeoBoundingBox tileBounds(int z, int x, int y) {
+        double n = 1L << z;
+        double west = x / n * 360.0 - 180.0;
+        double east = (x + 1) / n * 360.0 - 180.0;
+        double north = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / n))));
+        double south = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * (y + 1) / n))));
+        return new GeoBoundingBox(south, north, west, east);
+    }
+
+    static int tileX(double longitude, int z) {
+        int n = 1 << z;
+        int x = (int) Math.floor((longitude + 180.0) / 360.0 * n);
+        return Math.min(Math.max(x, 0), n - 1);
+    }
+
+    static int tileY(double latitude, int z) {
+        int n = 1 << z;
+        double lat = Math.toRadians(Math.min(Math.max(latitude, -MAX_MERCATOR_LATITUDE), MAX_MERCATOR_LATITUDE));
+        int y = (int) Math.floor((1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2 * n);
+        return Math.min(Math.max(y, 0), n - 1);
+    }
+}
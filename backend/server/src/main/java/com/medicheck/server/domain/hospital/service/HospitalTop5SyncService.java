@@ -4,22 +4,42 @@ import com.medicheck.server.domain.hospital.client.HiraClinicTop5Client;
 import com.medicheck.server.domain.hospital.client.dto.HiraClinicTop5Item;
 import com.medicheck.server.domain.hospital.entity.Hospital;
 import com.medicheck.server.domain.hospital.entity.HospitalClinicTop5;
+import com.medicheck.server.domain.hospital.repository.HospitalClinicTop5BulkWriter;
 import com.medicheck.server.domain.hospital.repository.HospitalClinicTop5Repository;
+import com.medicheck.server.domain.hospital.repository.HospitalCodeRef;
 import com.medicheck.server.domain.hospital.repository.HospitalRepository;
 import com.medicheck.server.domain.hospital.repository.HospitalSpecification;
+import com.medicheck.server.global.config.HiraSyncProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * HIRA 병원진료정보조회서비스(getClinicTop5List1) 결과를 DB에 동기화합니다.
+ *
+ * <p>지역 동기화는 3단계 파이프라인입니다.
+ * <ol>
+ *   <li>생산자: 대상 병원 (id, 요양기호)를 id keyset 페이지로 읽어 요청을 만든다.</li>
+ *   <li>조회: 가상 스레드가 HIRA 를 호출한다. 동시 호출 수는 hira.sync.concurrency, 초당 호출 수는 RateLimiter(hira-diag)로 제한.</li>
+ *   <li>소비자: 결과를 hira.sync.top5-batch-size 건씩 모아 한 트랜잭션에서 일괄 upsert, 응답이 없어진 병원의 Top5 는 일괄 삭제한다.</li>
+ * </ol>
+ * 단계 사이는 크기가 정해진 큐라서, 저장이 밀리면 조회도 그만큼 기다립니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,38 +48,192 @@ public class HospitalTop5SyncService {
 
     private static final int DEFAULT_PAGE_NO = 1;
     private static final int DEFAULT_NUM_OF_ROWS = 10;
+    /** 생산자가 한 번에 읽는 대상 병원 수 */
+    private static final int PRODUCER_PAGE_SIZE = 500;
 
     private final HiraClinicTop5Client clinicTop5Client;
     private final HospitalRepository hospitalRepository;
     private final HospitalClinicTop5Repository top5Repository;
+    private final HospitalClinicTop5BulkWriter top5BulkWriter;
+    private final HiraSyncProperties hiraSyncProperties;
     private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 주소(address) 포함 키워드(예: 구미)가 들어간 병원만 Top5를 1건씩 동기화한다.
+     * 주소(address) 포함 키워드(예: 구미)가 들어간 병원의 Top5 를 파이프라인으로 동기화한다.
+     * 공공데이터 응답이 없는 병원은 기존 Top5 를 지우고, 호출 자체가 실패한 병원(호출 제한 대기 초과 등)은 건드리지 않는다.
+     *
+     * @param maxSynced 지정되면 성공 건수가 아니라 대상 병원 수 자체를 제한해 요청 시간을 예측 가능하게 만든다.
+     * @return 저장/갱신된 Top5 건수
      */
     public int syncByAddressKeyword(String addressKeyword, Integer maxSynced) {
+        return syncByAddressKeyword(addressKeyword, maxSynced, SyncProgressListener.NONE);
+    }
+
+    /**
+     * {@link #syncByAddressKeyword(String, Integer)} 와 같고, 저장 배치마다 진행 상황을 listener 로 알립니다(동기화 작업 진행률용).
+     * 대상 병원을 keyset 으로 읽으며 진행하므로 전체 배치 수를 미리 알 수 없어 onPagesPlanned 는 호출하지 않고,
+     * upsert 는 신규·갱신을 구분하지 않으므로 저장 건수로만 알립니다.
+     */
+    public int syncByAddressKeyword(String addressKeyword, Integer maxSynced, SyncProgressListener listener) {
         if (addressKeyword == null || addressKeyword.isBlank()) return 0;
 
-        Specification<Hospital> spec = HospitalSpecification.addressContains(addressKeyword);
-        List<Hospital> hospitals;
-        if (maxSynced != null && maxSynced > 0) {
-            // maxSynced가 지정되면 성공 건수 기준이 아니라 후보 조회 수 자체를 제한해 요청 시간을 예측 가능하게 만든다.
-            hospitals = hospitalRepository.findAll(spec, PageRequest.of(0, maxSynced)).getContent();
-        } else {
-            hospitals = hospitalRepository.findAll(spec);
+        String pattern = HospitalSpecification.containsPattern(addressKeyword);
+        int limit = maxSynced != null && maxSynced > 0 ? maxSynced : Integer.MAX_VALUE;
+        int concurrency = Math.max(1, hiraSyncProperties.getConcurrency());
+        int batchSize = Math.max(1, hiraSyncProperties.getTop5BatchSize());
+        BlockingQueue<FetchResult> results = new ArrayBlockingQueue<>(batchSize * 2);
+        Semaphore permits = new Semaphore(concurrency);
+        Top5Tally tally = new Top5Tally();
+        long startedAt = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> producer = executor.submit(() -> {
+                produce(pattern, limit, executor, permits, concurrency, results);
+                return null;
+            });
+            try {
+                consume(results, batchSize, tally, listener);
+                producer.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Top5 지역 동기화가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("Top5 지역 동기화 대상 조회에 실패했습니다.", e.getCause());
+            } finally {
+                // 저장 실패 시 남은 생산자·조회 스레드를 끊어 executor 종료가 밀리지 않게 함
+                executor.shutdownNow();
+            }
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("병원진료정보 Top5 지역 동기화 완료: addressKeyword={}, 대상={}, synced={}, staleDeleted={}, failed={}, "
+                        + "소요={}ms, hospitals/sec={}",
+                addressKeyword, tally.fetched, tally.synced, tally.deleted, tally.failed, elapsedMillis,
+                String.format("%.1f", (tally.fetched + tally.failed) * 1000.0 / elapsedMillis));
+        return tally.synced;
+    }
+
+    /**
+     * 1단계: 대상 병원을 keyset 페이지로 읽어 조회 작업을 띄운다. 동시 조회 수는 permits 로 제한하며,
+     * 모든 조회 결과가 큐에 들어간 뒤 종료 표시(END)를 넣는다.
+     * 소비자가 실패해 중단(interrupt)된 경우에는 END 를 넣지 않는다. 읽어 갈 소비자가 없어 큐가 가득 찬 채로
+     * put 이 영원히 막히고, 그러면 executor 종료도 끝나지 않기 때문이다.
+     */
+    private void produce(String pattern, int limit, ExecutorService executor, Semaphore permits, int concurrency,
+                         BlockingQueue<FetchResult> results) throws InterruptedException {
+        boolean interrupted = false;
+        try {
+            long afterId = 0;
+            int produced = 0;
+            while (produced < limit) {
+                int pageSize = Math.min(PRODUCER_PAGE_SIZE, limit - produced);
+                List<HospitalCodeRef> page = hospitalRepository.findCodeRefsByAddressLikeAfter(
+                        pattern, afterId, PageRequest.of(0, pageSize));
+                for (HospitalCodeRef ref : page) {
+                    afterId = ref.getId();
+                    String ykiho = trim(ref.getPublicCode(), 500);
+                    if (ykiho == null || ykiho.isBlank()) continue;
+                    permits.acquire();
+                    long hospitalId = ref.getId();
+                    executor.execute(() -> fetch(hospitalId, ykiho, permits, results));
+                    produced++;
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+            // 진행 중인 조회가 모두 결과를 넣고 permit 을 돌려줄 때까지 대기
+            permits.acquire(concurrency);
+            permits.release(concurrency);
+        } catch (InterruptedException e) {
+            interrupted = true;
+            throw e;
+        } finally {
+            // 대상 조회 실패 등 소비자가 살아 있는 경우에만 END 로 소비자를 끝낸다
+            if (!interrupted && !Thread.currentThread().isInterrupted()) {
+                results.put(FetchResult.END);
+            }
+        }
+    }
+
+    /** 2단계: 병원 1곳 조회. 결과는 큐가 빌 때까지 기다렸다 넣는다(소비자 속도에 맞춘 역압). */
+    private void fetch(long hospitalId, String ykiho, Semaphore permits, BlockingQueue<FetchResult> results) {
+        try {
+            FetchResult result;
+            try {
+                HiraClinicTop5Item item = clinicTop5Client.getClinicTop5List1(ykiho, DEFAULT_PAGE_NO, DEFAULT_NUM_OF_ROWS);
+                result = new FetchResult(hospitalId, item, false);
+            } catch (RuntimeException e) {
+                log.warn("Top5 조회 실패로 건너뜀 ykiho={}, hospitalId={}: {}", ykiho, hospitalId, e.toString());
+                result = new FetchResult(hospitalId, null, true);
+            }
+            results.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            permits.release();
         }
+    }
 
-        int count = 0;
-        for (Hospital h : hospitals) {
-            String ykiho = trim(h.getPublicCode(), 500);
-            if (ykiho == null || ykiho.isBlank()) continue;
-            if (syncOne(ykiho)) {
-                count++;
+    /** 3단계: 호출 스레드에서 결과를 batchSize 건씩 모아 저장한다. */
+    private void consume(BlockingQueue<FetchResult> results, int batchSize, Top5Tally tally,
+                         SyncProgressListener listener) throws InterruptedException {
+        List<FetchResult> batch = new ArrayList<>(batchSize);
+        while (true) {
+            FetchResult result = results.take();
+            if (result == FetchResult.END) {
+                break;
             }
+            if (result.failed()) {
+                tally.failed++;
+                continue;
+            }
+            batch.add(result);
+            if (batch.size() >= batchSize) {
+                writeBatch(batch, tally, listener);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, tally, listener);
         }
+    }
+
+    /** 한 배치를 한 트랜잭션으로: 응답이 있는 병원은 upsert, 응답이 없어진 병원의 기존 Top5 는 삭제 */
+    private void writeBatch(List<FetchResult> batch, Top5Tally tally, SyncProgressListener listener) {
+        int synced = new TransactionTemplate(transactionManager).execute(status -> {
+            List<HospitalClinicTop5BulkWriter.Top5Row> rows = new ArrayList<>();
+            List<Long> emptyIds = new ArrayList<>();
+            for (FetchResult result : batch) {
+                if (result.item() != null) {
+                    rows.add(new HospitalClinicTop5BulkWriter.Top5Row(result.hospitalId(), result.item()));
+                } else {
+                    emptyIds.add(result.hospitalId());
+                }
+            }
+            Set<Long> existing = emptyIds.isEmpty() ? Set.of() : top5BulkWriter.findExistingHospitalIds(emptyIds);
+            List<Long> staleIds = emptyIds.stream().filter(existing::contains).toList();
+
+            top5BulkWriter.upsert(rows);
+            top5BulkWriter.deleteByHospitalIds(staleIds);
 
-        log.info("병원진료정보 Top5 지역 동기화 완료: addressKeyword={}, synced={}", addressKeyword, count);
-        return count;
+            List<Long> changedIds = new ArrayList<>(rows.size() + staleIds.size());
+            rows.forEach(row -> changedIds.add(row.hospitalId()));
+            changedIds.addAll(staleIds);
+            if (!changedIds.isEmpty()) {
+                eventPublisher.publishEvent(new HospitalEnrichmentChangedEvent(
+                        HospitalEnrichmentChangedEvent.Type.TOP5, changedIds));
+            }
+            tally.fetched += batch.size();
+            tally.synced += rows.size();
+            tally.deleted += staleIds.size();
+            return rows.size();
+        });
+        listener.onPage(batch.size(), synced, 0);
     }
 
     /**
@@ -108,8 +282,13 @@ public class HospitalTop5SyncService {
     }
 
     protected long deleteTop5ByHospitalId(Long hospitalId) {
-        return new TransactionTemplate(transactionManager)
-                .execute(status -> top5Repository.deleteByHospital_Id(hospitalId));
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            long deleted = top5Repository.deleteByHospital_Id(hospitalId);
+            if (deleted > 0) {
+                publishTop5Changed(hospitalId);
+            }
+            return deleted;
+        });
     }
 
     protected void upsertTop5(Long hospitalId, HospitalClinicTop5 newData) {
@@ -118,12 +297,36 @@ public class HospitalTop5SyncService {
             if (existingOpt.isPresent()) {
                 existingOpt.get().updateFromApi(newData);
                 top5Repository.save(existingOpt.get());
-                return;
+            } else {
+                top5Repository.save(newData);
             }
-            top5Repository.save(newData);
+            publishTop5Changed(hospitalId);
         });
     }
 
+    /** 트랜잭션 안에서 발행하므로 리스너(캐시 무효화 등)는 커밋 이후에 실행됩니다. */
+    private void publishTop5Changed(Long hospitalId) {
+        eventPublisher.publishEvent(new HospitalEnrichmentChangedEvent(
+                HospitalEnrichmentChangedEvent.Type.TOP5, List.of(hospitalId)));
+    }
+
+    /**
+     * 조회 단계 → 저장 단계로 넘기는 결과. item 이 null 이면 공공데이터 응답 없음, failed 면 호출 실패(저장·삭제하지 않음).
+     */
+    private record FetchResult(long hospitalId, HiraClinicTop5Item item, boolean failed) {
+
+        /** 생산자가 모든 조회가 끝났음을 알리는 표시 (동일성 비교) */
+        static final FetchResult END = new FetchResult(-1, null, true);
+    }
+
+    /** 소비자(호출 스레드)만 갱신하는 집계 */
+    private static final class Top5Tally {
+        int fetched;
+        int synced;
+        int deleted;
+        int failed;
+    }
+
     private static String trim(String value, int maxLen) {
         if (value == null) return null;
         String s = value.trim();
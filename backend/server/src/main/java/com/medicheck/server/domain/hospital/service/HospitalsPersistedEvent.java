@@ -0,0 +1,12 @@
+package com.medicheck.server.domain.hospital.service;
+
+import java.util.List;
+
+/**
+ * HIRA 동기화로 hospitals 행이 신규 저장/갱신되었음을 알리는 이벤트.
+ * {@link HospitalPersistenceService} 가 트랜잭션 안에서 발행하며, 리스너는 커밋 이후(AFTER_COMMIT)에 처리합니다.
+ *
+ * @param hospitalIds 저장 또는 갱신된 병원 ID
+ */
+public record HospitalsPersistedEvent(List<Long> hospitalIds) {
+}
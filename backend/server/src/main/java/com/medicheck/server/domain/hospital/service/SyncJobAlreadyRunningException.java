@@ -0,0 +1,13 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.entity.SyncJob;
+
+/**
+ * 같은 종류의 동기화 작업이 이미 실행 중일 때 새 작업 시작을 거절하는 예외.
+ */
+public class SyncJobAlreadyRunningException extends RuntimeException {
+
+    public SyncJobAlreadyRunningException(SyncJob.Type type, Throwable cause) {
+        super("이미 실행 중인 동기화 작업이 있습니다: " + type, cause);
+    }
+}
@@ -0,0 +1,179 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.SyncJobResponse;
+import com.medicheck.server.domain.hospital.dto.SyncResult;
+import com.medicheck.server.domain.hospital.entity.SyncJob;
+import com.medicheck.server.domain.hospital.repository.SyncJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 동기화를 백그라운드 작업으로 실행하고 진행률을 sync_jobs 테이블에 기록합니다.
+ * 요청 스레드는 작업 행만 만들고 바로 반환하며, 실제 동기화는 전용 스레드 풀에서 돌아갑니다.
+ * 종류당 실행 중 작업 1개 제한은 sync_jobs.running_type 유니크 키가 보장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncJobService {
+
+    /** 진행률 DB 반영 최소 간격 (페이지마다 UPDATE 하지 않도록) */
+    private static final long PROGRESS_FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 500;
+    private static final int PARAMS_MAX_LENGTH = 200;
+
+    private final SyncJobRepository syncJobRepository;
+    private final HiraSyncService hiraSyncService;
+    private final HospitalEvaluationSyncService hospitalEvaluationSyncService;
+    private final HospitalTop5SyncService hospitalTop5SyncService;
+
+    /** 종류당 1개만 실행되므로 종류 수만큼의 스레드면 충분. 각 작업 내부 fan-out 은 동기화 서비스가 가상 스레드로 처리 */
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            SyncJob.Type.values().length,
+            Thread.ofPlatform().name("sync-job-", 1).factory());
+
+    /**
+     * 동기화 작업을 등록하고 백그라운드에서 시작합니다.
+     *
+     * @param numOfRows HOSPITALS_ALL 페이지당 조회 건수
+     * @param maxSynced EVALUATIONS_ALL·EVALUATIONS_REGION·TOP5_REGION 최대 동기화 건수 (null 이면 제한 없음)
+     * @param addressKeyword EVALUATIONS_REGION·TOP5_REGION 주소 키워드 (예: 구미)
+     * @throws SyncJobAlreadyRunningException 같은 종류의 작업이 이미 RUNNING 인 경우
+     */
+    public SyncJobResponse start(SyncJob.Type type, int numOfRows, Integer maxSynced, String addressKeyword) {
+        String params = switch (type) {
+            case HOSPITALS_ALL -> "numOfRows=" + numOfRows;
+            case EVALUATIONS_ALL -> maxSynced != null ? "maxSynced=" + maxSynced : null;
+            case EVALUATIONS_REGION, TOP5_REGION -> truncate("addressKeyword=" + addressKeyword
+                    + (maxSynced != null ? ", maxSynced=" + maxSynced : ""), PARAMS_MAX_LENGTH);
+        };
+
+        SyncJob job;
+        try {
+            job = syncJobRepository.saveAndFlush(SyncJob.start(type, params));
+        } catch (DataIntegrityViolationException e) {
+            throw new SyncJobAlreadyRunningException(type, e);
+        }
+
+        long jobId = job.getId();
+        executor.execute(() -> run(jobId, type, numOfRows, maxSynced, addressKeyword));
+        log.info("동기화 작업 시작: jobId={}, type={}, params={}", jobId, type, params);
+        return SyncJobResponse.from(job);
+    }
+
+    public Optional<SyncJobResponse> findById(Long id) {
+        return syncJobRepository.findById(id).map(SyncJobResponse::from);
+    }
+
+    /** 이전 프로세스가 실행 중에 종료되어 RUNNING 으로 남은 작업을 정리합니다. (단일 인스턴스 운영 기준) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void interruptStaleJobs() {
+        int interrupted = syncJobRepository.updateAllStatus(
+                SyncJob.Status.RUNNING, SyncJob.Status.INTERRUPTED, "서버 재시작으로 중단됨", LocalDateTime.now());
+        if (interrupted > 0) {
+            log.warn("재시작 전 실행 중이던 동기화 작업 {}건을 INTERRUPTED 로 표시했습니다.", interrupted);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(long jobId, SyncJob.Type type, int numOfRows, Integer maxSynced, String addressKeyword) {
+        JobProgress progress = new JobProgress(jobId);
+        try {
+            String error = null;
+            String notice = null;
+            switch (type) {
+                case HOSPITALS_ALL -> {
+                    SyncResult result = hiraSyncService.syncAllRegions(numOfRows, progress);
+                    if (!result.isKeyConfigured()) {
+                        error = "HIRA 인증키가 설정되지 않았습니다.";
+                    } else if (result.getFailedPages() > 0) {
+                        // 나머지 페이지는 반영되었으므로 성공으로 끝내되, 건너뛴 페이지가 있음을 남긴다
+                        notice = "조회 실패로 건너뛴 페이지 " + result.getFailedPages() + "개";
+                    }
+                }
+                case EVALUATIONS_ALL -> hospitalEvaluationSyncService.syncAll(maxSynced, progress);
+                case EVALUATIONS_REGION ->
+                        hospitalEvaluationSyncService.syncByAddressKeyword(addressKeyword, maxSynced, progress);
+                case TOP5_REGION -> hospitalTop5SyncService.syncByAddressKeyword(addressKeyword, maxSynced, progress);
+            }
+            progress.flush();
+            syncJobRepository.finish(jobId, error == null ? SyncJob.Status.SUCCEEDED : SyncJob.Status.FAILED,
+                    error != null ? error : notice, LocalDateTime.now());
+            log.info("동기화 작업 종료: jobId={}, type={}, pages={}, failedPages={}, error={}",
+                    jobId, type, progress.pagesDone.get(), progress.failedPages.get(), error != null ? error : notice);
+        } catch (Exception e) {
+            log.error("동기화 작업 실패: jobId={}, type={}", jobId, type, e);
+            syncJobRepository.finish(jobId, SyncJob.Status.FAILED,
+                    truncate(e.toString(), ERROR_MESSAGE_MAX_LENGTH), LocalDateTime.now());
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    /** 동기화 스레드들이 누적하는 진행률. 최소 간격마다 한 스레드만 DB에 반영합니다. */
+    private final class JobProgress implements SyncProgressListener {
+
+        private final long jobId;
+        private final AtomicInteger totalPages = new AtomicInteger();
+        private final AtomicInteger pagesDone = new AtomicInteger();
+        private final AtomicInteger failedPages = new AtomicInteger();
+        private final AtomicInteger fetched = new AtomicInteger();
+        private final AtomicInteger saved = new AtomicInteger();
+        private final AtomicInteger updated = new AtomicInteger();
+        private final AtomicLong lastFlushNanos = new AtomicLong(System.nanoTime());
+
+        private JobProgress(long jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void onPagesPlanned(int pages) {
+            totalPages.addAndGet(pages);
+        }
+
+        @Override
+        public void onPage(int fetchedCount, int savedCount, int updatedCount) {
+            pagesDone.incrementAndGet();
+            fetched.addAndGet(fetchedCount);
+            saved.addAndGet(savedCount);
+            updated.addAndGet(updatedCount);
+
+            long last = lastFlushNanos.get();
+            long now = System.nanoTime();
+            if (now - last >= PROGRESS_FLUSH_INTERVAL_NANOS && lastFlushNanos.compareAndSet(last, now)) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onPageFailed() {
+            failedPages.incrementAndGet();
+        }
+
+        void flush() {
+            int planned = totalPages.get();
+            syncJobRepository.updateProgress(jobId,
+                    planned > 0 ? Math.max(planned, pagesDone.get()) : null,
+                    pagesDone.get(), failedPages.get(), fetched.get(), saved.get(), updated.get(), LocalDateTime.now());
+        }
+    }
+}
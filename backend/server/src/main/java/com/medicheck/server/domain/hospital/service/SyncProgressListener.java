@@ -0,0 +1,24 @@
+package com.medicheck.server.domain.hospital.service;
+
+/**
+ * 대량 동기화 진행 상황 콜백.
+ * 병렬 동기화에서는 여러 스레드가 동시에 호출하므로 구현체는 스레드 안전해야 합니다.
+ */
+public interface SyncProgressListener {
+
+    /** 진행 상황을 받지 않는 호출용 */
+    SyncProgressListener NONE = new SyncProgressListener() {
+    };
+
+    /** 처리할 페이지 수가 늘어남 (첫 페이지 totalCount 로 남은 페이지 수를 알게 된 경우 등, 누적) */
+    default void onPagesPlanned(int pages) {
+    }
+
+    /** 한 페이지 저장 완료 */
+    default void onPage(int fetched, int saved, int updated) {
+    }
+
+    /** 재시도 후에도 조회하지 못한 페이지 1개 */
+    default void onPageFailed() {
+    }
+}
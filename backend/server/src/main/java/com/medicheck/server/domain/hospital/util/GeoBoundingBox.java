@@ -0,0 +1,51 @@
+package com.medicheck.server.domain.hospital.util;
+
+/**
+ * 위·경도 사각형(MBR). 반경 검색 전에 SPATIAL INDEX 범위 검색으로 후보를 줄이는 데 사용합니다.
+ * 사각형은 반경 원을 항상 포함하도록 약간 넉넉하게 잡으며, 정확한 거리 필터는 호출 측에서 다시 적용합니다.
+ * 지구 반지름은 {@link GeoDistance#EARTH_RADIUS_METERS}(MySQL ST_Distance_Sphere 기본값) 하나만 써서,
+ * 사각형·인메모리 거리·DB 거리가 같은 구를 기준으로 합니다.
+ */
+public record GeoBoundingBox(
+        double minLatitude,
+        double maxLatitude,
+        double minLongitude,
+        double maxLongitude
+) {
+
+    private static final double METERS_PER_DEGREE = Math.PI * GeoDistance.EARTH_RADIUS_METERS / 180.0;
+    /** 부동소수·구면 오차로 경계의 병원이 빠지지 않도록 두는 여유 비율 */
+    private static final double PADDING_RATIO = 1.01;
+
+    /**
+     * 중심 좌표에서 반경(m) 원을 감싸는 사각형을 만듭니다.
+     * 극 근처처럼 경도 폭을 계산할 수 없으면 경도 전체 범위를 사용합니다.
+     */
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusMeters) {
+        double latDelta = radiusMeters * PADDING_RATIO / METERS_PER_DEGREE;
+        double minLat = Math.max(-90.0, latitude - latDelta);
+        double maxLat = Math.min(90.0, latitude + latDelta);
+
+        // 경도 1도의 길이는 극에 가까울수록 짧아지므로, 사각형 안에서 가장 극에 가까운 위도 기준으로 계산
+        double farthestLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double cos = Math.cos(Math.toRadians(farthestLat));
+        if (cos < 1e-6) {
+            return new GeoBoundingBox(minLat, maxLat, -180.0, 180.0);
+        }
+        double lngDelta = radiusMeters * PADDING_RATIO / (METERS_PER_DEGREE * cos);
+        if (lngDelta >= 180.0) {
+            return new GeoBoundingBox(minLat, maxLat, -180.0, 180.0);
+        }
+        return new GeoBoundingBox(
+                minLat,
+                maxLat,
+                Math.max(-180.0, longitude - lngDelta),
+                Math.min(180.0, longitude + lngDelta)
+        );
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+                && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
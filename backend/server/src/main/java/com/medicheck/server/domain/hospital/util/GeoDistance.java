@@ -0,0 +1,25 @@
+package com.medicheck.server.domain.hospital.util;
+
+/**
+ * 위·경도 두 점 사이의 구면 거리(하버사인) 계산.
+ * MySQL ST_Distance_Sphere 와 같은 공식·반지름을 써서, 인메모리 인덱스 경로와 DB 경로의 거리(정렬·커서 값)가 일치합니다.
+ */
+public final class GeoDistance {
+
+    /** MySQL ST_Distance_Sphere 기본 반지름 (미터) */
+    public static final double EARTH_RADIUS_METERS = 6_370_986.0;
+
+    private GeoDistance() {
+    }
+
+    /** 두 좌표(WGS84, 도 단위) 사이의 거리를 미터로 반환합니다. */
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_METERS * c;
+    }
+}
@@ -24,6 +24,8 @@ import java.util.stream.Collectors;
  * Spring Security 설정.
  * - 공개 API(병원 목록/상세/근처, Swagger UI): permitAll
  * - 동기화 API(POST /api/hospitals/sync*): ROLE_ADMIN 필요 (X-Admin-Key 헤더 검증)
+ * - 동기화 작업 상태 조회(GET /api/hospitals/sync/jobs/**): ROLE_ADMIN 필요
+ * - Actuator: /actuator/health 만 공개, 나머지(/actuator/metrics 등)는 ROLE_ADMIN 필요
  */
 @Configuration
 @EnableWebSecurity
@@ -78,7 +80,14 @@ public class SecurityConfig {
                                 "/api/hospitals/sync/location",
                                 "/api/hospitals/sync/evaluations",
                                 "/api/hospitals/sync/evaluations/one",
-                                "/api/hospitals/sync/evaluations/region")
+                                "/api/hospitals/sync/evaluations/region",
+                                "/api/hospitals/sync/top5/one",
+                                "/api/hospitals/sync/top5/region",
+                                "/api/hospitals/sync/review-stats",
+                                "/api/hospitals/sync/jobs/*")
+                        .hasRole("ADMIN")
+                        // 동기화 작업 상태 조회는 관리자 전용 (공개 GET permitAll보다 먼저 매칭)
+                        .requestMatchers(HttpMethod.GET, "/api/hospitals/sync/jobs/**")
                         .hasRole("ADMIN")
                         // 내 리뷰 조회는 인증 필요 (permitAll보다 먼저 매칭)
                         .requestMatchers(HttpMethod.GET, "/api/hospitals/*/reviews/me")
@@ -99,6 +108,9 @@ public class SecurityConfig {
                                 "/error"
                         )
                         .permitAll()
+                        // 메트릭 등 나머지 Actuator 는 캐시·커넥션 풀·동기화 내부 상태를 노출하므로 관리자 전용 (health 만 공개)
+                        .requestMatchers("/actuator/**")
+                        .hasRole("ADMIN")
                         .anyRequest()
                         .authenticated()
                 )
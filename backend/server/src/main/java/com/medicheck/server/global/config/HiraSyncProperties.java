@@ -0,0 +1,26 @@
+package com.medicheck.server.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * HIRA 대량 동기화 실행 설정.
+ * ServerApplication 의 @EnableConfigurationProperties 로 등록됨.
+ * API별 호출 속도 제한은 resilience4j.ratelimiter.instances.hira-* 에서 설정합니다.
+ */
+@ConfigurationProperties(prefix = "hira.sync")
+@Getter
+@Setter
+public class HiraSyncProperties {
+
+    /** 동시에 진행할 HIRA API 호출 수 상한 (가상 스레드 fan-out 시 세마포어 크기, 전국 병원정보·지역 평가정보 동기화 공통) */
+    private int concurrency = 8;
+
+    /** 전국 병원정보 동기화에서 조회 실패한 페이지를 다시 요청하는 횟수 (0이면 재시도 없음) */
+    private int pageRetries = 2;
+
+    /** 지역 Top5 동기화 소비자가 한 번에 upsert·삭제하고 커밋하는 행 수 */
+    private int top5BatchSize = 200;
+}
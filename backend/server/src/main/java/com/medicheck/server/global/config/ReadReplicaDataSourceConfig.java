@@ -0,0 +1,110 @@
+package com.medicheck.server.global.config;
+
+import com.medicheck.server.global.datasource.ReplicaLagMonitor;
+import com.medicheck.server.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 DataSource (app.datasource.read-replica.enabled=true 일 때만).
+ * spring.datasource 는 primary, app.datasource.read-replica.replicas 는 복제본 커넥션 풀이 되며,
+ * readOnly 트랜잭션(HospitalService 등)은 복제본, 쓰기(HospitalPersistenceService 등)와 트랜잭션 밖 작업(Flyway)은 primary 로 갑니다.
+ * 라우팅은 트랜잭션마다(커넥션을 새로 얻을 때) 정해지며, 커넥션 풀 메트릭은 hikaricp.connections.*{pool=medicheck-primary|medicheck-replica-N} 입니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    static final String PRIMARY_POOL = "medicheck-primary";
+    static final String REPLICA_POOL_PREFIX = "medicheck-replica-";
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            ReadReplicaProperties readReplicaProperties,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        List<ReadReplicaProperties.Replica> replicas = readReplicaProperties.getReplicas();
+        if (replicas.isEmpty() || replicas.stream().anyMatch(r -> !StringUtils.hasText(r.getUrl()))) {
+            throw new IllegalStateException("app.datasource.read-replica.replicas[*].url 을 설정해야 합니다.");
+        }
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = pool(environment, metrics, PRIMARY_POOL);
+        primary.setJdbcUrl(dataSourceProperties.determineUrl());
+        primary.setUsername(dataSourceProperties.determineUsername());
+        primary.setPassword(dataSourceProperties.determinePassword());
+        primary.setDriverClassName(dataSourceProperties.determineDriverClassName());
+
+        Map<String, DataSource> replicaPools = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplicaProperties.Replica replica = replicas.get(i);
+            HikariDataSource pool = pool(environment, metrics, REPLICA_POOL_PREFIX + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(StringUtils.hasText(replica.getUsername())
+                    ? replica.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(StringUtils.hasText(replica.getPassword())
+                    ? replica.getPassword() : dataSourceProperties.determinePassword());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setReadOnly(true);
+            replicaPools.put(pool.getPoolName(), pool);
+        }
+        return new ReplicaRoutingDataSource(primary, replicaPools, meterRegistry);
+    }
+
+    /** readOnly 여부가 정해진 첫 SQL 시점까지 커넥션 획득을 미뤄 라우팅이 트랜잭션 속성을 보도록 합니다. */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 트랜잭션이 끝나면 커넥션을 반납하고 다음 트랜잭션에서 다시 얻도록 합니다.
+     * 기본값(DELAYED_ACQUISITION_AND_HOLD)은 open-in-view 로 요청 내내 열린 EntityManager 가 첫 커넥션을 계속 쥐고 있어,
+     * 한 요청에서 readOnly 조회 뒤 쓰기를 하면 쓰기도 복제본 커넥션으로 나갑니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            ReadReplicaProperties readReplicaProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, readReplicaProperties.getMaxLag(), meterRegistry);
+    }
+
+    /** spring.datasource.hikari.* (data-source-properties 포함)를 적용한 빈 커넥션 풀 */
+    private static HikariDataSource pool(Environment environment, MicrometerMetricsTrackerFactory metrics, String poolName) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setMetricsTrackerFactory(metrics);
+        return pool;
+    }
+}
@@ -0,0 +1,46 @@
+package com.medicheck.server.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (ReadReplicaDataSourceConfig).
+ * ServerApplication 의 @EnableConfigurationProperties 로 등록됨.
+ * 커넥션 풀 세부 설정(spring.datasource.hikari.*)은 primary 와 복제본이 함께 사용합니다.
+ */
+@ConfigurationProperties(prefix = "app.datasource.read-replica")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+
+    /** true 면 readOnly 트랜잭션을 복제본으로 보냄. false 면 spring.datasource 하나만 사용 (기본) */
+    private boolean enabled = false;
+
+    /** 이 값보다 뒤처진 복제본은 다음 점검까지 제외 */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** 복제 지연 점검 주기 */
+    private Duration checkInterval = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        /** JDBC URL (예: jdbc:mysql://replica-1:3306/medi_check?serverTimezone=Asia/Seoul&characterEncoding=UTF-8) */
+        private String url;
+
+        /** 비우면 spring.datasource.username */
+        private String username;
+
+        /** 비우면 spring.datasource.password */
+        private String password;
+    }
+}
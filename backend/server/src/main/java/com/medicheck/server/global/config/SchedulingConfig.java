@@ -0,0 +1,13 @@
+package com.medicheck.server.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업(@Scheduled) 활성화.
+ * 예: 리뷰 집계 재집계(HospitalReviewStatsReconciler).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
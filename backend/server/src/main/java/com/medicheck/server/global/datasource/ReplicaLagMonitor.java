@@ -0,0 +1,78 @@
+package com.medicheck.server.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽기 복제본 지연 점검. check-interval 마다 복제본별로 SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 읽어
+ * max-lag 이하인 복제본만 {@link ReplicaRoutingDataSource} 에 사용 가능으로 표시합니다.
+ *
+ * <ul>
+ *   <li>복제가 멈췄거나(NULL) 점검 쿼리가 실패하면 사용 불가입니다. 점검 계정에는 REPLICATION CLIENT 권한이 필요합니다.</li>
+ *   <li>복제 설정이 없는 서버(행 없음, 예: 로컬 MySQL 두 대)는 지연 0 으로 봅니다.</li>
+ *   <li>메트릭: datasource.replica.lag{pool} (초, 점검 실패 시 NaN)</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+        for (String name : routingDataSource.replicas().keySet()) {
+            Gauge.builder("datasource.replica.lag", lagSeconds, m -> m.getOrDefault(name, Double.NaN))
+                    .description("읽기 복제본 복제 지연")
+                    .baseUnit("seconds")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read-replica.check-interval:5s}")
+    public void check() {
+        routingDataSource.replicas().forEach((name, dataSource) -> {
+            Double lag;
+            try {
+                lag = measureLagSeconds(dataSource);
+            } catch (SQLException e) {
+                log.warn("읽기 복제본 지연 점검 실패: pool={}", name, e);
+                lag = null;
+            }
+            lagSeconds.put(name, lag != null ? lag : Double.NaN);
+            routingDataSource.markAvailable(name, lag != null && lag <= maxLag.toMillis() / 1000.0);
+        });
+    }
+
+    /** 복제 지연(초). 복제 설정이 없으면 0, 복제 스레드가 멈춰 값이 NULL 이면 null. */
+    static Double measureLagSeconds(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery(REPLICA_STATUS_SQL)) {
+                if (!rs.next()) {
+                    return 0.0;
+                }
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : (double) seconds;
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.medicheck.server.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 읽기 복제본으로, 그 외는 primary 로 보내는 라우팅 DataSource.
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸 사용합니다.
+ *
+ * <ul>
+ *   <li>복제본은 {@link ReplicaLagMonitor} 가 사용 가능으로 표시한 것만 라운드로빈으로 고르며, 처음에는 사용 불가입니다.</li>
+ *   <li>사용 가능한 복제본이 없거나 복제본 커넥션을 얻지 못하면 primary 로 대체하고, 실패한 복제본은 다음 점검까지 제외합니다.</li>
+ *   <li>메트릭: datasource.routing{target=primary|replica|fallback}, datasource.replica.available{pool}</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final Map<DataSource, String> namesByReplica = new IdentityHashMap<>();
+    private final Map<String, Boolean> available = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    /**
+     * @param replicas 복제본 이름(커넥션 풀 이름) → DataSource, 순서 유지
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaNames = new ArrayList<>(replicas.keySet());
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.fallbackRoutes = routeCounter(meterRegistry, "fallback");
+        for (String name : replicaNames) {
+            namesByReplica.put(replicas.get(name), name);
+            available.put(name, false);
+            Gauge.builder("datasource.replica.available", available, m -> m.getOrDefault(name, false) ? 1 : 0)
+                    .description("읽기 복제본 사용 가능 여부 (1=사용)")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("커넥션 라우팅 대상별 횟수 (fallback: 읽기 전용이지만 복제본이 없어 primary 사용)")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        String replica = nextAvailableReplica();
+        if (replica == null) {
+            fallbackRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return replica;
+    }
+
+    /** 복제본 커넥션을 얻지 못하면 그 복제본을 제외하고 primary 커넥션을 반환합니다. */
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        String replica = namesByReplica.get(target);
+        if (replica == null) {
+            return target.getConnection();
+        }
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            log.warn("읽기 복제본 커넥션 실패 — primary 로 대체하고 다음 점검까지 제외합니다: pool={}", replica, e);
+            markAvailable(replica, false);
+            fallbackRoutes.increment();
+            return primary.getConnection();
+        }
+    }
+
+    private String nextAvailableReplica() {
+        int size = replicaNames.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String name = replicaNames.get((start + i) % size);
+            if (available.get(name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /** 지연 점검 결과 반영. 상태가 바뀔 때만 로그를 남깁니다. */
+    public void markAvailable(String replica, boolean isAvailable) {
+        Boolean previous = available.replace(replica, isAvailable);
+        if (previous != null && previous != isAvailable) {
+            log.info("읽기 복제본 {}: pool={}", isAvailable ? "사용" : "제외", replica);
+        }
+    }
+
+    public boolean isAvailable(String replica) {
+        return available.getOrDefault(replica, false);
+    }
+
+    /** 복제본 이름(커넥션 풀 이름) → DataSource */
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    /** primary 와 복제본 커넥션 풀을 닫습니다. */
+    @Override
+    public void close() {
+        List<DataSource> all = new ArrayList<>(replicas.values());
+        all.add(primary);
+        for (DataSource dataSource : all) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("커넥션 풀 종료 실패", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+-- 근처 병원 조회가 hospitals 전체를 ST_Distance_Sphere 로 스캔하지 않도록 location 에 SPATIAL INDEX 를 둔다.
+-- MySQL 옵티마이저는 NOT NULL + SRID 속성이 지정된 컬럼의 SPATIAL INDEX 만 사용하므로,
+-- 좌표가 없는 행은 (0, 0) 센티널 POINT 로 채운 뒤 컬럼을 NOT NULL SRID 4326 으로 바꾼다.
+-- 좌표 유무는 latitude/longitude 컬럼으로 판단한다 (Hospital 엔티티와 동일 규칙).
+
+-- 과거 SRID 없이 저장된 값이 있으면 컬럼 SRID 지정이 실패하므로 먼저 맞춘다.
+UPDATE hospitals
+   SET location = ST_SRID(location, 4326)
+ WHERE location IS NOT NULL
+   AND ST_SRID(location) <> 4326;
+
+UPDATE hospitals
+   SET location = ST_SRID(POINT(longitude, latitude), 4326)
+ WHERE location IS NULL
+   AND latitude IS NOT NULL
+   AND longitude IS NOT NULL;
+
+UPDATE hospitals
+   SET location = ST_SRID(POINT(0, 0), 4326)
+ WHERE location IS NULL;
+
+ALTER TABLE hospitals MODIFY COLUMN location GEOMETRY NOT NULL SRID 4326;
+
+CREATE SPATIAL INDEX idx_hospitals_location ON hospitals (location);
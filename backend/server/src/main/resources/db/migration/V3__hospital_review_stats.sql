@@ -0,0 +1,18 @@
+-- 목록/근처/상세 응답마다 hospital_reviews 를 AVG/COUNT ... GROUP BY 하지 않도록
+-- 병원별 리뷰 집계(별점 합, 리뷰 수)를 비정규화 테이블에 둔다.
+-- 리뷰 작성/수정/삭제 트랜잭션에서 증감(delta)으로 갱신하고, 드리프트는 재집계 작업으로 교정한다.
+
+CREATE TABLE hospital_review_stats (
+    hospital_id  BIGINT      NOT NULL,
+    rating_sum   BIGINT      NOT NULL DEFAULT 0,
+    review_count BIGINT      NOT NULL DEFAULT 0,
+    updated_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (hospital_id),
+    CONSTRAINT fk_hospital_review_stats_hospital
+        FOREIGN KEY (hospital_id) REFERENCES hospitals (id) ON DELETE CASCADE
+);
+
+INSERT INTO hospital_review_stats (hospital_id, rating_sum, review_count, updated_at)
+SELECT r.hospital_id, SUM(r.rating), COUNT(*), NOW(6)
+  FROM hospital_reviews r
+ GROUP BY r.hospital_id;
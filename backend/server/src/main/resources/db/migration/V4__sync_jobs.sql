@@ -0,0 +1,23 @@
+-- 관리자 동기화를 요청 스레드에서 돌리지 않고 백그라운드 작업으로 실행한다.
+-- 작업 상태·진행률을 테이블에 남겨 재시작 후에도 이력을 조회할 수 있게 한다.
+-- running_type 은 RUNNING 인 행에서만 값이 있으므로 UNIQUE 로 "동기화 종류당 실행 중 작업 1개"를 DB가 보장한다.
+
+CREATE TABLE sync_jobs (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    job_type      VARCHAR(30)  NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    params        VARCHAR(200) NULL,
+    total_pages   INT          NULL,
+    pages_done    INT          NOT NULL DEFAULT 0,
+    fetched_count INT          NOT NULL DEFAULT 0,
+    saved_count   INT          NOT NULL DEFAULT 0,
+    updated_count INT          NOT NULL DEFAULT 0,
+    error_message VARCHAR(500) NULL,
+    started_at    DATETIME(6)  NOT NULL,
+    finished_at   DATETIME(6)  NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    running_type  VARCHAR(30) AS (CASE WHEN status = 'RUNNING' THEN job_type END) STORED,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_sync_jobs_running_type (running_type),
+    KEY idx_sync_jobs_type_started (job_type, started_at)
+);
@@ -0,0 +1,4 @@
+-- HIRA 재동기화 시 내용이 같은 행은 쓰지 않도록, 마지막으로 반영한 HIRA 정규화 값의 SHA-256(hex)을 둔다.
+-- 기존 행은 NULL 이므로 다음 동기화에서 한 번 갱신되며 해시가 채워진다.
+
+ALTER TABLE hospitals ADD COLUMN hira_content_hash VARCHAR(64) NULL;
@@ -0,0 +1,6 @@
+-- 병원 목록 키워드 검색(GET /api/hospitals?keyword=)이 이름·주소·진료과 LOWER(...) LIKE '%kw%' 전체 스캔을 하지 않도록
+-- 세 컬럼에 ngram 파서 FULLTEXT 인덱스를 둔다. 한국어는 공백 단위 토큰화가 맞지 않으므로 ngram(기본 2-gram)을 쓴다.
+-- InnoDB 는 테이블의 첫 FULLTEXT 인덱스를 만들 때 FTS_DOC_ID 컬럼을 추가하며 테이블을 재구성한다.
+
+ALTER TABLE hospitals
+    ADD FULLTEXT INDEX ft_hospitals_keyword (name, address, department) WITH PARSER ngram;
@@ -0,0 +1,7 @@
+-- 병원 목록 keyset 페이지(GET /api/hospitals?after=)가 (정렬 키, id) 순서대로 커서 다음 행부터 읽고 LIMIT 에서 멈추도록
+-- 정렬 키별 복합 인덱스를 둔다. InnoDB 보조 인덱스는 PK 를 이미 포함하지만, 정렬·범위 조건이 (키, id) 임을 드러내려고 명시한다.
+-- OFFSET 페이지의 ORDER BY name / created_at 도 같은 인덱스로 filesort 없이 읽는다.
+
+CREATE INDEX idx_hospitals_name_id ON hospitals (name, id);
+
+CREATE INDEX idx_hospitals_created_at_id ON hospitals (created_at, id);
@@ -0,0 +1,4 @@
+-- 재시도 후에도 조회하지 못해 건너뛴 HIRA 페이지 수. 0보다 크면 작업은 성공이어도 일부 병원이 갱신되지 않았을 수 있다.
+
+ALTER TABLE sync_jobs
+    ADD COLUMN failed_pages INT NOT NULL DEFAULT 0 AFTER pages_done;
@@ -45,5 +45,50 @@ class HiraClinicTop5ItemTest {
         assertThat(item.getMfrnIntrsIlnsNm4()).isEqualTo("비염");
         assertThat(item.getMfrnIntrsIlnsNm5()).isEqualTo("장염");
     }
-}
 
+    @Test
+    @DisplayName("CdNm 계열 태그만 있어도 파싱하고, 여러 item 이면 첫 값을 쓴다")
+    void fromXml_fallsBackToCodeNameTagsAndUsesFirstItem() {
+        String xml = """
+                <response><header><resultCode>00</resultCode></header><body><items>
+                  <item><crtrYm>202401</crtrYm><mfrnIntrsIlnsCdNm1>고혈압</mfrnIntrsIlnsCdNm1><ykiho>Y1</ykiho></item>
+                  <item><crtrYm>202402</crtrYm><mfrnIntrsIlnsCdNm1>요통</mfrnIntrsIlnsCdNm1><ykiho>Y2</ykiho></item>
+                </items></body></response>
+                """;
+
+        HiraClinicTop5Item item = HiraClinicTop5Item.fromXml(xml);
+
+        assertThat(item).isNotNull();
+        assertThat(item.getCrtrYm()).isEqualTo("202401");
+        assertThat(item.getYkiho()).isEqualTo("Y1");
+        assertThat(item.getMfrnIntrsIlnsNm1()).isEqualTo("고혈압");
+        assertThat(item.getMfrnIntrsIlnsNm2()).isNull();
+    }
+
+    @Test
+    @DisplayName("resultCode 가 00 이 아니면 null")
+    void fromXml_returnsNullOnErrorResultCode() {
+        String xml = "<response><header><resultCode>30</resultCode></header>"
+                + "<body><items><item><mfrnIntrsIlnsNm1>감기</mfrnIntrsIlnsNm1></item></items></body></response>";
+
+        assertThat(HiraClinicTop5Item.fromXml(xml)).isNull();
+    }
+
+    @Test
+    @DisplayName("JSON 응답도 파싱하며 숫자로 온 crtrYm 을 문자열로 받는다")
+    void fromXml_parsesJsonBody() {
+        String json = """
+                {"response":{"header":{"resultCode":"00"},"body":{"items":{"item":[
+                  {"crtrYm":202312,"ykiho":"Y9","mfrnIntrsIlnsNm1":"감기","mfrnIntrsIlnsNm2":"비염"}
+                ]}}}}
+                """;
+
+        HiraClinicTop5Item item = HiraClinicTop5Item.fromXml(json);
+
+        assertThat(item).isNotNull();
+        assertThat(item.getCrtrYm()).isEqualTo("202312");
+        assertThat(item.getYkiho()).isEqualTo("Y9");
+        assertThat(item.getMfrnIntrsIlnsNm1()).isEqualTo("감기");
+        assertThat(item.getMfrnIntrsIlnsNm2()).isEqualTo("비염");
+    }
+}
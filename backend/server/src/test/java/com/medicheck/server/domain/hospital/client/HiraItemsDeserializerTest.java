@@ -0,0 +1,61 @@
+package com.medicheck.server.domain.hospital.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicheck.server.domain.hospital.client.dto.HiraApiResponse;
+import com.medicheck.server.domain.hospital.client.dto.HiraAsmApiResponse;
+import com.medicheck.server.domain.hospital.client.dto.HiraAsmItem;
+import com.medicheck.server.domain.hospital.client.dto.HiraHospItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HiraItemsDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("items.item 이 배열이면 모든 요소를, 단일 객체면 1건을 읽고 형제 필드는 건너뛴다")
+    void items_acceptsArrayAndSingleObject() throws Exception {
+        List<HiraHospItem> array = hospItems("""
+                {"extra":{"nested":[1,2]},"item":[{"ykiho":"Y1","yadmNm":"A"},{"ykiho":"Y2"}],"tail":"x"}
+                """);
+        List<HiraHospItem> single = hospItems("""
+                {"item":{"ykiho":"Y3","yadmNm":"C"}}
+                """);
+
+        assertThat(array).extracting(HiraHospItem::getYkiho).containsExactly("Y1", "Y2");
+        assertThat(array.get(0).getYadmNm()).isEqualTo("A");
+        assertThat(single).extracting(HiraHospItem::getYkiho).containsExactly("Y3");
+    }
+
+    @Test
+    @DisplayName("items 가 바로 배열이어도 읽고, 결과 없음(\"\")이면 빈 목록")
+    void items_acceptsBareArrayAndEmptyString() throws Exception {
+        assertThat(hospItems("[{\"ykiho\":\"Y1\"},{\"ykiho\":\"Y2\"}]"))
+                .extracting(HiraHospItem::getYkiho).containsExactly("Y1", "Y2");
+        assertThat(hospItems("\"\"")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("평가 API items 도 같은 형태를 지원한다")
+    void asmItems_acceptsSingleObject() throws Exception {
+        String json = """
+                {"response":{"header":{"resultCode":"00"},"body":{"totalCount":1,
+                  "items":{"item":{"ykiho":"Y1","asmGrd01":"1"}}}}}
+                """;
+
+        List<HiraAsmItem> items = objectMapper.readValue(json, HiraAsmApiResponse.class).getItemList();
+
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).getAsmGrd01()).isEqualTo("1");
+    }
+
+    private List<HiraHospItem> hospItems(String itemsJson) throws Exception {
+        String json = "{\"response\":{\"header\":{\"resultCode\":\"00\"},\"body\":{\"totalCount\":2,\"items\":"
+                + itemsJson + "}}}";
+        return objectMapper.readValue(json, HiraApiResponse.class).getItemList();
+    }
+}
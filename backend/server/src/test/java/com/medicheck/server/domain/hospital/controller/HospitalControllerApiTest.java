@@ -1,15 +1,29 @@
 package com.medicheck.server.domain.hospital.controller;
 
+import com.medicheck.server.domain.hospital.dto.HospitalClusterResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalClustersResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalListSliceResponse;
 import com.medicheck.server.domain.hospital.dto.HospitalResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalSearchResponse;
+import com.medicheck.server.domain.hospital.dto.HospitalsInBoundsResponse;
 import com.medicheck.server.global.config.DirectionsRateLimitProperties;
 import com.medicheck.server.global.auth.PerIPDirectionsRateLimitFilter;
 import com.medicheck.server.global.auth.SecurityConfig;
 import com.medicheck.server.global.auth.XAdminKeyAuthFilter;
 import com.medicheck.server.domain.hospital.dto.NearbyHospitalResponse;
+import com.medicheck.server.domain.hospital.service.HospitalCountMode;
+import com.medicheck.server.domain.hospital.service.HospitalDistanceCursor;
+import com.medicheck.server.domain.hospital.service.HospitalReviewStatsReconciler;
+import com.medicheck.server.domain.hospital.service.HospitalKeywordSearchMode;
+import com.medicheck.server.domain.hospital.service.HospitalListCursor;
+import com.medicheck.server.domain.hospital.service.HospitalListOrder;
 import com.medicheck.server.domain.hospital.service.HospitalService;
+import com.medicheck.server.domain.hospital.service.HospitalSymptomVocabulary;
+import com.medicheck.server.domain.hospital.service.HospitalTileService;
 import com.medicheck.server.domain.hospital.service.HiraSyncService;
 import com.medicheck.server.domain.hospital.service.HospitalEvaluationSyncService;
 import com.medicheck.server.domain.hospital.service.HospitalTop5SyncService;
+import com.medicheck.server.domain.hospital.service.SyncJobService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,17 +33,23 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -56,6 +76,9 @@ class HospitalControllerApiTest {
     @MockBean
     private HospitalService hospitalService;
 
+    @MockBean
+    private HospitalTileService hospitalTileService;
+
     @MockBean
     private HiraSyncService hiraSyncService;
 
@@ -65,6 +88,12 @@ class HospitalControllerApiTest {
     @MockBean
     private HospitalTop5SyncService hospitalTop5SyncService;
 
+    @MockBean
+    private HospitalReviewStatsReconciler hospitalReviewStatsReconciler;
+
+    @MockBean
+    private SyncJobService syncJobService;
+
     @Test
     @DisplayName("GET /api/hospitals/{id} - 존재하는 병원은 200과 상세 정보를 반환한다")
     void getHospital_returns200AndBody() throws Exception {
@@ -108,7 +137,8 @@ class HospitalControllerApiTest {
                 .department("외과")
                 .build();
         Page<HospitalResponse> page = new PageImpl<>(List.of(item), PageRequest.of(0, 20), 1);
-        given(hospitalService.findAll(any(), any(), any())).willReturn(page);
+        given(hospitalService.findAll(any(), any(), eq(HospitalKeywordSearchMode.LIKE), eq(HospitalCountMode.EXACT), any()))
+                .willReturn(page);
 
         mockMvc.perform(get("/api/hospitals")
                         .param("page", "0")
@@ -120,6 +150,96 @@ class HospitalControllerApiTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    @DisplayName("GET /api/hospitals - searchMode=fulltext 를 요청할 때만 FULLTEXT 검색으로 넘기고, 알 수 없는 값이면 400을 반환한다")
+    void getHospitals_searchMode() throws Exception {
+        given(hospitalService.findAll(eq("내과"), any(), eq(HospitalKeywordSearchMode.FULLTEXT), any(), any()))
+                .willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        mockMvc.perform(get("/api/hospitals").param("keyword", "내과").param("searchMode", "FULLTEXT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(get("/api/hospitals").param("keyword", "내과").param("searchMode", "regex"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_search_mode"));
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals - countMode=none 은 건수 없는 Slice 를 반환하고, 알 수 없는 값이면 400을 반환한다")
+    void getHospitals_countMode() throws Exception {
+        HospitalResponse item = HospitalResponse.builder()
+                .id(1L)
+                .name("목록병원")
+                .build();
+        given(hospitalService.findAll(any(), any(), any(), eq(HospitalCountMode.NONE), any()))
+                .willReturn(new SliceImpl<>(List.of(item), PageRequest.of(0, 1), true));
+
+        mockMvc.perform(get("/api/hospitals").param("countMode", "none").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mockMvc.perform(get("/api/hospitals").param("countMode", "approximate"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_count_mode"));
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals?after= - 커서를 sort 에 맞춰 디코드해 keyset 조회로 넘기고, 건수 없이 nextCursor 를 반환한다")
+    void getHospitals_afterCursor_returnsSlice() throws Exception {
+        HospitalResponse item = HospitalResponse.builder()
+                .id(7L)
+                .name("커서병원")
+                .build();
+        HospitalListCursor next = new HospitalListCursor(HospitalListOrder.CREATED_AT_DESC, "2025-03-01T09:00", 7L);
+        HospitalListSliceResponse slice = HospitalListSliceResponse.builder()
+                .hospitals(List.of(item))
+                .nextCursor(next.encode())
+                .hasNext(true)
+                .build();
+        given(hospitalService.findAllAfter(isNull(), isNull(), eq(HospitalListOrder.CREATED_AT_DESC), isNull(), eq(1)))
+                .willReturn(slice);
+        HospitalListCursor cursor = new HospitalListCursor(HospitalListOrder.CREATED_AT_DESC, "2025-03-02T10:15:30", 9L);
+        given(hospitalService.findAllAfter(isNull(), isNull(), eq(HospitalListOrder.CREATED_AT_DESC), eq(cursor), eq(1)))
+                .willReturn(HospitalListSliceResponse.builder().hospitals(List.of()).hasNext(false).build());
+
+        mockMvc.perform(get("/api/hospitals")
+                        .param("after", "")
+                        .param("sort", "createdAt,desc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hospitals[0].id").value(7))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(next.encode()))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mockMvc.perform(get("/api/hospitals")
+                        .param("after", cursor.encode())
+                        .param("sort", "createdAt,desc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals?after= - 지원하지 않는 sort 이거나 다른 sort 로 만든 커서면 400을 반환한다")
+    void getHospitals_afterCursor_returns400OnInvalidSortOrCursor() throws Exception {
+        mockMvc.perform(get("/api/hospitals").param("after", "").param("sort", "address"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_sort"));
+
+        String nameCursor = new HospitalListCursor(HospitalListOrder.NAME_ASC, "가나병원", 3L).encode();
+        mockMvc.perform(get("/api/hospitals").param("after", nameCursor).param("sort", "createdAt,desc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_cursor"));
+
+        mockMvc.perform(get("/api/hospitals").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_cursor"));
+    }
+
     @Test
     @DisplayName("GET /api/hospitals/nearby - 근처 병원 조회 시 200과 hospital, distanceMeters를 반환한다")
     void getNearbyHospitals_returns200AndList() throws Exception {
@@ -155,6 +275,146 @@ class HospitalControllerApiTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("GET /api/hospitals/in-bounds - 화면 안 병원과 nextCursor 를 반환하고, 커서를 디코드해 서비스에 넘긴다")
+    void getHospitalsInBounds_returns200AndCursor() throws Exception {
+        HospitalResponse hospital = HospitalResponse.builder()
+                .id(3L)
+                .name("화면병원")
+                .build();
+        HospitalsInBoundsResponse response = HospitalsInBoundsResponse.builder()
+                .hospitals(List.of(NearbyHospitalResponse.builder().hospital(hospital).distanceMeters(120.0).build()))
+                .nextCursor(new HospitalDistanceCursor(120.0, 3L).encode())
+                .hasNext(true)
+                .build();
+        HospitalDistanceCursor cursor = new HospitalDistanceCursor(80.5, 2L);
+        given(hospitalService.findInBounds(eq(37.55), eq(126.96), eq(37.58), eq(127.0), isNull(), isNull(),
+                eq(cursor), eq(1)))
+                .willReturn(response);
+
+        mockMvc.perform(get("/api/hospitals/in-bounds")
+                        .param("swLat", "37.55")
+                        .param("swLng", "126.96")
+                        .param("neLat", "37.58")
+                        .param("neLng", "127.0")
+                        .param("cursor", cursor.encode())
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hospitals[0].hospital.id").value(3))
+                .andExpect(jsonPath("$.hospitals[0].distanceMeters").value(120.0))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals/in-bounds - 남서/북동이 뒤바뀌었거나 커서가 잘못되면 400을 반환한다")
+    void getHospitalsInBounds_returns400OnInvalidBoundsOrCursor() throws Exception {
+        mockMvc.perform(get("/api/hospitals/in-bounds")
+                        .param("swLat", "37.58")
+                        .param("swLng", "126.96")
+                        .param("neLat", "37.55")
+                        .param("neLng", "127.0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_bounds"));
+
+        mockMvc.perform(get("/api/hospitals/in-bounds")
+                        .param("swLat", "37.55")
+                        .param("swLng", "126.96")
+                        .param("neLat", "37.58")
+                        .param("neLng", "127.0")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_cursor"));
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals/clusters - 격자 셀별 건수·중심·진료과 건수를 반환한다")
+    void getHospitalClusters_returns200AndCells() throws Exception {
+        HospitalClustersResponse response = HospitalClustersResponse.builder()
+                .zoom(8)
+                .cellDegrees(360.0 / 256 / 4)
+                .totalCount(3)
+                .clusters(List.of(
+                        HospitalClusterResponse.builder()
+                                .latitude(37.5).longitude(127.0).count(2)
+                                .departments(Map.of("내과", 2))
+                                .build(),
+                        HospitalClusterResponse.builder()
+                                .latitude(35.1).longitude(129.0).count(1)
+                                .departments(Map.of("치과", 1))
+                                .hospitalId(9L)
+                                .build()))
+                .build();
+        given(hospitalService.findClusters(35.0, 126.0, 38.0, 129.5, 8)).willReturn(response);
+
+        mockMvc.perform(get("/api/hospitals/clusters")
+                        .param("swLat", "35.0")
+                        .param("swLng", "126.0")
+                        .param("neLat", "38.0")
+                        .param("neLng", "129.5")
+                        .param("zoom", "8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(3))
+                .andExpect(jsonPath("$.clusters[0].count").value(2))
+                .andExpect(jsonPath("$.clusters[0].departments.내과").value(2))
+                .andExpect(jsonPath("$.clusters[0].hospitalId").doesNotExist())
+                .andExpect(jsonPath("$.clusters[1].hospitalId").value(9));
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals/clusters - 줌이 범위를 벗어나거나 줌에 비해 화면이 너무 넓으면 400을 반환한다")
+    void getHospitalClusters_returns400OnInvalidZoomOrTooManyCells() throws Exception {
+        mockMvc.perform(get("/api/hospitals/clusters")
+                        .param("swLat", "35.0")
+                        .param("swLng", "126.0")
+                        .param("neLat", "38.0")
+                        .param("neLng", "129.5")
+                        .param("zoom", "22"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_zoom"));
+
+        mockMvc.perform(get("/api/hospitals/clusters")
+                        .param("swLat", "35.0")
+                        .param("swLng", "126.0")
+                        .param("neLat", "38.0")
+                        .param("neLng", "129.5")
+                        .param("zoom", "18"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("bounds_too_large"));
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals/tiles/{z}/{x}/{y} - 타일 본문에 ETag·Cache-Control 을 붙이고, If-None-Match 가 같으면 304를 반환한다")
+    void getHospitalTile_returnsEtagAndNotModified() throws Exception {
+        byte[] body = "{\"z\":14,\"x\":13970,\"y\":6344,\"type\":\"markers\",\"markers\":[[1,37.5,127.0,\"내과\"]]}"
+                .getBytes(StandardCharsets.UTF_8);
+        given(hospitalTileService.getTile(14, 13970, 6344))
+                .willReturn(Optional.of(new HospitalTileService.HospitalTile(body, "abc123")));
+
+        mockMvc.perform(get("/api/hospitals/tiles/14/13970/6344"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andExpect(jsonPath("$.markers[0][0]").value(1))
+                .andExpect(jsonPath("$.markers[0][3]").value("내과"));
+
+        mockMvc.perform(get("/api/hospitals/tiles/14/13970/6344").header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals/tiles/{z}/{x}/{y} - 타일 좌표가 범위를 벗어나면 400, 공간 인덱스 적재 전이면 503을 반환한다")
+    void getHospitalTile_returns400OrServiceUnavailable() throws Exception {
+        mockMvc.perform(get("/api/hospitals/tiles/3/8/0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_tile"));
+
+        given(hospitalTileService.getTile(3, 6, 3)).willReturn(Optional.empty());
+        mockMvc.perform(get("/api/hospitals/tiles/3/6/3"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("tiles_not_ready"));
+    }
+
     @Test
     @DisplayName("GET /api/hospitals/search/symptom - 증상 검색 시 200과 페이지 결과를 반환한다")
     void searchBySymptom_returns200AndPage() throws Exception {
@@ -179,15 +439,72 @@ class HospitalControllerApiTest {
     }
 
     @Test
-    @DisplayName("GET /api/hospitals/search/symptom-keywords - Top5 질병명 문자열 배열을 반환한다")
+    @DisplayName("GET /api/hospitals/search - 검색 결과·거리·패싯을 반환하고, 인덱스가 없으면 503, 좌표가 한쪽만 있으면 400")
+    void searchHospitals_returnsFacetsOrUnavailable() throws Exception {
+        HospitalResponse hospital = HospitalResponse.builder().id(3L).name("서울가정의원").build();
+        given(hospitalService.search(any())).willReturn(Optional.of(HospitalSearchResponse.builder()
+                .hospitals(List.of(NearbyHospitalResponse.builder().hospital(hospital).distanceMeters(12.5).build()))
+                .totalCount(1)
+                .page(0)
+                .size(20)
+                .facets(Map.of("sido", Map.of("서울특별시", 1L)))
+                .build()));
+
+        mockMvc.perform(get("/api/hospitals/search")
+                        .param("keyword", "가정의원")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hospitals[0].hospital.id").value(3))
+                .andExpect(jsonPath("$.hospitals[0].distanceMeters").value(12.5))
+                .andExpect(jsonPath("$.facets.sido['서울특별시']").value(1));
+
+        given(hospitalService.search(any())).willReturn(Optional.empty());
+        mockMvc.perform(get("/api/hospitals/search").param("keyword", "가정의원"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("search_index_unavailable"));
+
+        mockMvc.perform(get("/api/hospitals/search").param("lat", "37.5665"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_location"));
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals/search/symptom-keywords - Top5 질병명 문자열 배열을 ETag 와 함께 반환하고, 같은 ETag 면 304")
     void listSymptomKeywords_returns200AndJsonArray() throws Exception {
-        given(hospitalService.findDistinctTop5DiseaseNamesForPicker())
-                .willReturn(List.of("감기", "당뇨병"));
+        HospitalSymptomVocabulary vocabulary = HospitalSymptomVocabulary.of(Map.of("감기", 12, "당뇨병", 3));
+        given(hospitalService.getSymptomVocabulary()).willReturn(vocabulary);
 
         mockMvc.perform(get("/api/hospitals/search/symptom-keywords"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + vocabulary.version() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, public"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0]").value("감기"))
                 .andExpect(jsonPath("$[1]").value("당뇨병"));
+
+        mockMvc.perform(get("/api/hospitals/search/symptom-keywords")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + vocabulary.version() + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /api/hospitals/search/symptom-keywords - prefix·withCounts 로 접두어 자동완성과 병원 수를 반환하고, limit 범위 밖이면 400")
+    void listSymptomKeywords_prefixWithCounts() throws Exception {
+        given(hospitalService.getSymptomVocabulary()).willReturn(HospitalSymptomVocabulary.of(
+                Map.of("감기", 12, "급성 기관지염", 5, "급성 위염", 2, "당뇨병", 3)));
+
+        mockMvc.perform(get("/api/hospitals/search/symptom-keywords")
+                        .param("prefix", "급성")
+                        .param("withCounts", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].term").value("급성 기관지염"))
+                .andExpect(jsonPath("$[0].hospitalCount").value(5))
+                .andExpect(jsonPath("$[1].term").value("급성 위염"));
+
+        mockMvc.perform(get("/api/hospitals/search/symptom-keywords").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid_limit"));
     }
 }
@@ -1,14 +1,19 @@
 package com.medicheck.server.domain.hospital.controller;
 
+import com.medicheck.server.domain.hospital.dto.SyncJobResponse;
 import com.medicheck.server.domain.hospital.dto.SyncResult;
+import com.medicheck.server.domain.hospital.entity.SyncJob;
 import com.medicheck.server.global.config.DirectionsRateLimitProperties;
 import com.medicheck.server.global.auth.PerIPDirectionsRateLimitFilter;
 import com.medicheck.server.global.auth.SecurityConfig;
 import com.medicheck.server.global.auth.XAdminKeyAuthFilter;
 import com.medicheck.server.domain.hospital.service.HiraSyncService;
 import com.medicheck.server.domain.hospital.service.HospitalEvaluationSyncService;
+import com.medicheck.server.domain.hospital.service.HospitalReviewStatsReconciler;
 import com.medicheck.server.domain.hospital.service.HospitalService;
+import com.medicheck.server.domain.hospital.service.HospitalTileService;
 import com.medicheck.server.domain.hospital.service.HospitalTop5SyncService;
+import com.medicheck.server.domain.hospital.service.SyncJobService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,12 +23,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Optional;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -50,6 +60,9 @@ class HospitalControllerSyncSecurityTest {
     @MockBean
     private HospitalService hospitalService;
 
+    @MockBean
+    private HospitalTileService hospitalTileService;
+
     @MockBean
     private HiraSyncService hiraSyncService;
 
@@ -59,6 +72,12 @@ class HospitalControllerSyncSecurityTest {
     @MockBean
     private HospitalTop5SyncService hospitalTop5SyncService;
 
+    @MockBean
+    private HospitalReviewStatsReconciler hospitalReviewStatsReconciler;
+
+    @MockBean
+    private SyncJobService syncJobService;
+
     @Test
     @DisplayName("동기화 엔드포인트는 관리자 키 없이 접근 시 403을 반환한다")
     void syncEndpoints_forbiddenWithoutAdminKey() throws Exception {
@@ -93,8 +112,26 @@ class HospitalControllerSyncSecurityTest {
         mockMvc.perform(post("/api/hospitals/sync/evaluations/region").param("addressKeyword", "구미"))
                 .andExpect(status().isForbidden());
 
+        mockMvc.perform(post("/api/hospitals/sync/top5/one").param("ykiho", "some-ykiho"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/hospitals/sync/top5/region").param("addressKeyword", "구미"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/hospitals/sync/review-stats"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/hospitals/sync/jobs/hospitals-all"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/hospitals/sync/jobs/1"))
+                .andExpect(status().isForbidden());
+
         then(hiraSyncService).shouldHaveNoInteractions();
         then(hospitalEvaluationSyncService).shouldHaveNoInteractions();
+        then(hospitalTop5SyncService).shouldHaveNoInteractions();
+        then(hospitalReviewStatsReconciler).shouldHaveNoInteractions();
+        then(syncJobService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -111,6 +148,14 @@ class HospitalControllerSyncSecurityTest {
         given(hospitalEvaluationSyncService.syncAll(any())).willReturn(0);
         given(hospitalEvaluationSyncService.syncOne(anyString())).willReturn(true);
         given(hospitalEvaluationSyncService.syncByAddressKeyword(anyString(), any())).willReturn(0);
+        given(hospitalTop5SyncService.syncOne(anyString())).willReturn(true);
+        given(hospitalReviewStatsReconciler.reconcile(anyBoolean()))
+                .willReturn(new HospitalReviewStatsReconciler.ReconcileResult(0, 0));
+        given(syncJobService.start(any(), anyInt(), any(), any()))
+                .willReturn(SyncJobResponse.builder().id(1L).type(SyncJob.Type.HOSPITALS_ALL)
+                        .status(SyncJob.Status.RUNNING).build());
+        given(syncJobService.findById(1L))
+                .willReturn(Optional.of(SyncJobResponse.builder().id(1L).build()));
 
         mockMvc.perform(post("/api/hospitals/sync")
                         .header("X-Admin-Key", "test-admin-key")
@@ -152,6 +197,29 @@ class HospitalControllerSyncSecurityTest {
                         .param("addressKeyword", "구미"))
                 .andExpect(status().isOk());
 
+        mockMvc.perform(post("/api/hospitals/sync/top5/one")
+                        .header("X-Admin-Key", "test-admin-key")
+                        .param("ykiho", "some-ykiho"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/hospitals/sync/top5/region")
+                        .header("X-Admin-Key", "test-admin-key")
+                        .param("addressKeyword", "구미"))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(post("/api/hospitals/sync/review-stats")
+                        .header("X-Admin-Key", "test-admin-key"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/hospitals/sync/jobs/hospitals-all")
+                        .header("X-Admin-Key", "test-admin-key")
+                        .param("numOfRows", "10"))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(get("/api/hospitals/sync/jobs/1")
+                        .header("X-Admin-Key", "test-admin-key"))
+                .andExpect(status().isOk());
+
         then(hiraSyncService).should().syncFromHira(1, 10);
         then(hiraSyncService).should().syncAllRegions(10);
         then(hiraSyncService).should().syncRegion("470000", "471900", 10);
@@ -159,6 +227,26 @@ class HospitalControllerSyncSecurityTest {
         then(hospitalEvaluationSyncService).should().syncAll(any());
         then(hospitalEvaluationSyncService).should().syncOne("some-ykiho");
         then(hospitalEvaluationSyncService).should().syncByAddressKeyword("구미", null);
+        then(hospitalReviewStatsReconciler).should().reconcile(false);
+        then(hospitalTop5SyncService).should().syncOne("some-ykiho");
+        then(syncJobService).should().start(SyncJob.Type.TOP5_REGION, 500, null, "구미");
+        then(syncJobService).should().start(SyncJob.Type.HOSPITALS_ALL, 10, null, null);
     }
-}
 
+    @Test
+    @DisplayName("Actuator 는 health 만 공개이고, metrics 는 일반 회원이면 403, 관리자 키가 있으면 통과한다")
+    void actuatorMetrics_adminOnly() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/metrics").with(user("member").roles("USER")))
+                .andExpect(status().isForbidden());
+
+        // @WebMvcTest 에는 Actuator 엔드포인트가 없으므로 보안을 통과하면 404
+        mockMvc.perform(get("/actuator/metrics").header("X-Admin-Key", "test-admin-key"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,40 @@
+package com.medicheck.server.domain.hospital.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicheck.server.domain.hospital.entity.HospitalEvaluation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HospitalEvaluationSummaryTest {
+
+    @Test
+    @DisplayName("등급은 코드로 보관해도 getter 와 JSON(asmGrdXX) 은 원래 문자열 그대로다")
+    void grades_roundTripThroughCodes() throws Exception {
+        HospitalEvaluation ev = HospitalEvaluation.builder()
+                .ykiho("Y1")
+                .yadmNm("병원")
+                .asmGrd01("1")
+                .asmGrd05("0")
+                .asmGrd13("등급제외")
+                .asmGrd24("5")
+                .build();
+
+        HospitalEvaluationSummary summary = HospitalEvaluationSummary.from(ev);
+
+        assertThat(summary.getAsmGrd01()).isEqualTo("1");
+        assertThat(summary.getAsmGrd03()).isNull();
+        assertThat(summary.getAsmGrd05()).isEqualTo("0");
+        assertThat(summary.getAsmGrd13()).isEqualTo("등급제외");
+        assertThat(summary.getAsmGrd24()).isEqualTo("5");
+
+        JsonNode json = new ObjectMapper().valueToTree(summary);
+        assertThat(json.get("ykiho").asText()).isEqualTo("Y1");
+        assertThat(json.get("asmGrd01").asText()).isEqualTo("1");
+        assertThat(json.get("asmGrd03").isNull()).isTrue();
+        assertThat(json.get("asmGrd13").asText()).isEqualTo("등급제외");
+        assertThat(json.has("grades")).isFalse();
+    }
+}
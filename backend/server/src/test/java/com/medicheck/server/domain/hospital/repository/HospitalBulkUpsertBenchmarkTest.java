@@ -0,0 +1,234 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.support.MySqlBenchmarkSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.medicheck.server.support.MySqlBenchmarkSupport.BENCH_CODE_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HIRA 페이지 저장: JPA 경로(IDENTITY 단건 INSERT, 엔티티 로드 후 행별 UPDATE) vs JDBC 배치 upsert 처리량(rows/sec) 비교.
+ * JPA 경로는 Hibernate 가 보내는 SQL 패턴(행마다 왕복)을 JDBC로 재현합니다.
+ * 실제 MySQL이 필요하므로 MEDICHECK_BENCH_DB_URL 이 있을 때만 실행됩니다. 규모: -Dbench.upsert.sizes=10000
+ */
+@EnabledIfEnvironmentVariable(named = MySqlBenchmarkSupport.URL_ENV, matches = ".+")
+class HospitalBulkUpsertBenchmarkTest {
+
+    private static final String CODE_PREFIX = BENCH_CODE_PREFIX + "UPSERT-";
+
+    /** 같은 컬럼 순서의 단건 INSERT (Hibernate IDENTITY persist 와 동일하게 행마다 실행) */
+    private static final String SINGLE_INSERT_SQL =
+            HospitalBulkWriter.UPSERT_SQL.substring(0, HospitalBulkWriter.UPSERT_SQL.indexOf(" AS incoming"));
+
+    /** dirty check 후 Hibernate 가 보내는 전체 컬럼 UPDATE (파라미터 순서는 HospitalBulkWriter.bind 와 동일 + id) */
+    private static final String ENTITY_UPDATE_SQL = """
+            UPDATE hospitals
+               SET name = ?, hosp_name = ?, address = ?, location = ST_SRID(POINT(?, ?), 4326), latitude = ?, longitude = ?,
+                   phone = ?, public_code = ?, ykiho = ?, department = ?, doctor_total_count = ?, established_date = ?,
+                   mdept_specialist_count = ?, mdept_general_count = ?, mdept_intern_count = ?, mdept_resident_count = ?,
+                   dety_specialist_count = ?, cmdc_specialist_count = ?, created_at = ?, updated_at = ?,
+                   hira_content_hash = ?
+             WHERE id = ?
+            """;
+
+    private static Connection plainConnection;
+    private static Connection batchConnection;
+    private static HospitalBulkWriter writer;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        plainConnection = MySqlBenchmarkSupport.openConnection();
+        batchConnection = MySqlBenchmarkSupport.openConnection(Map.of("rewriteBatchedStatements", "true"));
+        writer = new HospitalBulkWriter(new JdbcTemplate(new SingleConnectionDataSource(batchConnection, true)));
+    }
+
+    @AfterEach
+    void deleteBenchRows() throws SQLException {
+        try (PreparedStatement ps = plainConnection.prepareStatement("DELETE FROM hospitals WHERE public_code LIKE ?")) {
+            ps.setString(1, CODE_PREFIX + "%");
+            ps.executeUpdate();
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (plainConnection != null) plainConnection.close();
+        if (batchConnection != null) batchConnection.close();
+    }
+
+    @Test
+    @DisplayName("upsert - 기존 행은 incoming 이 null 인 컬럼을 유지하고 location 은 병합 좌표로 다시 계산한다")
+    void upsert_keepsExistingValuesForNullIncomingFields() throws SQLException {
+        String code = CODE_PREFIX + "semantics";
+        writer.upsert(List.of(new HiraHospitalRow(code, "원래이름", "원래주소", new BigDecimal("37.5"), new BigDecimal("127.0"),
+                "02-111-2222", "의원", 3, LocalDate.of(2010, 1, 1), 1, 1, null, null, null, null)));
+
+        writer.upsert(List.of(new HiraHospitalRow(code, null, "바뀐주소", null, new BigDecimal("128.0"),
+                null, null, 5, null, null, null, null, null, null, null)));
+
+        try (PreparedStatement ps = plainConnection.prepareStatement("""
+                SELECT name, hosp_name, address, phone, department, doctor_total_count, latitude, longitude,
+                       ST_X(location) AS px, ST_Y(location) AS py
+                FROM hospitals WHERE public_code = ?
+                """)) {
+            ps.setString(1, code);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString("name")).isEqualTo("원래이름");
+                assertThat(rs.getString("hosp_name")).isEqualTo("원래이름");
+                assertThat(rs.getString("address")).isEqualTo("바뀐주소");
+                assertThat(rs.getString("phone")).isEqualTo("02-111-2222");
+                assertThat(rs.getString("department")).isEqualTo("의원");
+                assertThat(rs.getInt("doctor_total_count")).isEqualTo(5);
+                assertThat(rs.getBigDecimal("latitude")).isEqualByComparingTo("37.5");
+                assertThat(rs.getBigDecimal("longitude")).isEqualByComparingTo("128.0");
+                // V2 마이그레이션과 같은 POINT(경도, 위도) 규칙
+                assertThat(rs.getDouble("px")).isEqualTo(128.0);
+                assertThat(rs.getDouble("py")).isEqualTo(37.5);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("rows/sec - 신규 저장과 기존 갱신 각각 JPA 경로 vs JDBC 배치 upsert, 변경 없는 재동기화")
+    void benchmark_jpaPathVsBulkUpsert() throws SQLException {
+        System.out.printf("%8s | %16s %16s | %16s %16s | %16s%n",
+                "rows", "jpa insert r/s", "bulk insert r/s", "jpa update r/s", "bulk update r/s", "bulk resync r/s");
+        for (int size : MySqlBenchmarkSupport.sizes("bench.upsert.sizes", "10000")) {
+            List<HiraHospitalRow> inserts = rows(size, "v1");
+            List<HiraHospitalRow> updates = rows(size, "v2");
+
+            double jpaInsert = rowsPerSecond(size, () -> jpaInsert(inserts));
+            double jpaUpdate = rowsPerSecond(size, () -> jpaUpdate(updates));
+            deleteBenchRows();
+
+            double bulkInsert = rowsPerSecond(size, () -> bulkPersist(inserts));
+            double bulkUpdate = rowsPerSecond(size, () -> bulkPersist(updates));
+            // 같은 내용으로 다시 동기화: 해시가 같아 조회만 하고 쓰지 않음
+            double bulkResync = rowsPerSecond(size, () -> bulkPersist(updates));
+            deleteBenchRows();
+
+            System.out.printf("%8d | %16.0f %16.0f | %16.0f %16.0f | %16.0f%n",
+                    size, jpaInsert, bulkInsert, jpaUpdate, bulkUpdate, bulkResync);
+        }
+    }
+
+    /** saveAll(IDENTITY): 행마다 INSERT 후 생성 키 회수 */
+    private static void jpaInsert(List<HiraHospitalRow> rows) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement ps = plainConnection.prepareStatement(SINGLE_INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (HiraHospitalRow row : rows) {
+                HospitalBulkWriter.bind(ps, row, now);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+    }
+
+    /** findAllByPublicCodeIn 으로 엔티티 로드 → updateFromHira → 행마다 UPDATE */
+    private static void jpaUpdate(List<HiraHospitalRow> rows) throws SQLException {
+        Map<String, Long> ids = new HashMap<>();
+        try (PreparedStatement select = plainConnection.prepareStatement(
+                "SELECT * FROM hospitals WHERE public_code LIKE ?")) {
+            select.setString(1, CODE_PREFIX + "%");
+            try (ResultSet rs = select.executeQuery()) {
+                int columns = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    for (int c = 1; c <= columns; c++) {
+                        rs.getObject(c);
+                    }
+                    ids.put(rs.getString("public_code"), rs.getLong("id"));
+                }
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement ps = plainConnection.prepareStatement(ENTITY_UPDATE_SQL)) {
+            for (HiraHospitalRow row : rows) {
+                HospitalBulkWriter.bind(ps, row, now);
+                ps.setLong(23, ids.get(row.publicCode()));
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    /** HospitalPersistenceService#persistHospitals 와 같은 순서: 기존 ID·해시 조회 → 해시가 다른 행만 upsert → 신규 ID 조회 */
+    private static void bulkPersist(List<HiraHospitalRow> rows) {
+        List<String> codes = rows.stream().map(HiraHospitalRow::publicCode).toList();
+        Map<String, HospitalBulkWriter.ExistingRow> existing = writer.findExistingByPublicCodes(codes);
+        List<HiraHospitalRow> changed = rows.stream()
+                .filter(row -> existing.get(row.publicCode()) == null
+                        || !row.contentHash().equals(existing.get(row.publicCode()).contentHash()))
+                .toList();
+        if (!changed.isEmpty()) {
+            writer.upsert(changed);
+        }
+        List<String> newCodes = codes.stream().filter(code -> !existing.containsKey(code)).toList();
+        if (!newCodes.isEmpty()) {
+            writer.findIdsByPublicCodes(newCodes);
+        }
+    }
+
+    private static double rowsPerSecond(int rows, SqlWork work) throws SQLException {
+        Connection[] connections = {plainConnection, batchConnection};
+        for (Connection c : connections) {
+            c.setAutoCommit(false);
+        }
+        try {
+            long start = System.nanoTime();
+            work.run();
+            for (Connection c : connections) {
+                c.commit();
+            }
+            return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            for (Connection c : connections) {
+                c.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static List<HiraHospitalRow> rows(int size, String version) {
+        List<HiraHospitalRow> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new HiraHospitalRow(
+                    CODE_PREFIX + i,
+                    "벤치병원" + i + "-" + version,
+                    "서울특별시 중구 " + version,
+                    BigDecimal.valueOf(37.5 + i * 0.00001),
+                    BigDecimal.valueOf(126.9 + i * 0.00001),
+                    "02-000-" + (i % 10000),
+                    "의원",
+                    i % 7,
+                    LocalDate.of(2000, 1, 1),
+                    1, 0, 0, 0, 0, 0));
+        }
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+}
@@ -0,0 +1,24 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HospitalKeywordQueryTest {
+
+    @Test
+    @DisplayName("toBooleanQuery - 토큰마다 필수 구문으로 묶고 BOOLEAN MODE 연산자는 구분자로 취급한다")
+    void toBooleanQuery_quotesEachTokenAsRequiredPhrase() {
+        assertThat(HospitalKeywordQuery.toBooleanQuery("  서울대 병원 ")).hasValue("+\"서울대\" +\"병원\"");
+        assertThat(HospitalKeywordQuery.toBooleanQuery("COVID-19 \"내과\"*")).hasValue("+\"COVID\" +\"19\" +\"내과\"");
+    }
+
+    @Test
+    @DisplayName("toBooleanQuery - 비었거나 ngram 길이(2자)보다 짧은 토큰이 있으면 LIKE 로 대체하도록 비어 있다")
+    void toBooleanQuery_emptyWhenTokenTooShort() {
+        assertThat(HospitalKeywordQuery.toBooleanQuery(null)).isEmpty();
+        assertThat(HospitalKeywordQuery.toBooleanQuery(" +- ")).isEmpty();
+        assertThat(HospitalKeywordQuery.toBooleanQuery("서울 과")).isEmpty();
+    }
+}
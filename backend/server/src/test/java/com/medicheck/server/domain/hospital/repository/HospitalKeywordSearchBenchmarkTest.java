@@ -0,0 +1,221 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.support.MySqlBenchmarkSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.medicheck.server.support.MySqlBenchmarkSupport.BENCH_CODE_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 병원 목록 키워드 검색: 이름·주소·진료과 LIKE '%kw%' 전체 스캔 + COUNT vs FULLTEXT(ngram, V6) 경로 비교.
+ * 한 라운드 = 첫 페이지(20건) + 전체 건수. 실제 MySQL이 필요하므로 MEDICHECK_BENCH_DB_URL 이 있을 때만 실행됩니다.
+ */
+@EnabledIfEnvironmentVariable(named = MySqlBenchmarkSupport.URL_ENV, matches = ".+")
+class HospitalKeywordSearchBenchmarkTest {
+
+    /** HospitalSpecification.hasKeyword 가 만드는 조건 (Hibernate 생성 SQL과 같은 형태) */
+    private static final String LIKE_WHERE = """
+            WHERE (LOWER(h.name) LIKE :pattern OR LOWER(h.address) LIKE :pattern OR LOWER(h.department) LIKE :pattern)
+            """;
+    private static final String LIKE_SQL = "SELECT h.id FROM hospitals h\n" + LIKE_WHERE
+            + "ORDER BY h.name LIMIT :limit OFFSET :offset";
+    private static final String LIKE_COUNT_SQL = "SELECT COUNT(*) FROM hospitals h\n" + LIKE_WHERE;
+
+    private static final String CODE_PREFIX = BENCH_CODE_PREFIX + "KW-";
+    private static final String[] SIDO = {"서울특별시", "부산광역시", "대구광역시", "경기도", "경상북도", "전라남도", "강원특별자치도"};
+    private static final String[] GU = {"중구", "강남구", "수성구", "해운대구", "구미시", "포항시", "순천시", "춘천시", "분당구"};
+    private static final String[] DEPARTMENTS = {"내과", "외과", "소아청소년과", "정형외과", "이비인후과", "치과", "한의원", "피부과"};
+    private static final String[] NAME_WORDS = {"연세", "서울", "행복", "튼튼", "미소", "365", "우리", "바른", "새봄", "한마음"};
+    private static final List<String> KEYWORDS = List.of("구미", "정형외과", "연세 내과", "해운대", "튼튼", "소아청소년과");
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_QUERIES = 10;
+    private static final int MEASURED_QUERIES = 100;
+    private static final Pattern NAMED_PARAM = Pattern.compile(":([A-Za-z][A-Za-z0-9]*)");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void connect() throws SQLException {
+        connection = MySqlBenchmarkSupport.openConnection();
+    }
+
+    @AfterAll
+    static void cleanUp() throws SQLException {
+        if (connection == null) return;
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM hospitals WHERE public_code LIKE ?")) {
+            ps.setString(1, CODE_PREFIX + "%");
+            ps.executeUpdate();
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("EXPLAIN - 키워드 FULLTEXT 쿼리는 ft_hospitals_keyword 를 사용한다")
+    void explain_usesFulltextIndex() throws SQLException {
+        seedUpTo(10_000);
+
+        try (PreparedStatement ps = prepare("EXPLAIN " + HospitalRepository.KEYWORD_FULLTEXT_SQL, fulltextParams("구미"));
+             ResultSet rs = ps.executeQuery()) {
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getString("key")).isEqualTo("ft_hospitals_keyword");
+            assertThat(rs.getString("type")).isEqualTo("fulltext");
+        }
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 건수는 2자 이상 단일 토큰에서 LIKE 건수와 같다")
+    void fulltext_countMatchesLike() throws SQLException {
+        seedUpTo(10_000);
+
+        for (String keyword : List.of("구미", "정형외과", "해운대")) {
+            assertThat(count(HospitalRepository.KEYWORD_FULLTEXT_COUNT_SQL, fulltextParams(keyword)))
+                    .as(keyword)
+                    .isEqualTo(count(LIKE_COUNT_SQL, likeParams(keyword)));
+        }
+    }
+
+    @Test
+    @DisplayName("p50/p99 - 100k 행에서 LIKE 전체 스캔 대비 FULLTEXT 첫 페이지 + 건수 지연 시간 비교")
+    void benchmark_likeVsFulltext() throws SQLException {
+        int[] sizes = MySqlBenchmarkSupport.sizes("bench.keyword.sizes", "100000");
+        System.out.printf("%10s | %12s %12s | %12s %12s%n", "rows", "like p50", "like p99", "fulltext p50", "fulltext p99");
+        for (int size : sizes) {
+            seedUpTo(size);
+            List<Long> like = measure(LIKE_SQL, LIKE_COUNT_SQL, false);
+            List<Long> fulltext = measure(HospitalRepository.KEYWORD_FULLTEXT_SQL,
+                    HospitalRepository.KEYWORD_FULLTEXT_COUNT_SQL, true);
+            System.out.printf("%10d | %10.2fms %10.2fms | %10.2fms %10.2fms%n",
+                    size,
+                    MySqlBenchmarkSupport.percentileMillis(like, 50),
+                    MySqlBenchmarkSupport.percentileMillis(like, 99),
+                    MySqlBenchmarkSupport.percentileMillis(fulltext, 50),
+                    MySqlBenchmarkSupport.percentileMillis(fulltext, 99));
+        }
+    }
+
+    private static List<Long> measure(String pageSql, String countSql, boolean fulltext) throws SQLException {
+        List<Long> samples = new ArrayList<>(MEASURED_QUERIES);
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            String keyword = KEYWORDS.get(i % KEYWORDS.size());
+            Map<String, Object> params = fulltext ? fulltextParams(keyword) : likeParams(keyword);
+            long start = System.nanoTime();
+            try (PreparedStatement ps = prepare(pageSql, params);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rs.getLong(1);
+                }
+            }
+            count(countSql, params);
+            if (i >= WARMUP_QUERIES) {
+                samples.add(System.nanoTime() - start);
+            }
+        }
+        return samples;
+    }
+
+    private static Map<String, Object> fulltextParams(String keyword) {
+        return Map.of(
+                "query", HospitalKeywordQuery.toBooleanQuery(keyword).orElseThrow(),
+                "departmentPattern", "",
+                "limit", PAGE_SIZE,
+                "offset", 0L);
+    }
+
+    private static Map<String, Object> likeParams(String keyword) {
+        return Map.of("pattern", HospitalSpecification.containsPattern(keyword), "limit", PAGE_SIZE, "offset", 0L);
+    }
+
+    private static long count(String namedSql, Map<String, Object> params) throws SQLException {
+        try (PreparedStatement ps = prepare(namedSql, params);
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /** :name 파라미터를 ? 로 바꾸고 등장 순서대로 값을 바인딩합니다 (문자열 검색식이 있어 인라인하지 않음). */
+    private static PreparedStatement prepare(String namedSql, Map<String, Object> params) throws SQLException {
+        Matcher m = NAMED_PARAM.matcher(namedSql);
+        List<Object> values = new ArrayList<>();
+        StringBuilder sql = new StringBuilder();
+        while (m.find()) {
+            if (!params.containsKey(m.group(1))) {
+                throw new IllegalArgumentException("파라미터 값 누락: " + m.group(1));
+            }
+            values.add(params.get(m.group(1)));
+            m.appendReplacement(sql, "?");
+        }
+        m.appendTail(sql);
+        PreparedStatement ps = connection.prepareStatement(sql.toString());
+        for (int i = 0; i < values.size(); i++) {
+            ps.setObject(i + 1, values.get(i));
+        }
+        return ps;
+    }
+
+    /** 합성 병원 행이 target 개가 될 때까지 무작위 이름·주소·진료과로 채웁니다. */
+    private static void seedUpTo(int target) throws SQLException {
+        int existing;
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT COUNT(*) FROM hospitals WHERE public_code LIKE ?")) {
+            ps.setString(1, CODE_PREFIX + "%");
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                existing = rs.getInt(1);
+            }
+        }
+        if (existing >= target) return;
+
+        Random random = new Random(target);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement("""
+                INSERT INTO hospitals (name, hosp_name, public_code, ykiho, address, department,
+                                       latitude, longitude, location, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, 37.5665, 126.9780, ST_SRID(POINT(126.9780, 37.5665), 4326), NOW(), NOW())
+                """)) {
+            for (int i = existing; i < target; i++) {
+                String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+                String name = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + department + "의원" + i;
+                String address = SIDO[random.nextInt(SIDO.length)] + " " + GU[random.nextInt(GU.length)]
+                        + " 벤치로 " + random.nextInt(500);
+                String code = CODE_PREFIX + i;
+                ps.setString(1, name);
+                ps.setString(2, name);
+                ps.setString(3, code);
+                ps.setString(4, code);
+                ps.setString(5, address);
+                ps.setString(6, department);
+                ps.addBatch();
+                if ((i - existing + 1) % 5_000 == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE TABLE hospitals");
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.support.MySqlBenchmarkSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.medicheck.server.support.MySqlBenchmarkSupport.BENCH_CODE_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 병원 목록 sort=name 깊은 페이지: LIMIT/OFFSET + COUNT(*) vs (name, id) keyset(V7 idx_hospitals_name_id) 비교.
+ * 한 라운드 = 같은 위치의 한 페이지(20건). 실제 MySQL이 필요하므로 MEDICHECK_BENCH_DB_URL 이 있을 때만 실행됩니다.
+ */
+@EnabledIfEnvironmentVariable(named = MySqlBenchmarkSupport.URL_ENV, matches = ".+")
+class HospitalListKeysetBenchmarkTest {
+
+    /** findAll(spec, pageable) 가 만드는 쿼리와 같은 형태 */
+    private static final String OFFSET_SQL = "SELECT h.* FROM hospitals h ORDER BY h.name, h.id LIMIT ? OFFSET ?";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM hospitals h";
+    /** HospitalSpecification.after("name", ...) + HospitalListOrder.NAME_ASC 가 만드는 쿼리와 같은 형태 */
+    private static final String KEYSET_SQL = """
+            SELECT h.* FROM hospitals h
+            WHERE (h.name > ? OR (h.name = ? AND h.id > ?))
+            ORDER BY h.name, h.id LIMIT ?
+            """;
+
+    private static final String CODE_PREFIX = BENCH_CODE_PREFIX + "LIST-";
+    private static final String[] NAME_WORDS = {"연세", "서울", "행복", "튼튼", "미소", "365", "우리", "바른", "새봄", "한마음"};
+    private static final String[] DEPARTMENTS = {"내과", "외과", "소아청소년과", "정형외과", "이비인후과", "치과", "한의원", "피부과"};
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_QUERIES = 10;
+    private static final int MEASURED_QUERIES = 100;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void connect() throws SQLException {
+        connection = MySqlBenchmarkSupport.openConnection();
+    }
+
+    @AfterAll
+    static void cleanUp() throws SQLException {
+        if (connection == null) return;
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM hospitals WHERE public_code LIKE ?")) {
+            ps.setString(1, CODE_PREFIX + "%");
+            ps.executeUpdate();
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("EXPLAIN - name keyset 쿼리는 idx_hospitals_name_id 범위 검색으로 filesort 없이 읽는다")
+    void explain_usesNameIdIndex() throws SQLException {
+        seedUpTo(10_000);
+        Key middle = keyAt(5_000);
+
+        try (PreparedStatement ps = keyset("EXPLAIN " + KEYSET_SQL, middle);
+             ResultSet rs = ps.executeQuery()) {
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getString("key")).isEqualTo("idx_hospitals_name_id");
+            assertThat(rs.getString("type")).isEqualTo("range");
+            assertThat(rs.getString("Extra")).doesNotContain("filesort");
+        }
+    }
+
+    @Test
+    @DisplayName("keyset 다음 페이지는 같은 위치의 OFFSET 페이지와 같은 병원이다")
+    void keyset_matchesOffsetPage() throws SQLException {
+        seedUpTo(10_000);
+        int offset = 3_000;
+
+        List<Long> offsetIds = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(OFFSET_SQL)) {
+            ps.setInt(1, PAGE_SIZE);
+            ps.setInt(2, offset);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) offsetIds.add(rs.getLong("id"));
+            }
+        }
+        List<Long> keysetIds = new ArrayList<>();
+        try (PreparedStatement ps = keyset(KEYSET_SQL, keyAt(offset - 1));
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) keysetIds.add(rs.getLong("id"));
+        }
+        assertThat(keysetIds).isEqualTo(offsetIds);
+    }
+
+    @Test
+    @DisplayName("p50/p99 - 100k 행 깊은 페이지에서 OFFSET + COUNT 대비 keyset 지연 시간 비교")
+    void benchmark_offsetVsKeyset() throws SQLException {
+        int[] sizes = MySqlBenchmarkSupport.sizes("bench.list.sizes", "100000");
+        System.out.printf("%10s %10s | %12s %12s | %12s %12s%n",
+                "rows", "offset", "offset p50", "offset p99", "keyset p50", "keyset p99");
+        for (int size : sizes) {
+            seedUpTo(size);
+            for (int offset : new int[]{0, size / 10, size / 2, size - PAGE_SIZE}) {
+                Key previous = offset > 0 ? keyAt(offset - 1) : new Key("", 0L);
+                List<Long> offsetSamples = new ArrayList<>(MEASURED_QUERIES);
+                List<Long> keysetSamples = new ArrayList<>(MEASURED_QUERIES);
+                for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+                    long start = System.nanoTime();
+                    try (PreparedStatement ps = connection.prepareStatement(OFFSET_SQL)) {
+                        ps.setInt(1, PAGE_SIZE);
+                        ps.setInt(2, offset);
+                        drain(ps);
+                    }
+                    try (PreparedStatement ps = connection.prepareStatement(COUNT_SQL)) {
+                        drain(ps);
+                    }
+                    long offsetNanos = System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    try (PreparedStatement ps = keyset(KEYSET_SQL, previous)) {
+                        drain(ps);
+                    }
+                    long keysetNanos = System.nanoTime() - start;
+                    if (i >= WARMUP_QUERIES) {
+                        offsetSamples.add(offsetNanos);
+                        keysetSamples.add(keysetNanos);
+                    }
+                }
+                System.out.printf("%10d %10d | %10.2fms %10.2fms | %10.2fms %10.2fms%n",
+                        size, offset,
+                        MySqlBenchmarkSupport.percentileMillis(offsetSamples, 50),
+                        MySqlBenchmarkSupport.percentileMillis(offsetSamples, 99),
+                        MySqlBenchmarkSupport.percentileMillis(keysetSamples, 50),
+                        MySqlBenchmarkSupport.percentileMillis(keysetSamples, 99));
+            }
+        }
+    }
+
+    private record Key(String name, long id) {
+    }
+
+    /** (name, id) 순서로 position 번째 병원의 정렬 키 */
+    private static Key keyAt(int position) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT h.name, h.id FROM hospitals h ORDER BY h.name, h.id LIMIT 1 OFFSET ?")) {
+            ps.setInt(1, position);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return new Key(rs.getString(1), rs.getLong(2));
+            }
+        }
+    }
+
+    private static PreparedStatement keyset(String sql, Key after) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sql);
+        ps.setString(1, after.name());
+        ps.setString(2, after.name());
+        ps.setLong(3, after.id());
+        ps.setInt(4, PAGE_SIZE);
+        return ps;
+    }
+
+    private static void drain(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rs.getLong(1);
+            }
+        }
+    }
+
+    /** 합성 병원 행이 target 개가 될 때까지 무작위 이름으로 채웁니다. */
+    private static void seedUpTo(int target) throws SQLException {
+        int existing;
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT COUNT(*) FROM hospitals WHERE public_code LIKE ?")) {
+            ps.setString(1, CODE_PREFIX + "%");
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                existing = rs.getInt(1);
+            }
+        }
+        if (existing >= target) return;
+
+        Random random = new Random(target);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement("""
+                INSERT INTO hospitals (name, hosp_name, public_code, ykiho, address, department,
+                                       latitude, longitude, location, created_at, updated_at)
+                VALUES (?, ?, ?, ?, '서울특별시 중구 벤치로 1', ?, 37.5665, 126.9780,
+                        ST_SRID(POINT(126.9780, 37.5665), 4326), NOW(), NOW())
+                """)) {
+            for (int i = existing; i < target; i++) {
+                String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+                // 같은 이름이 여럿 있어야 (name, id) 타이브레이크가 검증되므로 일련번호 범위를 좁힌다
+                String name = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + department + "의원" + random.nextInt(1_000);
+                String code = CODE_PREFIX + i;
+                ps.setString(1, name);
+                ps.setString(2, name);
+                ps.setString(3, code);
+                ps.setString(4, code);
+                ps.setString(5, department);
+                ps.addBatch();
+                if ((i - existing + 1) % 5_000 == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE TABLE hospitals");
+        }
+    }
+}
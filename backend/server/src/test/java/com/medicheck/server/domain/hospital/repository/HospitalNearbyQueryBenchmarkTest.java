@@ -0,0 +1,190 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.domain.hospital.util.GeoBoundingBox;
+import com.medicheck.server.support.MySqlBenchmarkSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.medicheck.server.support.MySqlBenchmarkSupport.BENCH_CODE_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 근처 병원 쿼리: 기존 전체 스캔(ST_Distance_Sphere + HAVING) vs SPATIAL INDEX(MBRContains) 경로 비교.
+ * 실제 MySQL(V2 마이그레이션 적용)이 필요하므로 MEDICHECK_BENCH_DB_URL 이 있을 때만 실행됩니다.
+ */
+@EnabledIfEnvironmentVariable(named = MySqlBenchmarkSupport.URL_ENV, matches = ".+")
+class HospitalNearbyQueryBenchmarkTest {
+
+    private static final String LEGACY_SQL = """
+            SELECT  h.id,
+                    ST_Distance_Sphere(
+                        h.location,
+                        ST_SRID(POINT(:longitude, :latitude), 4326)
+                    ) AS distance
+            FROM hospitals h
+            WHERE h.location IS NOT NULL
+            HAVING distance <= :radiusMeters
+            ORDER BY distance ASC
+            LIMIT :maxResults
+            """;
+
+    private static final double RADIUS_METERS = 3_000;
+    private static final int MAX_RESULTS = 501;
+    private static final int WARMUP_QUERIES = 20;
+    private static final int MEASURED_QUERIES = 200;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void connect() throws SQLException {
+        connection = MySqlBenchmarkSupport.openConnection();
+    }
+
+    @AfterAll
+    static void cleanUp() throws SQLException {
+        if (connection == null) return;
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM hospitals WHERE public_code LIKE ?")) {
+            ps.setString(1, BENCH_CODE_PREFIX + "%");
+            ps.executeUpdate();
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("EXPLAIN - bounding box 쿼리는 idx_hospitals_location 범위 검색을 사용한다")
+    void explain_usesSpatialIndex() throws SQLException {
+        seedUpTo(10_000);
+
+        String sql = MySqlBenchmarkSupport.inlineNamedParams(
+                HospitalRepository.NEARBY_IN_BOUNDING_BOX_SQL, params(37.5665, 126.9780));
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("EXPLAIN " + sql)) {
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getString("key")).isEqualTo("idx_hospitals_location");
+            assertThat(rs.getString("type")).isEqualTo("range");
+        }
+    }
+
+    @Test
+    @DisplayName("p50/p99 - 10k/100k/500k 행에서 전체 스캔 대비 지연 시간 비교")
+    void benchmark_legacyVsBoundingBox() throws SQLException {
+        int[] sizes = MySqlBenchmarkSupport.sizes("bench.nearby.sizes", "10000,100000,500000");
+        System.out.printf("%10s | %12s %12s | %12s %12s%n", "rows", "legacy p50", "legacy p99", "bbox p50", "bbox p99");
+        for (int size : sizes) {
+            seedUpTo(size);
+            List<Long> legacy = measure(LEGACY_SQL);
+            List<Long> bbox = measure(HospitalRepository.NEARBY_IN_BOUNDING_BOX_SQL);
+            System.out.printf("%10d | %10.2fms %10.2fms | %10.2fms %10.2fms%n",
+                    size,
+                    MySqlBenchmarkSupport.percentileMillis(legacy, 50),
+                    MySqlBenchmarkSupport.percentileMillis(legacy, 99),
+                    MySqlBenchmarkSupport.percentileMillis(bbox, 50),
+                    MySqlBenchmarkSupport.percentileMillis(bbox, 99));
+        }
+    }
+
+    private List<Long> measure(String namedSql) throws SQLException {
+        Random random = new Random(42);
+        List<Long> samples = new ArrayList<>(MEASURED_QUERIES);
+        try (Statement st = connection.createStatement()) {
+            for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+                String sql = MySqlBenchmarkSupport.inlineNamedParams(namedSql, params(
+                        randomKoreanLatitude(random), randomKoreanLongitude(random)));
+                long start = System.nanoTime();
+                try (ResultSet rs = st.executeQuery(sql)) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+                if (i >= WARMUP_QUERIES) {
+                    samples.add(System.nanoTime() - start);
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static Map<String, Number> params(double latitude, double longitude) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, RADIUS_METERS);
+        Map<String, Number> params = new HashMap<>();
+        params.put("latitude", latitude);
+        params.put("longitude", longitude);
+        params.put("minLatitude", box.minLatitude());
+        params.put("maxLatitude", box.maxLatitude());
+        params.put("minLongitude", box.minLongitude());
+        params.put("maxLongitude", box.maxLongitude());
+        params.put("radiusMeters", RADIUS_METERS);
+        params.put("maxResults", MAX_RESULTS);
+        return params;
+    }
+
+    /** 합성 병원 행이 target 개가 될 때까지 한반도 범위의 무작위 좌표로 채웁니다. */
+    private static void seedUpTo(int target) throws SQLException {
+        int existing;
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT COUNT(*) FROM hospitals WHERE public_code LIKE ?")) {
+            ps.setString(1, BENCH_CODE_PREFIX + "%");
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                existing = rs.getInt(1);
+            }
+        }
+        if (existing >= target) return;
+
+        Random random = new Random(target);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement("""
+                INSERT INTO hospitals (name, hosp_name, public_code, ykiho, latitude, longitude, location, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ST_SRID(POINT(?, ?), 4326), NOW(), NOW())
+                """)) {
+            for (int i = existing; i < target; i++) {
+                double lat = randomKoreanLatitude(random);
+                double lng = randomKoreanLongitude(random);
+                String code = BENCH_CODE_PREFIX + i;
+                ps.setString(1, "벤치병원" + i);
+                ps.setString(2, "벤치병원" + i);
+                ps.setString(3, code);
+                ps.setString(4, code);
+                ps.setDouble(5, lat);
+                ps.setDouble(6, lng);
+                ps.setDouble(7, lng);
+                ps.setDouble(8, lat);
+                ps.addBatch();
+                if ((i - existing + 1) % 5_000 == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE TABLE hospitals");
+        }
+    }
+
+    private static double randomKoreanLatitude(Random random) {
+        return 34.5 + random.nextDouble() * 3.5;
+    }
+
+    private static double randomKoreanLongitude(Random random) {
+        return 126.5 + random.nextDouble() * 2.8;
+    }
+}
@@ -0,0 +1,212 @@
+package com.medicheck.server.domain.hospital.repository;
+
+import com.medicheck.server.support.MySqlBenchmarkSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.medicheck.server.support.MySqlBenchmarkSupport.BENCH_CODE_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결과 500건 응답 조립: 기존 네 번 왕복(병원 + 리뷰 집계 + 평가 + Top5) vs 읽기 모델 쿼리 한 번 비교.
+ * 실제 MySQL이 필요하므로 MEDICHECK_BENCH_DB_URL 이 있을 때만 실행됩니다.
+ */
+@EnabledIfEnvironmentVariable(named = MySqlBenchmarkSupport.URL_ENV, matches = ".+")
+class HospitalReadModelBenchmarkTest {
+
+    private static final int RESULT_SIZE = 500;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 200;
+    private static final String BENCH_LOGIN_ID = BENCH_CODE_PREFIX + "reviewer";
+
+    /** 리팩터링 전 HospitalService 가 차례로 보내던 쿼리들 (findAllById, 리뷰 집계, 평가, Top5) */
+    private static final List<String> LEGACY_SQLS = List.of(
+            "SELECT * FROM hospitals h WHERE h.id IN (:ids)",
+            "SELECT r.hospital_id, AVG(r.rating), COUNT(r.id) FROM hospital_reviews r WHERE r.hospital_id IN (:ids) GROUP BY r.hospital_id",
+            "SELECT * FROM hospital_evaluations e WHERE e.hospital_id IN (:ids)",
+            "SELECT * FROM hospital_clinic_top5 t WHERE t.hospital_id IN (:ids)"
+    );
+
+    private static Connection connection;
+    private static List<Long> hospitalIds;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = MySqlBenchmarkSupport.openConnection();
+        hospitalIds = seed();
+    }
+
+    @AfterAll
+    static void cleanUp() throws SQLException {
+        if (connection == null) return;
+        try (PreparedStatement reviews = connection.prepareStatement(
+                "DELETE r FROM hospital_reviews r JOIN users u ON u.id = r.user_id WHERE u.login_id = ?");
+             PreparedStatement users = connection.prepareStatement("DELETE FROM users WHERE login_id = ?");
+             PreparedStatement hospitals = connection.prepareStatement("DELETE FROM hospitals WHERE public_code LIKE ?")) {
+            reviews.setString(1, BENCH_LOGIN_ID);
+            reviews.executeUpdate();
+            users.setString(1, BENCH_LOGIN_ID);
+            users.executeUpdate();
+            hospitals.setString(1, BENCH_CODE_PREFIX + "READ-%");
+            hospitals.executeUpdate();
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("읽기 모델 쿼리는 500건을 한 번에 평가·Top5·리뷰 집계까지 채워 반환한다")
+    void readModel_returnsAllRowsInOneQuery() throws SQLException {
+        int rows = 0;
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery(withIds(HospitalRepository.READ_ROWS_SQL))) {
+            while (rs.next()) {
+                rows++;
+                assertThat(rs.getObject("evaluationId")).isNotNull();
+                assertThat(rs.getObject("top5Id")).isNotNull();
+                assertThat(rs.getLong("reviewCount")).isEqualTo(1);
+            }
+        }
+        assertThat(rows).isEqualTo(RESULT_SIZE);
+    }
+
+    @Test
+    @DisplayName("p50/p99 - 결과 500건에서 네 번 왕복 대비 단일 쿼리 지연 시간 비교")
+    void benchmark_legacyVsReadModel() throws SQLException {
+        List<String> legacy = LEGACY_SQLS.stream().map(HospitalReadModelBenchmarkTest::withIds).toList();
+        List<String> readModel = List.of(withIds(HospitalRepository.READ_ROWS_SQL));
+
+        List<Long> legacySamples = measure(legacy);
+        List<Long> readModelSamples = measure(readModel);
+
+        System.out.printf("%10s | %12s %12s | %12s %12s%n",
+                "results", "legacy p50", "legacy p99", "single p50", "single p99");
+        System.out.printf("%10d | %10.2fms %10.2fms | %10.2fms %10.2fms%n",
+                RESULT_SIZE,
+                MySqlBenchmarkSupport.percentileMillis(legacySamples, 50),
+                MySqlBenchmarkSupport.percentileMillis(legacySamples, 99),
+                MySqlBenchmarkSupport.percentileMillis(readModelSamples, 50),
+                MySqlBenchmarkSupport.percentileMillis(readModelSamples, 99));
+    }
+
+    /** 한 라운드 = 응답 한 번 조립에 필요한 쿼리 전부 */
+    private static List<Long> measure(List<String> sqls) throws SQLException {
+        List<Long> samples = new ArrayList<>(MEASURED_ROUNDS);
+        try (Statement st = connection.createStatement()) {
+            for (int i = 0; i < WARMUP_ROUNDS + MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                for (String sql : sqls) {
+                    try (ResultSet rs = st.executeQuery(sql)) {
+                        int columns = rs.getMetaData().getColumnCount();
+                        while (rs.next()) {
+                            for (int c = 1; c <= columns; c++) {
+                                rs.getObject(c);
+                            }
+                        }
+                    }
+                }
+                if (i >= WARMUP_ROUNDS) {
+                    samples.add(System.nanoTime() - start);
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static String withIds(String sql) {
+        String ids = hospitalIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return sql.replace(":ids", ids);
+    }
+
+    /** 병원 500건과 각 병원의 평가정보·Top5·리뷰(+ 리뷰 집계) 1건씩을 넣고 병원 ID 목록을 반환합니다. */
+    private static List<Long> seed() throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            long userId;
+            try (PreparedStatement ps = connection.prepareStatement("""
+                    INSERT INTO users (login_id, email, password_hash, password, name, nickname, created_at)
+                    VALUES (?, ?, 'x', 'x', 'bench', 'bench', NOW())
+                    """, Statement.RETURN_GENERATED_KEYS)) {
+                ps.setString(1, BENCH_LOGIN_ID);
+                ps.setString(2, BENCH_LOGIN_ID + "@bench.local");
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    userId = keys.getLong(1);
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(RESULT_SIZE);
+            try (PreparedStatement ps = connection.prepareStatement("""
+                    INSERT INTO hospitals (name, hosp_name, public_code, ykiho, address, latitude, longitude, location,
+                                           department, doctor_total_count, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, '서울특별시 중구', 37.5665, 126.9780, ST_SRID(POINT(126.9780, 37.5665), 4326),
+                            '의원', 3, NOW(), NOW())
+                    """, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < RESULT_SIZE; i++) {
+                    String code = BENCH_CODE_PREFIX + "READ-" + i;
+                    ps.setString(1, "벤치병원" + i);
+                    ps.setString(2, "벤치병원" + i);
+                    ps.setString(3, code);
+                    ps.setString(4, code);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+
+            try (PreparedStatement ev = connection.prepareStatement("""
+                    INSERT INTO hospital_evaluations (hospital_id, ykiho, yadm_nm, asm_grd_01, asm_grd_03, created_at, updated_at)
+                    VALUES (?, 'bench', 'bench', '1', '2', NOW(), NOW())
+                    """);
+                 PreparedStatement top5 = connection.prepareStatement("""
+                    INSERT INTO hospital_clinic_top5 (hospital_id, ykiho, crtr_ym, disease_nm_1, disease_nm_2, created_at, updated_at)
+                    VALUES (?, 'bench', '202401', '감기', '고혈압', NOW(), NOW())
+                    """);
+                 PreparedStatement review = connection.prepareStatement("""
+                    INSERT INTO hospital_reviews (user_id, hospital_id, rating, comment, created_at, updated_at)
+                    VALUES (?, ?, 4, NULL, NOW(), NOW())
+                    """);
+                 PreparedStatement stats = connection.prepareStatement("""
+                    INSERT INTO hospital_review_stats (hospital_id, rating_sum, review_count, updated_at)
+                    VALUES (?, 4, 1, NOW())
+                    """)) {
+                for (Long id : ids) {
+                    ev.setLong(1, id);
+                    ev.addBatch();
+                    top5.setLong(1, id);
+                    top5.addBatch();
+                    review.setLong(1, userId);
+                    review.setLong(2, id);
+                    review.addBatch();
+                    stats.setLong(1, id);
+                    stats.addBatch();
+                }
+                ev.executeBatch();
+                top5.executeBatch();
+                review.executeBatch();
+                stats.executeBatch();
+            }
+            connection.commit();
+            return ids;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
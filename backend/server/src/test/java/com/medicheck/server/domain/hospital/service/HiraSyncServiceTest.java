@@ -0,0 +1,179 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.client.HiraHospitalClient;
+import com.medicheck.server.domain.hospital.client.dto.HiraHospItem;
+import com.medicheck.server.domain.hospital.dto.SyncResult;
+import com.medicheck.server.global.config.HiraApiProperties;
+import com.medicheck.server.global.config.HiraSyncProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HiraSyncServiceTest {
+
+    private static final int SIDO_COUNT = 17;
+    private static final int NUM_OF_ROWS = 10;
+
+    @Mock
+    private HiraHospitalClient hiraHospitalClient;
+
+    @Mock
+    private HospitalPersistenceService hospitalPersistenceService;
+
+    private HiraApiProperties apiProperties;
+    private HiraSyncProperties syncProperties;
+    private HiraSyncService hiraSyncService;
+
+    @BeforeEach
+    void setUp() {
+        apiProperties = new HiraApiProperties();
+        apiProperties.setServiceKey("test-key");
+        syncProperties = new HiraSyncProperties();
+        hiraSyncService = new HiraSyncService(hiraHospitalClient, hospitalPersistenceService, apiProperties, syncProperties);
+        lenient().when(hospitalPersistenceService.persistHospitals(anyList()))
+                .thenAnswer(inv -> new HospitalPersistenceService.PersistCounts(0, inv.<List<?>>getArgument(0).size(), 0));
+    }
+
+    @Test
+    @DisplayName("syncAllRegions - 첫 페이지 totalCount 로 페이지 수를 계산해 시·도별 모든 페이지를 저장한다")
+    void syncAllRegions_prefetchesPageCountFromTotalCount() {
+        // 시·도마다 25건 → 10, 10, 5 세 페이지
+        given(hiraHospitalClient.getHospBasisPage(anyInt(), eq(NUM_OF_ROWS), anyString(), any(), any(), any(), any(), any(), any()))
+                .willAnswer(inv -> {
+                    int pageNo = inv.getArgument(0);
+                    return new HiraHospitalClient.HospBasisPage(items(pageNo == 3 ? 5 : NUM_OF_ROWS), 25);
+                });
+
+        SyncResult result = hiraSyncService.syncAllRegions(NUM_OF_ROWS);
+
+        assertThat(result.isKeyConfigured()).isTrue();
+        assertThat(result.getFetchedCount()).isEqualTo(SIDO_COUNT * 25);
+        assertThat(result.getSaved()).isEqualTo(SIDO_COUNT * 25);
+        assertThat(result.getPagesFetched()).isEqualTo(SIDO_COUNT * 3);
+        assertThat(result.getElapsedMillis()).isNotNegative();
+        // totalCount 로 끝을 알기 때문에 4페이지(빈 페이지)는 요청하지 않는다
+        verify(hiraHospitalClient, never())
+                .getHospBasisPage(eq(4), anyInt(), anyString(), any(), any(), any(), any(), any(), any());
+        verify(hospitalPersistenceService, times(SIDO_COUNT * 3)).persistHospitals(anyList());
+    }
+
+    @Test
+    @DisplayName("syncAllRegions - totalCount 가 없으면 빈 페이지가 나올 때까지 순차 조회한다")
+    void syncAllRegions_walksPagesWhenTotalCountMissing() {
+        given(hiraHospitalClient.getHospBasisPage(anyInt(), eq(NUM_OF_ROWS), anyString(), any(), any(), any(), any(), any(), any()))
+                .willAnswer(inv -> {
+                    int pageNo = inv.getArgument(0);
+                    return new HiraHospitalClient.HospBasisPage(items(pageNo <= 2 ? NUM_OF_ROWS : 0), null);
+                });
+
+        SyncResult result = hiraSyncService.syncAllRegions(NUM_OF_ROWS);
+
+        assertThat(result.getFetchedCount()).isEqualTo(SIDO_COUNT * 2 * NUM_OF_ROWS);
+        assertThat(result.getPagesFetched()).isEqualTo(SIDO_COUNT * 2);
+        verify(hiraHospitalClient, times(SIDO_COUNT))
+                .getHospBasisPage(eq(3), anyInt(), anyString(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("syncAllRegions - 조회 실패 페이지는 재시도하고, 끝내 실패하면 건너뛰고 failedPages 로 집계한다")
+    void syncAllRegions_retriesAndCountsFailedPages() {
+        syncProperties.setPageRetries(2);
+        AtomicInteger page3Calls = new AtomicInteger();
+        given(hiraHospitalClient.getHospBasisPage(anyInt(), eq(NUM_OF_ROWS), anyString(), any(), any(), any(), any(), any(), any()))
+                .willAnswer(inv -> {
+                    int pageNo = inv.getArgument(0);
+                    String sidoCd = inv.getArgument(2);
+                    // 서울 2페이지는 항상 실패, 서울 3페이지는 첫 시도만 실패
+                    if ("110000".equals(sidoCd) && pageNo == 2) {
+                        return HiraHospitalClient.HospBasisPage.FAILED;
+                    }
+                    if ("110000".equals(sidoCd) && pageNo == 3 && page3Calls.getAndIncrement() == 0) {
+                        return HiraHospitalClient.HospBasisPage.FAILED;
+                    }
+                    return new HiraHospitalClient.HospBasisPage(items(pageNo == 3 ? 5 : NUM_OF_ROWS), 25);
+                });
+        List<Integer> failedNotified = new ArrayList<>();
+        SyncProgressListener listener = new SyncProgressListener() {
+            @Override
+            public void onPageFailed() {
+                synchronized (failedNotified) {
+                    failedNotified.add(1);
+                }
+            }
+        };
+
+        SyncResult result = hiraSyncService.syncAllRegions(NUM_OF_ROWS, listener);
+
+        assertThat(result.getFailedPages()).isEqualTo(1);
+        assertThat(result.getPagesFetched()).isEqualTo(SIDO_COUNT * 3 - 1);
+        assertThat(result.getFetchedCount()).isEqualTo(SIDO_COUNT * 25 - NUM_OF_ROWS);
+        assertThat(failedNotified).hasSize(1);
+        verify(hiraHospitalClient, times(3))
+                .getHospBasisPage(eq(2), anyInt(), eq("110000"), any(), any(), any(), any(), any(), any());
+        verify(hiraHospitalClient, times(2))
+                .getHospBasisPage(eq(3), anyInt(), eq("110000"), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("syncAllRegions - 동시 API 호출 수가 hira.sync.concurrency 를 넘지 않는다")
+    void syncAllRegions_respectsConcurrencyCap() {
+        syncProperties.setConcurrency(3);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        given(hiraHospitalClient.getHospBasisPage(anyInt(), eq(NUM_OF_ROWS), anyString(), any(), any(), any(), any(), any(), any()))
+                .willAnswer(inv -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    return new HiraHospitalClient.HospBasisPage(items(NUM_OF_ROWS), 40);
+                });
+
+        SyncResult result = hiraSyncService.syncAllRegions(NUM_OF_ROWS);
+
+        assertThat(result.getPagesFetched()).isEqualTo(SIDO_COUNT * 4);
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    @DisplayName("syncAllRegions - 인증키가 없으면 API를 호출하지 않는다")
+    void syncAllRegions_withoutKeyDoesNothing() {
+        apiProperties.setServiceKey("");
+
+        SyncResult result = hiraSyncService.syncAllRegions(NUM_OF_ROWS);
+
+        assertThat(result.isKeyConfigured()).isFalse();
+        verify(hiraHospitalClient, never())
+                .getHospBasisPage(anyInt(), anyInt(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    private static List<HiraHospItem> items(int count) {
+        List<HiraHospItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new HiraHospItem());
+        }
+        return items;
+    }
+}
@@ -0,0 +1,82 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.HospitalResponse;
+import com.medicheck.server.global.config.ReadReplicaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HospitalDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HospitalDetailCache cache;
+    private AtomicInteger loads;
+    private Function<Long, HospitalResponse> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new HospitalDetailCache(meterRegistry, 100, Duration.ofHours(1), new ReadReplicaProperties());
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return HospitalResponse.builder().id(id).name("병원" + id).build();
+        };
+    }
+
+    @Test
+    @DisplayName("get - 두 번째 조회는 loader 없이 캐시에서 반환한다")
+    void get_cachesLoadedResponse() {
+        HospitalResponse first = cache.get(1L, loader);
+        HospitalResponse second = cache.get(1L, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("get - loader가 null을 반환하면(병원 없음) 캐시하지 않는다")
+    void get_doesNotCacheMissingHospital() {
+        assertThat(cache.get(1L, id -> null)).isNull();
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("이벤트 - 변경된 병원 ID만 무효화한다")
+    void events_invalidateOnlyChangedHospitals() {
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        cache.get(3L, loader);
+
+        cache.onHospitalsPersisted(new HospitalsPersistedEvent(List.of(1L)));
+        cache.onEnrichmentChanged(new HospitalEnrichmentChangedEvent(
+                HospitalEnrichmentChangedEvent.Type.REVIEW, List.of(2L)));
+
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        cache.get(3L, loader);
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("메트릭 - 적중/실패 횟수를 cache.gets 로 노출한다")
+    void metrics_exposeHitsAndMisses() {
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        double hits = meterRegistry.get("cache.gets")
+                .tag("cache", HospitalDetailCache.CACHE_NAME).tag("result", "hit").functionCounter().count();
+        double misses = meterRegistry.get("cache.gets")
+                .tag("cache", HospitalDetailCache.CACHE_NAME).tag("result", "miss").functionCounter().count();
+        assertThat(hits).isEqualTo(1.0);
+        assertThat(misses).isEqualTo(1.0);
+    }
+}
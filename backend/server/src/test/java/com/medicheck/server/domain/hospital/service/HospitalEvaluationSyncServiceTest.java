@@ -0,0 +1,173 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.client.HiraEvaluationClient;
+import com.medicheck.server.domain.hospital.client.dto.HiraAsmItem;
+import com.medicheck.server.domain.hospital.repository.HospitalBulkWriter;
+import com.medicheck.server.domain.hospital.repository.HospitalCodeRef;
+import com.medicheck.server.domain.hospital.repository.HospitalEvaluationBulkWriter;
+import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import com.medicheck.server.global.config.HiraSyncProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalEvaluationSyncServiceTest {
+
+    private static final String KEYWORD = "구미";
+
+    @Mock
+    private HiraEvaluationClient evaluationClient;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private HospitalBulkWriter hospitalBulkWriter;
+
+    @Mock
+    private HospitalEvaluationBulkWriter evaluationBulkWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HiraSyncProperties syncProperties;
+    private HospitalEvaluationSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        syncProperties = new HiraSyncProperties();
+        service = new HospitalEvaluationSyncService(evaluationClient, hospitalRepository, hospitalBulkWriter,
+                evaluationBulkWriter, syncProperties, transactionManager, eventPublisher);
+        // 요양기호 Y{n} → 병원 ID n
+        lenient().when(hospitalBulkWriter.findIdsByPublicCodes(anyCollection())).thenAnswer(inv -> {
+            Map<String, Long> ids = new HashMap<>();
+            for (Object code : inv.<Collection<?>>getArgument(0)) {
+                ids.put((String) code, Long.parseLong(((String) code).substring(1)));
+            }
+            return ids;
+        });
+        lenient().when(evaluationBulkWriter.findExistingHospitalIds(anyCollection())).thenReturn(Set.of());
+    }
+
+    @Test
+    @DisplayName("syncByAddressKeyword - 대상 병원을 청크로 나눠 청크마다 별도 트랜잭션으로 일괄 저장하고 진행률을 알린다")
+    void syncByAddressKeyword_writesEachChunkInOwnTransaction() {
+        givenRegionHospitals(150);
+        given(evaluationClient.getHospAsmInfo(eq(1), eq(1), anyString()))
+                .willAnswer(inv -> List.of(item(inv.getArgument(2))));
+        AtomicInteger plannedChunks = new AtomicInteger();
+        AtomicInteger reportedChunks = new AtomicInteger();
+
+        int synced = service.syncByAddressKeyword(KEYWORD, null, new SyncProgressListener() {
+            @Override
+            public void onPagesPlanned(int pages) {
+                plannedChunks.set(pages);
+            }
+
+            @Override
+            public void onPage(int fetched, int saved, int updated) {
+                reportedChunks.incrementAndGet();
+            }
+        });
+
+        assertThat(synced).isEqualTo(150);
+        assertThat(plannedChunks.get()).isEqualTo(2);
+        assertThat(reportedChunks.get()).isEqualTo(2);
+        verify(evaluationBulkWriter, times(2)).upsert(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("syncByAddressKeyword - 동시에 진행되는 평가 API 호출 수는 hira.sync.concurrency 를 넘지 않는다")
+    void syncByAddressKeyword_respectsConcurrencyLimit() {
+        syncProperties.setConcurrency(3);
+        givenRegionHospitals(60);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        given(evaluationClient.getHospAsmInfo(eq(1), eq(1), anyString())).willAnswer(inv -> {
+            int now = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(now, Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return List.of(item(inv.getArgument(2)));
+        });
+
+        int synced = service.syncByAddressKeyword(KEYWORD, null);
+
+        assertThat(synced).isEqualTo(60);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("syncByAddressKeyword - maxSynced 에 도달하면 그 건수까지만 저장하고 멈춘다")
+    void syncByAddressKeyword_stopsAtMaxSynced() {
+        givenRegionHospitals(150);
+        given(evaluationClient.getHospAsmInfo(eq(1), eq(1), anyString()))
+                .willAnswer(inv -> List.of(item(inv.getArgument(2))));
+
+        int synced = service.syncByAddressKeyword(KEYWORD, 50);
+
+        assertThat(synced).isEqualTo(50);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<HospitalEvaluationBulkWriter.EvaluationRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(evaluationBulkWriter).upsert(captor.capture());
+        assertThat(captor.getValue()).hasSize(50);
+    }
+
+    private void givenRegionHospitals(int count) {
+        List<HospitalCodeRef> refs = IntStream.rangeClosed(1, count)
+                .<HospitalCodeRef>mapToObj(i -> new CodeRef((long) i, "Y" + i))
+                .toList();
+        given(hospitalRepository.findCodeRefsByAddressLike("%구미%")).willReturn(refs);
+    }
+
+    private static HiraAsmItem item(String ykiho) {
+        HiraAsmItem item = new HiraAsmItem();
+        item.setYkiho(ykiho);
+        item.setYadmNm("병원" + ykiho);
+        item.setAsmGrd01("1");
+        return item;
+    }
+
+    private record CodeRef(Long id, String publicCode) implements HospitalCodeRef {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getPublicCode() {
+            return publicCode;
+        }
+    }
+}
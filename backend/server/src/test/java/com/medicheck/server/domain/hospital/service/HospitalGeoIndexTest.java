@@ -0,0 +1,289 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.HospitalClusterResponse;
+import com.medicheck.server.domain.hospital.repository.HospitalGeoPoint;
+import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import com.medicheck.server.domain.hospital.util.GeoBoundingBox;
+import com.medicheck.server.domain.hospital.util.GeoDistance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalGeoIndexTest {
+
+    /** 서울시청 */
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HospitalGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new HospitalGeoIndex(hospitalRepository, meterRegistry, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("nearest - 적재 전에는 isReady가 false이고 조회 시 예외가 난다")
+    void nearest_throwsBeforeLoad() {
+        assertThat(index.isReady()).isFalse();
+        assertThatThrownBy(() -> index.nearest(LAT, LNG, 1_000, 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("nearest - 전수 거리 계산과 같은 결과를 거리순으로 반환한다")
+    void nearest_matchesBruteForce() {
+        Random random = new Random(42);
+        List<HospitalGeoPoint> points = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            double lat = LAT + (random.nextDouble() - 0.5) * 0.6;
+            double lng = LNG + (random.nextDouble() - 0.5) * 0.6;
+            points.add(point(id, lat, lng));
+        }
+        given(hospitalRepository.findAllGeoPoints()).willReturn(points);
+        index.rebuild();
+
+        double radius = 3_000;
+        int limit = 50;
+        List<HospitalGeoIndex.Neighbor> expected = points.stream()
+                .map(p -> new HospitalGeoIndex.Neighbor(p.getId(), GeoDistance.haversineMeters(
+                        LAT, LNG, p.getLatitude().doubleValue(), p.getLongitude().doubleValue())))
+                .filter(n -> n.distanceMeters() <= radius)
+                .sorted(Comparator.comparingDouble(HospitalGeoIndex.Neighbor::distanceMeters)
+                        .thenComparingLong(HospitalGeoIndex.Neighbor::hospitalId))
+                .limit(limit)
+                .toList();
+
+        List<HospitalGeoIndex.Neighbor> actual = index.nearest(LAT, LNG, radius, limit);
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("withinBounds - 커서로 이어 받은 페이지들을 합치면 사각형 안 전체를 (거리, ID) 순으로 중복 없이 덮는다")
+    void withinBounds_pagesCoverRectangleInOrder() {
+        Random random = new Random(7);
+        List<HospitalGeoPoint> points = new ArrayList<>();
+        for (long id = 1; id <= 3_000; id++) {
+            points.add(point(id, LAT + (random.nextDouble() - 0.5) * 0.2, LNG + (random.nextDouble() - 0.5) * 0.2));
+        }
+        // 같은 좌표(같은 거리) 병원: ID 로 순서가 갈려야 함
+        points.add(point(5_001L, LAT + 0.01, LNG + 0.01));
+        points.add(point(5_000L, LAT + 0.01, LNG + 0.01));
+        given(hospitalRepository.findAllGeoPoints()).willReturn(points);
+        index.rebuild();
+
+        GeoBoundingBox box = new GeoBoundingBox(LAT - 0.03, LAT + 0.03, LNG - 0.04, LNG + 0.04);
+        List<HospitalGeoIndex.Neighbor> expected = points.stream()
+                .filter(p -> box.contains(p.getLatitude().doubleValue(), p.getLongitude().doubleValue()))
+                .map(p -> new HospitalGeoIndex.Neighbor(p.getId(), GeoDistance.haversineMeters(
+                        LAT, LNG, p.getLatitude().doubleValue(), p.getLongitude().doubleValue())))
+                .sorted(Comparator.comparingDouble(HospitalGeoIndex.Neighbor::distanceMeters)
+                        .thenComparingLong(HospitalGeoIndex.Neighbor::hospitalId))
+                .toList();
+
+        List<HospitalGeoIndex.Neighbor> paged = new ArrayList<>();
+        HospitalGeoIndex.Neighbor after = null;
+        while (true) {
+            List<HospitalGeoIndex.Neighbor> page = index.withinBounds(box, LAT, LNG, after, 37);
+            paged.addAll(page);
+            if (page.size() < 37) {
+                break;
+            }
+            after = page.get(page.size() - 1);
+        }
+
+        assertThat(expected).hasSizeGreaterThan(37 * 2);
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("clusters - 화면 안 병원을 격자 셀로 묶어 건수·중심·진료과 건수를 집계하고, 증분 반영 후에도 진료과를 유지한다")
+    void clusters_aggregatesCellsWithDepartments() {
+        double cell = 0.1;
+        given(hospitalRepository.findAllGeoPoints()).willReturn(List.of(
+                new GeoPoint(1L, BigDecimal.valueOf(37.51), BigDecimal.valueOf(127.01), "내과"),
+                new GeoPoint(2L, BigDecimal.valueOf(37.53), BigDecimal.valueOf(127.03), "내과"),
+                new GeoPoint(3L, BigDecimal.valueOf(37.55), BigDecimal.valueOf(127.05), null),
+                new GeoPoint(4L, BigDecimal.valueOf(37.75), BigDecimal.valueOf(127.05), "치과"),
+                new GeoPoint(5L, BigDecimal.valueOf(39.00), BigDecimal.valueOf(127.05), "치과")
+        ));
+        index.rebuild();
+        GeoBoundingBox box = new GeoBoundingBox(37.5, 37.8, 127.0, 127.1);
+
+        List<HospitalClusterResponse> clusters = index.clusters(box, cell);
+
+        assertThat(clusters).hasSize(2);
+        HospitalClusterResponse dense = clusters.get(0);
+        assertThat(dense.getCount()).isEqualTo(3);
+        assertThat(dense.getLatitude()).isCloseTo(37.53, within(1e-9));
+        assertThat(dense.getLongitude()).isCloseTo(127.03, within(1e-9));
+        assertThat(dense.getDepartments()).containsExactly(entry("내과", 2), entry("기타", 1));
+        assertThat(dense.getHospitalId()).isNull();
+        HospitalClusterResponse single = clusters.get(1);
+        assertThat(single.getCount()).isEqualTo(1);
+        assertThat(single.getHospitalId()).isEqualTo(4L);
+
+        // 다른 병원만 바뀐 증분 반영에서도 기존 병원의 진료과가 남아 있어야 한다
+        given(hospitalRepository.findGeoPointsByIdIn(anyCollection())).willReturn(List.of(
+                new GeoPoint(5L, BigDecimal.valueOf(37.52), BigDecimal.valueOf(127.02), "치과")));
+        index.apply(List.of(5L));
+
+        assertThat(index.clusters(box, cell).get(0).getDepartments())
+                .containsExactly(entry("내과", 2), entry("기타", 1), entry("치과", 1));
+    }
+
+    @Test
+    @DisplayName("apply - 변경된 병원의 좌표를 다시 읽어 이동/삭제를 반영한다")
+    void apply_reloadsChangedHospitals() {
+        given(hospitalRepository.findAllGeoPoints()).willReturn(List.of(
+                point(1L, LAT, LNG),
+                point(2L, LAT + 0.001, LNG)
+        ));
+        index.rebuild();
+        // 1번은 멀리 이동, 2번은 좌표 삭제, 3번은 신규
+        given(hospitalRepository.findGeoPointsByIdIn(anyCollection())).willReturn(List.of(
+                point(1L, LAT + 1.0, LNG),
+                new GeoPoint(2L, null, null),
+                point(3L, LAT, LNG + 0.001)
+        ));
+
+        index.onHospitalsPersisted(new HospitalsPersistedEvent(List.of(1L, 2L, 3L)));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.nearest(LAT, LNG, 1_000, 10))
+                .extracting(HospitalGeoIndex.Neighbor::hospitalId)
+                .containsExactly(3L);
+        // 타일 캐시 무효화용: 1·2번의 이전 좌표와 1·3번의 새 좌표
+        ArgumentCaptor<HospitalGeoIndexChangedEvent> captor = ArgumentCaptor.forClass(HospitalGeoIndexChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        HospitalGeoIndexChangedEvent changed = captor.getAllValues().get(1);
+        assertThat(changed.fullRebuild()).isFalse();
+        assertThat(changed.touched()).containsExactlyInAnyOrder(
+                new HospitalGeoIndexChangedEvent.Location(LAT, LNG),
+                new HospitalGeoIndexChangedEvent.Location(LAT + 0.001, LNG),
+                new HospitalGeoIndexChangedEvent.Location(LAT + 1.0, LNG),
+                new HospitalGeoIndexChangedEvent.Location(LAT, LNG + 0.001));
+    }
+
+    @Test
+    @DisplayName("apply - 증분 병합을 여러 번 반복해도 전체 재구축 없이 전수 거리 계산과 같은 결과를 낸다")
+    void apply_repeatedMergesMatchBruteForce() {
+        Random random = new Random(11);
+        Map<Long, HospitalGeoPoint> current = new LinkedHashMap<>();
+        for (long id = 1; id <= 2_000; id++) {
+            current.put(id, point(id, LAT + (random.nextDouble() - 0.5) * 0.2, LNG + (random.nextDouble() - 0.5) * 0.2));
+        }
+        given(hospitalRepository.findAllGeoPoints()).willReturn(new ArrayList<>(current.values()));
+        index.rebuild();
+
+        for (int round = 0; round < 5; round++) {
+            List<HospitalGeoPoint> reloaded = new ArrayList<>();
+            for (int k = 0; k < 100; k++) {
+                long id = 1 + random.nextInt(2_200);
+                HospitalGeoPoint moved = k % 10 == 0
+                        ? new GeoPoint(id, null, null)
+                        : point(id, LAT + (random.nextDouble() - 0.5) * 0.2, LNG + (random.nextDouble() - 0.5) * 0.2);
+                reloaded.add(moved);
+                if (moved.getLatitude() == null) {
+                    current.remove(id);
+                } else {
+                    current.put(id, moved);
+                }
+            }
+            given(hospitalRepository.findGeoPointsByIdIn(anyCollection())).willReturn(reloaded);
+            index.apply(reloaded.stream().map(HospitalGeoPoint::getId).toList());
+        }
+
+        double radius = 2_000;
+        List<HospitalGeoIndex.Neighbor> expected = current.values().stream()
+                .map(p -> new HospitalGeoIndex.Neighbor(p.getId(), GeoDistance.haversineMeters(
+                        LAT, LNG, p.getLatitude().doubleValue(), p.getLongitude().doubleValue())))
+                .filter(n -> n.distanceMeters() <= radius)
+                .sorted(Comparator.comparingDouble(HospitalGeoIndex.Neighbor::distanceMeters)
+                        .thenComparingLong(HospitalGeoIndex.Neighbor::hospitalId))
+                .toList();
+
+        assertThat(index.size()).isEqualTo(current.size());
+        assertThat(index.nearest(LAT, LNG, radius, current.size())).containsExactlyElementsOf(expected);
+        verify(hospitalRepository, times(1)).findAllGeoPoints();
+        assertThat(meterRegistry.get("hospital.geo.index.rebuild").tag("type", "incremental").timer().count())
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("메트릭 - 인덱스 크기 게이지와 재구축 타이머를 기록한다")
+    void metrics_recordSizeAndRebuild() {
+        given(hospitalRepository.findAllGeoPoints()).willReturn(List.of(point(1L, LAT, LNG)));
+        index.rebuild();
+
+        assertThat(meterRegistry.get("hospital.geo.index.size").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("hospital.geo.index.rebuild").tag("type", "full").timer().count())
+                .isEqualTo(1);
+    }
+
+    private static HospitalGeoPoint point(long id, double lat, double lng) {
+        return new GeoPoint(id, BigDecimal.valueOf(lat), BigDecimal.valueOf(lng));
+    }
+
+    private record GeoPoint(Long id, BigDecimal latitude, BigDecimal longitude, String department)
+            implements HospitalGeoPoint {
+
+        GeoPoint(Long id, BigDecimal latitude, BigDecimal longitude) {
+            this(id, latitude, longitude, null);
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public BigDecimal getLatitude() {
+            return latitude;
+        }
+
+        @Override
+        public BigDecimal getLongitude() {
+            return longitude;
+        }
+
+        @Override
+        public String getDepartment() {
+            return department;
+        }
+    }
+}
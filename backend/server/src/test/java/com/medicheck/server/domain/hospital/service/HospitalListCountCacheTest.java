@@ -0,0 +1,63 @@
+package com.medicheck.server.domain.hospital.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HospitalListCountCacheTest {
+
+    private HospitalListCountCache cache;
+    private AtomicInteger counts;
+    private LongSupplier counter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new HospitalListCountCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        counts = new AtomicInteger();
+        counter = () -> {
+            counts.incrementAndGet();
+            return 42L;
+        };
+    }
+
+    @Test
+    @DisplayName("get - 공백·대소문자만 다른 키워드·진료과는 같은 건수를 재사용한다")
+    void get_reusesCountForNormalizedKey() {
+        long first = cache.get(HospitalListCountCache.Key.of(HospitalKeywordSearchMode.LIKE, " Seoul  내과 ", "내과"), counter);
+        long second = cache.get(HospitalListCountCache.Key.of(HospitalKeywordSearchMode.LIKE, "seoul 내과", " 내과"), counter);
+
+        assertThat(first).isEqualTo(42L);
+        assertThat(second).isEqualTo(42L);
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("get - 검색 방식이 다르면 따로 센다")
+    void get_separatesSearchModes() {
+        cache.get(HospitalListCountCache.Key.of(HospitalKeywordSearchMode.LIKE, "구미", null), counter);
+        cache.get(HospitalListCountCache.Key.of(HospitalKeywordSearchMode.FULLTEXT, "구미", null), counter);
+
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("이벤트 - 병원 동기화가 커밋되면 모든 건수를 무효화한다")
+    void onHospitalsPersisted_invalidatesAll() {
+        HospitalListCountCache.Key key = HospitalListCountCache.Key.of(HospitalKeywordSearchMode.LIKE, null, null);
+        cache.get(key, counter);
+
+        cache.onHospitalsPersisted(new HospitalsPersistedEvent(List.of(1L)));
+        cache.get(key, counter);
+
+        assertThat(counts).hasValue(2);
+        assertThat(key.hasFilters()).isFalse();
+    }
+}
@@ -0,0 +1,176 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.repository.HospitalReadRow;
+import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalLuceneIndexTest {
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    private HospitalLuceneIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HospitalLuceneIndex(hospitalRepository, new SimpleMeterRegistry(), "");
+        given(hospitalRepository.findIdsAfter(eq(0L), any())).willReturn(List.of(1L, 2L, 3L));
+        given(hospitalRepository.findIdsAfter(eq(3L), any())).willReturn(List.of());
+        // 목 행은 다른 스텁 도중에 만들 수 없으므로 먼저 만든다
+        List<HospitalReadRow> rows = List.of(
+                row(1L, "Samsung Clinic", "서울특별시 강남구 일원로 81", "종합병원", "폐렴", null, 37.4881, 127.0856),
+                row(2L, "Haeundae Ortho", "부산광역시 해운대구 중동 1", "의원", "요통", null, 35.1631, 129.1635),
+                row(3L, "Seoul Family Clinic", "서울특별시 중구 세종대로 110", "의원", "감기", "1", 37.5665, 126.9780));
+        given(hospitalRepository.findReadRowsByIdIn(anyCollection())).willReturn(rows);
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("search - 키워드는 오타(편집 거리 1)와 마지막 토큰 접두어를 허용한다")
+    void search_keywordToleratesTyposAndPrefixes() {
+        assertThat(ids(index.search(criteria("samsng", null, null, null)))).containsExactly(1L);
+        assertThat(ids(index.search(criteria("haeun", null, null, null)))).containsExactly(2L);
+        assertThat(ids(index.search(criteria("clinic", null, null, null)))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(index.search(criteria("감기", null, null, null)))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("search - 시도·진료과·평가 등급 필터와 패싯 건수를 함께 반환한다")
+    void search_filtersAndFacets() {
+        HospitalLuceneIndex.Hits all = index.search(criteria(null, null, null, null));
+        assertThat(all.totalCount()).isEqualTo(3);
+        assertThat(all.facets().get(HospitalLuceneIndex.FACET_SIDO))
+                .containsExactly(entry("서울특별시", 2L), entry("부산광역시", 1L));
+        assertThat(all.facets().get(HospitalLuceneIndex.FACET_DEPARTMENT))
+                .containsOnly(entry("의원", 2L), entry("종합병원", 1L));
+
+        HospitalLuceneIndex.Hits seoul = index.search(criteria(null, "서울특별시", "의원", null));
+        assertThat(ids(seoul)).containsExactly(3L);
+
+        assertThat(ids(index.search(new HospitalSearchCriteria(null, null, null, null, List.of("asmGrd01=1"),
+                null, null, null, 0, 20)))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("search - 좌표가 있으면 반경 필터 후 거리순으로 거리와 함께 반환한다")
+    void search_radiusAndDistanceSort() {
+        HospitalLuceneIndex.Hits hits = index.search(new HospitalSearchCriteria(null, null, null, null, null,
+                37.5665, 126.9780, 20_000.0, 0, 20));
+
+        assertThat(ids(hits)).containsExactly(3L, 1L);
+        assertThat(hits.hits().get(0).distanceMeters()).isCloseTo(0.0, within(1.0));
+        assertThat(hits.hits().get(1).distanceMeters()).isGreaterThan(10_000.0);
+    }
+
+    @Test
+    @DisplayName("apply - 변경된 병원 문서를 교체하고 DB에 없어진 병원은 삭제한다")
+    void apply_replacesAndDeletesDocuments() {
+        HospitalReadRow changed =
+                row(2L, "Haeundae Dental", "부산광역시 해운대구 중동 1", "치과의원", "치아우식", null, 35.1631, 129.1635);
+        given(hospitalRepository.findReadRowsByIdIn(anyCollection())).willReturn(List.of(changed));
+
+        index.apply(List.of(2L, 3L));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(index.search(criteria("dental", null, null, null)))).containsExactly(2L);
+        assertThat(ids(index.search(criteria("family", null, null, null)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onHospitalsPersisted - 초기 색인 전에 온 변경은 버리지 않고 색인이 끝난 뒤 반영한다")
+    void onHospitalsPersisted_beforeReadyIsAppliedAfterRebuild() throws IOException {
+        HospitalLuceneIndex fresh = new HospitalLuceneIndex(hospitalRepository, new SimpleMeterRegistry(), "");
+        List<HospitalReadRow> rows = List.of(
+                row(1L, "Samsung Clinic", "서울특별시 강남구 일원로 81", "종합병원", "폐렴", null, 37.4881, 127.0856),
+                row(2L, "Haeundae Ortho", "부산광역시 해운대구 중동 1", "의원", "요통", null, 35.1631, 129.1635),
+                row(3L, "Seoul Family Clinic", "서울특별시 중구 세종대로 110", "의원", "감기", "1", 37.5665, 126.9780));
+        HospitalReadRow changed =
+                row(2L, "Haeundae Dental", "부산광역시 해운대구 중동 1", "치과의원", "치아우식", null, 35.1631, 129.1635);
+        given(hospitalRepository.findReadRowsByIdIn(anyCollection())).willReturn(rows, List.of(changed));
+
+        fresh.onHospitalsPersisted(new HospitalsPersistedEvent(List.of(2L)));
+        assertThat(fresh.isReady()).isFalse();
+        fresh.rebuild();
+
+        assertThat(ids(fresh.search(criteria("dental", null, null, null)))).containsExactly(2L);
+        fresh.close();
+    }
+
+    @Test
+    @DisplayName("apply - 증분은 커밋 없이 검색에 보이고, 디스크 커밋은 닫을 때 된다")
+    void apply_visibleWithoutCommitUntilClose(@TempDir Path dir) throws IOException {
+        HospitalLuceneIndex onDisk = new HospitalLuceneIndex(hospitalRepository, new SimpleMeterRegistry(), dir.toString());
+        onDisk.rebuild();
+        given(hospitalRepository.findReadRowsByIdIn(anyCollection())).willReturn(List.of());
+
+        onDisk.apply(List.of(3L));
+
+        assertThat(onDisk.size()).isEqualTo(2);
+        assertThat(ids(onDisk.search(criteria("family", null, null, null)))).isEmpty();
+        assertThat(committedDocs(dir)).as("증분마다 커밋하지 않음").isEqualTo(3);
+
+        onDisk.close();
+        assertThat(committedDocs(dir)).isEqualTo(2);
+    }
+
+    private static int committedDocs(Path dir) throws IOException {
+        try (Directory directory = FSDirectory.open(dir); DirectoryReader reader = DirectoryReader.open(directory)) {
+            return reader.numDocs();
+        }
+    }
+
+    private static HospitalSearchCriteria criteria(String keyword, String sido, String department, String symptom) {
+        return new HospitalSearchCriteria(keyword, department, sido, symptom, null, null, null, null, 0, 20);
+    }
+
+    private static List<Long> ids(HospitalLuceneIndex.Hits hits) {
+        return hits.hits().stream().map(HospitalLuceneIndex.Hit::hospitalId).toList();
+    }
+
+    private static HospitalReadRow row(long id, String name, String address, String department, String disease,
+                                       String asmGrd01, double lat, double lng) {
+        HospitalReadRow row = mock(HospitalReadRow.class, withSettings().strictness(Strictness.LENIENT));
+        given(row.getId()).willReturn(id);
+        given(row.getName()).willReturn(name);
+        given(row.getAddress()).willReturn(address);
+        given(row.getDepartment()).willReturn(department);
+        given(row.getDiseaseNm1()).willReturn(disease);
+        given(row.getAsmGrd01()).willReturn(asmGrd01);
+        given(row.getLatitude()).willReturn(BigDecimal.valueOf(lat));
+        given(row.getLongitude()).willReturn(BigDecimal.valueOf(lng));
+        return row;
+    }
+}
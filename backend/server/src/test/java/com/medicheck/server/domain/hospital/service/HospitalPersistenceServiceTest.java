@@ -1,21 +1,22 @@
 package com.medicheck.server.domain.hospital.service;
 
 import com.medicheck.server.domain.hospital.client.dto.HiraHospItem;
-import com.medicheck.server.domain.hospital.entity.Hospital;
-import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import com.medicheck.server.domain.hospital.repository.HiraHospitalRow;
+import com.medicheck.server.domain.hospital.repository.HospitalBulkWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -24,71 +25,85 @@ import static org.mockito.Mockito.verify;
 class HospitalPersistenceServiceTest {
 
     @Mock
-    private HospitalRepository hospitalRepository;
+    private HospitalBulkWriter hospitalBulkWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private HospitalPersistenceService hospitalPersistenceService;
 
     @Test
-    @DisplayName("updateExistingHospitals - 기존 ykiho에 해당하는 병원만 HIRA 데이터로 갱신한다")
-    void updateExistingHospitals_updatesOnlyExistingByYkiho() {
+    @DisplayName("persistHospitals - 기존 병원은 일괄 upsert 로 갱신하고 HospitalsPersistedEvent를 발행한다")
+    void persistHospitals_publishesChangedIds() {
         String ykiho = "YKIHO001";
         HiraHospItem item = new HiraHospItem();
         item.setYkiho(ykiho);
-        item.setYadmNm("갱신된병원명");
-        item.setAddr("갱신된주소");
-        item.setTelno("02-9999-8888");
-        item.setClCdNm("병원");
-        item.setXPos("127.0");
-        item.setYPos("37.5");
-        item.setEstbDd("20100101");
-        item.setDrTotCnt(10);
-
-        Hospital existing = Hospital.builder()
-                .name("기존병원명")
-                .address("기존주소")
-                .publicCode(ykiho)
-                .phone("02-1111-2222")
-                .department("내과")
-                .latitude(BigDecimal.valueOf(37.5))
-                .longitude(BigDecimal.valueOf(127.0))
-                .build();
-
-        given(hospitalRepository.findAllByPublicCodeIn(List.of(ykiho))).willReturn(List.of(existing));
-
-        int updated = hospitalPersistenceService.updateExistingHospitals(List.of(item));
-
-        assertThat(updated).isEqualTo(1);
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<Iterable<Hospital>> captor = ArgumentCaptor.forClass(Iterable.class);
-        verify(hospitalRepository).saveAll(captor.capture());
-        Hospital saved = captor.getValue().iterator().next();
-        assertThat(saved.getName()).isEqualTo("갱신된병원명");
-        assertThat(saved.getAddress()).isEqualTo("갱신된주소");
-        assertThat(saved.getPhone()).isEqualTo("02-9999-8888");
-        assertThat(saved.getDoctorTotalCount()).isEqualTo(10);
+        item.setYadmNm("병원명");
+        given(hospitalBulkWriter.findExistingByPublicCodes(List.of(ykiho)))
+                .willReturn(Map.of(ykiho, new HospitalBulkWriter.ExistingRow(10L, null)));
+
+        HospitalPersistenceService.PersistCounts counts = hospitalPersistenceService.persistHospitals(List.of(item));
+
+        assertThat(counts.updated()).isEqualTo(1);
+        assertThat(counts.saved()).isZero();
+        verify(hospitalBulkWriter).upsert(List.of(HiraHospitalRow.from(item)));
+        verify(eventPublisher).publishEvent(new HospitalsPersistedEvent(List.of(10L)));
     }
 
     @Test
-    @DisplayName("updateExistingHospitals - DB에 없는 ykiho는 건너뛴다")
-    void updateExistingHospitals_skipsWhenNotFound() {
+    @DisplayName("persistHospitals - 신규 병원은 upsert 후 public_code 로 ID를 조회해 이벤트에 담는다")
+    void persistHospitals_newHospitalIdsLookedUpAfterUpsert() {
         HiraHospItem item = new HiraHospItem();
-        item.setYkiho("NOEXIST");
-        item.setYadmNm("병원명");
-        given(hospitalRepository.findAllByPublicCodeIn(List.of("NOEXIST"))).willReturn(List.of());
+        item.setYkiho("NEW001");
+        item.setYadmNm("새병원");
+        given(hospitalBulkWriter.findExistingByPublicCodes(List.of("NEW001"))).willReturn(Map.of());
+        given(hospitalBulkWriter.findIdsByPublicCodes(List.of("NEW001"))).willReturn(Map.of("NEW001", 20L));
 
-        int updated = hospitalPersistenceService.updateExistingHospitals(List.of(item));
+        HospitalPersistenceService.PersistCounts counts = hospitalPersistenceService.persistHospitals(List.of(item));
 
-        assertThat(updated).isZero();
-        verify(hospitalRepository).findAllByPublicCodeIn(List.of("NOEXIST"));
-        verify(hospitalRepository, never()).saveAll(any());
+        assertThat(counts.saved()).isEqualTo(1);
+        assertThat(counts.updated()).isZero();
+        verify(eventPublisher).publishEvent(new HospitalsPersistedEvent(List.of(20L)));
     }
 
     @Test
-    @DisplayName("updateExistingHospitals - 빈 리스트는 0을 반환한다")
-    void updateExistingHospitals_returns0ForEmptyList() {
-        int updated = hospitalPersistenceService.updateExistingHospitals(List.of());
-        assertThat(updated).isZero();
-        verify(hospitalRepository, never()).findAllByPublicCodeIn(any());
+    @DisplayName("persistHospitals - DB에 없고 병원명도 없는 item 은 저장하지 않는다")
+    void persistHospitals_skipsNewRowWithoutName() {
+        HiraHospItem item = new HiraHospItem();
+        item.setYkiho("NONAME");
+        given(hospitalBulkWriter.findExistingByPublicCodes(List.of("NONAME"))).willReturn(Map.of());
+
+        HospitalPersistenceService.PersistCounts counts = hospitalPersistenceService.persistHospitals(List.of(item));
+
+        assertThat(counts.saved()).isZero();
+        verify(hospitalBulkWriter, never()).upsert(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("persistHospitals - 저장된 내용 해시와 같은 병원은 쓰지 않고 unchanged 로 센다")
+    void persistHospitals_skipsRowsWithSameContentHash() {
+        HiraHospItem item = new HiraHospItem();
+        item.setYkiho("SAME001");
+        item.setYadmNm("그대로병원");
+        String hash = HiraHospitalRow.from(item).contentHash();
+        given(hospitalBulkWriter.findExistingByPublicCodes(List.of("SAME001")))
+                .willReturn(Map.of("SAME001", new HospitalBulkWriter.ExistingRow(30L, hash)));
+
+        HospitalPersistenceService.PersistCounts counts = hospitalPersistenceService.persistHospitals(List.of(item));
+
+        assertThat(counts.unchanged()).isEqualTo(1);
+        assertThat(counts.updated()).isZero();
+        verify(hospitalBulkWriter, never()).upsert(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("persistHospitals - 변경이 없으면 이벤트를 발행하지 않는다")
+    void persistHospitals_noEventWhenNothingChanged() {
+        hospitalPersistenceService.persistHospitals(List.of());
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 }
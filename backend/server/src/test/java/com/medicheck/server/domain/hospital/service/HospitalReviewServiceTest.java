@@ -0,0 +1,134 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.ReviewSummary;
+import com.medicheck.server.domain.hospital.entity.Hospital;
+import com.medicheck.server.domain.hospital.entity.HospitalReview;
+import com.medicheck.server.domain.hospital.entity.HospitalReviewStats;
+import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import com.medicheck.server.domain.hospital.repository.HospitalReviewRepository;
+import com.medicheck.server.domain.hospital.repository.HospitalReviewStatsRepository;
+import com.medicheck.server.domain.user.entity.User;
+import com.medicheck.server.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalReviewServiceTest {
+
+    private static final long USER_ID = 1L;
+    private static final long HOSPITAL_ID = 10L;
+
+    @Mock
+    private HospitalReviewRepository reviewRepository;
+
+    @Mock
+    private HospitalReviewStatsRepository reviewStatsRepository;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private HospitalReviewService reviewService;
+
+    @Test
+    @DisplayName("createOrUpdate - 새 리뷰는 집계에 별점과 개수 1을 더한다")
+    void createOrUpdate_newReviewAddsToStats() {
+        User user = mock(User.class);
+        Hospital hospital = mock(Hospital.class);
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(hospitalRepository.findById(HOSPITAL_ID)).willReturn(Optional.of(hospital));
+        given(reviewRepository.findByUserIdAndHospitalId(USER_ID, HOSPITAL_ID)).willReturn(Optional.empty());
+        given(reviewRepository.save(any(HospitalReview.class))).willAnswer(inv -> inv.getArgument(0));
+
+        reviewService.createOrUpdate(USER_ID, HOSPITAL_ID, 4, "좋아요");
+
+        verify(reviewStatsRepository).applyDelta(HOSPITAL_ID, 4, 1);
+    }
+
+    @Test
+    @DisplayName("createOrUpdate - 기존 리뷰 수정은 별점 차이만 반영하고 개수는 그대로 둔다")
+    void createOrUpdate_updateAppliesRatingDifference() {
+        User user = mock(User.class);
+        Hospital hospital = mock(Hospital.class);
+        HospitalReview existing = new HospitalReview(user, hospital, 5, null);
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(hospitalRepository.findById(HOSPITAL_ID)).willReturn(Optional.of(hospital));
+        given(reviewRepository.findByUserIdAndHospitalId(USER_ID, HOSPITAL_ID)).willReturn(Optional.of(existing));
+
+        reviewService.createOrUpdate(USER_ID, HOSPITAL_ID, 2, null);
+
+        verify(reviewStatsRepository).applyDelta(HOSPITAL_ID, -3, 0);
+    }
+
+    @Test
+    @DisplayName("deleteMyReview - 삭제한 리뷰의 별점과 개수를 집계에서 뺀다")
+    void deleteMyReview_subtractsFromStats() {
+        HospitalReview existing = new HospitalReview(mock(User.class), mock(Hospital.class), 3, null);
+        given(reviewRepository.findByUserIdAndHospitalId(USER_ID, HOSPITAL_ID)).willReturn(Optional.of(existing));
+
+        reviewService.deleteMyReview(USER_ID, HOSPITAL_ID);
+
+        verify(reviewRepository).delete(existing);
+        verify(reviewStatsRepository).applyDelta(HOSPITAL_ID, -3, -1);
+        verify(eventPublisher).publishEvent(new HospitalEnrichmentChangedEvent(
+                HospitalEnrichmentChangedEvent.Type.REVIEW, List.of(HOSPITAL_ID)));
+    }
+
+    @Test
+    @DisplayName("deleteMyReview - 리뷰가 없으면 집계를 건드리지 않는다")
+    void deleteMyReview_noReviewLeavesStats() {
+        given(reviewRepository.findByUserIdAndHospitalId(USER_ID, HOSPITAL_ID)).willReturn(Optional.empty());
+
+        reviewService.deleteMyReview(USER_ID, HOSPITAL_ID);
+
+        verify(reviewStatsRepository, never()).applyDelta(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("getReviewSummaryByHospitalIds - 집계 행으로 평균을 계산하고 리뷰 0건인 행은 제외한다")
+    void getReviewSummaryByHospitalIds_usesStatsRows() {
+        given(reviewStatsRepository.findAllById(List.of(10L, 11L))).willReturn(List.of(
+                stats(10L, 9, 2),
+                stats(11L, 0, 0)
+        ));
+
+        Map<Long, ReviewSummary> summaries = reviewService.getReviewSummaryByHospitalIds(List.of(10L, 11L));
+
+        assertThat(summaries).containsOnlyKeys(10L);
+        assertThat(summaries.get(10L).getAverageRating()).isEqualTo(4.5);
+        assertThat(summaries.get(10L).getReviewCount()).isEqualTo(2L);
+    }
+
+    private static HospitalReviewStats stats(long hospitalId, long ratingSum, long reviewCount) {
+        HospitalReviewStats stats = BeanUtils.instantiateClass(HospitalReviewStats.class);
+        ReflectionTestUtils.setField(stats, "hospitalId", hospitalId);
+        ReflectionTestUtils.setField(stats, "ratingSum", ratingSum);
+        ReflectionTestUtils.setField(stats, "reviewCount", reviewCount);
+        return stats;
+    }
+}
@@ -0,0 +1,61 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.repository.HospitalReviewStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalReviewStatsReconcilerTest {
+
+    @Mock
+    private HospitalReviewStatsRepository reviewStatsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private HospitalReviewStatsReconciler reconciler;
+
+    @Test
+    @DisplayName("reconcile - 드리프트가 있으면 재집계하고 값이 달랐던 병원만 REVIEW 변경 이벤트로 알린다")
+    void reconcile_publishesReviewEventForDriftedHospitals() {
+        given(reviewStatsRepository.findDriftedHospitalIds()).willReturn(List.of(3L, 9L));
+        given(reviewStatsRepository.insertFromReviews()).willReturn(120);
+
+        HospitalReviewStatsReconciler.ReconcileResult result = reconciler.reconcile(false);
+
+        assertThat(result).isEqualTo(new HospitalReviewStatsReconciler.ReconcileResult(2, 120));
+        verify(reviewStatsRepository).deleteAllStats();
+        ArgumentCaptor<HospitalEnrichmentChangedEvent> captor = ArgumentCaptor.forClass(HospitalEnrichmentChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(HospitalEnrichmentChangedEvent.Type.REVIEW);
+        assertThat(captor.getValue().hospitalIds()).containsExactly(3L, 9L);
+    }
+
+    @Test
+    @DisplayName("reconcile - 드리프트가 없으면 건너뛰고, force 재집계여도 바뀐 병원이 없으면 이벤트를 발행하지 않는다")
+    void reconcile_withoutDriftPublishesNothing() {
+        given(reviewStatsRepository.findDriftedHospitalIds()).willReturn(List.of());
+
+        assertThat(reconciler.reconcile(false).rebuiltRows()).isZero();
+        verify(reviewStatsRepository, never()).deleteAllStats();
+
+        reconciler.reconcile(true);
+        verify(reviewStatsRepository).deleteAllStats();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,289 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.SymptomKeywordResponse;
+import com.medicheck.server.domain.hospital.repository.HospitalClinicTop5Repository;
+import com.medicheck.server.domain.hospital.repository.HospitalTop5DiseaseNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalSymptomIndexTest {
+
+    @Mock
+    private HospitalClinicTop5Repository top5Repository;
+
+    private HospitalSymptomIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HospitalSymptomIndex(top5Repository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("match - 적재 전에는 IllegalStateException")
+    void match_throwsBeforeLoad() {
+        assertThat(index.isReady()).isFalse();
+        assertThatThrownBy(() -> index.match(List.of("감기")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("match - 토큰 OR 부분 일치 병원과 토큰 간 가장 상위 슬롯을 반환한다 (대소문자 무시)")
+    void match_returnsBestRankAcrossTokens() {
+        given(top5Repository.findAllDiseaseNames()).willReturn(List.of(
+                names(1L, "고혈압", "급성 감기", null, null, null),
+                names(2L, "급성 기관지염", "감기", "COVID-19", null, null),
+                names(3L, "요통", "  ", "관절염", "기관 지염", "당뇨병")
+        ));
+        index.rebuild();
+
+        assertThat(index.match(List.of("감기", "기관지염")))
+                .extracting(HospitalSymptomIndex.Match::hospitalId, HospitalSymptomIndex.Match::bestRank)
+                .containsExactly(tuple(1L, 2), tuple(2L, 1));
+        assertThat(index.match(List.of("covid")))
+                .extracting(HospitalSymptomIndex.Match::hospitalId, HospitalSymptomIndex.Match::bestRank)
+                .containsExactly(tuple(2L, 3));
+        // 2-gram(기관, 관지, 지염)이 모두 있어도 이어져 있지 않으면 매칭되지 않는다
+        assertThat(index.match(List.of("기관지염"))).extracting(HospitalSymptomIndex.Match::hospitalId)
+                .containsExactly(2L);
+        assertThat(index.match(List.of("두통", "x"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onEnrichmentChanged - TOP5 변경 병원만 다시 읽어 교체·삭제하고 다른 종류 이벤트는 무시한다")
+    void onEnrichmentChanged_reloadsChangedHospitals() {
+        given(top5Repository.findAllDiseaseNames()).willReturn(List.of(
+                names(1L, "감기", null, null, null, null),
+                names(2L, "감기", null, null, null, null)
+        ));
+        index.rebuild();
+        // 1번은 질병명 변경, 2번은 Top5 삭제(결과 없음), 3번은 신규
+        given(top5Repository.findDiseaseNamesByHospitalIdIn(anyCollection())).willReturn(List.of(
+                names(1L, "위염", "감기", null, null, null),
+                names(3L, "감기 몸살", null, null, null, null)
+        ));
+
+        index.onEnrichmentChanged(new HospitalEnrichmentChangedEvent(
+                HospitalEnrichmentChangedEvent.Type.REVIEW, List.of(1L)));
+        assertThat(index.match(List.of("위염"))).isEmpty();
+
+        index.onEnrichmentChanged(new HospitalEnrichmentChangedEvent(
+                HospitalEnrichmentChangedEvent.Type.TOP5, List.of(1L, 2L, 3L)));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.match(List.of("감기")))
+                .extracting(HospitalSymptomIndex.Match::hospitalId, HospitalSymptomIndex.Match::bestRank)
+                .containsExactly(tuple(1L, 2), tuple(3L, 1));
+    }
+
+    @Test
+    @DisplayName("vocabulary - 질병명별 병원 수를 가나다순으로 만들고, 접두어 검색·증분 반영 후 버전 변경을 반영한다")
+    void vocabulary_countsHospitalsPerTermAndSupportsPrefix() {
+        given(top5Repository.findAllDiseaseNames()).willReturn(List.of(
+                names(1L, "급성 기관지염", " 감기 ", "감기", null, "X"),
+                names(2L, "감기", "급성 위염", null, null, null),
+                names(3L, "COVID-19", "당뇨병", null, null, null)
+        ));
+        index.rebuild();
+        HospitalSymptomVocabulary before = index.vocabulary();
+
+        assertThat(before.search(null, 10))
+                .containsExactly(
+                        new SymptomKeywordResponse("COVID-19", 1),
+                        new SymptomKeywordResponse("감기", 2),
+                        new SymptomKeywordResponse("급성 기관지염", 1),
+                        new SymptomKeywordResponse("급성 위염", 1),
+                        new SymptomKeywordResponse("당뇨병", 1));
+        assertThat(before.search(" 급성", 10)).extracting(SymptomKeywordResponse::term)
+                .containsExactly("급성 기관지염", "급성 위염");
+        assertThat(before.search("covid", 10)).extracting(SymptomKeywordResponse::term).containsExactly("COVID-19");
+        assertThat(before.search("급성", 1)).extracting(SymptomKeywordResponse::term).containsExactly("급성 기관지염");
+        assertThat(before.search("두통", 10)).isEmpty();
+
+        given(top5Repository.findDiseaseNamesByHospitalIdIn(anyCollection())).willReturn(List.of(
+                names(3L, "감기", null, null, null, null)));
+        index.onEnrichmentChanged(new HospitalEnrichmentChangedEvent(
+                HospitalEnrichmentChangedEvent.Type.TOP5, List.of(3L)));
+
+        HospitalSymptomVocabulary after = index.vocabulary();
+        assertThat(after.version()).isNotEqualTo(before.version());
+        assertThat(after.search("감", 10)).containsExactly(new SymptomKeywordResponse("감기", 3));
+        assertThat(after.search("co", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("match - 무작위 데이터에서 전체 질병명을 contains 로 훑은 결과(matchRows 포함)와 같다")
+    void match_agreesWithLinearScan() {
+        String[] vocabulary = {"감기", "급성 감기", "기관지염", "급성 기관지염", "위염", "장염", "위장염", "피부염",
+                "알레르기 비염", "비염", "고혈압", "당뇨병", "요통", "편두통", "두통", "COVID-19"};
+        Random random = new Random(7);
+        List<HospitalTop5DiseaseNames> rows = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            String[] slots = new String[5];
+            for (int k = 0; k < 5; k++) {
+                slots[k] = random.nextInt(6) == 0 ? null : vocabulary[random.nextInt(vocabulary.length)];
+            }
+            rows.add(names(id, slots[0], slots[1], slots[2], slots[3], slots[4]));
+        }
+        given(top5Repository.findAllDiseaseNames()).willReturn(rows);
+        index.rebuild();
+
+        for (List<String> tokens : List.of(List.of("염"), List.of("감기"), List.of("위장", "두통"),
+                List.of("급성 기관"), List.of("covid", "혈압"), List.of("없는질병"))) {
+            List<Tuple> expected = new ArrayList<>();
+            for (HospitalTop5DiseaseNames row : rows) {
+                int best = linearBestRank(row, tokens);
+                if (best <= 5) {
+                    expected.add(tuple(row.getHospitalId(), best));
+                }
+            }
+            assertThat(index.match(tokens)).as("tokens=%s", tokens)
+                    .extracting(HospitalSymptomIndex.Match::hospitalId, HospitalSymptomIndex.Match::bestRank)
+                    .containsExactlyElementsOf(expected);
+            assertThat(HospitalSymptomIndex.matchRows(rows, tokens)).as("matchRows tokens=%s", tokens)
+                    .extracting(HospitalSymptomIndex.Match::hospitalId, HospitalSymptomIndex.Match::bestRank)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("apply - 증분 반영(압축 포함)을 반복한 결과가 같은 데이터로 새로 만든 역색인과 같다")
+    void apply_repeatedPatchesMatchFreshIndex() {
+        String[] vocabulary = {"감기", "급성 감기", "기관지염", "위염", "장염", "위장염", "비염", "고혈압", "두통"};
+        Random random = new Random(13);
+        Map<Long, HospitalTop5DiseaseNames> current = new LinkedHashMap<>();
+        for (long id = 1; id <= 300; id++) {
+            current.put(id, randomNames(random, id, vocabulary));
+        }
+        given(top5Repository.findAllDiseaseNames()).willReturn(new ArrayList<>(current.values()));
+        index.rebuild();
+
+        for (int round = 0; round < 40; round++) {
+            List<Long> changed = new ArrayList<>();
+            List<HospitalTop5DiseaseNames> reloaded = new ArrayList<>();
+            for (int k = 0; k < 40; k++) {
+                long id = 1 + random.nextInt(350);
+                changed.add(id);
+                if (random.nextInt(5) == 0) {
+                    current.remove(id);
+                    reloaded.removeIf(row -> row.getHospitalId() == id);
+                } else {
+                    HospitalTop5DiseaseNames row = randomNames(random, id, vocabulary);
+                    current.put(id, row);
+                    reloaded.removeIf(r -> r.getHospitalId() == id);
+                    reloaded.add(row);
+                }
+            }
+            given(top5Repository.findDiseaseNamesByHospitalIdIn(anyCollection())).willReturn(reloaded);
+            index.apply(changed);
+        }
+
+        HospitalSymptomIndex fresh = new HospitalSymptomIndex(top5Repository, new SimpleMeterRegistry());
+        fresh.load(new ArrayList<>(current.values()));
+        assertThat(index.size()).isEqualTo(current.size());
+        assertThat(index.vocabulary().version()).isEqualTo(fresh.vocabulary().version());
+        for (List<String> tokens : List.of(List.of("염"), List.of("감기"), List.of("위장", "두통"), List.of("고혈압"))) {
+            assertThat(index.match(tokens)).as("tokens=%s", tokens)
+                    .containsExactlyElementsOf(fresh.match(tokens));
+        }
+    }
+
+    private static HospitalTop5DiseaseNames randomNames(Random random, long id, String[] vocabulary) {
+        String[] slots = new String[5];
+        for (int k = 0; k < 5; k++) {
+            slots[k] = random.nextInt(4) == 0 ? null : vocabulary[random.nextInt(vocabulary.length)];
+        }
+        return names(id, slots[0], slots[1], slots[2], slots[3], slots[4]);
+    }
+
+    private static int linearBestRank(HospitalTop5DiseaseNames row, List<String> tokens) {
+        String[] fields = {row.getDiseaseNm1(), row.getDiseaseNm2(), row.getDiseaseNm3(), row.getDiseaseNm4(),
+                row.getDiseaseNm5()};
+        int best = 6;
+        for (String token : tokens) {
+            if (token.length() < 2) {
+                continue;
+            }
+            for (int i = 0; i < 5; i++) {
+                if (fields[i] != null && fields[i].toLowerCase(Locale.ROOT).contains(token.toLowerCase(Locale.ROOT))) {
+                    best = Math.min(best, i + 1);
+                }
+            }
+        }
+        return best;
+    }
+
+    private static HospitalTop5DiseaseNames names(Long hospitalId, String nm1, String nm2, String nm3, String nm4,
+                                                  String nm5) {
+        return new Names(hospitalId, nm1, nm2, nm3, nm4, nm5);
+    }
+
+    private record Names(Long hospitalId, String nm1, String nm2, String nm3, String nm4, String nm5)
+            implements HospitalTop5DiseaseNames {
+
+        @Override
+        public Long getHospitalId() {
+            return hospitalId;
+        }
+
+        @Override
+        public String getHospitalName() {
+            return "병원" + hospitalId;
+        }
+
+        @Override
+        public BigDecimal getLatitude() {
+            return null;
+        }
+
+        @Override
+        public BigDecimal getLongitude() {
+            return null;
+        }
+
+        @Override
+        public String getDiseaseNm1() {
+            return nm1;
+        }
+
+        @Override
+        public String getDiseaseNm2() {
+            return nm2;
+        }
+
+        @Override
+        public String getDiseaseNm3() {
+            return nm3;
+        }
+
+        @Override
+        public String getDiseaseNm4() {
+            return nm4;
+        }
+
+        @Override
+        public String getDiseaseNm5() {
+            return nm5;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.medicheck.server.domain.hospital.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HospitalSymptomRankingTest {
+
+    private static final BigDecimal USER_LAT = new BigDecimal("37.5665");
+    private static final BigDecimal USER_LNG = new BigDecimal("126.9780");
+
+    @Test
+    @DisplayName("topRankedMatches - 힙으로 고른 상위 k 개는 전체 정렬의 앞 k 개와 같다")
+    void topRankedMatches_equalsPrefixOfFullSort() {
+        Random random = new Random(11);
+        List<HospitalSymptomIndex.Match> matches = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            matches.add(new HospitalSymptomIndex.Match(id, 1 + random.nextInt(5), "병원" + random.nextInt(50),
+                    37.4 + random.nextInt(100) * 0.003, 126.8 + random.nextInt(100) * 0.004));
+        }
+        List<HospitalService.RankedMatch> all =
+                HospitalService.topRankedMatches(matches, USER_LAT, USER_LNG, matches.size());
+
+        for (int k : new int[]{1, 20, 60, 1_999}) {
+            assertThat(HospitalService.topRankedMatches(matches, USER_LAT, USER_LNG, k))
+                    .as("k=%d", k)
+                    .containsExactlyElementsOf(all.subList(0, k));
+        }
+    }
+
+    @Test
+    @DisplayName("topRankedMatches - 매칭 슬롯 → 거리 → 이름 → ID 순이며, 좌표가 없으면 거리는 무한대")
+    void topRankedMatches_ordersBySlotDistanceNameThenId() {
+        List<HospitalSymptomIndex.Match> matches = List.of(
+                new HospitalSymptomIndex.Match(1L, 2, "가병원", 37.5665, 126.9780),
+                new HospitalSymptomIndex.Match(2L, 1, "나병원", Double.NaN, Double.NaN),
+                new HospitalSymptomIndex.Match(3L, 1, "다병원", 37.60, 127.00),
+                new HospitalSymptomIndex.Match(4L, 1, "다병원", 37.60, 127.00),
+                new HospitalSymptomIndex.Match(5L, 1, "가병원", 37.60, 127.00)
+        );
+
+        assertThat(HospitalService.topRankedMatches(matches, USER_LAT, USER_LNG, 5))
+                .extracting(HospitalService.RankedMatch::hospitalId)
+                .containsExactly(5L, 3L, 4L, 2L, 1L);
+        // 사용자 좌표가 없으면 같은 슬롯 안에서 이름 → ID 순
+        assertThat(HospitalService.topRankedMatches(matches, null, null, 3))
+                .extracting(HospitalService.RankedMatch::hospitalId)
+                .containsExactly(5L, 2L, 3L);
+    }
+}
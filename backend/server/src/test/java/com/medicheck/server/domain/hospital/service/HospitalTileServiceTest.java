@@ -0,0 +1,143 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicheck.server.domain.hospital.dto.HospitalTileMarker;
+import com.medicheck.server.domain.hospital.util.GeoBoundingBox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalTileServiceTest {
+
+    /** 서울시청 */
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Mock
+    private HospitalGeoIndex hospitalGeoIndex;
+
+    private HospitalTileService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HospitalTileService(hospitalGeoIndex, new ObjectMapper(), new SimpleMeterRegistry(),
+                1000, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("tileX/tileY/tileBounds - 좌표가 속한 타일의 사각형은 그 좌표를 포함한다")
+    void tileMath_boundsContainPoint() {
+        for (int z = 0; z <= HospitalTileService.MAX_TILE_ZOOM; z++) {
+            int x = HospitalTileService.tileX(LNG, z);
+            int y = HospitalTileService.tileY(LAT, z);
+            GeoBoundingBox box = HospitalTileService.tileBounds(z, x, y);
+
+            assertThat(HospitalTileService.isValidTile(z, x, y)).isTrue();
+            assertThat(box.contains(LAT, LNG)).as("z=%d", z).isTrue();
+        }
+        assertThat(HospitalTileService.tileX(LNG, 14)).isEqualTo(13970);
+        assertThat(HospitalTileService.tileY(LAT, 14)).isEqualTo(6344);
+    }
+
+    @Test
+    @DisplayName("getTile - 높은 줌은 마커 배열로 직렬화하고, 같은 타일은 캐시에서 같은 ETag 로 반환한다")
+    void getTile_rendersMarkersOnceAndCaches() {
+        given(hospitalGeoIndex.isReady()).willReturn(true);
+        given(hospitalGeoIndex.markers(any())).willReturn(List.of(new HospitalTileMarker(7L, LAT, LNG, "내과")));
+
+        HospitalTileService.HospitalTile first = service.getTile(14, 13970, 6344).orElseThrow();
+        HospitalTileService.HospitalTile second = service.getTile(14, 13970, 6344).orElseThrow();
+
+        assertThat(new String(first.body(), StandardCharsets.UTF_8))
+                .contains("\"type\":\"markers\"")
+                .contains("[7,37.5665,126.978,\"내과\"]")
+                .doesNotContain("clusters");
+        assertThat(second.etag()).isEqualTo(first.etag());
+        verify(hospitalGeoIndex, times(1)).markers(any());
+    }
+
+    @Test
+    @DisplayName("onGeoIndexChanged - 바뀐 좌표가 속한 타일만 다시 만들고, 전체 재적재면 모두 다시 만든다")
+    void onGeoIndexChanged_invalidatesTouchedTilesOnly() {
+        given(hospitalGeoIndex.isReady()).willReturn(true);
+        service.getTile(10, HospitalTileService.tileX(LNG, 10), HospitalTileService.tileY(LAT, 10));
+        // 부산: 서울과 다른 줌 10 타일
+        service.getTile(10, HospitalTileService.tileX(129.0756, 10), HospitalTileService.tileY(35.1796, 10));
+        verify(hospitalGeoIndex, times(2)).forEachIn(any(), any());
+
+        service.onGeoIndexChanged(new HospitalGeoIndexChangedEvent(false,
+                List.of(new HospitalGeoIndexChangedEvent.Location(LAT + 0.001, LNG + 0.001))));
+        service.getTile(10, HospitalTileService.tileX(LNG, 10), HospitalTileService.tileY(LAT, 10));
+        service.getTile(10, HospitalTileService.tileX(129.0756, 10), HospitalTileService.tileY(35.1796, 10));
+        verify(hospitalGeoIndex, times(3)).forEachIn(any(), any());
+
+        service.onGeoIndexChanged(new HospitalGeoIndexChangedEvent(true, List.of()));
+        service.getTile(10, HospitalTileService.tileX(129.0756, 10), HospitalTileService.tileY(35.1796, 10));
+        verify(hospitalGeoIndex, times(4)).forEachIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("getTile - 클러스터 셀은 타일 안에 들어가고, 타일 경계 양쪽·경계 위 병원은 각각 한 타일에서만 센다")
+    void getTile_clusterCellsNestInsideTiles() throws Exception {
+        int z = 10;
+        int x = HospitalTileService.tileX(LNG, z);
+        int y = HospitalTileService.tileY(LAT, z);
+        double seam = HospitalTileService.tileBounds(z, x, y).minLatitude();
+        List<double[]> points = List.of(
+                new double[]{1, seam + 1e-6, LNG},
+                new double[]{2, seam, LNG},
+                new double[]{3, seam - 1e-6, LNG});
+        given(hospitalGeoIndex.isReady()).willReturn(true);
+        willAnswer(inv -> {
+            GeoBoundingBox box = inv.getArgument(0);
+            HospitalGeoIndex.PointVisitor visitor = inv.getArgument(1);
+            for (double[] p : points) {
+                if (box.contains(p[1], p[2])) {
+                    visitor.visit((long) p[0], p[1], p[2], "내과");
+                }
+            }
+            return null;
+        }).given(hospitalGeoIndex).forEachIn(any(), any());
+
+        int total = 0;
+        for (int tileY : new int[]{y, y + 1}) {
+            JsonNode clusters = new ObjectMapper()
+                    .readTree(service.getTile(z, x, tileY).orElseThrow().body())
+                    .get("clusters");
+            GeoBoundingBox tile = HospitalTileService.tileBounds(z, x, tileY);
+            for (JsonNode cluster : clusters) {
+                assertThat(cluster.get("latitude").asDouble())
+                        .isBetween(tile.minLatitude(), tile.maxLatitude());
+                total += cluster.get("count").asInt();
+            }
+        }
+        assertThat(total).isEqualTo(points.size());
+    }
+
+    @Test
+    @DisplayName("getTile - 공간 인덱스가 적재되기 전이면 비어 있다")
+    void getTile_emptyBeforeIndexLoaded() {
+        given(hospitalGeoIndex.isReady()).willReturn(false);
+
+        assertThat(service.getTile(5, 27, 12)).isEmpty();
+        verify(hospitalGeoIndex, never()).forEachIn(any(), any());
+    }
+}
@@ -0,0 +1,190 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.client.HiraClinicTop5Client;
+import com.medicheck.server.domain.hospital.client.dto.HiraClinicTop5Item;
+import com.medicheck.server.domain.hospital.repository.HospitalClinicTop5BulkWriter;
+import com.medicheck.server.domain.hospital.repository.HospitalClinicTop5Repository;
+import com.medicheck.server.domain.hospital.repository.HospitalCodeRef;
+import com.medicheck.server.domain.hospital.repository.HospitalRepository;
+import com.medicheck.server.global.config.HiraSyncProperties;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalTop5SyncServiceTest {
+
+    private static final String KEYWORD = "구미";
+
+    @Mock
+    private HiraClinicTop5Client clinicTop5Client;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private HospitalClinicTop5Repository top5Repository;
+
+    @Mock
+    private HospitalClinicTop5BulkWriter top5BulkWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HiraSyncProperties syncProperties;
+    private HospitalTop5SyncService service;
+
+    @BeforeEach
+    void setUp() {
+        syncProperties = new HiraSyncProperties();
+        service = new HospitalTop5SyncService(clinicTop5Client, hospitalRepository, top5Repository, top5BulkWriter,
+                syncProperties, transactionManager, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("syncByAddressKeyword - 조회 결과를 top5-batch-size 건씩 모아 배치마다 한 트랜잭션으로 upsert 한다")
+    void syncByAddressKeyword_writesBatchesInOwnTransaction() {
+        syncProperties.setTop5BatchSize(100);
+        givenRegionHospitals(250);
+        given(clinicTop5Client.getClinicTop5List1(anyString(), eq(1), eq(10)))
+                .willAnswer(inv -> item(inv.getArgument(0)));
+
+        int synced = service.syncByAddressKeyword(KEYWORD, null);
+
+        assertThat(synced).isEqualTo(250);
+        verify(top5BulkWriter, times(3)).upsert(any());
+        verify(transactionManager, times(3)).commit(any());
+        verify(eventPublisher, times(3)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("syncByAddressKeyword - 동시에 진행되는 Top5 API 호출 수는 hira.sync.concurrency 를 넘지 않는다")
+    void syncByAddressKeyword_respectsConcurrencyLimit() {
+        syncProperties.setConcurrency(3);
+        givenRegionHospitals(60);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        given(clinicTop5Client.getClinicTop5List1(anyString(), eq(1), eq(10))).willAnswer(inv -> {
+            int now = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(now, Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return item(inv.getArgument(0));
+        });
+
+        int synced = service.syncByAddressKeyword(KEYWORD, null);
+
+        assertThat(synced).isEqualTo(60);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("syncByAddressKeyword - 응답 없는 병원의 기존 Top5 는 지우고, 호출 제한으로 실패한 병원은 건드리지 않는다")
+    void syncByAddressKeyword_deletesStaleAndSkipsFailed() {
+        givenRegionHospitals(3);
+        given(clinicTop5Client.getClinicTop5List1(eq("Y1"), eq(1), eq(10))).willReturn(item("Y1"));
+        given(clinicTop5Client.getClinicTop5List1(eq("Y2"), eq(1), eq(10))).willReturn(null);
+        given(clinicTop5Client.getClinicTop5List1(eq("Y3"), eq(1), eq(10)))
+                .willThrow(RequestNotPermitted.createRequestNotPermitted(RateLimiter.ofDefaults("hira-diag")));
+        given(top5BulkWriter.findExistingHospitalIds(anyCollection())).willReturn(Set.of(2L));
+
+        int synced = service.syncByAddressKeyword(KEYWORD, null);
+
+        assertThat(synced).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(top5BulkWriter).deleteByHospitalIds(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly(2L);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<HospitalClinicTop5BulkWriter.Top5Row>> upserted = ArgumentCaptor.forClass(List.class);
+        verify(top5BulkWriter).upsert(upserted.capture());
+        assertThat(upserted.getValue()).extracting(HospitalClinicTop5BulkWriter.Top5Row::hospitalId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("syncByAddressKeyword - 저장이 실패하면 큐가 가득 차 있어도 멈추지 않고 예외로 끝난다")
+    void syncByAddressKeyword_failingWriterDoesNotHang() {
+        syncProperties.setTop5BatchSize(1);
+        syncProperties.setConcurrency(1);
+        givenRegionHospitals(50);
+        given(clinicTop5Client.getClinicTop5List1(anyString(), eq(1), eq(10)))
+                .willAnswer(inv -> item(inv.getArgument(0)));
+        // 저장이 늦게 실패하는 동안 조회 결과가 큐(크기 2)를 채우고, 생산자는 permit 대기에 들어간다
+        willAnswer(inv -> {
+            Thread.sleep(200);
+            throw new IllegalStateException("write failed");
+        }).given(top5BulkWriter).upsert(any());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThatThrownBy(() -> service.syncByAddressKeyword(KEYWORD, null))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("write failed"));
+    }
+
+    /** 병원 ID n ↔ 요양기호 Y{n}. keyset 조회는 afterId 이후를 페이지 크기만큼 돌려준다. */
+    private void givenRegionHospitals(int count) {
+        lenient().when(hospitalRepository.findCodeRefsByAddressLikeAfter(eq("%구미%"), anyLong(), any(Pageable.class)))
+                .thenAnswer(inv -> {
+                    long afterId = inv.getArgument(1);
+                    int pageSize = inv.<Pageable>getArgument(2).getPageSize();
+                    return LongStream.rangeClosed(afterId + 1, Math.min(count, afterId + pageSize))
+                            .<HospitalCodeRef>mapToObj(id -> new CodeRef(id, "Y" + id))
+                            .toList();
+                });
+    }
+
+    private static HiraClinicTop5Item item(String ykiho) {
+        return HiraClinicTop5Item.builder()
+                .ykiho(ykiho)
+                .crtrYm("202501")
+                .mfrnIntrsIlnsNm1("감기")
+                .build();
+    }
+
+    private record CodeRef(Long id, String publicCode) implements HospitalCodeRef {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getPublicCode() {
+            return publicCode;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.medicheck.server.domain.hospital.service;
+
+import com.medicheck.server.domain.hospital.dto.SyncJobResponse;
+import com.medicheck.server.domain.hospital.dto.SyncResult;
+import com.medicheck.server.domain.hospital.entity.SyncJob;
+import com.medicheck.server.domain.hospital.repository.SyncJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SyncJobServiceTest {
+
+    private static final long JOB_ID = 7L;
+
+    @Mock
+    private SyncJobRepository syncJobRepository;
+
+    @Mock
+    private HiraSyncService hiraSyncService;
+
+    @Mock
+    private HospitalEvaluationSyncService hospitalEvaluationSyncService;
+
+    @Mock
+    private HospitalTop5SyncService hospitalTop5SyncService;
+
+    @InjectMocks
+    private SyncJobService syncJobService;
+
+    @AfterEach
+    void tearDown() {
+        syncJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("start - 같은 종류가 실행 중(유니크 키 충돌)이면 작업을 시작하지 않는다")
+    void start_rejectsWhenSameTypeRunning() {
+        given(syncJobRepository.saveAndFlush(any(SyncJob.class)))
+                .willThrow(new DataIntegrityViolationException("uk_sync_jobs_running_type"));
+
+        assertThatThrownBy(() -> syncJobService.start(SyncJob.Type.HOSPITALS_ALL, 500, null, null))
+                .isInstanceOf(SyncJobAlreadyRunningException.class);
+        verifyNoInteractions(hiraSyncService);
+    }
+
+    @Test
+    @DisplayName("start - 작업 ID를 바로 반환하고 백그라운드에서 진행률 기록 후 SUCCEEDED 로 끝낸다")
+    void start_runsInBackgroundAndRecordsProgress() {
+        givenSavedJob();
+        given(hiraSyncService.syncAllRegions(eq(10), any(SyncProgressListener.class))).willAnswer(inv -> {
+            SyncProgressListener listener = inv.getArgument(1);
+            listener.onPagesPlanned(3);
+            listener.onPage(10, 8, 2);
+            listener.onPage(10, 10, 0);
+            return SyncResult.builder().keyConfigured(true).build();
+        });
+
+        SyncJobResponse response = syncJobService.start(SyncJob.Type.HOSPITALS_ALL, 10, null, null);
+
+        assertThat(response.getId()).isEqualTo(JOB_ID);
+        assertThat(response.getStatus()).isEqualTo(SyncJob.Status.RUNNING);
+        verify(syncJobRepository, timeout(2000))
+                .finish(eq(JOB_ID), eq(SyncJob.Status.SUCCEEDED), isNull(), any(LocalDateTime.class));
+        verify(syncJobRepository).updateProgress(eq(JOB_ID), eq(3), eq(2), eq(0), eq(20), eq(18), eq(2), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("start - 건너뛴 실패 페이지가 있으면 진행률에 기록하고 SUCCEEDED 와 함께 그 수를 남긴다")
+    void start_recordsFailedPages() {
+        givenSavedJob();
+        given(hiraSyncService.syncAllRegions(eq(10), any(SyncProgressListener.class))).willAnswer(inv -> {
+            SyncProgressListener listener = inv.getArgument(1);
+            listener.onPagesPlanned(2);
+            listener.onPage(10, 10, 0);
+            listener.onPageFailed();
+            return SyncResult.builder().keyConfigured(true).failedPages(1).build();
+        });
+
+        syncJobService.start(SyncJob.Type.HOSPITALS_ALL, 10, null, null);
+
+        verify(syncJobRepository, timeout(2000))
+                .finish(eq(JOB_ID), eq(SyncJob.Status.SUCCEEDED), eq("조회 실패로 건너뛴 페이지 1개"), any(LocalDateTime.class));
+        verify(syncJobRepository).updateProgress(eq(JOB_ID), eq(2), eq(1), eq(1), eq(10), eq(10), eq(0), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("start - 동기화 중 예외가 나면 FAILED 와 오류 메시지를 남긴다")
+    void start_marksFailedOnException() {
+        givenSavedJob();
+        given(hospitalEvaluationSyncService.syncAll(isNull(), any(SyncProgressListener.class)))
+                .willThrow(new IllegalStateException("boom"));
+
+        syncJobService.start(SyncJob.Type.EVALUATIONS_ALL, 500, null, null);
+
+        verify(syncJobRepository, timeout(2000))
+                .finish(eq(JOB_ID), eq(SyncJob.Status.FAILED), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("start - TOP5_REGION 은 주소 키워드로 Top5 지역 동기화를 돌리며 배치 진행률을 기록한다")
+    void start_top5RegionRunsTop5Sync() {
+        givenSavedJob();
+        given(hospitalTop5SyncService.syncByAddressKeyword(eq("구미"), eq(100), any(SyncProgressListener.class)))
+                .willAnswer(inv -> {
+                    SyncProgressListener listener = inv.getArgument(2);
+                    listener.onPage(50, 48, 0);
+                    return 48;
+                });
+
+        SyncJobResponse response = syncJobService.start(SyncJob.Type.TOP5_REGION, 500, 100, "구미");
+
+        assertThat(response.getParams()).isEqualTo("addressKeyword=구미, maxSynced=100");
+        verify(syncJobRepository, timeout(2000))
+                .finish(eq(JOB_ID), eq(SyncJob.Status.SUCCEEDED), isNull(), any(LocalDateTime.class));
+        verify(syncJobRepository).updateProgress(eq(JOB_ID), isNull(), eq(1), eq(0), eq(50), eq(48), eq(0), any(LocalDateTime.class));
+        verifyNoInteractions(hiraSyncService, hospitalEvaluationSyncService);
+    }
+
+    @Test
+    @DisplayName("SyncJobResponse - 실행 중이고 전체 페이지를 알면 처리 속도로 ETA 를 계산한다")
+    void response_computesThroughputAndEta() {
+        SyncJob job = SyncJob.start(SyncJob.Type.HOSPITALS_ALL, "numOfRows=500");
+        LocalDateTime startedAt = job.getStartedAt();
+        ReflectionTestUtils.setField(job, "totalPages", 100);
+        ReflectionTestUtils.setField(job, "pagesDone", 20);
+        ReflectionTestUtils.setField(job, "updatedAt", startedAt.plusSeconds(10));
+
+        SyncJobResponse response = SyncJobResponse.from(job);
+
+        assertThat(response.getPagesPerSecond()).isEqualTo(2.0);
+        assertThat(response.getEtaSeconds()).isEqualTo(40L);
+    }
+
+    private void givenSavedJob() {
+        given(syncJobRepository.saveAndFlush(any(SyncJob.class))).willAnswer(inv -> {
+            SyncJob job = inv.getArgument(0);
+            ReflectionTestUtils.setField(job, "id", JOB_ID);
+            return job;
+        });
+    }
+}
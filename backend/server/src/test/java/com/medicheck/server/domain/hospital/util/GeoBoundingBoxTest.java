@@ -0,0 +1,60 @@
+package com.medicheck.server.domain.hospital.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoBoundingBoxTest {
+
+    /** 서울시청 */
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @Test
+    @DisplayName("around - 반경 경계(동서남북)의 점을 모두 포함한다")
+    void around_containsPointsOnRadius() {
+        double radius = 3_000;
+        GeoBoundingBox box = GeoBoundingBox.around(LAT, LNG, radius);
+
+        double latDelta = radius / 111_195.0;
+        double lngDelta = radius / (111_195.0 * Math.cos(Math.toRadians(LAT)));
+        assertThat(box.contains(LAT + latDelta, LNG)).isTrue();
+        assertThat(box.contains(LAT - latDelta, LNG)).isTrue();
+        assertThat(box.contains(LAT, LNG + lngDelta)).isTrue();
+        assertThat(box.contains(LAT, LNG - lngDelta)).isTrue();
+    }
+
+    @Test
+    @DisplayName("around - 사각형과 GeoDistance 는 ST_Distance_Sphere 와 같은 반지름을 쓴다 (경계까지 거리 = 반경 × 여유 비율)")
+    void around_usesSameRadiusAsGeoDistance() {
+        double radius = 5_000;
+        GeoBoundingBox box = GeoBoundingBox.around(LAT, LNG, radius);
+
+        assertThat(GeoDistance.EARTH_RADIUS_METERS).isEqualTo(6_370_986.0);
+        assertThat(GeoDistance.haversineMeters(LAT, LNG, box.maxLatitude(), LNG))
+                .isCloseTo(radius * 1.01, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("around - 반경보다 한참 먼 점은 포함하지 않는다")
+    void around_excludesFarPoints() {
+        GeoBoundingBox box = GeoBoundingBox.around(LAT, LNG, 1_000);
+
+        // 부산
+        assertThat(box.contains(35.1796, 129.0756)).isFalse();
+        // Hospital 좌표 누락 센티널
+        assertThat(box.contains(0, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("around - 극 근처에서는 경도 전체 범위를 사용한다")
+    void around_nearPoleUsesFullLongitudeRange() {
+        GeoBoundingBox box = GeoBoundingBox.around(89.9999, 10.0, 50_000);
+
+        assertThat(box.maxLatitude()).isEqualTo(90.0);
+        assertThat(box.minLongitude()).isEqualTo(-180.0);
+        assertThat(box.maxLongitude()).isEqualTo(180.0);
+    }
+}
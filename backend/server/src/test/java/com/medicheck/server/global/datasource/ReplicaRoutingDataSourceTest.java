@@ -0,0 +1,144 @@
+package com.medicheck.server.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource primary;
+    private DataSource replica0;
+    private DataSource replica1;
+    private Connection primaryConnection;
+    private Connection replica0Connection;
+    private Connection replica1Connection;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = mock(DataSource.class);
+        replica0 = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replica0Connection = mock(Connection.class);
+        replica1Connection = mock(Connection.class);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica0.getConnection()).willReturn(replica0Connection);
+        given(replica1.getConnection()).willReturn(replica1Connection);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        routing = new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary, readOnly 트랜잭션은 사용 가능한 복제본을 번갈아 사용한다")
+    void routesReadOnlyToReplicasRoundRobin() throws SQLException {
+        routing.markAvailable("replica-0", true);
+        routing.markAvailable("replica-1", true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(replica0Connection);
+        assertThat(routing.getConnection()).isSameAs(replica1Connection);
+        assertThat(routing.getConnection()).isSameAs(replica0Connection);
+
+        assertThat(meterRegistry.get("datasource.routing").tag("target", "replica").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("datasource.routing").tag("target", "primary").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("점검 전이거나 모든 복제본이 제외되면 readOnly 트랜잭션도 primary 로 대체한다")
+    void fallsBackToPrimaryWithoutAvailableReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        routing.markAvailable("replica-1", true);
+        routing.markAvailable("replica-1", false);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("datasource.routing").tag("target", "fallback").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("복제본 커넥션을 얻지 못하면 primary 커넥션을 반환하고 그 복제본을 제외한다")
+    void replicaConnectionFailure_fallsBackAndExcludesReplica() throws SQLException {
+        routing.markAvailable("replica-0", true);
+        given(replica0.getConnection()).willThrow(new SQLException("Communications link failure"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.isAvailable("replica-0")).isFalse();
+        assertThat(meterRegistry.get("datasource.replica.available").tag("pool", "replica-0").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("지연 점검 - max-lag 이하만 사용하고, 복제 중단(NULL)·점검 실패는 제외, 복제 설정 없는 서버는 지연 0")
+    void lagMonitor_marksReplicasByLag() throws SQLException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routing, Duration.ofSeconds(5), meterRegistry);
+
+        stubReplicaStatus(replica0Connection, 2L);
+        stubReplicaStatus(replica1Connection, 30L);
+        monitor.check();
+        assertThat(routing.isAvailable("replica-0")).isTrue();
+        assertThat(routing.isAvailable("replica-1")).isFalse();
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("pool", "replica-1").gauge().value())
+                .isEqualTo(30.0);
+
+        stubReplicaStatus(replica0Connection, null);
+        stubNoReplicaStatus(replica1Connection);
+        monitor.check();
+        assertThat(routing.isAvailable("replica-0")).isFalse();
+        assertThat(routing.isAvailable("replica-1")).isTrue();
+
+        given(replica1.getConnection()).willThrow(new SQLException("Connection refused"));
+        monitor.check();
+        assertThat(routing.isAvailable("replica-1")).isFalse();
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("pool", "replica-1").gauge().value()).isNaN();
+    }
+
+    private static void stubReplicaStatus(Connection connection, Long secondsBehind) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(rs);
+        given(rs.next()).willReturn(true);
+        given(rs.getLong("Seconds_Behind_Source")).willReturn(secondsBehind != null ? secondsBehind : 0L);
+        given(rs.wasNull()).willReturn(secondsBehind == null);
+    }
+
+    private static void stubNoReplicaStatus(Connection connection) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(rs);
+        given(rs.next()).willReturn(false);
+    }
+}
@@ -0,0 +1,119 @@
+package com.medicheck.server.global.datasource;
+
+import com.medicheck.server.global.config.ReadReplicaDataSourceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 JPA 트랜잭션으로 라우팅 확인: primary·복제본 역할의 H2 인메모리 DB 두 개에 같은 테이블을 두고,
+ * open-in-view 처럼 요청 하나 동안 EntityManager 를 열어 둔 채 readOnly 조회 뒤 쓰기를 실행합니다.
+ */
+class ReplicaRoutingJpaTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private LocalContainerEntityManagerFactoryBean emfBean;
+    private EntityManagerFactory emf;
+    private JpaTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+        replica = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+        for (DriverManagerDataSource dataSource : new DriverManagerDataSource[]{primary, replica}) {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("DROP TABLE IF EXISTS routing_note");
+            jdbc.execute("CREATE TABLE routing_note (id BIGINT PRIMARY KEY, body VARCHAR(100))");
+        }
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), new SimpleMeterRegistry());
+        routing.markAvailable("replica-0", true);
+
+        Map<String, Object> jpaProperties = new HashMap<>();
+        jpaProperties.put("hibernate.hbm2ddl.auto", "none");
+        new ReadReplicaDataSourceConfig().releaseConnectionAfterTransaction().customize(jpaProperties);
+
+        emfBean = new LocalContainerEntityManagerFactoryBean();
+        emfBean.setDataSource(new LazyConnectionDataSourceProxy(routing));
+        emfBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        emfBean.setManagedTypes(PersistenceManagedTypes.of(RoutingNote.class.getName()));
+        emfBean.setJpaPropertyMap(jpaProperties);
+        emfBean.afterPropertiesSet();
+        emf = emfBean.getObject();
+        transactionManager = new JpaTransactionManager(emf);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emfBean.destroy();
+    }
+
+    @Test
+    @DisplayName("요청 하나에서 readOnly 조회는 복제본, 이어지는 쓰기는 primary 로 간다 (open-in-view)")
+    void readThenWriteInOneRequest_writesToPrimary() {
+        new JdbcTemplate(replica).update("INSERT INTO routing_note (id, body) VALUES (1, 'replica-only')");
+
+        // OpenEntityManagerInViewInterceptor 와 같이 요청 동안 EntityManager 를 스레드에 묶어 둠
+        EntityManager em = emf.createEntityManager();
+        TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(em));
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            Long seen = readOnly.execute(status ->
+                    em.createQuery("SELECT COUNT(n) FROM RoutingNote n", Long.class).getSingleResult());
+            assertThat(seen).as("readOnly 조회는 복제본에서 읽음").isEqualTo(1L);
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    em.persist(new RoutingNote(2L, "written")));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(emf);
+            em.close();
+        }
+
+        assertThat(new JdbcTemplate(primary).queryForObject(
+                "SELECT COUNT(*) FROM routing_note WHERE id = 2", Integer.class)).isEqualTo(1);
+        assertThat(new JdbcTemplate(replica).queryForObject(
+                "SELECT COUNT(*) FROM routing_note WHERE id = 2", Integer.class)).isZero();
+    }
+
+    @Entity(name = "RoutingNote")
+    @Table(name = "routing_note")
+    static class RoutingNote {
+
+        @Id
+        private Long id;
+
+        private String body;
+
+        protected RoutingNote() {
+        }
+
+        RoutingNote(Long id, String body) {
+            this.id = id;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.medicheck.server.support;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실제 MySQL에 붙어서 돌리는 벤치마크/EXPLAIN 검증 테스트용 공통 도우미.
+ * 환경변수 MEDICHECK_BENCH_DB_URL 이 있을 때만 해당 테스트가 실행됩니다(기본 CI에서는 건너뜀).
+ * 벤치마크는 합성 데이터를 넣었다 지우므로 반드시 Flyway 마이그레이션이 적용된 전용 스키마를 사용하세요.
+ *
+ * <pre>
+ * MEDICHECK_BENCH_DB_URL=jdbc:mysql://localhost:3306/medi_check_bench?serverTimezone=Asia/Seoul \
+ * MEDICHECK_BENCH_DB_USER=root MEDICHECK_BENCH_DB_PASSWORD=... ./gradlew test --tests '*BenchmarkTest'
+ * </pre>
+ */
+public final class MySqlBenchmarkSupport {
+
+    public static final String URL_ENV = "MEDICHECK_BENCH_DB_URL";
+    public static final String USER_ENV = "MEDICHECK_BENCH_DB_USER";
+    public static final String PASSWORD_ENV = "MEDICHECK_BENCH_DB_PASSWORD";
+
+    /** 합성 데이터 식별용 public_code 접두사 (정리 시 이 접두사만 삭제) */
+    public static final String BENCH_CODE_PREFIX = "BENCH-";
+
+    private static final Pattern NAMED_PARAM = Pattern.compile(":([A-Za-z][A-Za-z0-9]*)");
+
+    private MySqlBenchmarkSupport() {
+    }
+
+    public static Connection openConnection() throws SQLException {
+        return openConnection(Map.of());
+    }
+
+    /** 드라이버 속성(예: rewriteBatchedStatements=true)을 더해 연결합니다. */
+    public static Connection openConnection(Map<String, String> driverProperties) throws SQLException {
+        Properties props = new Properties();
+        props.putAll(driverProperties);
+        props.setProperty("user", System.getenv().getOrDefault(USER_ENV, "root"));
+        props.setProperty("password", System.getenv().getOrDefault(PASSWORD_ENV, ""));
+        return DriverManager.getConnection(System.getenv(URL_ENV), props);
+    }
+
+    /**
+     * 리포지토리의 네이티브 쿼리(:name 파라미터)를 EXPLAIN 등에 바로 쓸 수 있도록 값으로 치환합니다.
+     * 숫자 값만 다루므로 SQL 인젝션 우려는 없습니다.
+     */
+    public static String inlineNamedParams(String sql, Map<String, ? extends Number> params) {
+        Matcher m = NAMED_PARAM.matcher(sql);
+        StringBuilder sb = new StringBuilder();
+        while (m.find()) {
+            Number value = params.get(m.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("파라미터 값 누락: " + m.group(1));
+            }
+            m.appendReplacement(sb, Matcher.quoteReplacement(value.toString()));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    /** 측정값(나노초) 목록의 백분위수를 밀리초로 반환합니다. */
+    public static double percentileMillis(List<Long> nanos, double percentile) {
+        if (nanos.isEmpty()) {
+            return Double.NaN;
+        }
+        long[] sorted = nanos.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        idx = Math.min(Math.max(idx, 0), sorted.length - 1);
+        return sorted[idx] / 1_000_000.0;
+    }
+
+    /** 벤치마크 규모 목록. 시스템 프로퍼티(예: -Dbench.sizes=10000,100000)로 바꿀 수 있습니다. */
+    public static int[] sizes(String property, String defaults) {
+        return Arrays.stream(System.getProperty(property, defaults).split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+}